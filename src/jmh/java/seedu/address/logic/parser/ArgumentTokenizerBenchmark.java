@@ -0,0 +1,70 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks tokenizing the arguments of an add member command, both alone and shared with
+ * {@code AddCommandPrefixParser}. Run it with {@code -prof gc}, whose {@code gc.alloc.rate.norm} is the number of
+ * bytes allocated for each command, to check the allocation budgets:
+ * <ul>
+ *     <li>{@code tokenize}: 1,500 bytes for the longest arguments.</li>
+ *     <li>{@code tokenizeShared}, as in {@code EzFoodieParser}: 2,500 bytes for the longest arguments.</li>
+ *     <li>{@code tokenizeTwice}: scanning the arguments once for {@code AddCommandPrefixParser} and again for
+ *     {@code AddMemberCommandParser}, for comparison.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final ArgumentTokenizer ADD_TOKENIZER = ArgumentTokenizer.combine(
+            AddMemberCommandParser.TOKENIZER, AddTransactionCommandParser.TOKENIZER,
+            AddReservationCommandParser.TOKENIZER);
+
+    @Param({
+        " -mem/ -n/John Doe -p/98765432 -e/johndoe@gmail.com -a/112 Amoy Street, 069907, Singapore -tag/regular",
+        " -mem/ -n/John Doe -p/98765432 -e/johndoe@gmail.com -a/Blk 30 Geylang Street 29, #06-40"
+    })
+    public String args;
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return AddMemberCommandParser.TOKENIZER.tokenizeArgs(args);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeShared() {
+        return AddMemberCommandParser.TOKENIZER.tokenizeArgs(ADD_TOKENIZER.tokenizeArgs(args));
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeTwice() {
+        ArgumentTokenizer.tokenize(args, PREFIX_MEMBER, PREFIX_TRANSACTION, PREFIX_RESERVATION);
+        return ArgumentTokenizer.tokenize(args, PREFIX_MEMBER, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_TAG);
+    }
+}
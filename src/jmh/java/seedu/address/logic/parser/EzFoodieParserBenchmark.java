@@ -0,0 +1,95 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.PermissionException;
+import seedu.address.commons.status.LoginStatus;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks {@code EzFoodieParser#parseCommand} for every shape of command, as a manager of an ezFoodie of
+ * {@code size} members.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EzFoodieParserBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({
+        "add -mem/ -n/John Doe -p/98765432 -e/johndoe@gmail.com -a/112 Amoy Street, 069907, Singapore -tag/regular",
+        "add -txn/ -b/200.00 -id/00001",
+        "add -rs/ -dt/2021-01-02 00:00 -rm/2 people -id/00001",
+        "edit -mem/ -id/00001 -n/John Doe -p/98765432 -e/johndoe@gmail.com",
+        "edit -mem/ -i/1 -a/33 Benoi Crescent, 629979, Singapore",
+        "edit -txn/ -id/00001000002 -b/10.00",
+        "edit -rs/ -id/00001000001 -dt/2021-12-01 13:00 -rm/3 people",
+        "del -mem/ -id/00001",
+        "del -mem/ -i/1",
+        "del -txn/ -id/00001000001",
+        "del -rs/ -id/00001000001",
+        "find -mem/ -n/John Doe",
+        "find -mem/ -id/00001 00002 00003",
+        "find -mem/ -p/98765432",
+        "find -mem/ -e/johndoe@gmail.com",
+        "find -mem/ -d/2021-01-02",
+        "show -mem/ -id/00001",
+        "redeem -rd/100 -id/00001",
+        "redeem -rd/100 -i/1",
+        "list -mem/",
+        "sort -mem/ -c/ -d/",
+        "import -mem/data/members.csv -txn/data/transactions.csv",
+        "export data/members.csv -mem/ -tier/gold -d/2021-01-01 -d/2021-01-31",
+        "run data/new_outlet.txt",
+        "login 123456",
+        "set -pass/ 123456",
+        "logout",
+        "undo",
+        "redo",
+        "clear",
+        "help",
+        "stats",
+        "summary",
+        "exit"
+    })
+    public String commandText;
+
+    private EzFoodieParser parser;
+
+    /**
+     * Creates a parser for a manager of an ezFoodie of {@code size} members.
+     */
+    @Setup
+    public void setUp() {
+        Model model = new ModelManager();
+        model.setEzFoodie(BenchmarkDataUtil.getEzFoodie(size));
+        model.setLoginStatus(LoginStatus.MANAGER);
+        parser = new EzFoodieParser(model);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException, PermissionException {
+        return parser.parseCommand(commandText);
+    }
+}
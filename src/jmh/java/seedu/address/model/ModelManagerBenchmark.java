@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.status.SortStatus;
+import seedu.address.model.member.CreditSortComparator;
+import seedu.address.model.member.NameContainsKeywordsPredicate;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks filtering and sorting the member list of a {@code ModelManager} of {@code size} members.
+ * Each benchmark reads the size of the list, which recomputes the list after its predicate or comparator is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private ModelManager model;
+    private NameContainsKeywordsPredicate namePredicate;
+    private CreditSortComparator creditComparator;
+
+    /**
+     * Creates a model of {@code size} members.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager();
+        model.setEzFoodie(BenchmarkDataUtil.getEzFoodie(size));
+        namePredicate = new NameContainsKeywordsPredicate(List.of("Charlotte", "Tan"));
+        creditComparator = new CreditSortComparator(SortStatus.DESC);
+    }
+
+    /**
+     * Filters the members by name.
+     */
+    @Benchmark
+    public int filterByName() {
+        model.updateFilteredMemberList(namePredicate);
+        return model.getUpdatedMemberList().size();
+    }
+
+    /**
+     * Sorts the members by credit.
+     */
+    @Benchmark
+    public int sortByCredit() {
+        model.updateSortedMemberList(creditComparator);
+        return model.getUpdatedMemberList().size();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.member;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks adding, finding and replacing a member in a {@code UniqueMemberList} of {@code size} members.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueMemberListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private UniqueMemberList members;
+    private Member existingMember;
+    private Member newMember;
+    private Member editedMember;
+    private boolean isEdited;
+
+    /**
+     * Fills the list with {@code size} members.
+     */
+    @Setup
+    public void setUp() {
+        members = new UniqueMemberList();
+        members.setMembers(BenchmarkDataUtil.getMembers(size));
+        existingMember = BenchmarkDataUtil.getMember(size / 2);
+        newMember = BenchmarkDataUtil.getMember(size);
+        editedMember = new Member(existingMember.getId(), new Name("Edited Member"), existingMember.getPhone(),
+                existingMember.getEmail(), existingMember.getAddress(), existingMember.getTimestamp(),
+                existingMember.getCredit(), existingMember.getPoint(), existingMember.getTransactions(),
+                existingMember.getReservations(), existingMember.getTags());
+    }
+
+    /**
+     * Adds a member, then removes it so that the list keeps its size.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        members.add(newMember);
+        members.remove(newMember);
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return members.contains(existingMember);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return members.contains(newMember);
+    }
+
+    /**
+     * Replaces the member in the middle of the list with its edited copy, or back again.
+     */
+    @Benchmark
+    public void setMember() {
+        if (isEdited) {
+            members.setMember(editedMember, existingMember);
+        } else {
+            members.setMember(existingMember, editedMember);
+        }
+        isEdited = !isEdited;
+    }
+}
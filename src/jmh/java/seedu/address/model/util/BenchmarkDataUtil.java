@@ -0,0 +1,44 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.EzFoodie;
+import seedu.address.model.member.Member;
+
+/**
+ * Contains utility methods for creating members and {@code EzFoodie}s of a given size for the benchmarks.
+ * The members come from a {@code SyntheticDataGenerator} with a fixed seed, so every run of a benchmark works on
+ * the same data.
+ */
+public class BenchmarkDataUtil {
+
+    public static final long SEED = 2021;
+
+    private static final SyntheticDataGenerator GENERATOR =
+            new SyntheticDataGenerator(SEED, SyntheticDataGenerator.MAX_MEMBER_COUNT).withVisits(20, 1.0);
+
+    /**
+     * Returns the member with index {@code index}, whose id, phone and email are different from those of the
+     * members with every other index.
+     */
+    public static Member getMember(int index) {
+        return GENERATOR.getMember(index);
+    }
+
+    /**
+     * Returns the members with indexes {@code 0} to {@code size - 1}.
+     */
+    public static List<Member> getMembers(int size) {
+        return new ArrayList<>(GENERATOR.generate().getMemberList().subList(0, size));
+    }
+
+    /**
+     * Returns an {@code EzFoodie} of the members with indexes {@code 0} to {@code size - 1}.
+     */
+    public static EzFoodie getEzFoodie(int size) {
+        EzFoodie ezFoodie = new EzFoodie();
+        ezFoodie.setMembers(getMembers(size));
+        return ezFoodie;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.member.Member;
+
+/**
+ * Benchmarks computing the statistics shown in the summary of {@code size} members, from scratch and incrementally.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SummaryUtilBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Member> members;
+    private SummaryStatistics statistics;
+
+    /**
+     * Creates {@code size} members, and the summary statistics of them.
+     */
+    @Setup
+    public void setUp() {
+        members = BenchmarkDataUtil.getMembers(size);
+        statistics = new SummaryStatistics();
+        statistics.update(members);
+    }
+
+    @Benchmark
+    public long countTransactions() {
+        return SummaryUtil.countTransactions(members);
+    }
+
+    @Benchmark
+    public double sumBillings() {
+        return SummaryUtil.sumBillings(members);
+    }
+
+    @Benchmark
+    public long countTransactionsInPastMonths() {
+        return SummaryUtil.countTransactionsInPastMonths(members, 3);
+    }
+
+    @Benchmark
+    public double sumBillingsInPastMonths() {
+        return SummaryUtil.sumBillingsInPastMonths(members, 3);
+    }
+
+    @Benchmark
+    public long updateSummaryStatistics() {
+        statistics.update(members);
+        return statistics.getTransactionCountInPastMonths(3);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyEzFoodie;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks saving and reading an ezFoodie of {@code size} members as JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JsonEzFoodieStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Path directory;
+    private JsonEzFoodieStorage storage;
+    private ReadOnlyEzFoodie ezFoodie;
+
+    /**
+     * Saves an ezFoodie of {@code size} members to a temporary file, for the reads.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("ezFoodie-benchmark");
+        storage = new JsonEzFoodieStorage(directory.resolve("ezFoodie.json"));
+        ezFoodie = BenchmarkDataUtil.getEzFoodie(size);
+        storage.saveEzFoodie(ezFoodie);
+    }
+
+    /**
+     * Deletes the temporary file.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getEzFoodieFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveEzFoodie(ezFoodie);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyEzFoodie> read() throws DataConversionException {
+        return storage.readEzFoodie();
+    }
+}
@@ -0,0 +1,272 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.commons.core.metrics.MetricsReporter;
+import seedu.address.commons.core.metrics.StartupTimer;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Account;
+import seedu.address.model.EzFoodie;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAccount;
+import seedu.address.model.ReadOnlyEzFoodie;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AccountStorage;
+import seedu.address.storage.EzFoodieImageCache;
+import seedu.address.storage.EzFoodieStorage;
+import seedu.address.storage.JsonAccountStorage;
+import seedu.address.storage.JsonEzFoodieStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Initializes the config, storage, model and logic of ezFoodie without any UI toolkit,
+ * so that the same core is started by the JavaFX application and by the headless daemon.
+ */
+public class AppInitializer {
+
+    public static final String PHASE_CONFIG = "config";
+    public static final String PHASE_PREFS = "prefs";
+    public static final String PHASE_ACCOUNT = "account";
+    public static final String PHASE_DATA = "data";
+    public static final String PHASE_MODEL = "model";
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    protected Logic logic;
+    protected Storage storage;
+    protected Model model;
+    protected Config config;
+    protected MetricsReporter metricsReporter;
+    protected StartupTimer startupTimer = new StartupTimer(MetricsRegistry.getDefault());
+
+    /**
+     * Initializes the components of ezFoodie with {@code appParameters}.
+     * The account and the ezFoodie data are read at the same time, as neither needs the other.
+     */
+    public void init(AppParameters appParameters) {
+        config = startupTimer.time(PHASE_CONFIG, () -> initConfig(appParameters.getConfigPath()));
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = startupTimer.time(PHASE_PREFS, () -> initPrefs(userPrefsStorage));
+        AccountStorage accountStorage = new JsonAccountStorage(userPrefs.getAccountFilePath());
+        EzFoodieStorage ezFoodieStorage = new JsonEzFoodieStorage(userPrefs.getEzFoodieFilePath());
+        EzFoodieImageCache ezFoodieImageCache = config.isModelImageCache()
+                ? new EzFoodieImageCache(EzFoodieImageCache.getImageFilePath(userPrefs.getEzFoodieFilePath()))
+                : null;
+        storage = new StorageManager(accountStorage, ezFoodieStorage, userPrefsStorage, ezFoodieImageCache);
+
+        initLogging(config);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+
+        initMetrics(config);
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public StartupTimer getStartupTimer() {
+        return startupTimer;
+    }
+
+    /**
+     * Saves the user preferences and the image of the data, and reports the metrics a last time before ezFoodie
+     * stops.
+     */
+    public void stop() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveEzFoodieImage();
+        } catch (IOException e) {
+            logger.warning("Failed to save image of data " + StringUtil.getDetails(e));
+        }
+        if (metricsReporter != null) {
+            metricsReporter.close();
+        }
+    }
+
+    /**
+     * The data from the sample ezFoodie will be used instead if {@code storage}'s account is not found,
+     * or an empty account will be used instead if errors occur when reading {@code storage}'s account.
+     */
+    private ReadOnlyAccount initAccount(Storage storage) {
+        Optional<ReadOnlyAccount> accountOptional;
+        ReadOnlyAccount initialData;
+        try {
+            accountOptional = storage.readAccount();
+            if (!accountOptional.isPresent()) {
+                logger.info("Account file not found. Will be starting with a sample account");
+            }
+            initialData = accountOptional.orElseGet(SampleDataUtil::getDefaultPassword);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty ezFoodie");
+            initialData = new Account();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty ezFoodie");
+            initialData = new Account();
+        }
+
+        //Update account file in case it was missing to begin with or there are any new updates.
+        try {
+            storage.saveAccount(initialData);
+        } catch (IOException e) {
+            logger.warning("Failed to save account file : " + StringUtil.getDetails(e));
+        }
+
+        return initialData;
+    }
+
+    /**
+     * The data from the sample ezFoodie will be used instead if {@code storage}'s ezFoodie is not found,
+     * or an empty ezFoodie will be used instead if errors occur when reading {@code storage}'s ezFoodie.
+     */
+    private ReadOnlyEzFoodie initEzFoodie(Storage storage) {
+        Optional<ReadOnlyEzFoodie> ezFoodieOptional;
+        ReadOnlyEzFoodie initialData;
+        try {
+            ezFoodieOptional = storage.readEzFoodie();
+            if (!ezFoodieOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample ezFoodie");
+            }
+            initialData = ezFoodieOptional.orElseGet(SampleDataUtil::getSampleEzFoodie);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty ezFoodie");
+            initialData = new EzFoodie();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty ezFoodie");
+            initialData = new EzFoodie();
+        }
+
+        return initialData;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s account and ezFoodie
+     * and {@code userPrefs}. The account is read on another thread while the ezFoodie is read.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        CompletableFuture<ReadOnlyAccount> initAccount =
+                startupTimer.timeAsync(PHASE_ACCOUNT, () -> initAccount(storage));
+        ReadOnlyEzFoodie initEzFoodie = startupTimer.time(PHASE_DATA, () -> initEzFoodie(storage));
+
+        return startupTimer.time(PHASE_MODEL, () -> new ModelManager(initAccount.join(), initEzFoodie, userPrefs));
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Starts reporting the metrics to the metrics file of {@code config}, unless its interval is zero.
+     */
+    private void initMetrics(Config config) {
+        if (config.getMetricsReportIntervalSeconds() > 0) {
+            metricsReporter = new MetricsReporter(MetricsRegistry.getDefault(), config.getMetricsFilePath(),
+                    config.getMetricsReportIntervalSeconds());
+        }
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    protected Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty ezFoodie");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
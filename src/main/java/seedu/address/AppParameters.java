@@ -2,11 +2,11 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 
-import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 
@@ -16,8 +16,17 @@ import seedu.address.commons.util.FileUtil;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+    private static final int MAX_PORT = 65535;
+
     private Path configPath;
     private Path accountPath;
+    private Path runPath;
+    private Integer socketPort;
+    private Integer httpPort;
+    private String httpHost;
+    private boolean exitAfterStart;
 
     public Path getConfigPath() {
         return configPath;
@@ -35,12 +44,68 @@ public class AppParameters {
         this.accountPath = accountPath;
     }
 
+    public Path getRunPath() {
+        return runPath;
+    }
+
+    public void setRunPath(Path runPath) {
+        this.runPath = runPath;
+    }
+
+    public Integer getSocketPort() {
+        return socketPort;
+    }
+
+    public void setSocketPort(Integer socketPort) {
+        this.socketPort = socketPort;
+    }
+
+    public Integer getHttpPort() {
+        return httpPort;
+    }
+
+    public void setHttpPort(Integer httpPort) {
+        this.httpPort = httpPort;
+    }
+
+    public String getHttpHost() {
+        return httpHost;
+    }
+
+    public void setHttpHost(String httpHost) {
+        this.httpHost = httpHost;
+    }
+
+    public boolean isExitAfterStart() {
+        return exitAfterStart;
+    }
+
+    public void setExitAfterStart(boolean exitAfterStart) {
+        this.exitAfterStart = exitAfterStart;
+    }
+
+    /**
+     * Returns the named parameters of {@code args}, which are the arguments of the form {@code --name=value}.
+     * Other arguments are ignored, as they are by JavaFX.
+     */
+    public static Map<String, String> getNamedParameters(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (!arg.startsWith(NAMED_PARAMETER_PREFIX) || separatorIndex <= NAMED_PARAMETER_PREFIX.length()) {
+                continue;
+            }
+            namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                    arg.substring(separatorIndex + 1));
+        }
+        return namedParameters;
+    }
+
     /**
-     * Parses the application command-line parameters.
+     * Parses the application command-line parameters from their {@code namedParameters}.
      */
-    public static AppParameters parse(Application.Parameters parameters) {
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -56,9 +121,48 @@ public class AppParameters {
         }
         appParameters.setAccountPath(accountPathParameter != null ? Paths.get(accountPathParameter) : null);
 
+        String runPathParameter = namedParameters.get("run");
+        if (runPathParameter != null && !FileUtil.isValidPath(runPathParameter)) {
+            logger.warning("Invalid run path " + runPathParameter + ". No file will be run.");
+            runPathParameter = null;
+        }
+        appParameters.setRunPath(runPathParameter != null ? Paths.get(runPathParameter) : null);
+
+        String socketPortParameter = namedParameters.get("socket");
+        appParameters.setSocketPort(socketPortParameter != null ? parsePort(socketPortParameter) : null);
+
+        String httpPortParameter = namedParameters.get("http");
+        appParameters.setHttpPort(httpPortParameter != null ? parsePort(httpPortParameter) : null);
+
+        String httpHostParameter = namedParameters.get("http-host");
+        if (httpHostParameter != null && httpHostParameter.isBlank()) {
+            logger.warning("Invalid HTTP host " + httpHostParameter + ". Using the loopback address.");
+            httpHostParameter = null;
+        }
+        appParameters.setHttpHost(httpHostParameter);
+
+        // exits once the main window is shown, as a training run for the class-data archive does
+        appParameters.setExitAfterStart(Boolean.parseBoolean(namedParameters.get("exit-after-start")));
+
         return appParameters;
     }
 
+    /**
+     * Returns the port in {@code portParameter}, or null if it is not a valid port.
+     */
+    private static Integer parsePort(String portParameter) {
+        try {
+            int port = Integer.parseInt(portParameter.trim());
+            if (port >= 0 && port <= MAX_PORT) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // handled below like a port out of range
+        }
+        logger.warning("Invalid port " + portParameter + ". No socket will be opened on it.");
+        return null;
+    }
+
     /**
      * Overrides the equals method.
      */
@@ -74,7 +178,12 @@ public class AppParameters {
 
         AppParameters otherAppParameters = (AppParameters) other;
         return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
-                && Objects.equals(getAccountPath(), otherAppParameters.getAccountPath());
+                && Objects.equals(getAccountPath(), otherAppParameters.getAccountPath())
+                && Objects.equals(getRunPath(), otherAppParameters.getRunPath())
+                && Objects.equals(getSocketPort(), otherAppParameters.getSocketPort())
+                && Objects.equals(getHttpPort(), otherAppParameters.getHttpPort())
+                && Objects.equals(getHttpHost(), otherAppParameters.getHttpHost())
+                && isExitAfterStart() == otherAppParameters.isExitAfterStart();
     }
 
     /**
@@ -82,6 +191,6 @@ public class AppParameters {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(configPath, accountPath);
+        return Objects.hash(configPath, accountPath, runPath, socketPort, httpPort, httpHost, exitAfterStart);
     }
 }
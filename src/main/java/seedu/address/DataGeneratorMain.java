@@ -0,0 +1,95 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Map;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.EzFoodieStorage;
+import seedu.address.storage.JsonEzFoodieStorage;
+
+/**
+ * Writes a data file of generated members for benchmarks and load tests. Takes {@code --name=value} parameters:
+ * <ul>
+ *     <li>{@code --members=COUNT}: the number of members, which is required.</li>
+ *     <li>{@code --output=FILE}: the data file, {@code data/ezfoodie-generated.json} by default.</li>
+ *     <li>{@code --seed=SEED}: the seed of the members, so that the same seed gives the same file.</li>
+ *     <li>{@code --max-visits=COUNT} and {@code --zipf=EXPONENT}: the Zipf distribution of the number of visits.</li>
+ *     <li>{@code --first-date=yyyy-MM-dd} and {@code --years=COUNT}: the years the members visit in.</li>
+ *     <li>{@code --reservation-rate=RATE}: the fraction of visits that are booked.</li>
+ *     <li>{@code --tier-weights=BRONZE,SILVER,GOLD,PLATINUM}: the relative numbers of members of each tier.</li>
+ * </ul>
+ * The settings not given are those of {@code SyntheticDataGenerator}.
+ */
+public class DataGeneratorMain {
+
+    public static final Path DEFAULT_OUTPUT_PATH = Paths.get("data", "ezfoodie-generated.json");
+    public static final long DEFAULT_SEED = 2021;
+    public static final String MESSAGE_USAGE = "Usage: DataGeneratorMain --members=COUNT [--output=FILE] [--seed=SEED]"
+            + " [--max-visits=COUNT] [--zipf=EXPONENT] [--first-date=yyyy-MM-dd] [--years=COUNT]"
+            + " [--reservation-rate=RATE] [--tier-weights=BRONZE,SILVER,GOLD,PLATINUM]";
+
+    /**
+     * Writes the data file described by the command-line {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> parameters = AppParameters.getNamedParameters(args);
+        SyntheticDataGenerator generator;
+        try {
+            generator = createGenerator(parameters);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        Path outputPath = parameters.containsKey("output") ? Paths.get(parameters.get("output")) : DEFAULT_OUTPUT_PATH;
+        System.out.printf("Writing %d members with about %.0f transactions to %s%n", generator.getMemberCount(),
+                generator.getMemberCount() * generator.getMeanVisits(), outputPath);
+        long startMillis = System.currentTimeMillis();
+        EzFoodieStorage storage = new JsonEzFoodieStorage(outputPath);
+        storage.saveEzFoodie(generator.generate());
+        System.out.printf("Done in %.1f s%n", (System.currentTimeMillis() - startMillis) / 1000.0);
+    }
+
+    /**
+     * Returns the generator described by the named {@code parameters}.
+     *
+     * @throws IllegalArgumentException if a parameter is missing or invalid.
+     */
+    public static SyntheticDataGenerator createGenerator(Map<String, String> parameters) {
+        if (!parameters.containsKey("members")) {
+            throw new IllegalArgumentException("The number of members is missing.");
+        }
+        long seed = parameters.containsKey("seed") ? Long.parseLong(parameters.get("seed")) : DEFAULT_SEED;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed,
+                Integer.parseInt(parameters.get("members")));
+        if (parameters.containsKey("max-visits") || parameters.containsKey("zipf")) {
+            generator.withVisits(
+                    Integer.parseInt(parameters.getOrDefault("max-visits",
+                            String.valueOf(SyntheticDataGenerator.DEFAULT_MAX_VISITS))),
+                    Double.parseDouble(parameters.getOrDefault("zipf",
+                            String.valueOf(SyntheticDataGenerator.DEFAULT_ZIPF_EXPONENT))));
+        }
+        if (parameters.containsKey("first-date") || parameters.containsKey("years")) {
+            generator.withYears(
+                    parameters.containsKey("first-date") ? LocalDate.parse(parameters.get("first-date"))
+                            : SyntheticDataGenerator.DEFAULT_FIRST_DATE,
+                    Integer.parseInt(parameters.getOrDefault("years",
+                            String.valueOf(SyntheticDataGenerator.DEFAULT_YEARS))));
+        }
+        if (parameters.containsKey("reservation-rate")) {
+            generator.withReservationRate(Double.parseDouble(parameters.get("reservation-rate")));
+        }
+        if (parameters.containsKey("tier-weights")) {
+            generator.withTierWeights(Arrays.stream(parameters.get("tier-weights").split(","))
+                    .mapToDouble(Double::parseDouble).toArray());
+        }
+        return generator;
+    }
+}
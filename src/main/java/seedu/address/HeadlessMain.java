@@ -0,0 +1,97 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.PermissionException;
+import seedu.address.daemon.CommandServer;
+import seedu.address.daemon.CommandSession;
+import seedu.address.daemon.HttpApiServer;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs ezFoodie without the UI, so that it can be started on machines without JavaFX.
+ * Takes the same {@code --name=value} parameters as the application:
+ * <ul>
+ *     <li>{@code --run=FILE} runs the commands in the file as one batch and exits.</li>
+ *     <li>{@code --socket=PORT} serves commands to clients connecting to the port of the loopback address.</li>
+ *     <li>{@code --http=PORT} serves the HTTP API of {@code HttpApiServer} on the port of the loopback address,
+ *     or of {@code --http-host=HOST} to serve other machines on the LAN.</li>
+ *     <li>Otherwise, unless the HTTP API is served, commands are read from the standard input and their results
+ *     written to the standard output, as described in {@code CommandSession}.</li>
+ * </ul>
+ */
+public class HeadlessMain {
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    /**
+     * Starts ezFoodie without the UI with the command-line {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        logger.info("==========================[ Initializing headless ezFoodie ]========================");
+        AppParameters appParameters = AppParameters.parse(AppParameters.getNamedParameters(args));
+        AppInitializer initializer = new AppInitializer();
+        initializer.init(appParameters);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("===========================[ Stopping headless ezFoodie ]===========================");
+            initializer.stop();
+        }));
+
+        Logic logic = initializer.getLogic();
+        if (appParameters.getRunPath() != null) {
+            runFile(logic, appParameters.getRunPath());
+            return;
+        }
+        if (appParameters.getHttpPort() != null) {
+            // the HTTP API has a session of its own, so that a socket client logging in does not change it
+            HttpApiServer httpApiServer = new HttpApiServer(logic.openSession(), toHttpAddress(appParameters),
+                    HttpApiServer.DEFAULT_WORKER_COUNT);
+            // the HTTP server keeps running after main returns, until ezFoodie is stopped
+            httpApiServer.start();
+            System.out.println("Serving the HTTP API on port " + httpApiServer.getPort());
+        }
+        if (appParameters.getSocketPort() != null) {
+            try (CommandServer server = new CommandServer(logic, appParameters.getSocketPort())) {
+                System.out.println("Listening for commands on port " + server.getPort());
+                server.serve();
+            }
+        } else if (appParameters.getHttpPort() == null) {
+            BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            PrintWriter output = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            new CommandSession(logic, input, output).run();
+        }
+    }
+
+    private static InetSocketAddress toHttpAddress(AppParameters appParameters) {
+        String host = appParameters.getHttpHost();
+        return host == null
+                ? new InetSocketAddress(InetAddress.getLoopbackAddress(), appParameters.getHttpPort())
+                : new InetSocketAddress(host, appParameters.getHttpPort());
+    }
+
+    /**
+     * Runs the file at {@code runPath} as one batch with {@code logic}, and prints the result.
+     */
+    public static void runFile(Logic logic, Path runPath) {
+        try {
+            CommandResult commandResult = logic.execute(RunCommand.COMMAND_WORD + " " + runPath);
+            System.out.println(commandResult.getFeedbackToUser());
+        } catch (CommandException | ParseException | PermissionException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+}
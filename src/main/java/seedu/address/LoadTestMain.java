@@ -0,0 +1,110 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.loadtest.CommandLog;
+import seedu.address.loadtest.LoadTest;
+import seedu.address.loadtest.LoadTestReport;
+import seedu.address.loadtest.TemporaryDataCopy;
+
+/**
+ * Replays a command log against a temporary copy of ezFoodie data without the UI, reports the latencies, and
+ * compares them to a baseline report. Takes {@code --name=value} parameters:
+ * <ul>
+ *     <li>{@code --log=FILE}: the command log, either an ezFoodie log file or a file of one command on each line,
+ *     which is required.</li>
+ *     <li>{@code --data=FILE}: the ezFoodie data to copy, {@code data/ezfoodie.json} by default.</li>
+ *     <li>{@code --account=FILE} and {@code --prefs=FILE}: the account and user prefs to copy, if any.</li>
+ *     <li>{@code --rate=COMMANDS_PER_SECOND}: the rate to replay the commands at, or {@code 0}, the default, to
+ *     replay them as fast as they run.</li>
+ *     <li>{@code --report=FILE}: where the report is saved, {@code loadtest-report.json} by default.</li>
+ *     <li>{@code --baseline=FILE}: the report to compare to. If the p99 latency of any shape of command is more
+ *     than {@code --threshold=FRACTION} (0.2 by default) higher than in the baseline, the load test fails with exit
+ *     code {@code 1}.</li>
+ * </ul>
+ */
+public class LoadTestMain {
+
+    public static final Path DEFAULT_DATA_PATH = Paths.get("data", "ezfoodie.json");
+    public static final Path DEFAULT_REPORT_PATH = Paths.get("loadtest-report.json");
+    public static final double DEFAULT_THRESHOLD = 0.2;
+    public static final int EXIT_REGRESSED = 1;
+    public static final int EXIT_INVALID_PARAMETERS = 2;
+    public static final String MESSAGE_USAGE = "Usage: LoadTestMain --log=FILE [--data=FILE] [--account=FILE]"
+            + " [--prefs=FILE] [--rate=COMMANDS_PER_SECOND] [--report=FILE] [--baseline=FILE] [--threshold=FRACTION]";
+
+    /**
+     * Runs the load test described by the command-line {@code args}.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        Map<String, String> parameters = AppParameters.getNamedParameters(args);
+        if (!parameters.containsKey("log")) {
+            exitWithUsage("The command log is missing.");
+        }
+        double rate = 0;
+        double threshold = DEFAULT_THRESHOLD;
+        try {
+            rate = Double.parseDouble(parameters.getOrDefault("rate", "0"));
+            threshold = Double.parseDouble(parameters.getOrDefault("threshold", String.valueOf(DEFAULT_THRESHOLD)));
+        } catch (NumberFormatException e) {
+            exitWithUsage(e.getMessage());
+        }
+        Path reportPath = Paths.get(parameters.getOrDefault("report", DEFAULT_REPORT_PATH.toString()));
+        Optional<LoadTestReport> baseline = parameters.containsKey("baseline")
+                ? JsonUtil.readJsonFile(Paths.get(parameters.get("baseline")), LoadTestReport.class)
+                : Optional.empty();
+
+        // the command of every replayed command would be logged, and fill up the log being replayed
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        List<String> commands = CommandLog.read(Paths.get(parameters.get("log")));
+        LoadTestReport report;
+        try (TemporaryDataCopy dataCopy = new TemporaryDataCopy(
+                Paths.get(parameters.getOrDefault("data", DEFAULT_DATA_PATH.toString())),
+                toPath(parameters.get("account")), toPath(parameters.get("prefs")))) {
+            System.out.printf("Replaying %d commands against a copy of the data in %s%n", commands.size(),
+                    dataCopy.getDirectory());
+            report = new LoadTest(dataCopy.getLogic(), MetricsRegistry.getDefault(), rate).run(commands);
+        }
+        System.out.print(report);
+        JsonUtil.saveJsonFile(report, reportPath);
+        System.out.println("Report saved to " + reportPath);
+
+        if (baseline.isEmpty()) {
+            if (parameters.containsKey("baseline")) {
+                System.out.println("Baseline " + parameters.get("baseline") + " not found, so nothing is compared.");
+            }
+            return;
+        }
+        List<String> regressions = report.findRegressions(baseline.get(), threshold);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.err::println);
+            System.exit(EXIT_REGRESSED);
+        }
+        System.out.println("No p99 latency regressed by more than " + Math.round(threshold * 100) + "%.");
+    }
+
+    private static Path toPath(String path) {
+        return path == null || !Files.exists(Paths.get(path)) ? null : Paths.get(path);
+    }
+
+    private static void exitWithUsage(String message) {
+        System.err.println(message);
+        System.err.println(MESSAGE_USAGE);
+        System.exit(EXIT_INVALID_PARAMETERS);
+    }
+}
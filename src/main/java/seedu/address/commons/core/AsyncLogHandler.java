@@ -0,0 +1,189 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import seedu.address.commons.core.concurrent.RingBuffer;
+
+/**
+ * A {@code Handler} that puts the records logged into a {@code RingBuffer}, from which a background thread passes
+ * them on to the handlers that write them, so that logging costs the thread that logs no more than adding to the
+ * buffer. What happens to a record logged when the buffer is full is set by the {@code OverflowPolicy}.
+ *
+ * Records are written with the name of their logger instead of the class and method that logged them, since finding
+ * the caller takes a walk of the stack of the thread that logs. {@link #flush()} and {@link #close()} write every
+ * record in the buffer before they return, and records logged after the handler is closed are passed straight to
+ * the handlers written to.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final String MESSAGE_DISCARDED = "%1$d log records were discarded because the log buffer was full.";
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FULL_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * Represents what happens to a record logged when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** The thread that logs waits for space in the buffer, so no record is lost. */
+        BLOCK,
+        /** The record is discarded, and the number of records discarded is logged once there is space again. */
+        DISCARD,
+        /** Records below {@code WARNING} are discarded, and warnings and errors wait for space. */
+        DISCARD_BELOW_WARNING
+    }
+
+    private final RingBuffer<LogRecord> buffer;
+    private final List<Handler> targets;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong discardedCount = new AtomicLong();
+    private final Object writeLock = new Object();
+    private final Thread writerThread;
+    private long reportedDiscardedCount;
+    private volatile boolean isWriterWaiting;
+    private volatile boolean isClosed;
+
+    /**
+     * Constructs an {@code AsyncLogHandler} of a buffer of at least {@code capacity} records, which writes the
+     * records to {@code targets} and follows {@code overflowPolicy} when the buffer is full.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(targets);
+        requireNonNull(overflowPolicy);
+        checkArgument(capacity > 0, RingBuffer.MESSAGE_CONSTRAINTS);
+        this.buffer = new RingBuffer<>(capacity);
+        this.targets = List.copyOf(targets);
+        this.overflowPolicy = overflowPolicy;
+        writerThread = new Thread(this::writeUntilClosed, "ezFoodie-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Adds {@code record} to the buffer, to be written by the background thread.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || !isLoggable(record)) {
+            return;
+        }
+        // stops the caller from being looked up when the record is formatted on the background thread
+        record.setSourceClassName(null);
+        if (isClosed) {
+            write(record);
+            return;
+        }
+        while (!buffer.offer(record)) {
+            if (overflowPolicy == OverflowPolicy.DISCARD
+                    || (overflowPolicy == OverflowPolicy.DISCARD_BELOW_WARNING
+                    && record.getLevel().intValue() < Level.WARNING.intValue())) {
+                discardedCount.incrementAndGet();
+                return;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(FULL_WAIT_NANOS);
+            if (isClosed) {
+                write(record);
+                return;
+            }
+        }
+        if (isWriterWaiting) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Writes every record in the buffer, and flushes the handlers written to.
+     */
+    @Override
+    public void flush() {
+        synchronized (writeLock) {
+            drain();
+            targets.forEach(Handler::flush);
+        }
+    }
+
+    /**
+     * Stops the background thread, writes every record in the buffer, and closes the handlers written to.
+     * Closing the handler again does nothing.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (writeLock) {
+            drain();
+            targets.forEach(Handler::close);
+        }
+    }
+
+    /**
+     * Returns the number of records discarded because the buffer was full.
+     */
+    public long getDiscardedCount() {
+        return discardedCount.get();
+    }
+
+    private void writeUntilClosed() {
+        while (!isClosed) {
+            synchronized (writeLock) {
+                drain();
+            }
+            isWriterWaiting = true;
+            // checks again after saying it waits, so that a record offered in between is not left for a whole wait
+            if (buffer.isEmpty() && !isClosed) {
+                LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+            }
+            isWriterWaiting = false;
+        }
+    }
+
+    /**
+     * Writes every record in the buffer. Must be called with {@code writeLock} held.
+     */
+    private void drain() {
+        LogRecord record;
+        boolean isWritten = false;
+        while ((record = buffer.poll()) != null) {
+            write(record);
+            isWritten = true;
+        }
+        long discarded = discardedCount.get();
+        if (discarded > reportedDiscardedCount) {
+            LogRecord warning = new LogRecord(Level.WARNING,
+                    String.format(MESSAGE_DISCARDED, discarded - reportedDiscardedCount));
+            warning.setLoggerName(AsyncLogHandler.class.getSimpleName());
+            warning.setSourceClassName(null);
+            write(warning);
+            reportedDiscardedCount = discarded;
+            isWritten = true;
+        }
+        if (isWritten) {
+            targets.forEach(Handler::flush);
+        }
+    }
+
+    private void write(LogRecord record) {
+        for (Handler target : targets) {
+            target.publish(record);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
 /**
  * Config values used by the application
  */
@@ -14,9 +16,25 @@ public class Config {
      */
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * Stands for the default number of log records buffered when logging asynchronously.
+     */
+    public static final int DEFAULT_LOG_BUFFER_SIZE = 8192;
+
+    /**
+     * Stands for the default number of seconds between the reports of the metrics written to the metrics file.
+     */
+    public static final long DEFAULT_METRICS_REPORT_INTERVAL_SECONDS = 60;
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean asyncLogging = false;
+    private int logBufferSize = DEFAULT_LOG_BUFFER_SIZE;
+    private OverflowPolicy logOverflowPolicy = OverflowPolicy.DISCARD_BELOW_WARNING;
+    private Path metricsFilePath = Paths.get("ezfoodie-metrics.log");
+    private long metricsReportIntervalSeconds = DEFAULT_METRICS_REPORT_INTERVAL_SECONDS;
+    private boolean modelImageCache = true;
 
     /**
      * Gets log Level from {@code logLevel}.
@@ -48,6 +66,91 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns whether log records are written by a background thread instead of the thread that logs them.
+     */
+    public boolean isAsyncLogging() {
+        return asyncLogging;
+    }
+
+    /**
+     * Sets whether log records are written by a background thread.
+     */
+    public void setAsyncLogging(boolean isAsyncLogging) {
+        this.asyncLogging = isAsyncLogging;
+    }
+
+    /**
+     * Gets the number of log records buffered when logging asynchronously.
+     */
+    public int getLogBufferSize() {
+        return logBufferSize;
+    }
+
+    /**
+     * Sets the number of log records buffered when logging asynchronously.
+     */
+    public void setLogBufferSize(int logBufferSize) {
+        this.logBufferSize = logBufferSize;
+    }
+
+    /**
+     * Gets what happens to a log record when the buffer of asynchronous logging is full.
+     */
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    /**
+     * Sets what happens to a log record when the buffer of asynchronous logging is full.
+     */
+    public void setLogOverflowPolicy(OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
+    /**
+     * Gets the path of the file the metrics are reported to.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    /**
+     * Sets the path of the file the metrics are reported to.
+     */
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Gets the number of seconds between the reports of the metrics, where zero stops the reports.
+     */
+    public long getMetricsReportIntervalSeconds() {
+        return metricsReportIntervalSeconds;
+    }
+
+    /**
+     * Sets the number of seconds between the reports of the metrics, where zero stops the reports.
+     */
+    public void setMetricsReportIntervalSeconds(long metricsReportIntervalSeconds) {
+        this.metricsReportIntervalSeconds = metricsReportIntervalSeconds;
+    }
+
+    /**
+     * Gets whether a binary image of the data is kept next to the data file, and read at startup instead of the
+     * data file while the data file is unchanged.
+     */
+    public boolean isModelImageCache() {
+        return modelImageCache;
+    }
+
+    /**
+     * Sets whether a binary image of the data is kept next to the data file.
+     */
+    public void setModelImageCache(boolean modelImageCache) {
+        this.modelImageCache = modelImageCache;
+    }
+
     /**
      * Overrides the equals method for Config class.
      */
@@ -63,7 +166,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && asyncLogging == o.asyncLogging
+                && logBufferSize == o.logBufferSize
+                && logOverflowPolicy == o.logOverflowPolicy
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsReportIntervalSeconds == o.metricsReportIntervalSeconds
+                && modelImageCache == o.modelImageCache;
     }
 
     /**
@@ -73,7 +182,8 @@ public class Config {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, asyncLogging, logBufferSize, logOverflowPolicy,
+                metricsFilePath, metricsReportIntervalSeconds, modelImageCache);
     }
 
     /**
@@ -1,9 +1,14 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,39 +19,46 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * If asynchronous logging is turned on in the {@code config}, the messages are put into a buffer and written to the
+ *   console and the file by a background thread, and the buffer is written out when the application stops.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "ezfoodie.log";
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncLogHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The level is set on the handlers shared by every logger, so it applies to existing loggers as well<br>
+     * Turns on asynchronous logging for every logger if the {@code config} asks for it.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        getHandlers().forEach(handler -> handler.setLevel(currentLogLevel));
+        if (consoleHandler != null) {
+            consoleHandler.setLevel(currentLogLevel);
+        }
+        if (fileHandler != null) {
+            fileHandler.setLevel(currentLogLevel);
+        }
+        if (config.isAsyncLogging() && asyncLogHandler == null) {
+            startAsyncLogging(config.getLogBufferSize(), config.getLogOverflowPolicy());
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
+     * The handlers of the logger are set up the first time it is requested, and the same logger is returned after.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -60,37 +72,66 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Creates the logger of {@code name}, which writes to the handlers of the LogsCenter only.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    private static synchronized Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        setHandlers(logger);
+        return logger;
     }
 
     /**
-     * Removes all the handlers from {@code logger}.
+     * Replaces the handlers of {@code logger} with the handlers of the LogsCenter.
      */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+    private static void setHandlers(Logger logger) {
+        removeHandlers(logger);
+        for (Handler handler : getHandlers()) {
+            logger.addHandler(handler);
+        }
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the handlers every logger writes to, which are created if they are null.
      */
-    private static void addFileHandler(Logger logger) {
+    private static List<Handler> getHandlers() {
+        if (asyncLogHandler != null) {
+            return List.of(asyncLogHandler);
+        }
+        List<Handler> handlers = new ArrayList<>();
+        if (consoleHandler == null) {
+            consoleHandler = createConsoleHandler();
+        }
+        handlers.add(consoleHandler);
         try {
             if (fileHandler == null) {
                 fileHandler = createFileHandler();
             }
-            logger.addHandler(fileHandler);
+            handlers.add(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            Logger.getLogger(LogsCenter.class.getSimpleName()).warning("Error adding file handler for logger.");
         }
+        return handlers;
+    }
+
+    /**
+     * Puts an {@code AsyncLogHandler} in front of the console and file handlers of every logger, and closes it when
+     * the application stops so that the messages in its buffer are written.
+     */
+    private static void startAsyncLogging(int bufferSize, AsyncLogHandler.OverflowPolicy overflowPolicy) {
+        AsyncLogHandler handler = new AsyncLogHandler(getHandlers(), bufferSize, overflowPolicy);
+        handler.setLevel(currentLogLevel);
+        asyncLogHandler = handler;
+        loggers.values().forEach(LogsCenter::setHandlers);
+        Runtime.getRuntime().addShutdownHook(new Thread(handler::close, "ezFoodie-log-flush"));
+    }
+
+    /**
+     * Removes all the handlers from {@code logger}.
+     */
+    private static void removeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(logger::removeHandler);
     }
 
     /**
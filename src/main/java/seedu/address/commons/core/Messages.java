@@ -26,6 +26,11 @@ public class Messages {
      */
     public static final String MESSAGE_INVALID_MEMBER_DISPLAYED_ID = "The member ID provided is invalid.";
 
+    /**
+     * Represents the MESSAGE_MEMBER_CHANGED.
+     */
+    public static final String MESSAGE_MEMBER_CHANGED = "The member was changed by another command. Please retry.";
+
     /**
      * Represents the MESSAGE_INVALID_TRANSACTION_DISPLAYED_ID.
      */
@@ -36,6 +41,18 @@ public class Messages {
      */
     public static final String MESSAGE_INVALID_RESERVATION_DISPLAYED_ID = "The reservation ID provided is invalid.";
 
+    /**
+     * Represents the MESSAGE_RESERVATION_FULLY_BOOKED.
+     */
+    public static final String MESSAGE_RESERVATION_FULLY_BOOKED =
+            "No table is available at %1$s. Nearest available time(s): %2$s";
+
+    /**
+     * Represents the MESSAGE_RESERVATION_FULLY_BOOKED_NO_SLOTS.
+     */
+    public static final String MESSAGE_RESERVATION_FULLY_BOOKED_NO_SLOTS =
+            "No table is available at %1$s, and there is no available time nearby.";
+
     /**
      * Represents the MESSAGE_MEMBERS_LISTED_OVERVIEW.
      */
@@ -0,0 +1,109 @@
+package seedu.address.commons.core.concurrent;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded queue on a fixed array that any number of threads can offer to and poll from without locks.
+ * Each slot has a sequence number that says whether it is waiting for the element of a lap of the array or for
+ * the element to be taken, so a thread claims a slot with a single compare-and-set of the position, and offering to
+ * a full buffer fails at once instead of waiting for space.
+ */
+public class RingBuffer<E> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The capacity should be positive.";
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong offerPosition = new AtomicLong();
+    private final AtomicLong pollPosition = new AtomicLong();
+
+    /**
+     * Constructs a {@code RingBuffer} holding at least {@code capacity} elements.
+     * The capacity is rounded up to a power of two, so that a position is mapped to its slot with a mask.
+     */
+    public RingBuffer(int capacity) {
+        checkArgument(capacity > 0 && capacity <= 1 << 30, MESSAGE_CONSTRAINTS);
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        elements = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Adds {@code element} to the end of the buffer, and returns false if the buffer is full.
+     */
+    public boolean offer(E element) {
+        requireNonNull(element);
+        long position = offerPosition.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (offerPosition.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // publishes the element to the polling thread
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = offerPosition.get();
+            } else if (difference < 0) {
+                // the slot still holds the element of the previous lap
+                return false;
+            } else {
+                position = offerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the buffer, or null if the buffer is empty.
+     */
+    public E poll() {
+        long position = pollPosition.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (pollPosition.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.lazySet(index, null);
+                    // frees the slot for the element of the next lap
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = pollPosition.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = pollPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the buffer holds no elements.
+     * The answer may be out of date as soon as it is returned if other threads are offering or polling.
+     */
+    public boolean isEmpty() {
+        return offerPosition.get() == pollPosition.get();
+    }
+
+    /**
+     * Returns the number of elements the buffer can hold.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.commons.core.concurrent;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed number of locks shared by any number of keys.
+ * Each key is mapped to one of the locks by its hash code, so that threads working on the same key always take the
+ * same lock, while threads working on different keys rarely wait for each other. Unlike a lock per key, the locks
+ * never need to be created or cleaned up as keys come and go.
+ */
+public class StripedLock {
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of stripes should be positive.";
+
+    private final Lock[] stripes;
+
+    /**
+     * Constructs a {@code StripedLock} of at least {@code stripeCount} locks.
+     * The count is rounded up to a power of two, so that a key is mapped to its lock with a mask.
+     */
+    public StripedLock(int stripeCount) {
+        checkArgument(stripeCount > 0 && stripeCount <= 1 << 30, MESSAGE_CONSTRAINTS);
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) {
+            size <<= 1;
+        }
+        stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Returns the lock of {@code key}, which is the same lock every time for equal keys.
+     */
+    public Lock get(Object key) {
+        requireNonNull(key);
+        int hash = key.hashCode();
+        // spreads the higher bits down, since the mask only keeps the lowest ones
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    /**
+     * Returns the number of locks.
+     */
+    public int size() {
+        return stripes.length;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for executing a command, from taking its locks until its changes are committed.
+ */
+@Name(CommandExecuteEvent.NAME)
+@Label("Command Execute")
+@Description("Executing a command and committing its changes")
+@Category({"ezFoodie", "Logic"})
+public class CommandExecuteEvent extends Event {
+
+    public static final String NAME = "ezfoodie.CommandExecute";
+
+    @Label("Command Word")
+    public String commandWord;
+
+    @Label("Command Class")
+    public String commandClass;
+
+    @Label("Member ID")
+    @Description("The member the command works on, if it works on a single member")
+    public String memberId;
+
+    @Label("Succeeded")
+    public boolean isSuccessful;
+}
@@ -0,0 +1,22 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for parsing the text of a command.
+ */
+@Name(CommandParseEvent.NAME)
+@Label("Command Parse")
+@Description("Parsing the text of a command into a command")
+@Category({"ezFoodie", "Logic"})
+public class CommandParseEvent extends Event {
+
+    public static final String NAME = "ezfoodie.CommandParse";
+
+    @Label("Command Word")
+    public String commandWord;
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for rebuilding an index of the members, such as the id registry, from all members.
+ */
+@Name(IndexRebuildEvent.NAME)
+@Label("Index Rebuild")
+@Description("Rebuilding an index of the members from all members")
+@Category({"ezFoodie", "Model"})
+public class IndexRebuildEvent extends Event {
+
+    public static final String NAME = "ezfoodie.IndexRebuild";
+    public static final String INDEX_ID_REGISTRY = "idRegistry";
+    public static final String INDEX_RESERVATION_SLOTS = "reservationSlots";
+    public static final String INDEX_RESERVATION_CALENDAR = "reservationCalendar";
+
+    @Label("Index")
+    public String index;
+
+    @Label("Member Count")
+    public int memberCount;
+
+    /**
+     * Ends the rebuild of {@code index} from {@code memberCount} members, and commits this event if it is being
+     * recorded.
+     */
+    public void commit(String index, int memberCount) {
+        end();
+        if (shouldCommit()) {
+            this.index = index;
+            this.memberCount = memberCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for saving or loading a data file.
+ */
+@Name(StorageEvent.NAME)
+@Label("Storage")
+@Description("Saving or loading a data file")
+@Category({"ezFoodie", "Storage"})
+public class StorageEvent extends Event {
+
+    public static final String NAME = "ezfoodie.Storage";
+    public static final String OPERATION_SAVE = "save";
+    public static final String OPERATION_LOAD = "load";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Member Count")
+    public int memberCount;
+}
@@ -0,0 +1,38 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for computing a statistic of the summary of the members.
+ */
+@Name(SummaryEvent.NAME)
+@Label("Summary")
+@Description("Computing a statistic of the summary of the members")
+@Category({"ezFoodie", "UI"})
+public class SummaryEvent extends Event {
+
+    public static final String NAME = "ezfoodie.Summary";
+
+    @Label("Statistic")
+    public String statistic;
+
+    @Label("Member Count")
+    public int memberCount;
+
+    /**
+     * Ends the computation of {@code statistic} over {@code memberCount} members, and commits this event if it is
+     * being recorded.
+     */
+    public void commit(String statistic, int memberCount) {
+        end();
+        if (shouldCommit()) {
+            this.statistic = statistic;
+            this.memberCount = memberCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the metrics of the application by name: histograms of how long operations take, counters, and gauges that
+ * read a value such as the size of a list when the metrics are reported.
+ * A metric is created the first time its name is used, and recording to it takes no locks, so metrics can be
+ * recorded on the hot path of every command.
+ */
+public class MetricsRegistry {
+
+    /**
+     * Stands for the header of the timers in the report.
+     */
+    public static final String TIMERS_HEADER = String.format("%-40s %8s %10s %10s %10s",
+            "Timer (ms)", "count", "p50", "p99", "max");
+
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the registry shared by the whole application.
+     */
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the histogram of the timer of {@code name}, creating it if there is none.
+     */
+    public LatencyHistogram timer(String name) {
+        requireNonNull(name);
+        return timers.computeIfAbsent(name, unused -> new LatencyHistogram());
+    }
+
+    /**
+     * Records that the operation timed by the timer of {@code name} took from {@code startNanos}, read from
+     * {@link System#nanoTime()}, until now.
+     */
+    public void recordSince(String name, long startNanos) {
+        timer(name).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the counter of {@code name}, creating it if there is none.
+     */
+    public LongAdder counter(String name) {
+        requireNonNull(name);
+        return counters.computeIfAbsent(name, unused -> new LongAdder());
+    }
+
+    /**
+     * Sets the gauge of {@code name} to read its value from {@code gauge}, replacing any gauge of the same name.
+     */
+    public void registerGauge(String name, LongSupplier gauge) {
+        requireAllNonNull(name, gauge);
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Removes every metric.
+     */
+    public void clear() {
+        timers.clear();
+        counters.clear();
+        gauges.clear();
+    }
+
+    /**
+     * Returns a report of every metric sorted by name, with the count, p50, p99 and max of each timer in
+     * milliseconds, and the value of each counter and gauge.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder(TIMERS_HEADER);
+        new TreeMap<>(timers).forEach((name, histogram) -> report.append(String.format(
+                "\n%-40s %8d %10.3f %10.3f %10.3f", name, histogram.getCount(),
+                toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMax()))));
+        new TreeMap<>(counters).forEach((name, counter) ->
+                report.append(String.format("\n%-40s %8d", name, counter.sum())));
+        new TreeMap<>(gauges).forEach((name, gauge) ->
+                report.append(String.format("\n%-40s %8d", name, gauge.getAsLong())));
+        return report.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.commons.core.metrics;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Appends the report of a {@code MetricsRegistry} to a file at a fixed interval on a background thread.
+ * Once the file reaches {@code MAX_FILE_SIZE_IN_BYTES}, it is renamed with a {@code .1} suffix, replacing the
+ * previous one, and a new file is started, so the reports take at most twice that size on disk.
+ */
+public class MetricsReporter implements AutoCloseable {
+
+    public static final String MESSAGE_INVALID_INTERVAL = "The interval should be positive.";
+    public static final long MAX_FILE_SIZE_IN_BYTES = 1 << 20; // 1MB
+    public static final String ROLLED_FILE_SUFFIX = ".1";
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsReporter.class);
+
+    private final MetricsRegistry registry;
+    private final Path filePath;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a {@code MetricsReporter} that appends the report of {@code registry} to {@code filePath}
+     * every {@code intervalSeconds} seconds.
+     */
+    public MetricsReporter(MetricsRegistry registry, Path filePath, long intervalSeconds) {
+        requireAllNonNull(registry, filePath);
+        checkArgument(intervalSeconds > 0, MESSAGE_INVALID_INTERVAL);
+        this.registry = registry;
+        this.filePath = filePath;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ezFoodie-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::reportQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Appends the report of the registry to the file, rolling the file over first if it is full.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public synchronized void report() throws IOException {
+        if (Files.exists(filePath) && Files.size(filePath) >= MAX_FILE_SIZE_IN_BYTES) {
+            Files.move(filePath, filePath.resolveSibling(filePath.getFileName() + ROLLED_FILE_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        try (Writer writer = Files.newBufferedWriter(filePath, UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            writer.write("==== " + LocalDateTime.now() + "\n");
+            writer.write(registry.report());
+            writer.write("\n\n");
+        }
+    }
+
+    /**
+     * Stops the reports, and appends a last report so that the metrics since the previous report are kept.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        reportQuietly();
+    }
+
+    private void reportQuietly() {
+        try {
+            report();
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not write metrics to " + filePath + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Times the phases of starting ezFoodie, such as reading the data file or loading the UI, logging how long each
+ * phase took and recording it in the timer {@code startup.<phase>} of a {@code MetricsRegistry}.
+ * Phases may run at the same time on different threads.
+ */
+public class StartupTimer {
+
+    /**
+     * Stands for the prefix of the names of the timers of the phases.
+     */
+    public static final String METRIC_PREFIX = "startup.";
+
+    public static final String MESSAGE_PHASE = "Startup phase [%1$s] took %2$d ms";
+    public static final String MESSAGE_READY = "ezFoodie is ready for the first command %1$d ms after the JVM started";
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimer.class);
+
+    private final MetricsRegistry metrics;
+    private final Map<String, Long> phaseMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Constructs a {@code StartupTimer} that records the phases in {@code metrics}.
+     */
+    public StartupTimer(MetricsRegistry metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Runs the {@code phase} of starting ezFoodie by getting the result of {@code supplier}, and returns the result.
+     */
+    public <T> T time(String phase, Supplier<T> supplier) {
+        requireAllNonNull(phase, supplier);
+        long startNanos = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Runs the {@code phase} of starting ezFoodie by running {@code runnable}.
+     */
+    public void time(String phase, Runnable runnable) {
+        requireNonNull(runnable);
+        time(phase, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Starts the {@code phase} of starting ezFoodie on another thread, and returns the result of {@code supplier}
+     * when the phase ends.
+     */
+    public <T> CompletableFuture<T> timeAsync(String phase, Supplier<T> supplier) {
+        requireAllNonNull(phase, supplier);
+        return CompletableFuture.supplyAsync(() -> time(phase, supplier));
+    }
+
+    /**
+     * Returns how long each phase took in milliseconds, in the order the phases ended.
+     */
+    public Map<String, Long> getPhaseMillis() {
+        synchronized (phaseMillis) {
+            return new LinkedHashMap<>(phaseMillis);
+        }
+    }
+
+    /**
+     * Logs how long after the JVM started ezFoodie became ready for the first command, and returns the time in
+     * milliseconds.
+     */
+    public long logReady() {
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        logger.info(String.format(MESSAGE_READY, uptimeMillis));
+        return uptimeMillis;
+    }
+
+    private void record(String phase, long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        phaseMillis.put(phase, millis);
+        metrics.timer(METRIC_PREFIX + phase).record(nanos);
+        logger.info(String.format(MESSAGE_PHASE, phase, millis));
+    }
+}
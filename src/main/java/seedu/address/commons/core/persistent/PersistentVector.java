@@ -0,0 +1,294 @@
+package seedu.address.commons.core.persistent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An immutable list that shares structure between versions.
+ * The elements are kept in a persistent AVL tree ordered by position, so that {@code appended}, {@code inserted},
+ * {@code replaced} and {@code removed} return a new version in O(log n) time, allocating only the
+ * O(log n) nodes on the path to the changed element, while every other node is shared with this version.
+ * Reading an element by index takes O(log n), and iterating over all elements takes O(n).
+ *
+ * Like the lists returned by {@code Collections.unmodifiableList}, the {@code List} mutators throw
+ * {@code UnsupportedOperationException}. Null elements are not allowed.
+ *
+ * @param <E> the type of the elements.
+ */
+public final class PersistentVector<E> extends AbstractList<E> {
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(null);
+
+    private final Node<E> root;
+
+    private PersistentVector(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector of the elements of {@code elements} in iteration order.
+     * A {@code PersistentVector} is returned as it is, so that copying one costs O(1); any other collection
+     * is copied into a balanced tree in O(n).
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentVector) {
+            return (PersistentVector<E>) elements;
+        }
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentVector<>(build(array, 0, array.length));
+    }
+
+    /**
+     * Overrides and gets the element at {@code index}.
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Overrides and gets the number of elements.
+     */
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Overrides and gets the index of the first element equal to {@code o}, scanning the elements in O(n)
+     * instead of reading each index in O(log n).
+     */
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (E element : this) {
+            if (element.equals(o)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element matching {@code predicate}, or -1 if there is none.
+     */
+    public int findIndex(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        int index = 0;
+        for (E element : this) {
+            if (predicate.test(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new version with {@code element} appended to the end.
+     */
+    public PersistentVector<E> appended(E element) {
+        return inserted(size(), element);
+    }
+
+    /**
+     * Returns a new version with {@code element} inserted at {@code index}, shifting the elements from
+     * {@code index} onwards one place to the right.
+     */
+    public PersistentVector<E> inserted(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentVector<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a new version with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentVector<E> replaced(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a new version without the element at {@code index}.
+     */
+    public PersistentVector<E> removed(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(remove(root, index));
+    }
+
+    /**
+     * Overrides and iterates over the elements in order, visiting each node once.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmost(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftmost(node.right);
+                return node.value;
+            }
+
+            private void pushLeftmost(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    private static <E> Node<E> build(Object[] array, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        @SuppressWarnings("unchecked")
+        E value = (E) array[middle];
+        return new Node<>(value, build(array, from, middle), build(array, middle + 1, to));
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E value) {
+        if (node == null) {
+            return new Node<>(value, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, value), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, value));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E value) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, value), node.right);
+        }
+        if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, value));
+        }
+        return new Node<>(value, node.left, node.right);
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code value} over {@code left} and {@code right}, rotating it if the heights of
+     * the subtrees differ by more than one.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) < height(left.right)) {
+                Node<E> pivot = left.right;
+                return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                        new Node<>(value, pivot.right, right));
+            }
+            return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+        }
+        if (difference < -1) {
+            if (height(right.right) < height(right.left)) {
+                Node<E> pivot = right.left;
+                return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                        new Node<>(right.value, pivot.right, right.right));
+            }
+            return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Represents an immutable node of the tree, which may be shared by many versions.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
@@ -1,20 +1,14 @@
 package seedu.address.commons.status;
 
-import javafx.beans.property.SimpleStringProperty;
-
 /**
  * Represents the login status.
+ * Each session on the data has its own login status, which starts as {@code STAFF}.
  */
 public enum LoginStatus {
 
     STAFF("STAFF"),
     MANAGER("MANAGER");
 
-    /**
-     * Represents the static the simple string property.
-     */
-    public static final SimpleStringProperty CURRENT_STATUS = new SimpleStringProperty(STAFF.value);
-
     private final String value;
 
     /**
@@ -25,22 +19,10 @@ public enum LoginStatus {
     }
 
     /**
-     * Gets login status.
-     *
-     * Returns {@code LoginStatus} the status of login.
-     */
-    public static LoginStatus getLoginStatus() {
-        if (CURRENT_STATUS.getValue().equals(STAFF.value)) {
-            return STAFF;
-        } else {
-            return MANAGER;
-        }
-    }
-
-    /**
-     * Resets {@code CURRENT_STATUS} by {@code LoginStatus}.
+     * Overrides the toString method.
      */
-    public static void setLoginStatus(LoginStatus loginStatus) {
-        CURRENT_STATUS.setValue(loginStatus.value);
+    @Override
+    public String toString() {
+        return value;
     }
 }
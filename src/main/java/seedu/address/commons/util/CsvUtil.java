@@ -0,0 +1,122 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for reading and writing rows of comma-separated values.
+ * Fields may be quoted with double quotes to hold commas, and a double quote in a quoted field is written twice.
+ * A row is always a single line, so quoted fields cannot hold line breaks.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "The row has a quoted field without a closing quote.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "The row has text after the closing quote of a field.";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits {@code row} into its fields, removing the quotes of quoted fields.
+     *
+     * @throws IllegalValueException if a quoted field is not closed, or is followed by text other than a separator.
+     */
+    public static List<String> parseRow(String row) throws IllegalValueException {
+        requireNonNull(row);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < row.length() && row.charAt(i) == QUOTE) {
+                i = readQuotedField(row, i + 1, field);
+                if (i < row.length() && row.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = row.indexOf(SEPARATOR, i);
+                end = end == -1 ? row.length() : end;
+                field.append(row, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= row.length()) {
+                return fields;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Joins {@code fields} into a row, quoting the fields that hold a separator or a quote.
+     */
+    public static String toRow(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder row = new StringBuilder();
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    row.append(SEPARATOR);
+                }
+                appendField(row, fields.get(i));
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError("A StringBuilder does not throw IOException.", ioe);
+        }
+        return row.toString();
+    }
+
+    /**
+     * Appends {@code field} to {@code out}, quoting it if it holds a separator or a quote.
+     * The field is appended as it is read, so that a row can be written straight to a {@code Writer}.
+     */
+    public static void appendField(Appendable out, String field) throws IOException {
+        requireAllNonNull(out, field);
+        if (field.indexOf(SEPARATOR) == -1 && field.indexOf(QUOTE) == -1) {
+            out.append(field);
+            return;
+        }
+        out.append(QUOTE);
+        int start = 0;
+        int quoteIndex;
+        while ((quoteIndex = field.indexOf(QUOTE, start)) != -1) {
+            out.append(field, start, quoteIndex + 1).append(QUOTE);
+            start = quoteIndex + 1;
+        }
+        out.append(field, start, field.length()).append(QUOTE);
+    }
+
+    /**
+     * Appends the separator between two fields to {@code out}.
+     */
+    public static void appendSeparator(Appendable out) throws IOException {
+        out.append(SEPARATOR);
+    }
+
+    /**
+     * Reads the quoted field of {@code row} starting after its opening quote at {@code start} into {@code field},
+     * and returns the index after its closing quote.
+     */
+    private static int readQuotedField(String row, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (i < row.length()) {
+            char c = row.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < row.length() && row.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+}
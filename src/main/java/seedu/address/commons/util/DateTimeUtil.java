@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Helper functions for handling dates and times.
@@ -12,6 +15,10 @@ import java.util.Date;
 public class DateTimeUtil {
 
     public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm";
+    public static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
 
     private static final long ONE_DAY_MILLISECONDS = 24 * 60 * 60 * 1000;
     private static final String TIMESTAMP_STUB = "1609459200000";
@@ -56,7 +63,38 @@ public class DateTimeUtil {
      * @throws DateTimeParseException If the dateTime cannot be parsed.
      */
     public static LocalDateTime parseDateTime(String dateTime) throws DateTimeParseException {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
-        return LocalDateTime.parse(dateTime, formatter);
+        return LocalDateTime.parse(dateTime, DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Returns String of date to date format.
+     *
+     * @param date Date in String format.
+     * @return Date format.
+     * @throws DateTimeParseException If the date cannot be parsed.
+     */
+    public static LocalDate parseDate(String date) throws DateTimeParseException {
+        return LocalDate.parse(date, DATE_FORMATTER);
+    }
+
+    /**
+     * Returns the given {@code dateTime} formatted by {@code DATE_TIME_PATTERN}.
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        return DATE_TIME_FORMATTER.format(dateTime);
+    }
+
+    /**
+     * Returns the given {@code date} formatted by {@code DATE_PATTERN}.
+     */
+    public static String formatDate(LocalDate date) {
+        return DATE_FORMATTER.format(date);
+    }
+
+    /**
+     * Returns the given {@code dateTimes} formatted by {@code DATE_TIME_PATTERN} and separated by commas.
+     */
+    public static String formatDateTimes(List<LocalDateTime> dateTimes) {
+        return dateTimes.stream().map(DateTimeUtil::formatDateTime).collect(Collectors.joining(", "));
     }
 }
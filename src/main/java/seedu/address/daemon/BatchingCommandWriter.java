@@ -0,0 +1,270 @@
+package seedu.address.daemon;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.member.Id;
+
+/**
+ * Runs the commands submitted by many clients on one writer thread, saving the data once per batch of commands
+ * instead of once per command.
+ *
+ * The writer takes every command waiting in the queue, up to the batch size, runs them, and saves the data once
+ * after them. Commands on different members run on several threads at the same time, as {@code LogicManager} allows,
+ * while the commands on one member run one after another in queue order. A command that is not on a single member
+ * runs alone, after every command queued before it and before every command queued after it. The commands of other
+ * sessions may run during a batch, under the same locks of {@code LogicManager}; only the save is exclusive, and is
+ * shared with theirs.
+ * The results are only delivered after the save, so a client is never told that a change succeeded before it is on
+ * disk. If the save fails, the commands that ran are still applied, and are reported as run but not saved, so that
+ * they are not retried. Each command is still committed on its own, and a failing command does not affect the others
+ * in its batch.
+ */
+public class BatchingCommandWriter {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The capacity, batch size and parallelism of the writer should be positive.";
+    public static final String MESSAGE_QUEUE_FULL = "Too many commands are waiting to run. Please retry later.";
+    public static final String MESSAGE_STOPPED = "The writer has been stopped.";
+
+    private static final String THREAD_NAME = "ezFoodie-batching-writer";
+    private static final String RUNNER_THREAD_NAME_PREFIX = "ezFoodie-command-runner-";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchingCommandWriter.class);
+
+    private final Logic logic;
+    private final BlockingQueue<PendingCommand> queue;
+    private final int maxBatchSize;
+    private final Consumer<ModelSnapshot> snapshotListener;
+    private final ExecutorService commandRunners;
+    private final Thread writerThread;
+    private volatile boolean isStopped;
+
+    /**
+     * Constructs a {@code BatchingCommandWriter} running the commands with {@code logic} on {@code parallelism}
+     * threads. At most {@code capacity} commands may wait to run, and at most
+     * {@code maxBatchSize} commands are saved together. {@code snapshotListener} is given a snapshot of the data
+     * after each batch, before its results are delivered.
+     */
+    public BatchingCommandWriter(Logic logic, int capacity, int maxBatchSize, int parallelism,
+            Consumer<ModelSnapshot> snapshotListener) {
+        requireAllNonNull(logic, snapshotListener);
+        checkArgument(capacity > 0 && maxBatchSize > 0 && parallelism > 0, MESSAGE_CONSTRAINTS);
+        this.logic = logic;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.snapshotListener = snapshotListener;
+        AtomicInteger runnerNumber = new AtomicInteger();
+        commandRunners = parallelism == 1 ? null : Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, RUNNER_THREAD_NAME_PREFIX + runnerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        writerThread = new Thread(this::runBatches, THREAD_NAME);
+        writerThread.setDaemon(true);
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    public void start() {
+        writerThread.start();
+    }
+
+    /**
+     * Queues {@code commandText} to run after the batches before it.
+     * The returned future is completed with the result of the command once it is saved, exceptionally with a
+     * {@code NotSavedException} if it ran but could not be saved, or exceptionally with the exception it threw.
+     *
+     * @throws RejectedExecutionException if the queue is full or the writer is stopped.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        if (isStopped) {
+            throw new RejectedExecutionException(MESSAGE_STOPPED);
+        }
+        PendingCommand pendingCommand = new PendingCommand(commandText);
+        if (!queue.offer(pendingCommand)) {
+            throw new RejectedExecutionException(MESSAGE_QUEUE_FULL);
+        }
+        return pendingCommand.future;
+    }
+
+    /**
+     * Stops the writer. Commands not yet run are completed exceptionally.
+     */
+    public void stop() {
+        isStopped = true;
+        writerThread.interrupt();
+    }
+
+    private void runBatches() {
+        List<PendingCommand> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!isStopped) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - 1);
+                runBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queue.drainTo(batch);
+        batch.forEach(pendingCommand ->
+                pendingCommand.future.completeExceptionally(new RejectedExecutionException(MESSAGE_STOPPED)));
+        if (commandRunners != null) {
+            commandRunners.shutdown();
+        }
+    }
+
+    private void runBatch(List<PendingCommand> batch) {
+        runCommands(batch);
+        if (batch.stream().anyMatch(pendingCommand -> pendingCommand.failure == null)) {
+            // the save is the only exclusive part of a batch, and LogicManager makes it so
+            saveBatch(batch);
+        }
+        snapshotListener.accept(logic.getSnapshot());
+        batch.forEach(PendingCommand::complete);
+    }
+
+    /**
+     * Parses and runs the commands of {@code batch}, running the commands on each member in queue order on one
+     * runner. Each command is parsed once, and only once the commands that must run alone before it have run, as
+     * they may change what it parses to, e.g. by logging in.
+     */
+    private void runCommands(List<PendingCommand> batch) {
+        if (commandRunners == null || batch.size() == 1) {
+            for (PendingCommand pendingCommand : batch) {
+                if (parseCommand(pendingCommand)) {
+                    runCommand(pendingCommand);
+                }
+            }
+            return;
+        }
+        Map<Id, List<PendingCommand>> commandsByMember = new LinkedHashMap<>();
+        for (PendingCommand pendingCommand : batch) {
+            if (!parseCommand(pendingCommand)) {
+                continue;
+            }
+            Optional<Id> memberId = pendingCommand.command.getTargetMemberId();
+            if (memberId.isPresent()) {
+                commandsByMember.computeIfAbsent(memberId.get(), id -> new ArrayList<>()).add(pendingCommand);
+                continue;
+            }
+            runInParallel(commandsByMember.values());
+            commandsByMember.clear();
+            runCommand(pendingCommand);
+        }
+        runInParallel(commandsByMember.values());
+    }
+
+    /**
+     * Runs each list of {@code commandLists} on a runner, in order, and waits for all of them.
+     */
+    private void runInParallel(Collection<List<PendingCommand>> commandLists) {
+        CompletableFuture.allOf(commandLists.stream()
+                .map(commands -> CompletableFuture.runAsync(() -> commands.forEach(this::runCommand), commandRunners))
+                .toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Parses {@code pendingCommand}, and returns true if it can be run.
+     */
+    private boolean parseCommand(PendingCommand pendingCommand) {
+        try {
+            pendingCommand.command = logic.parseCommand(pendingCommand.commandText);
+            return true;
+        } catch (Exception e) {
+            pendingCommand.failure = e;
+            return false;
+        }
+    }
+
+    private void runCommand(PendingCommand pendingCommand) {
+        try {
+            pendingCommand.result = logic.executeWithoutSaving(pendingCommand.command, pendingCommand.commandText);
+        } catch (Exception e) {
+            pendingCommand.failure = e;
+        }
+    }
+
+    private void saveBatch(List<PendingCommand> batch) {
+        try {
+            logic.saveData();
+        } catch (CommandException e) {
+            logger.warning("Failed to save a batch of " + batch.size() + " commands: " + e.getMessage());
+            for (PendingCommand pendingCommand : batch) {
+                if (pendingCommand.failure == null) {
+                    pendingCommand.failure = new NotSavedException(pendingCommand.result, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A command waiting to run, and its outcome once it has run.
+     */
+    private static class PendingCommand {
+        private final String commandText;
+        private final CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        private Command command;
+        private CommandResult result;
+        private Exception failure;
+
+        PendingCommand(String commandText) {
+            this.commandText = commandText;
+        }
+
+        void complete() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+
+    /**
+     * Signals that a command ran and changed the data in memory, but the data could not be saved.
+     * Running the command again would apply its change twice.
+     */
+    public static class NotSavedException extends Exception {
+        private final CommandResult result;
+
+        NotSavedException(CommandResult result, CommandException cause) {
+            super(cause.getMessage(), cause);
+            this.result = result;
+        }
+
+        /**
+         * Returns the result of the command.
+         */
+        public CommandResult getResult() {
+            return result;
+        }
+    }
+}
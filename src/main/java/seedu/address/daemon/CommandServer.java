@@ -0,0 +1,93 @@
+package seedu.address.daemon;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+
+/**
+ * Serves {@code CommandSession}s to clients connecting to a port of the loopback address.
+ * Each connection is served on its own daemon thread as its own session, with its own login status, member lists
+ * and command history. The commands of different connections run at the same time, as {@code LogicManager} allows.
+ */
+public class CommandServer implements AutoCloseable {
+
+    private static final String THREAD_NAME_PREFIX = "ezFoodie-session-";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    private final Logic logic;
+    private final ServerSocket serverSocket;
+    private int sessionCount;
+
+    /**
+     * Constructs a {@code CommandServer} listening on {@code port} of the loopback address, or on a free port if
+     * {@code port} is 0. Commands run with a session of {@code logic} for each connection.
+     *
+     * @throws IOException if the port cannot be opened.
+     */
+    public CommandServer(Logic logic, int port) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server is closed.
+     */
+    public void serve() {
+        logger.info("Listening for commands on " + serverSocket.getLocalSocketAddress());
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread sessionThread = new Thread(() -> serveConnection(socket), THREAD_NAME_PREFIX + ++sessionCount);
+                sessionThread.setDaemon(true);
+                sessionThread.start();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.warning("Failed to accept a connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Overrides and stops accepting connections. Connections already accepted are served until they end.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void serveConnection(Socket socket) {
+        logger.info("Session opened for " + socket.getRemoteSocketAddress());
+        try (Socket connection = socket;
+                BufferedReader input = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter output = new PrintWriter(
+                        new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8))) {
+            new CommandSession(logic.openSession(), input, output).run();
+        } catch (IOException e) {
+            logger.warning("Session failed: " + e.getMessage());
+        }
+        logger.info("Session closed for " + socket.getRemoteSocketAddress());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.daemon;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.PermissionException;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Reads commands line by line from a client and writes back their results, without any UI.
+ *
+ * Each non-blank line is run as one command. The response is a status line of {@code OK} or {@code ERROR},
+ * followed by the lines of the feedback and ended by a line holding a single {@code .}. Feedback lines starting
+ * with {@code .} are sent with one more {@code .} in front, so that they cannot be taken for the end of a response.
+ * The session ends when the client closes its input or runs the exit command.
+ *
+ * Commands of different sessions run at the same time, as {@code LogicManager} allows: commands on different members
+ * run together, while the others wait for each other.
+ */
+public class CommandSession implements Runnable {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_ERROR = "ERROR";
+    public static final String END_OF_RESPONSE = ".";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandSession.class);
+
+    private final Logic logic;
+    private final BufferedReader input;
+    private final PrintWriter output;
+
+    /**
+     * Constructs a {@code CommandSession} that runs the commands read from {@code input} with {@code logic},
+     * and writes their results to {@code output}.
+     */
+    public CommandSession(Logic logic, BufferedReader input, PrintWriter output) {
+        requireAllNonNull(logic, input, output);
+        this.logic = logic;
+        this.input = input;
+        this.output = output;
+    }
+
+    /**
+     * Overrides and serves the commands of the client until the session ends.
+     */
+    @Override
+    public void run() {
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                if (!runCommand(line)) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Session ended by an I/O error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs {@code commandText} and writes its response.
+     *
+     * @return false if the session should end.
+     */
+    private boolean runCommand(String commandText) {
+        CommandResult commandResult;
+        try {
+            commandResult = logic.execute(commandText);
+        } catch (CommandException | ParseException | PermissionException e) {
+            writeResponse(STATUS_ERROR, e.getMessage());
+            return true;
+        } catch (RuntimeException e) {
+            logger.warning("Unexpected error while running command: " + commandText + ": " + e);
+            writeResponse(STATUS_ERROR, String.valueOf(e.getMessage()));
+            return true;
+        }
+        writeResponse(STATUS_OK, commandResult.getFeedbackToUser());
+        return !commandResult.isExit();
+    }
+
+    private void writeResponse(String status, String feedback) {
+        output.println(status);
+        for (String feedbackLine : feedback.split("\\R", -1)) {
+            output.println(feedbackLine.startsWith(END_OF_RESPONSE) ? END_OF_RESPONSE + feedbackLine : feedbackLine);
+        }
+        output.println(END_OF_RESPONSE);
+        output.flush();
+    }
+}
@@ -0,0 +1,571 @@
+package seedu.address.daemon;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BILLING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REDEEM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.PermissionException;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RedeemCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.member.Id;
+import seedu.address.model.member.Member;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationEntry;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Serves a JSON API over HTTP for POS terminals, on top of {@code Logic}.
+ * <ul>
+ *     <li>{@code GET /api/members/{id}} looks up a member.</li>
+ *     <li>{@code POST /api/transactions} with {@code memberId} and {@code billing} adds a transaction.</li>
+ *     <li>{@code POST /api/redemptions} with {@code memberId} and {@code points} redeems points.</li>
+ *     <li>{@code POST /api/reservations} with {@code memberId}, {@code dateTime} and {@code remark} adds a
+ *     reservation.</li>
+ *     <li>{@code GET /api/reservations?date=yyyy-MM-dd} lists the reservations of a date.</li>
+ *     <li>{@code GET /api/metrics} reports the latency of each endpoint.</li>
+ * </ul>
+ *
+ * Requests are handled by a bounded pool of workers. When every worker is busy and the pool queue is full, the
+ * thread accepting connections handles the request itself, which slows down new requests instead of dropping them.
+ * Connections are kept alive, so a till can send its requests back to back on one connection.
+ *
+ * Lookups read the latest snapshot of the data without waiting for commands. Changes run through a
+ * {@code BatchingCommandWriter}, so the changes of all tills waiting at the same time run together, those on
+ * different members on up to {@code workerCount} threads at once, and are saved together.
+ * A change sent with an {@code Idempotency-Key} header is run at most once for that key, and its retries get the
+ * response of the first attempt. A change that ran but could not be saved is answered with {@code 202 Accepted} and
+ * {@code "saved": false}, as it is applied and is saved with the next change, so it must not be sent again. Only a
+ * change that never ran, because too many changes are waiting or the server is stopping, can be retried with the
+ * same key.
+ *
+ * The API does not authenticate its clients: anyone who can reach the address can post transactions, redemptions and
+ * reservations as a staff session, so it should only be bound to the loopback address or a trusted network.
+ * The JDK server writes the headers and the body of a response separately, so without
+ * {@code -Dsun.net.httpserver.nodelay=true} on the command line each response waits for the delayed acknowledgement
+ * of its headers, about 40 ms on most systems. The property is read once for the whole JVM, so it is left to the
+ * launcher.
+ */
+public class HttpApiServer implements AutoCloseable {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    public static final String ENDPOINT_GET_MEMBER = "GET /api/members/{id}";
+    public static final String ENDPOINT_POST_TRANSACTION = "POST /api/transactions";
+    public static final String ENDPOINT_POST_REDEMPTION = "POST /api/redemptions";
+    public static final String ENDPOINT_GET_RESERVATIONS = "GET /api/reservations";
+    public static final String ENDPOINT_POST_RESERVATION = "POST /api/reservations";
+    public static final String ENDPOINT_GET_METRICS = "GET /api/metrics";
+    public static final String ENDPOINT_OTHER = "other";
+
+    public static final String MESSAGE_NOT_FOUND = "Not found.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method not allowed.";
+    public static final String MESSAGE_MEMBER_NOT_FOUND = "No member has the ID %1$s.";
+    public static final String MESSAGE_INVALID_JSON = "The request body is not a JSON object.";
+    public static final String MESSAGE_BODY_TOO_LARGE = "The request body is too large.";
+    public static final String MESSAGE_MISSING_FIELD = "Missing field: %1$s.";
+    public static final String MESSAGE_INVALID_FIELD = "Invalid field: %1$s.";
+    public static final String MESSAGE_KEY_REUSED = "The idempotency key was already used for a different request.";
+    public static final String MESSAGE_INTERNAL_ERROR = "Internal error.";
+
+    public static final int DEFAULT_WORKER_COUNT = 8;
+
+    private static final String API_PATH = "/api/";
+    private static final String MEMBERS_PATH = "/api/members/";
+    private static final String TRANSACTIONS_PATH = "/api/transactions";
+    private static final String REDEMPTIONS_PATH = "/api/redemptions";
+    private static final String RESERVATIONS_PATH = "/api/reservations";
+    private static final String METRICS_PATH = "/api/metrics";
+    private static final String DATE_QUERY_PARAMETER = "date=";
+    private static final String THREAD_NAME_PREFIX = "ezFoodie-http-";
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_ACCEPTED = 202;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_PAYLOAD_TOO_LARGE = 413;
+    private static final int STATUS_UNPROCESSABLE_ENTITY = 422;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int STATUS_UNAVAILABLE = 503;
+
+    private static final int WORKER_QUEUE_CAPACITY = 1024;
+    private static final int WRITE_QUEUE_CAPACITY = 1024;
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int IDEMPOTENCY_CACHE_CAPACITY = 10_000;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    /**
+     * Matches a field value that would be read as another prefix of the command it is put in.
+     */
+    private static final Pattern PREFIX_PATTERN = Pattern.compile("(^|\\s)-\\p{Alpha}+/");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Logger logger = LogsCenter.getLogger(HttpApiServer.class);
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ThreadPoolExecutor workers;
+    private final BatchingCommandWriter writer;
+    private final IdempotencyCache<ApiResponse> idempotencyCache = new IdempotencyCache<>(IDEMPOTENCY_CACHE_CAPACITY);
+    private final Map<String, LatencyMetrics> metrics;
+    private volatile ModelSnapshot latestSnapshot;
+
+    /**
+     * Constructs an {@code HttpApiServer} bound to {@code address} that serves the data of {@code logic} with
+     * {@code workerCount} workers, which is also the number of commands run at once.
+     *
+     * @throws IOException if the address cannot be bound.
+     */
+    public HttpApiServer(Logic logic, InetSocketAddress address, int workerCount) throws IOException {
+        requireAllNonNull(logic, address);
+        this.logic = logic;
+
+        Map<String, LatencyMetrics> endpointMetrics = new LinkedHashMap<>();
+        for (String endpoint : List.of(ENDPOINT_GET_MEMBER, ENDPOINT_POST_TRANSACTION, ENDPOINT_POST_REDEMPTION,
+                ENDPOINT_GET_RESERVATIONS, ENDPOINT_POST_RESERVATION, ENDPOINT_GET_METRICS, ENDPOINT_OTHER)) {
+            endpointMetrics.put(endpoint, new LatencyMetrics());
+        }
+        metrics = Collections.unmodifiableMap(endpointMetrics);
+
+        AtomicInteger workerNumber = new AtomicInteger();
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(WORKER_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + workerNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        writer = new BatchingCommandWriter(logic, WRITE_QUEUE_CAPACITY, MAX_BATCH_SIZE, workerCount,
+                snapshot -> latestSnapshot = snapshot);
+
+        server = HttpServer.create(address, 0);
+        server.setExecutor(workers);
+        server.createContext(API_PATH, this::handle);
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        refreshSnapshot();
+        writer.start();
+        server.start();
+        logger.info("Serving the HTTP API on " + server.getAddress());
+        if (!Boolean.getBoolean(NO_DELAY_PROPERTY)) {
+            logger.info("Responses may be delayed by about 40 ms without -D" + NO_DELAY_PROPERTY + "=true");
+        }
+        if (!server.getAddress().getAddress().isLoopbackAddress()) {
+            logger.warning("The HTTP API does not authenticate clients, and is reachable from other machines on "
+                    + server.getAddress());
+        }
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the latency metrics of each endpoint.
+     */
+    public Map<String, LatencyMetrics> getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Overrides and stops serving requests. Changes waiting to run are rejected.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        writer.stop();
+        workers.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) {
+        long startNanos = System.nanoTime();
+        String endpoint = toEndpoint(exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+        CompletableFuture<ApiResponse> response;
+        try {
+            response = serve(endpoint, exchange);
+        } catch (ApiException e) {
+            response = CompletableFuture.completedFuture(ApiResponse.error(e.status, e.getMessage()));
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to serve " + exchange.getRequestURI() + ": " + e);
+            response = CompletableFuture.completedFuture(ApiResponse.error(STATUS_INTERNAL_ERROR,
+                    MESSAGE_INTERNAL_ERROR));
+        }
+        response.whenCompleteAsync((apiResponse, error) -> {
+            ApiResponse sent = error == null
+                    ? apiResponse
+                    : ApiResponse.error(STATUS_INTERNAL_ERROR, MESSAGE_INTERNAL_ERROR);
+            send(exchange, sent);
+            metrics.get(endpoint).record(System.nanoTime() - startNanos, sent.status >= STATUS_BAD_REQUEST);
+        }, workers);
+    }
+
+    private CompletableFuture<ApiResponse> serve(String endpoint, HttpExchange exchange)
+            throws ApiException, IOException {
+        switch (endpoint) {
+        case ENDPOINT_GET_MEMBER:
+            return CompletableFuture.completedFuture(
+                    getMember(exchange.getRequestURI().getPath().substring(MEMBERS_PATH.length())));
+        case ENDPOINT_GET_RESERVATIONS:
+            return CompletableFuture.completedFuture(getReservations(exchange.getRequestURI()));
+        case ENDPOINT_GET_METRICS:
+            return CompletableFuture.completedFuture(getMetricsResponse());
+        case ENDPOINT_POST_TRANSACTION:
+        case ENDPOINT_POST_REDEMPTION:
+        case ENDPOINT_POST_RESERVATION:
+            return change(endpoint, exchange);
+        default:
+            boolean isKnownPath = isKnownPath(exchange.getRequestURI().getPath());
+            throw new ApiException(isKnownPath ? STATUS_METHOD_NOT_ALLOWED : STATUS_NOT_FOUND,
+                    isKnownPath ? MESSAGE_METHOD_NOT_ALLOWED : MESSAGE_NOT_FOUND);
+        }
+    }
+
+    private static String toEndpoint(String method, String path) {
+        String endpoint = method + " " + path;
+        if (method.equals("GET") && path.startsWith(MEMBERS_PATH) && path.length() > MEMBERS_PATH.length()) {
+            return ENDPOINT_GET_MEMBER;
+        }
+        switch (endpoint) {
+        case ENDPOINT_POST_TRANSACTION:
+        case ENDPOINT_POST_REDEMPTION:
+        case ENDPOINT_GET_RESERVATIONS:
+        case ENDPOINT_POST_RESERVATION:
+        case ENDPOINT_GET_METRICS:
+            return endpoint;
+        default:
+            return ENDPOINT_OTHER;
+        }
+    }
+
+    private static boolean isKnownPath(String path) {
+        return path.startsWith(MEMBERS_PATH) || path.equals(TRANSACTIONS_PATH) || path.equals(REDEMPTIONS_PATH)
+                || path.equals(RESERVATIONS_PATH) || path.equals(METRICS_PATH);
+    }
+
+    //=========== Lookups =====================================================================================
+
+    /**
+     * Takes a new snapshot and returns it, or the latest snapshot taken if the members have not changed since.
+     * A lookup sees every change acknowledged before it, and may also see the changes of a batch still being saved.
+     */
+    private ModelSnapshot refreshSnapshot() {
+        ModelSnapshot snapshot = logic.getSnapshot();
+        ModelSnapshot previous = latestSnapshot;
+        // the previous snapshot keeps the indexes it has built if the members have not changed
+        if (previous != null && previous.getMembers() == snapshot.getMembers()) {
+            return previous;
+        }
+        latestSnapshot = snapshot;
+        return snapshot;
+    }
+
+    private ApiResponse getMember(String memberId) throws ApiException {
+        if (!Id.isValidId(memberId)) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_FIELD, "id"));
+        }
+        Optional<Member> member = refreshSnapshot().getMember(new Id(memberId));
+        if (member.isEmpty()) {
+            throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_MEMBER_NOT_FOUND, memberId));
+        }
+        return ApiResponse.ok(toJson(member.get()));
+    }
+
+    private ApiResponse getReservations(URI uri) throws ApiException {
+        String query = uri.getQuery();
+        if (query == null || !query.startsWith(DATE_QUERY_PARAMETER)) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_MISSING_FIELD, "date"));
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.parse(query.substring(DATE_QUERY_PARAMETER.length()));
+        } catch (DateTimeParseException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_FIELD, "date"));
+        }
+        List<Map<String, Object>> reservations = new ArrayList<>();
+        for (ReservationEntry entry : refreshSnapshot().getReservations(date)) {
+            Map<String, Object> json = toJson(entry.getReservation());
+            json.put("memberId", entry.getMember().getId().value);
+            json.put("memberName", entry.getMember().getName().fullName);
+            reservations.add(json);
+        }
+        return ApiResponse.ok(reservations);
+    }
+
+    private ApiResponse getMetricsResponse() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        metrics.forEach((endpoint, endpointMetrics) -> json.put(endpoint, endpointMetrics.toMap()));
+        return ApiResponse.ok(json);
+    }
+
+    //=========== Changes =====================================================================================
+
+    private CompletableFuture<ApiResponse> change(String endpoint, HttpExchange exchange)
+            throws ApiException, IOException {
+        JsonNode body = readBody(exchange);
+        String commandText = toCommandText(endpoint, body);
+        String key = exchange.getRequestHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+        if (key == null) {
+            return submit(commandText);
+        }
+
+        String fingerprint = endpoint + " " + commandText;
+        CompletableFuture<ApiResponse> response = new CompletableFuture<>();
+        Optional<IdempotencyCache.Entry<ApiResponse>> existing =
+                idempotencyCache.putIfAbsent(key, fingerprint, response);
+        if (existing.isPresent()) {
+            if (!existing.get().getFingerprint().equals(fingerprint)) {
+                throw new ApiException(STATUS_UNPROCESSABLE_ENTITY, MESSAGE_KEY_REUSED);
+            }
+            return existing.get().getResponse();
+        }
+        submit(commandText).thenAccept(apiResponse -> {
+            // only a request that never ran can be retried with the same key
+            if (apiResponse.status == STATUS_UNAVAILABLE) {
+                idempotencyCache.remove(key, response);
+            }
+            response.complete(apiResponse);
+        });
+        return response;
+    }
+
+    private static String toCommandText(String endpoint, JsonNode body) throws ApiException {
+        String memberId = getField(body, "memberId");
+        switch (endpoint) {
+        case ENDPOINT_POST_TRANSACTION:
+            return AddCommand.COMMAND_WORD + " " + PREFIX_TRANSACTION + " " + PREFIX_BILLING
+                    + getField(body, "billing") + " " + PREFIX_ID + memberId;
+        case ENDPOINT_POST_REDEMPTION:
+            return RedeemCommand.COMMAND_WORD + " " + PREFIX_REDEEM + getField(body, "points") + " "
+                    + PREFIX_ID + memberId;
+        case ENDPOINT_POST_RESERVATION:
+            return AddCommand.COMMAND_WORD + " " + PREFIX_RESERVATION + " " + PREFIX_DATE_TIME
+                    + getField(body, "dateTime") + " " + PREFIX_REMARK + getField(body, "remark") + " "
+                    + PREFIX_ID + memberId;
+        default:
+            throw new AssertionError("Unknown endpoint: " + endpoint);
+        }
+    }
+
+    private CompletableFuture<ApiResponse> submit(String commandText) {
+        try {
+            return writer.submit(commandText).handle(HttpApiServer::toResponse);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ApiResponse.error(STATUS_UNAVAILABLE, e.getMessage()));
+        }
+    }
+
+    private static ApiResponse toResponse(CommandResult commandResult, Throwable error) {
+        if (error == null) {
+            return ApiResponse.ok(Map.of("message", commandResult.getFeedbackToUser()));
+        }
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof BatchingCommandWriter.NotSavedException) {
+            logger.warning("Ran a command that could not be saved: " + cause.getMessage());
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("message", ((BatchingCommandWriter.NotSavedException) cause).getResult().getFeedbackToUser());
+            json.put("saved", false);
+            return ApiResponse.of(STATUS_ACCEPTED, json);
+        } else if (cause instanceof ParseException
+                || (cause instanceof CommandException && !(cause.getCause() instanceof IOException))) {
+            return ApiResponse.error(STATUS_BAD_REQUEST, cause.getMessage());
+        } else if (cause instanceof PermissionException) {
+            return ApiResponse.error(STATUS_FORBIDDEN, cause.getMessage());
+        } else if (cause instanceof RejectedExecutionException) {
+            return ApiResponse.error(STATUS_UNAVAILABLE, cause.getMessage());
+        }
+        logger.warning("Failed to run a command: " + cause);
+        return ApiResponse.error(STATUS_INTERNAL_ERROR, MESSAGE_INTERNAL_ERROR);
+    }
+
+    //=========== JSON ========================================================================================
+
+    private static JsonNode readBody(HttpExchange exchange) throws ApiException, IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (InputStream input = exchange.getRequestBody()) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+                if (body.size() > MAX_BODY_BYTES) {
+                    throw new ApiException(STATUS_PAYLOAD_TOO_LARGE, MESSAGE_BODY_TOO_LARGE);
+                }
+            }
+        }
+        try {
+            JsonNode json = OBJECT_MAPPER.readTree(body.toString(StandardCharsets.UTF_8));
+            if (json == null || !json.isObject()) {
+                throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_INVALID_JSON);
+            }
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_INVALID_JSON);
+        }
+    }
+
+    /**
+     * Returns the text of the field {@code name} of {@code body}, which must not hold a command prefix or a
+     * line break, so that it cannot change the command it is put in.
+     */
+    private static String getField(JsonNode body, String name) throws ApiException {
+        JsonNode field = body.get(name);
+        if (field == null || field.isNull() || field.isContainerNode()) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_MISSING_FIELD, name));
+        }
+        String value = field.asText().trim();
+        if (value.isEmpty() || value.contains("\n") || value.contains("\r") || PREFIX_PATTERN.matcher(value).find()) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_FIELD, name));
+        }
+        return value;
+    }
+
+    private static Map<String, Object> toJson(Member member) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", member.getId().value);
+        json.put("name", member.getName().fullName);
+        json.put("phone", member.getPhone().value);
+        json.put("email", member.getEmail().value);
+        json.put("address", member.getAddress().value);
+        json.put("timestamp", member.getTimestamp().value);
+        json.put("credit", member.getCredit().value);
+        json.put("point", member.getPoint().value);
+        List<String> tags = new ArrayList<>();
+        for (Tag tag : member.getTags()) {
+            tags.add(tag.tagName);
+        }
+        json.put("tags", tags);
+        List<Map<String, Object>> transactions = new ArrayList<>();
+        for (Transaction transaction : member.getTransactions()) {
+            Map<String, Object> transactionJson = new LinkedHashMap<>();
+            transactionJson.put("id", transaction.getId().value);
+            transactionJson.put("timestamp", transaction.getTimestamp().value);
+            transactionJson.put("billing", transaction.getBilling().value);
+            transactions.add(transactionJson);
+        }
+        json.put("transactions", transactions);
+        List<Map<String, Object>> reservations = new ArrayList<>();
+        for (Reservation reservation : member.getReservations()) {
+            reservations.add(toJson(reservation));
+        }
+        json.put("reservations", reservations);
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Reservation reservation) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", reservation.getId().value);
+        json.put("dateTime", reservation.getDateTime().value);
+        json.put("remark", reservation.getRemark().value);
+        return json;
+    }
+
+    private static void send(HttpExchange exchange, ApiResponse response) {
+        byte[] bytes = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        try (OutputStream output = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(response.status, bytes.length);
+            output.write(bytes);
+        } catch (IOException e) {
+            logger.fine("Failed to send a response: " + e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * The status and JSON body of a response.
+     */
+    static class ApiResponse {
+        private final int status;
+        private final String body;
+
+        private ApiResponse(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static ApiResponse ok(Object json) {
+            return of(STATUS_OK, json);
+        }
+
+        static ApiResponse of(int status, Object json) {
+            try {
+                return new ApiResponse(status, OBJECT_MAPPER.writeValueAsString(json));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static ApiResponse error(int status, String message) {
+            try {
+                return new ApiResponse(status,
+                        OBJECT_MAPPER.writeValueAsString(Map.of("error", String.valueOf(message))));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Signals that a request cannot be served, with the status to answer it with.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.daemon;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Remembers the responses of the latest requests sent with an idempotency key, so that a client retrying a
+ * request gets the response of the first attempt instead of running it again.
+ * A request is remembered from the moment it is first seen, so a retry sent while the first attempt is still
+ * running waits for the same response. The least recently used keys are forgotten beyond the capacity.
+ *
+ * @param <V> the type of the responses.
+ */
+public class IdempotencyCache<V> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The capacity of the cache should be positive.";
+
+    private final Map<String, Entry<V>> entries;
+
+    /**
+     * Constructs an {@code IdempotencyCache} remembering at most {@code capacity} keys.
+     */
+    public IdempotencyCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Remembers {@code response} as the response to the request with {@code key} and {@code fingerprint},
+     * unless a request with {@code key} is already remembered, in which case its entry is returned instead.
+     */
+    public synchronized Optional<Entry<V>> putIfAbsent(String key, String fingerprint,
+            CompletableFuture<V> response) {
+        requireAllNonNull(key, fingerprint, response);
+        Entry<V> existing = entries.get(key);
+        if (existing != null) {
+            return Optional.of(existing);
+        }
+        entries.put(key, new Entry<>(fingerprint, response));
+        return Optional.empty();
+    }
+
+    /**
+     * Forgets the request with {@code key} if its response is {@code response}, so that it can be retried.
+     */
+    public synchronized void remove(String key, CompletableFuture<V> response) {
+        requireNonNull(key);
+        Entry<V> existing = entries.get(key);
+        if (existing != null && existing.response == response) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Returns the number of keys remembered.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * A remembered request.
+     *
+     * @param <V> the type of the response.
+     */
+    public static class Entry<V> {
+        private final String fingerprint;
+        private final CompletableFuture<V> response;
+
+        Entry(String fingerprint, CompletableFuture<V> response) {
+            this.fingerprint = fingerprint;
+            this.response = response;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public CompletableFuture<V> getResponse() {
+            return response;
+        }
+    }
+}
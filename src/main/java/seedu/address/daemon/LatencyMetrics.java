@@ -0,0 +1,99 @@
+package seedu.address.daemon;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latencies of the requests to one endpoint, and may be updated from any thread without locking.
+ * Latencies are counted in buckets of powers of two microseconds, so percentiles are reported as the upper bound
+ * of their bucket, which is at most twice the real value.
+ */
+public class LatencyMetrics {
+
+    private static final int BUCKET_COUNT = 40;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Records a request that took {@code nanos} nanoseconds, and whether it failed.
+     */
+    public void record(long nanos, boolean isError) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+        count.increment();
+        if (isError) {
+            errorCount.increment();
+        }
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+        buckets.incrementAndGet(toBucket(micros));
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Returns the mean latency in microseconds, or 0 if nothing was recorded.
+     */
+    public long getMeanMicros() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : totalMicros.sum() / recorded;
+    }
+
+    /**
+     * Returns the latency in microseconds that {@code percentile} percent of the requests did not exceed,
+     * rounded up to the bound of its bucket, or 0 if nothing was recorded.
+     */
+    public long getPercentileMicros(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        long rank = (long) Math.ceil(recorded * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(1L << i, getMaxMicros());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the metrics as a map from their names to their values.
+     */
+    public Map<String, Long> toMap() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        map.put("count", getCount());
+        map.put("errors", getErrorCount());
+        map.put("meanMicros", getMeanMicros());
+        map.put("p50Micros", getPercentileMicros(50));
+        map.put("p99Micros", getPercentileMicros(99));
+        map.put("maxMicros", getMaxMicros());
+        return map;
+    }
+
+    private static int toBucket(long micros) {
+        int bucket = Long.SIZE - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+}
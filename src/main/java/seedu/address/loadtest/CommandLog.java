@@ -0,0 +1,63 @@
+package seedu.address.loadtest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.LogicManager;
+
+/**
+ * Reads the commands to replay in a load test from a command log, which is either
+ * <ul>
+ *     <li>an ezFoodie log file, such as {@code ezfoodie.log}, whose messages of each command give the commands, or
+ *     </li>
+ *     <li>a file of one command on each line, as for the run command.</li>
+ * </ul>
+ * Blank commands are left out, as they do nothing.
+ */
+public class CommandLog {
+
+    /**
+     * Returns the commands in the command log at {@code filePath}, in order.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static List<String> read(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return parse(Files.readAllLines(filePath, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the commands in the {@code lines} of a command log, in order.
+     */
+    public static List<String> parse(List<String> lines) {
+        requireNonNull(lines);
+        boolean isLogFile = lines.stream().anyMatch(line -> line.contains(LogicManager.LOG_COMMAND_PREFIX));
+        List<String> commands = new ArrayList<>();
+        for (String line : lines) {
+            String command = isLogFile ? toLoggedCommand(line) : line;
+            if (command != null && !command.isBlank()) {
+                commands.add(command.trim());
+            }
+        }
+        return commands;
+    }
+
+    /**
+     * Returns the command logged in {@code line}, or null if {@code line} is not the message of a command.
+     */
+    private static String toLoggedCommand(String line) {
+        int prefixIndex = line.indexOf(LogicManager.LOG_COMMAND_PREFIX);
+        int endIndex = line.lastIndexOf(']');
+        int commandIndex = prefixIndex + LogicManager.LOG_COMMAND_PREFIX.length();
+        if (prefixIndex < 0 || endIndex < commandIndex) {
+            return null;
+        }
+        return line.substring(commandIndex, endIndex);
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.loadtest;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.metrics.LatencyHistogram;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.commons.exceptions.PermissionException;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays commands through {@code Logic#execute} one after another, as the commands of a command log were entered,
+ * and reports their latencies.
+ * At a rate of {@code 0}, each command starts as soon as the previous one ends. At a positive rate, the commands are
+ * due at that many commands each second, and the latency of a command is measured from when it is due, so that the
+ * time it waits behind slow commands is counted.
+ */
+public class LoadTest {
+
+    public static final String MESSAGE_INVALID_RATE = "The rate should not be negative.";
+
+    private final Logic logic;
+    private final MetricsRegistry metrics;
+    private final double rate;
+
+    /**
+     * Constructs a {@code LoadTest} that replays commands through {@code logic} at {@code rate} commands each
+     * second, reading the saves and bytes written from {@code metrics}.
+     */
+    public LoadTest(Logic logic, MetricsRegistry metrics, double rate) {
+        requireNonNull(logic);
+        requireNonNull(metrics);
+        checkArgument(rate >= 0, MESSAGE_INVALID_RATE);
+        this.logic = logic;
+        this.metrics = metrics;
+        this.rate = rate;
+    }
+
+    /**
+     * Replays {@code commands} in order, and returns the report of the replay.
+     * Commands that fail, such as those on members not in the data, are counted as failures and timed all the same.
+     */
+    public LoadTestReport run(List<String> commands) {
+        requireNonNull(commands);
+        Map<String, LatencyHistogram> histograms = new TreeMap<>();
+        LatencyHistogram allCommands = new LatencyHistogram();
+        long failureCount = 0;
+        long savesBefore = metrics.timer(LogicManager.METRIC_SAVE).getCount();
+        long bytesBefore = metrics.counter(StorageManager.METRIC_BYTES_WRITTEN).sum();
+        long intervalNanos = rate == 0 ? 0 : Math.round(TimeUnit.SECONDS.toNanos(1) / rate);
+
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < commands.size(); i++) {
+            long dueNanos = startNanos + i * intervalNanos;
+            long waitNanos = dueNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            long commandStartNanos = rate == 0 ? System.nanoTime() : dueNanos;
+            if (!execute(commands.get(i))) {
+                failureCount++;
+            }
+            long latencyNanos = System.nanoTime() - commandStartNanos;
+            histograms.computeIfAbsent(getShape(commands.get(i)), unused -> new LatencyHistogram())
+                    .record(latencyNanos);
+            allCommands.record(latencyNanos);
+        }
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        Map<String, LoadTestReport.Latencies> latencies = histograms.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> LoadTestReport.Latencies.of(entry.getValue())));
+        latencies.put(LoadTestReport.ALL_COMMANDS, LoadTestReport.Latencies.of(allCommands));
+        return new LoadTestReport(commands.size(), failureCount, durationMillis,
+                metrics.timer(LogicManager.METRIC_SAVE).getCount() - savesBefore,
+                metrics.counter(StorageManager.METRIC_BYTES_WRITTEN).sum() - bytesBefore, latencies);
+    }
+
+    /**
+     * Returns the shape of {@code command}, which is its command word, followed by the prefix of its first argument
+     * if it has one, such as {@code -txn/} or {@code -n/}.
+     */
+    public static String getShape(String command) {
+        String[] words = command.trim().split("\\s+", 3);
+        int prefixEnd = words.length > 1 && words[1].startsWith("-") ? words[1].indexOf('/') : -1;
+        if (prefixEnd > 0) {
+            return words[0] + " " + words[1].substring(0, prefixEnd + 1);
+        }
+        return words[0];
+    }
+
+    private boolean execute(String command) {
+        try {
+            logic.execute(command);
+            return true;
+        } catch (CommandException | ParseException | PermissionException e) {
+            return false;
+        }
+    }
+}
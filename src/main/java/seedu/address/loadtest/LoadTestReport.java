@@ -0,0 +1,188 @@
+package seedu.address.loadtest;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.metrics.LatencyHistogram;
+
+/**
+ * The results of a load test: the latencies of each shape of command, such as {@code add -txn/}, and of all
+ * commands, the throughput, and the data written to storage. It is saved as JSON, to be the baseline of later load
+ * tests.
+ */
+public class LoadTestReport {
+
+    /**
+     * Stands for the key of the latencies of all commands.
+     */
+    public static final String ALL_COMMANDS = "all";
+
+    /**
+     * Stands for the fewest commands of a shape whose p99 latencies are compared, as fewer give noisy p99s.
+     */
+    public static final long MIN_COMPARED_COUNT = 100;
+
+    /**
+     * Stands for the smallest increase of a p99 latency that is a regression, so that tiny latencies may vary.
+     */
+    public static final long MIN_REGRESSION_NANOS = 100000;
+
+    public static final String MESSAGE_INVALID_THRESHOLD = "The threshold should not be negative.";
+    public static final String MESSAGE_REGRESSION = "p99 of %1$s regressed from %2$.3f ms to %3$.3f ms (%4$+.0f%%)";
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final long commandCount;
+    private final long failureCount;
+    private final long durationMillis;
+    private final long saveCount;
+    private final long bytesWritten;
+    private final Map<String, Latencies> latencies;
+
+    /**
+     * Constructs a {@code LoadTestReport} with the given results.
+     */
+    @JsonCreator
+    public LoadTestReport(@JsonProperty("commandCount") long commandCount,
+            @JsonProperty("failureCount") long failureCount, @JsonProperty("durationMillis") long durationMillis,
+            @JsonProperty("saveCount") long saveCount, @JsonProperty("bytesWritten") long bytesWritten,
+            @JsonProperty("latencies") Map<String, Latencies> latencies) {
+        this.commandCount = commandCount;
+        this.failureCount = failureCount;
+        this.durationMillis = durationMillis;
+        this.saveCount = saveCount;
+        this.bytesWritten = bytesWritten;
+        this.latencies = latencies == null ? new TreeMap<>() : new TreeMap<>(latencies);
+    }
+
+    public long getCommandCount() {
+        return commandCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the number of commands run each second.
+     */
+    public double getThroughput() {
+        return durationMillis == 0 ? 0 : commandCount * 1000.0 / durationMillis;
+    }
+
+    /**
+     * Returns the latencies of each shape of command, and of {@code ALL_COMMANDS}.
+     */
+    public Map<String, Latencies> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    /**
+     * Returns a message for each shape of command whose p99 latency is more than {@code threshold} times higher
+     * than in {@code baseline}, e.g. more than 20% higher for a {@code threshold} of {@code 0.2}.
+     * Shapes with fewer than {@code MIN_COMPARED_COUNT} commands in either report are not compared.
+     */
+    public List<String> findRegressions(LoadTestReport baseline, double threshold) {
+        requireNonNull(baseline);
+        checkArgument(threshold >= 0, MESSAGE_INVALID_THRESHOLD);
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Latencies> entry : latencies.entrySet()) {
+            Latencies baselineLatencies = baseline.latencies.get(entry.getKey());
+            Latencies currentLatencies = entry.getValue();
+            if (baselineLatencies == null || baselineLatencies.count < MIN_COMPARED_COUNT
+                    || currentLatencies.count < MIN_COMPARED_COUNT) {
+                continue;
+            }
+            long increase = currentLatencies.p99Nanos - baselineLatencies.p99Nanos;
+            if (increase > MIN_REGRESSION_NANOS && increase > baselineLatencies.p99Nanos * threshold) {
+                regressions.add(String.format(MESSAGE_REGRESSION, entry.getKey(),
+                        baselineLatencies.p99Nanos / NANOS_PER_MILLI, currentLatencies.p99Nanos / NANOS_PER_MILLI,
+                        increase * 100.0 / Math.max(1, baselineLatencies.p99Nanos)));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Overrides the toString method.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format(
+                "%d commands (%d failed) in %.1f s, %.1f commands/s; %d saves, %d bytes written%n",
+                commandCount, failureCount, durationMillis / 1000.0, getThroughput(), saveCount, bytesWritten));
+        builder.append(String.format("%-20s %8s %10s %10s %10s %10s %10s%n",
+                "command", "count", "mean(ms)", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        latencies.forEach((shape, shapeLatencies) -> builder.append(String.format(
+                "%-20s %8d %10.3f %10.3f %10.3f %10.3f %10.3f%n", shape, shapeLatencies.count,
+                shapeLatencies.meanNanos / NANOS_PER_MILLI, shapeLatencies.p50Nanos / NANOS_PER_MILLI,
+                shapeLatencies.p90Nanos / NANOS_PER_MILLI, shapeLatencies.p99Nanos / NANOS_PER_MILLI,
+                shapeLatencies.maxNanos / NANOS_PER_MILLI)));
+        return builder.toString();
+    }
+
+    /**
+     * The latency distribution of some commands, in nanoseconds.
+     */
+    public static class Latencies {
+        private final long count;
+        private final long meanNanos;
+        private final long p50Nanos;
+        private final long p90Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        /**
+         * Constructs a {@code Latencies} with the given distribution.
+         */
+        @JsonCreator
+        public Latencies(@JsonProperty("count") long count, @JsonProperty("meanNanos") long meanNanos,
+                @JsonProperty("p50Nanos") long p50Nanos, @JsonProperty("p90Nanos") long p90Nanos,
+                @JsonProperty("p99Nanos") long p99Nanos, @JsonProperty("maxNanos") long maxNanos) {
+            this.count = count;
+            this.meanNanos = meanNanos;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Returns the distribution of the latencies recorded in {@code histogram}.
+         */
+        public static Latencies of(LatencyHistogram histogram) {
+            return new Latencies(histogram.getCount(), Math.round(histogram.getMean()),
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99), histogram.getMax());
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.loadtest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Account;
+import seedu.address.model.EzFoodie;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAccount;
+import seedu.address.model.ReadOnlyEzFoodie;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAccountStorage;
+import seedu.address.storage.JsonEzFoodieStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * A copy of ezFoodie data in a temporary directory, with a {@code Logic} that saves to the copy, so that a load
+ * test leaves the data it starts from as it is. The directory is deleted when the copy is closed.
+ */
+public class TemporaryDataCopy implements AutoCloseable {
+
+    public static final String EZFOODIE_FILE_NAME = "ezfoodie.json";
+    public static final String ACCOUNT_FILE_NAME = "account.json";
+    public static final String USER_PREFS_FILE_NAME = "preferences.json";
+
+    private final Path directory;
+    private final Logic logic;
+
+    /**
+     * Copies the ezFoodie data at {@code ezFoodiePath}, and the account at {@code accountPath} and user prefs at
+     * {@code userPrefsPath} if they are not null, to a new temporary directory, and reads the copy.
+     * A missing account or user prefs file gives the default account or user prefs.
+     *
+     * @throws IOException if the files cannot be copied.
+     * @throws DataConversionException if the files cannot be read.
+     */
+    public TemporaryDataCopy(Path ezFoodiePath, Path accountPath, Path userPrefsPath)
+            throws IOException, DataConversionException {
+        requireNonNull(ezFoodiePath);
+        directory = Files.createTempDirectory("ezFoodie-loadtest");
+        try {
+            JsonEzFoodieStorage ezFoodieStorage = new JsonEzFoodieStorage(
+                    copy(ezFoodiePath, EZFOODIE_FILE_NAME));
+            JsonAccountStorage accountStorage = new JsonAccountStorage(accountPath == null
+                    ? directory.resolve(ACCOUNT_FILE_NAME) : copy(accountPath, ACCOUNT_FILE_NAME));
+            JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(userPrefsPath == null
+                    ? directory.resolve(USER_PREFS_FILE_NAME) : copy(userPrefsPath, USER_PREFS_FILE_NAME));
+            StorageManager storage = new StorageManager(accountStorage, ezFoodieStorage, userPrefsStorage);
+
+            UserPrefs userPrefs = new UserPrefs(userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new));
+            userPrefs.setEzFoodieFilePath(ezFoodieStorage.getEzFoodieFilePath());
+            userPrefs.setAccountFilePath(accountStorage.getAccountFilePath());
+            ReadOnlyAccount account = storage.readAccount().orElseGet(Account::new);
+            ReadOnlyEzFoodie ezFoodie = storage.readEzFoodie().orElseGet(EzFoodie::new);
+            logic = new LogicManager(new ModelManager(account, ezFoodie, userPrefs), storage);
+        } catch (IOException | DataConversionException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    private Path copy(Path source, String fileName) throws IOException {
+        return Files.copy(source, directory.resolve(fileName));
+    }
+
+    /**
+     * Deletes the temporary directory, if it is not deleted yet.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+}
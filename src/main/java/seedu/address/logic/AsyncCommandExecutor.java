@@ -0,0 +1,164 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.member.Member;
+
+/**
+ * Runs commands of a {@code Logic} on a dedicated thread, which is the only thread that changes the model.
+ * Commands run one at a time in the order they are submitted, so parsing, executing and saving to storage never
+ * block the UI thread.
+ *
+ * The model lists are changed on the command thread, so the UI must display the immutable snapshots of them handed
+ * to its {@code PublicationListener} instead. Taking a snapshot copies nothing, so a command costs the same to publish
+ * whatever the size of the lists. The snapshots are handed over on the UI thread after a command, and commands
+ * finished before the UI thread catches up are published together in one publication. Each result is delivered on
+ * the UI thread after the lists it produced. The executor does not depend on any UI toolkit.
+ */
+public class AsyncCommandExecutor {
+
+    private static final String THREAD_NAME = "ezFoodie-command-executor";
+
+    private final Logger logger = LogsCenter.getLogger(AsyncCommandExecutor.class);
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final ExecutorService commandExecutor;
+    private final PublicationListener publicationListener;
+    private final AtomicReference<Publication> pendingPublication = new AtomicReference<>();
+    private final AtomicInteger pendingCommands = new AtomicInteger();
+
+    /**
+     * Constructs an {@code AsyncCommandExecutor} that runs the commands of {@code logic} and publishes their results
+     * to {@code publicationListener} with {@code uiExecutor}. It must be constructed on the UI thread before any
+     * command is submitted, and publishes the current lists before returning.
+     */
+    public AsyncCommandExecutor(Logic logic, Executor uiExecutor, PublicationListener publicationListener) {
+        requireAllNonNull(logic, uiExecutor, publicationListener);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        this.publicationListener = publicationListener;
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        publicationListener.onPublish(logic.getUpdatedMemberList(), logic.getUpdatedMemberListForView());
+    }
+
+    /**
+     * Queues {@code commandText} to run after the commands submitted before it.
+     * The returned future is completed on the UI thread with the result of the command, or exceptionally with the
+     * {@code CommandException}, {@code ParseException} or {@code PermissionException} it threw, or with any other
+     * exception or error it ended with.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        pendingCommands.incrementAndGet();
+        commandExecutor.execute(() -> run(commandText, future));
+        return future;
+    }
+
+    /**
+     * Returns the number of submitted commands whose result has not been delivered yet.
+     */
+    public int getPendingCount() {
+        return pendingCommands.get();
+    }
+
+    /**
+     * Stops taking commands. Commands already submitted are still run.
+     */
+    public void shutdown() {
+        commandExecutor.shutdown();
+    }
+
+    private void run(String commandText, CompletableFuture<CommandResult> future) {
+        CommandResult result = null;
+        Throwable failure = null;
+        try {
+            result = logic.execute(commandText);
+        } catch (Throwable e) {
+            // an error is delivered too, so that the UI does not wait for the command forever
+            failure = e;
+        }
+        if (failure instanceof RuntimeException || failure instanceof Error) {
+            logger.warning("Unexpected error while running command: " + commandText + ": " + failure);
+        }
+        try {
+            schedulePublication();
+        } finally {
+            deliver(future, result, failure);
+        }
+    }
+
+    /**
+     * Takes snapshots of the model lists on the command thread and schedules them to be published on the UI thread,
+     * unless a publication is already scheduled, in which case it publishes these snapshots instead.
+     */
+    private void schedulePublication() {
+        Publication publication = new Publication(logic.getUpdatedMemberList(),
+                logic.getUpdatedMemberListForView());
+        if (pendingPublication.getAndSet(publication) == null) {
+            uiExecutor.execute(this::publish);
+        }
+    }
+
+    private void publish() {
+        Publication publication = pendingPublication.getAndSet(null);
+        if (publication == null) {
+            return;
+        }
+        publicationListener.onPublish(publication.members, publication.membersForView);
+    }
+
+    private void deliver(CompletableFuture<CommandResult> future, CommandResult result, Throwable failure) {
+        uiExecutor.execute(() -> {
+            pendingCommands.decrementAndGet();
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        });
+    }
+
+    /**
+     * Receives the snapshots of the model lists on the UI thread.
+     */
+    @FunctionalInterface
+    public interface PublicationListener {
+        /**
+         * Displays {@code members} as the updated member list and {@code membersForView} as the updated member list
+         * for viewCommand. The lists are not changed after they are handed over, and a list that is the same
+         * instance as the one handed over before has not changed since.
+         */
+        void onPublish(List<Member> members, List<Member> membersForView);
+    }
+
+    /**
+     * Snapshots of the model lists taken after a command.
+     */
+    private static class Publication {
+        private final List<Member> members;
+        private final List<Member> membersForView;
+
+        Publication(List<Member> members, List<Member> membersForView) {
+            this.members = members;
+            this.membersForView = membersForView;
+        }
+    }
+}
@@ -1,21 +1,27 @@
-package seedu.address.commons.util;
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public class CommandUtil {
+/**
+ * Stores the latest commands entered in a session, so that they can be retrieved with the arrow keys.
+ */
+public class CommandHistory {
 
     private static final int MAX_LENGTH = 30;
-    private static final List<String> commands = new ArrayList<>();
 
-    private static int pointer = 0;
+    private final List<String> commands = new ArrayList<>();
+    private int pointer = 0;
 
     /**
      * Adds command to storage so that it can be retrieved.
      *
      * @param command to be added.
      */
-    public static void addCommand(String command) {
+    public synchronized void addCommand(String command) {
+        requireNonNull(command);
         if (!commands.isEmpty() && commands.size() >= MAX_LENGTH) {
             commands.remove(0);
         }
@@ -26,7 +32,7 @@ public class CommandUtil {
     /**
      * Gets previous command from storage.
      */
-    public static String getPreCommand() {
+    public synchronized String getPreCommand() {
         if (pointer > 0) {
             pointer--;
             return commands.get(pointer);
@@ -39,7 +45,7 @@ public class CommandUtil {
     /**
      * Gets next command from storage.
      */
-    public static String getNextCommand() {
+    public synchronized String getNextCommand() {
         if (pointer < commands.size() - 1) {
             pointer++;
             return commands.get(pointer);
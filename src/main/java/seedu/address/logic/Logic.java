@@ -1,13 +1,16 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.PermissionException;
+import seedu.address.commons.status.LoginStatus;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyEzFoodie;
 import seedu.address.model.member.Member;
 
@@ -26,6 +29,72 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException, PermissionException;
 
+    /**
+     * Executes the command and commits its changes without saving them to storage, and returns the result.
+     * Several commands can be executed this way and saved together with {@link #saveData()}.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution.
+     * @throws CommandException    If an error occurs during command execution.
+     * @throws ParseException      If an error occurs during parsing.
+     * @throws PermissionException If an error occurs during insufficient permission.
+     */
+    CommandResult executeWithoutSaving(String commandText)
+            throws CommandException, ParseException, PermissionException;
+
+    /**
+     * Parses the command without running it, and records it in the command history.
+     * The command can then be run with {@link #executeWithoutSaving(Command, String)}, e.g. after checking which
+     * member it is on with {@link Command#getTargetMemberId()}.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the parsed command.
+     * @throws ParseException      If an error occurs during parsing.
+     * @throws PermissionException If an error occurs during insufficient permission.
+     */
+    Command parseCommand(String commandText) throws ParseException, PermissionException;
+
+    /**
+     * Executes a command parsed with {@link #parseCommand(String)} and commits its changes without saving them to
+     * storage, and returns the result.
+     *
+     * @param command The parsed command.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution.
+     * @throws CommandException    If an error occurs during command execution.
+     */
+    CommandResult executeWithoutSaving(Command command, String commandText) throws CommandException;
+
+    /**
+     * Saves the data to storage.
+     *
+     * @throws CommandException If the data cannot be saved.
+     */
+    void saveData() throws CommandException;
+
+    /**
+     * Returns a point-in-time view of the data, which can be read from any thread.
+     *
+     * @see seedu.address.model.Model#snapshot()
+     */
+    ModelSnapshot getSnapshot();
+
+    /**
+     * Opens a new session on the same data and storage, with its own login status, member lists and command
+     * history. The commands of all sessions may run at the same time.
+     */
+    Logic openSession();
+
+    /**
+     * Returns the login status of this session.
+     */
+    LoginStatus getLoginStatus();
+
+    /**
+     * Returns the command history of this session.
+     */
+    CommandHistory getCommandHistory();
+
     /**
      * Returns the EzFoodie.
      *
@@ -34,15 +103,15 @@ public interface Logic {
     ReadOnlyEzFoodie getEzFoodie();
 
     /**
-     * Returns an unmodifiable view of the sorted or filtered list of members
+     * Returns an immutable snapshot of the sorted or filtered list of members
      */
-    ObservableList<Member> getUpdatedMemberList();
+    List<Member> getUpdatedMemberList();
 
     /**
-     * Returns an unmodifiable view of the sorted or filtered list of members
+     * Returns an immutable snapshot of the sorted or filtered list of members
      * for viewCommand to use only
      */
-    ObservableList<Member> getUpdatedMemberListForView();
+    List<Member> getUpdatedMemberListForView();
 
     /**
      * Returns the user prefs' ezFoodie file path.
@@ -2,41 +2,87 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.concurrent.StripedLock;
+import seedu.address.commons.core.jfr.CommandExecuteEvent;
+import seedu.address.commons.core.jfr.CommandParseEvent;
+import seedu.address.commons.core.metrics.MetricsRegistry;
 import seedu.address.commons.exceptions.PermissionException;
 import seedu.address.commons.status.ExecutionStatus;
+import seedu.address.commons.status.LoginStatus;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.EzFoodieParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyEzFoodie;
 import seedu.address.model.member.Member;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the application.
+ * Each {@code LogicManager} is a session with its own login status, member lists and command history; the sessions
+ * opened from one {@code LogicManager} share its data, storage and locks.
+ * Commands may be executed from several threads. A command on a single member, such as adding a transaction,
+ * shares the structure lock with other such commands and takes the lock of its member, so commands on different
+ * members run at the same time while commands on the same member run one by one. Any other command, such as adding
+ * or deleting a member, takes the structure lock alone.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+
+    /**
+     * Stands for the start of the log message of each command, which is followed by the command and {@code ]}.
+     */
+    public static final String LOG_COMMAND_PREFIX = "----------------[USER COMMAND][";
+
+    /**
+     * Stands for the number of member locks, which bounds how many commands on different members run at once.
+     */
+    public static final int MEMBER_LOCK_STRIPES = 64;
+
+    /**
+     * Stands for the timer of parsing commands.
+     */
+    public static final String METRIC_PARSE = "logic.parse";
+
+    /**
+     * Stands for the prefix of the timers of executing each command, which are named by the class of the command.
+     */
+    public static final String METRIC_COMMAND_PREFIX = "command.";
+
+    /**
+     * Stands for the timer of saving the data.
+     */
+    public static final String METRIC_SAVE = "logic.save";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final ExecutionStatus executionStatus;
     private final EzFoodieParser ezFoodieParser;
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final ReadWriteLock structureLock;
+    private final StripedLock memberLocks;
+    private final Lock saveLock;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
-        this.model = model;
-        this.storage = storage;
-        ezFoodieParser = new EzFoodieParser(model);
+        this(model, storage, ExecutionStatus.NORMAL);
     }
 
     /**
@@ -45,7 +91,26 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage, ExecutionStatus executionStatus) {
         this.model = model;
         this.storage = storage;
+        this.executionStatus = executionStatus;
+        ezFoodieParser = new EzFoodieParser(model, executionStatus);
+        structureLock = new ReentrantReadWriteLock();
+        memberLocks = new StripedLock(MEMBER_LOCK_STRIPES);
+        saveLock = new ReentrantLock();
+        registerModelGauges(model);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} for a new session on the data of {@code logicManager}, sharing its storage
+     * and locks.
+     */
+    private LogicManager(LogicManager logicManager) {
+        model = logicManager.model.openSession();
+        storage = logicManager.storage;
+        executionStatus = logicManager.executionStatus;
         ezFoodieParser = new EzFoodieParser(model, executionStatus);
+        structureLock = logicManager.structureLock;
+        memberLocks = logicManager.memberLocks;
+        saveLock = logicManager.saveLock;
     }
 
     /**
@@ -59,20 +124,196 @@ public class LogicManager implements Logic {
      */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException, PermissionException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        CommandResult commandResult = executeWithoutSaving(commandText);
+        saveData();
+        return commandResult;
+    }
 
-        CommandResult commandResult;
-        Command command = ezFoodieParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    /**
+     * Executes with given string of command text and commits its changes without saving them.
+     *
+     * @param commandText The command as entered by the user.
+     * @return {@code CommandResult} related to logic Manager.
+     * @throws CommandException if the user input does not conform the expected format.
+     * @throws ParseException if the user input does not conform the expected format.
+     * @throws PermissionException if the user input does not conform the expected format.
+     */
+    @Override
+    public CommandResult executeWithoutSaving(String commandText)
+            throws CommandException, ParseException, PermissionException {
+        return executeWithoutSaving(parseCommand(commandText), commandText);
+    }
+
+    /**
+     * Parses the given string of command text, and records it in the command history.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the parsed command, which can be executed with {@link #executeWithoutSaving(Command, String)}.
+     * @throws ParseException if the user input does not conform the expected format.
+     * @throws PermissionException if the user input does not conform the expected format.
+     */
+    @Override
+    public Command parseCommand(String commandText) throws ParseException, PermissionException {
+        logger.info(LOG_COMMAND_PREFIX + commandText + "]");
+
+        if (!commandText.isBlank()) {
+            commandHistory.addCommand(commandText);
+        }
+        MetricsRegistry metrics = MetricsRegistry.getDefault();
+        long parseStartNanos = System.nanoTime();
+        CommandParseEvent parseEvent = new CommandParseEvent();
+        parseEvent.begin();
+        Command command;
+        try {
+            command = ezFoodieParser.parseCommand(commandText);
+        } finally {
+            commitParseEvent(parseEvent, commandText);
+        }
+        metrics.recordSince(METRIC_PARSE, parseStartNanos);
+        return command;
+    }
+
+    /**
+     * Executes {@code command}, which was parsed from {@code commandText} by this session, and commits its changes
+     * without saving them.
+     *
+     * @param command The command parsed with {@link #parseCommand(String)}.
+     * @param commandText The command as entered by the user.
+     * @return {@code CommandResult} related to logic Manager.
+     * @throws CommandException if the user input does not conform the expected format.
+     */
+    @Override
+    public CommandResult executeWithoutSaving(Command command, String commandText) throws CommandException {
+        Optional<seedu.address.model.member.Id> targetMemberId = command.getTargetMemberId();
+        List<Lock> locks = targetMemberId
+                .map(memberId -> List.of(structureLock.readLock(), memberLocks.get(memberId)))
+                .orElse(List.of(structureLock.writeLock()));
+        locks.forEach(Lock::lock);
+        long executeStartNanos = System.nanoTime();
+        CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+        executeEvent.begin();
+        try {
+            // commands hand out the ids of what they add here, so no other command can hand out the same ids
+            CommandResult commandResult = command.execute(model);
+            // commands on other members run at the same time, so a command on one member only commits its changes
+            if (targetMemberId.isPresent()) {
+                model.commitEzFoodie(targetMemberId.get());
+            } else {
+                model.commitEzFoodie();
+            }
+            executeEvent.isSuccessful = true;
+            return commandResult;
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+            MetricsRegistry.getDefault().recordSince(METRIC_COMMAND_PREFIX + command.getClass().getSimpleName(),
+                    executeStartNanos);
+            commitExecuteEvent(executeEvent, commandText, command);
+        }
+    }
 
+    /**
+     * Saves the ezFoodie and account to storage.
+     *
+     * @throws CommandException if the data cannot be saved.
+     */
+    @Override
+    public void saveData() throws CommandException {
+        // the snapshot is taken under the lock too, so that a save never overwrites a newer one
+        saveLock.lock();
+        long startNanos = System.nanoTime();
         try {
-            storage.saveEzFoodie(model.getEzFoodie());
-            storage.saveAccount(model.getAccount());
+            ModelSnapshot snapshot = model.snapshot();
+            storage.saveEzFoodie(snapshot);
+            storage.saveAccount(snapshot.getAccount());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        } finally {
+            MetricsRegistry.getDefault().recordSince(METRIC_SAVE, startNanos);
+            saveLock.unlock();
         }
+    }
 
-        return commandResult;
+    /**
+     * Commits {@code event} with the command word of {@code commandText}, if the event is being recorded.
+     * The fields are only filled in then, so that the event costs next to nothing when nothing is recorded.
+     */
+    private static void commitParseEvent(CommandParseEvent event, String commandText) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.commandWord = getCommandWord(commandText);
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits {@code event} with the command word of {@code commandText} and the class and member of
+     * {@code command}, if the event is being recorded.
+     */
+    private static void commitExecuteEvent(CommandExecuteEvent event, String commandText, Command command) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.commandWord = getCommandWord(commandText);
+            event.commandClass = command.getClass().getSimpleName();
+            event.memberId = command.getTargetMemberId().map(memberId -> memberId.value).orElse(null);
+            event.commit();
+        }
+    }
+
+    private static String getCommandWord(String commandText) {
+        String trimmedText = commandText.trim();
+        int end = 0;
+        while (end < trimmedText.length() && !Character.isWhitespace(trimmedText.charAt(end))) {
+            end++;
+        }
+        return trimmedText.substring(0, end);
+    }
+
+    /**
+     * Registers the gauges of the sizes of the data of {@code model}, which are read from a snapshot of the model
+     * when the metrics are reported.
+     */
+    private static void registerModelGauges(Model model) {
+        MetricsRegistry metrics = MetricsRegistry.getDefault();
+        metrics.registerGauge("model.members", () -> model.snapshot().getMembers().size());
+        metrics.registerGauge("model.transactions", () -> model.snapshot().getMembers().stream()
+                .mapToLong(member -> member.getTransactions().size()).sum());
+        metrics.registerGauge("model.reservations", () -> model.snapshot().getMembers().stream()
+                .mapToLong(member -> member.getReservations().size()).sum());
+    }
+
+    /**
+     * Gets a snapshot of the model.
+     */
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return model.snapshot();
+    }
+
+    /**
+     * Opens a new session on the same data and storage.
+     * The commands of all sessions share the same locks, so they may run at the same time from different threads.
+     */
+    @Override
+    public Logic openSession() {
+        return new LogicManager(this);
+    }
+
+    /**
+     * Gets the login status of this session.
+     */
+    @Override
+    public LoginStatus getLoginStatus() {
+        return model.getLoginStatus();
+    }
+
+    /**
+     * Gets the command history of this session.
+     */
+    @Override
+    public CommandHistory getCommandHistory() {
+        return commandHistory;
     }
 
     /**
@@ -87,7 +328,7 @@ public class LogicManager implements Logic {
      * Gets updated member list.
      */
     @Override
-    public ObservableList<Member> getUpdatedMemberList() {
+    public List<Member> getUpdatedMemberList() {
         return model.getUpdatedMemberList();
     }
 
@@ -95,7 +336,7 @@ public class LogicManager implements Logic {
      * Gets updated member list for view.
      */
     @Override
-    public ObservableList<Member> getUpdatedMemberListForView () {
+    public List<Member> getUpdatedMemberListForView () {
         return model.getUpdatedMemberListForView();
     }
 
@@ -1,16 +1,29 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Set;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.Timestamp;
+import seedu.address.model.member.Address;
+import seedu.address.model.member.Credit;
+import seedu.address.model.member.Email;
 import seedu.address.model.member.Id;
 import seedu.address.model.member.Member;
+import seedu.address.model.member.Name;
+import seedu.address.model.member.Phone;
+import seedu.address.model.member.Point;
+import seedu.address.model.tag.Tag;
 
 /**
  * Adds a member to the ezFoodie.
@@ -41,6 +54,12 @@ public class AddMemberCommand extends AddCommand {
             "This member (phone or email) already exists in the ezFoodie.";
 
     private final Member toAdd;
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final Timestamp timestamp;
+    private final Set<Tag> tags;
 
     /**
      * Constructs an {@codeAddMemberCommand} to add the specified {@code Member}.
@@ -48,6 +67,28 @@ public class AddMemberCommand extends AddCommand {
     public AddMemberCommand(Member member) {
         requireNonNull(member);
         toAdd = member;
+        name = null;
+        phone = null;
+        email = null;
+        address = null;
+        timestamp = null;
+        tags = null;
+    }
+
+    /**
+     * Constructs an {@code AddMemberCommand} to add a new member with the given details, no credit and the next member
+     * id, which is handed out when the command is executed.
+     */
+    public AddMemberCommand(Name name, Phone phone, Email email, Address address, Timestamp timestamp,
+            Set<Tag> tags) {
+        requireAllNonNull(name, phone, email, address, timestamp, tags);
+        toAdd = null;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.timestamp = timestamp;
+        this.tags = tags;
     }
 
     /**
@@ -61,12 +102,25 @@ public class AddMemberCommand extends AddCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasMember(toAdd)) {
+        Member member = toAdd != null
+                ? toAdd
+                : createMember(model.getNextMemberId().orElseThrow(() -> new CommandException(MESSAGE_FULL)));
+        if (model.hasMember(member)) {
             throw new CommandException(MESSAGE_DUPLICATE_MEMBER);
         }
 
-        model.addMember(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        model.addMember(member);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, member));
+    }
+
+    /**
+     * Creates and returns a new {@code Member} of {@code id} with the details of the command.
+     */
+    private Member createMember(Id id) {
+        Credit credit = new Credit("0");
+        Point point = new Point(credit.getStringValue());
+        return new Member(id, name, phone, email, address, timestamp, credit, point,
+                new ArrayList<>(), new ArrayList<>(), tags);
     }
 
     /**
@@ -76,7 +130,13 @@ public class AddMemberCommand extends AddCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddMemberCommand // instanceof handles nulls
-                && toAdd.equals(((AddMemberCommand) other).toAdd));
+                && Objects.equals(toAdd, ((AddMemberCommand) other).toAdd)
+                && Objects.equals(name, ((AddMemberCommand) other).name)
+                && Objects.equals(phone, ((AddMemberCommand) other).phone)
+                && Objects.equals(email, ((AddMemberCommand) other).email)
+                && Objects.equals(address, ((AddMemberCommand) other).address)
+                && Objects.equals(timestamp, ((AddMemberCommand) other).timestamp)
+                && Objects.equals(tags, ((AddMemberCommand) other).tags));
     }
 
 }
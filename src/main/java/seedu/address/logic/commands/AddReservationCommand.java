@@ -8,11 +8,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.persistent.PersistentVector;
 import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -24,7 +26,10 @@ import seedu.address.model.member.Member;
 import seedu.address.model.member.Name;
 import seedu.address.model.member.Phone;
 import seedu.address.model.member.Point;
+import seedu.address.model.reservation.DateTime;
+import seedu.address.model.reservation.Remark;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationEntry;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.transaction.Transaction;
 
@@ -58,15 +63,33 @@ public class AddReservationCommand extends AddCommand {
     public static final String MESSAGE_SAME_DATE = "Only one reservation can be added within the same day. "
             + "Previous reservation: %1$s";
 
-    private final Reservation reservationToAdd;
+    private final seedu.address.model.reservation.Id reservationId;
+    private final DateTime dateTime;
+    private final Remark remark;
     private final seedu.address.model.member.Id idToAdd;
 
     /**
-     * Constructs an {@code AddReservationCommand} to add the specified {@code Member}.
+     * Constructs an {@code AddReservationCommand} to add the specified {@code Reservation} to the member of
+     * {@code id}.
      */
     public AddReservationCommand(Reservation reservation, seedu.address.model.member.Id id) {
         requireAllNonNull(reservation, id);
-        reservationToAdd = reservation;
+        reservationId = reservation.getId();
+        dateTime = reservation.getDateTime();
+        remark = reservation.getRemark();
+        idToAdd = id;
+    }
+
+    /**
+     * Constructs an {@code AddReservationCommand} to add a reservation at {@code dateTime} with {@code remark} to the
+     * member of {@code id}, with the next reservation id of the member, which is handed out when the command is
+     * executed.
+     */
+    public AddReservationCommand(DateTime dateTime, Remark remark, seedu.address.model.member.Id id) {
+        requireAllNonNull(dateTime, remark, id);
+        reservationId = null;
+        this.dateTime = dateTime;
+        this.remark = remark;
         idToAdd = id;
     }
 
@@ -80,18 +103,26 @@ public class AddReservationCommand extends AddCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Member> lastShownList = model.getUpdatedMemberList();
-        Member memberToEdit = lastShownList.stream()
-                .filter(member -> idToAdd.equals(member.getId())).findAny().orElse(null);
+        Member memberToEdit = model.getMember(idToAdd).orElse(null);
         if (memberToEdit == null) {
             throw new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID);
         }
-        if (!Reservation.isValidDateTime(reservationToAdd.getDateTime())) {
+        if (!Reservation.isValidDateTime(dateTime)) {
             throw new CommandException(Reservation.MESSAGE_CONSTRAINTS);
         }
-        Reservation reservationSameDate = memberToEdit.getReservations().stream()
-                .filter(reservation -> reservation.isSameDate(reservationToAdd)).findAny().orElse(null);
+        Reservation reservationSameDate = model.getReservationsByDate(dateTime.getLocalDateValue()).stream()
+                .filter(entry -> entry.getMember().isSameId(memberToEdit))
+                .map(ReservationEntry::getReservation).findAny().orElse(null);
         if (reservationSameDate == null) {
+            LocalDateTime localDateTime = dateTime.getLocalDateTimeValue();
+            if (!model.hasReservationCapacity(localDateTime)) {
+                throw new CommandException(createFullyBookedMessage(localDateTime,
+                        model.getAvailableReservationSlots(localDateTime)));
+            }
+            seedu.address.model.reservation.Id id = reservationId != null
+                    ? reservationId
+                    : model.getNextReservationId(idToAdd).orElseThrow(() -> new CommandException(MESSAGE_FULL));
+            Reservation reservationToAdd = new Reservation(id, dateTime, remark);
             Member editedMember = createEditedMember(memberToEdit, reservationToAdd);
             model.setMember(memberToEdit, editedMember);
             model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
@@ -102,6 +133,17 @@ public class AddReservationCommand extends AddCommand {
         throw new CommandException(String.format(MESSAGE_SAME_DATE, reservationSameDate));
     }
 
+    /**
+     * Creates and returns the message for a fully booked {@code dateTime} with the {@code availableSlots} nearby.
+     */
+    static String createFullyBookedMessage(LocalDateTime dateTime, List<LocalDateTime> availableSlots) {
+        return availableSlots.isEmpty()
+                ? String.format(Messages.MESSAGE_RESERVATION_FULLY_BOOKED_NO_SLOTS,
+                        DateTimeUtil.formatDateTime(dateTime))
+                : String.format(Messages.MESSAGE_RESERVATION_FULLY_BOOKED,
+                        DateTimeUtil.formatDateTime(dateTime), DateTimeUtil.formatDateTimes(availableSlots));
+    }
+
     /**
      * Creates and returns a {@code Member} with the details of {@code memberToEdit} and {@code reservationToAdd}.
      *
@@ -122,11 +164,10 @@ public class AddReservationCommand extends AddCommand {
         Credit credit = memberToEdit.getCredit();
         Point point = memberToEdit.getPoint();
         List<Transaction> transactions = memberToEdit.getTransactions();
-        List<Reservation> reservations = memberToEdit.getReservations();
+        PersistentVector<Reservation> reservations = memberToEdit.getReservations();
         Set<Tag> tags = memberToEdit.getTags();
 
-        List<Reservation> updatedReservations = new ArrayList<>(reservations);
-        updatedReservations.add(reservationToAdd);
+        PersistentVector<Reservation> updatedReservations = reservations.appended(reservationToAdd);
 
         return new Member(id, name, phone, email, address, timestamp, credit, point,
                 transactions, updatedReservations, tags);
@@ -139,7 +180,9 @@ public class AddReservationCommand extends AddCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddReservationCommand // instanceof handles nulls
-                && reservationToAdd.equals(((AddReservationCommand) other).reservationToAdd))
-                && idToAdd.equals(((AddReservationCommand) other).idToAdd);
+                && Objects.equals(reservationId, ((AddReservationCommand) other).reservationId)
+                && dateTime.equals(((AddReservationCommand) other).dateTime)
+                && remark.equals(((AddReservationCommand) other).remark)
+                && idToAdd.equals(((AddReservationCommand) other).idToAdd));
     }
 }
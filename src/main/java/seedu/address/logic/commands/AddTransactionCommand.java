@@ -7,11 +7,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.persistent.PersistentVector;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.Timestamp;
@@ -24,6 +26,7 @@ import seedu.address.model.member.Phone;
 import seedu.address.model.member.Point;
 import seedu.address.model.reservation.Reservation;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Billing;
 import seedu.address.model.transaction.Transaction;
 
 /**
@@ -51,15 +54,31 @@ public class AddTransactionCommand extends AddCommand {
     public static final String MESSAGE_SUCCESS = "New transaction added: %1$s";
     public static final String MESSAGE_FULL = "Transaction ID has reached " + seedu.address.model.transaction.Id.MAX;
 
-    private final Transaction transactionToAdd;
+    private final seedu.address.model.transaction.Id transactionId;
+    private final Timestamp timestamp;
+    private final Billing billing;
     private final seedu.address.model.member.Id idToAdd;
 
     /**
-     * Constructs an AddTransactionCommand to add the specified {@code Member}.
+     * Constructs an AddTransactionCommand to add the specified {@code Transaction} to the member of {@code id}.
      */
     public AddTransactionCommand(Transaction transaction, seedu.address.model.member.Id id) {
         requireAllNonNull(transaction, id);
-        transactionToAdd = transaction;
+        transactionId = transaction.getId();
+        timestamp = transaction.getTimestamp();
+        billing = transaction.getBilling();
+        idToAdd = id;
+    }
+
+    /**
+     * Constructs an AddTransactionCommand to add a transaction of {@code billing} at {@code timestamp} to the member
+     * of {@code id}, with the next transaction id of the member, which is handed out when the command is executed.
+     */
+    public AddTransactionCommand(Timestamp timestamp, Billing billing, seedu.address.model.member.Id id) {
+        requireAllNonNull(timestamp, billing, id);
+        transactionId = null;
+        this.timestamp = timestamp;
+        this.billing = billing;
         idToAdd = id;
     }
 
@@ -73,14 +92,18 @@ public class AddTransactionCommand extends AddCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Member> lastShownList = model.getUpdatedMemberList();
-        Member memberToEdit = lastShownList.stream()
-                .filter(member -> idToAdd.equals(member.getId())).findAny().orElse(null);
-        if (memberToEdit == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID);
-        }
+        long version = model.getMemberVersion(idToAdd);
+        Member memberToEdit = model.getMember(idToAdd)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID));
+        // the id is handed out under the lock of the member, so no other command can hand out the same one
+        seedu.address.model.transaction.Id id = transactionId != null
+                ? transactionId
+                : model.getNextTransactionId(idToAdd).orElseThrow(() -> new CommandException(MESSAGE_FULL));
+        Transaction transactionToAdd = new Transaction(id, timestamp, billing);
         Member editedMember = createEditedMember(memberToEdit, transactionToAdd);
-        model.setMember(memberToEdit, editedMember);
+        if (!model.setMember(memberToEdit, editedMember, version)) {
+            throw new CommandException(Messages.MESSAGE_MEMBER_CHANGED);
+        }
         model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
         return new CommandResult(String.format(MESSAGE_SUCCESS, "Id: " + editedMember.getId()
                 + "; Name: " + editedMember.getName()
@@ -104,20 +127,26 @@ public class AddTransactionCommand extends AddCommand {
         Email email = memberToEdit.getEmail();
         Address address = memberToEdit.getAddress();
         Timestamp timestamp = memberToEdit.getTimestamp();
-        List<Transaction> transactions = memberToEdit.getTransactions();
+        PersistentVector<Transaction> transactions = memberToEdit.getTransactions();
         List<Reservation> reservations = memberToEdit.getReservations();
         Set<Tag> tags = memberToEdit.getTags();
-        List<Transaction> updatedTransactions = new ArrayList<>(transactions);
-        updatedTransactions.add(transactionToAdd);
-        Credit updatedCredit = new Credit("" + Math.min(updatedTransactions.stream()
-                .mapToInt(t -> (int) t.getBilling().getDoubleValue()).sum(), Credit.MAX));
-        Point updatePoint = new Point("" + Math.min(Integer.parseInt(String.valueOf(updatedCredit.getIntValue()
-                - memberToEdit.getCredit().getIntValue()
-                + memberToEdit.getPoint().getIntValue())), Point.MAX));
+        PersistentVector<Transaction> updatedTransactions = transactions.appended(transactionToAdd);
+        Credit updatedCredit = memberToEdit.getCredit().plus((long) transactionToAdd.getBilling().getDoubleValue());
+        Point updatePoint = new Point("" + Math.min(updatedCredit.getLongValue()
+                - memberToEdit.getCredit().getLongValue()
+                + memberToEdit.getPoint().getLongValue(), Point.MAX));
         return new Member(id, name, phone, email, address, timestamp, updatedCredit,
                 updatePoint, updatedTransactions, reservations, tags);
     }
 
+    /**
+     * Overrides and gets the id of the member the transaction is added to.
+     */
+    @Override
+    public Optional<seedu.address.model.member.Id> getTargetMemberId() {
+        return Optional.of(idToAdd);
+    }
+
     /**
      * Overrides the equals method.
      */
@@ -125,7 +154,9 @@ public class AddTransactionCommand extends AddCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddTransactionCommand // instanceof handles nulls
-                && transactionToAdd.equals(((AddTransactionCommand) other).transactionToAdd))
-                && idToAdd.equals(((AddTransactionCommand) other).idToAdd);
+                && Objects.equals(transactionId, ((AddTransactionCommand) other).transactionId)
+                && timestamp.equals(((AddTransactionCommand) other).timestamp)
+                && billing.equals(((AddTransactionCommand) other).billing)
+                && idToAdd.equals(((AddTransactionCommand) other).idToAdd));
     }
 }
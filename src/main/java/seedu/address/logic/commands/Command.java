@@ -1,7 +1,10 @@
 package seedu.address.logic.commands;
 
+import java.util.Optional;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.member.Id;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +20,13 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the id of the only member the command reads or changes, if the command depends on no other part of
+     * the ezFoodie, so that it can run at the same time as commands on other members.
+     * Returns an empty {@code Optional} by default, so that the command runs alone.
+     */
+    public Optional<Id> getTargetMemberId() {
+        return Optional.empty();
+    }
+
 }
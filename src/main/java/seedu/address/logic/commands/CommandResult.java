@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the result of a command execution.
@@ -31,6 +33,11 @@ public class CommandResult {
      */
     private final boolean exit;
 
+    /**
+     * The feedback of work the command left running in the background, or null if there is none.
+     */
+    private final CompletableFuture<String> followUp;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields from {@code feedbackToUser},
      * {@code showHelp}, {@code exit}, {@code showMemberView} and
@@ -43,6 +50,20 @@ public class CommandResult {
         this.showMemberView = showMemberView;
         this.exit = exit;
         this.showSummary = showSummary;
+        this.followUp = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, and the {@code followUp}
+     * feedback the command completes once its work in the background is done.
+     */
+    public CommandResult(String feedbackToUser, CompletableFuture<String> followUp) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.showMemberView = false;
+        this.exit = false;
+        this.showSummary = false;
+        this.followUp = requireNonNull(followUp);
     }
 
     /**
@@ -98,6 +119,16 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Gets the feedback of the work the command left running in the background, which is completed once that work
+     * completes or fails.
+     *
+     * @return the follow-up feedback, or empty if the command left nothing running.
+     */
+    public Optional<CompletableFuture<String>> getFollowUp() {
+        return Optional.ofNullable(followUp);
+    }
+
     /**
      * Overrides the equals method.
      */
@@ -117,7 +148,8 @@ public class CommandResult {
                 && showHelp == otherCommandResult.showHelp
                 && showMemberView == otherCommandResult.showMemberView
                 && exit == otherCommandResult.exit
-                && showSummary == otherCommandResult.showSummary;
+                && showSummary == otherCommandResult.showSummary
+                && Objects.equals(followUp, otherCommandResult.followUp);
     }
 
     /**
@@ -125,7 +157,7 @@ public class CommandResult {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, showMemberView, exit, showSummary);
+        return Objects.hash(feedbackToUser, showHelp, showMemberView, exit, showSummary, followUp);
     }
 
 }
@@ -88,8 +88,7 @@ public class DeleteMemberCommand extends DeleteCommand {
             }
         }
         if (id != null) {
-            memberToDelete = lastShownList.stream()
-                    .filter(member -> id.equals(member.getId())).findAny().orElse(null);
+            memberToDelete = model.getMember(id).orElse(null);
         }
         if (memberToDelete != null) {
             model.deleteMember(memberToDelete);
@@ -6,11 +6,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.persistent.PersistentVector;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.Timestamp;
@@ -89,11 +89,11 @@ public class DeleteReservationCommand extends DeleteCommand {
         Point point = memberToEdit.getPoint();
         Credit credit = memberToEdit.getCredit();
         List<Transaction> transactions = memberToEdit.getTransactions();
-        List<Reservation> reservations = memberToEdit.getReservations();
+        PersistentVector<Reservation> reservations = memberToEdit.getReservations();
         Set<Tag> updatedTags = memberToEdit.getTags();
 
-        List<Reservation> updatedReservations = new ArrayList<>(reservations);
-        updatedReservations.remove(reservationToDelete);
+        int index = reservations.indexOf(reservationToDelete);
+        PersistentVector<Reservation> updatedReservations = index < 0 ? reservations : reservations.removed(index);
 
         return new Member(id, updatedName, updatedPhone, updatedEmail, updatedAddress, timestamp, credit, point,
                 transactions, updatedReservations, updatedTags);
@@ -109,9 +109,7 @@ public class DeleteReservationCommand extends DeleteCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Member> lastShownList = model.getUpdatedMemberList();
-        Member memberToEdit = lastShownList.stream()
-                .filter(member -> memberId.equals(member.getId())).findAny().orElse(null);
+        Member memberToEdit = model.getMember(memberId).orElse(null);
         if (memberToEdit == null) {
             throw new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID);
         }
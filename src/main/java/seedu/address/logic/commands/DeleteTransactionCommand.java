@@ -6,11 +6,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.persistent.PersistentVector;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.Timestamp;
@@ -83,14 +84,15 @@ public class DeleteTransactionCommand extends DeleteCommand {
         Email email = memberToEdit.getEmail();
         Address address = memberToEdit.getAddress();
         Timestamp timestamp = memberToEdit.getTimestamp();
-        List<Transaction> transactions = memberToEdit.getTransactions();
+        PersistentVector<Transaction> transactions = memberToEdit.getTransactions();
         List<Reservation> reservations = memberToEdit.getReservations();
         Set<Tag> updatedTags = memberToEdit.getTags();
 
-        List<Transaction> updatedTransactions = new ArrayList<>(transactions);
-        updatedTransactions.remove(transactionToDelete);
-        Credit updatedCredit = new Credit("" + Math.min(updatedTransactions.stream()
-                .mapToInt(t -> (int) t.getBilling().getDoubleValue()).sum(), Credit.MAX));
+        int index = transactions.indexOf(transactionToDelete);
+        PersistentVector<Transaction> updatedTransactions = index < 0 ? transactions : transactions.removed(index);
+        Credit updatedCredit = index < 0
+                ? memberToEdit.getCredit()
+                : memberToEdit.getCredit().plus(-(long) transactionToDelete.getBilling().getDoubleValue());
         Point point = memberToEdit.getPoint();
         return new Member(id, name, phone, email, address, timestamp, updatedCredit,
                 point, updatedTransactions, reservations, updatedTags);
@@ -106,25 +108,32 @@ public class DeleteTransactionCommand extends DeleteCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Member> lastShownList = model.getUpdatedMemberList();
-        Member memberToEdit = lastShownList.stream()
-                .filter(member -> memberId.equals(member.getId())).findAny().orElse(null);
-        if (memberToEdit == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID);
-        }
+        long version = model.getMemberVersion(memberId);
+        Member memberToEdit = model.getMember(memberId)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID));
         Transaction transactionToDelete = memberToEdit.getTransactions().stream()
                 .filter(transaction -> transactionId.equals(transaction.getId())).findAny().orElse(null);
         if (transactionToDelete == null) {
             throw new CommandException(Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_ID);
         }
         Member editedMember = createEditedMember(memberToEdit, transactionToDelete);
-        model.setMember(memberToEdit, editedMember);
+        if (!model.setMember(memberToEdit, editedMember, version)) {
+            throw new CommandException(Messages.MESSAGE_MEMBER_CHANGED);
+        }
         model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
         return new CommandResult(String.format(MESSAGE_SUCCESS, "Id: " + editedMember.getId()
                 + "; Name: " + editedMember.getName()
                 + "; Transaction: " + "[" + transactionToDelete + "]"));
     }
 
+    /**
+     * Overrides and gets the id of the member the transaction is deleted from.
+     */
+    @Override
+    public Optional<seedu.address.model.member.Id> getTargetMemberId() {
+        return Optional.of(memberId);
+    }
+
     /**
      * Overrides the equals method.
      */
@@ -140,8 +140,7 @@ public class EditMemberCommand extends EditCommand {
             }
         }
         if (id != null) {
-            memberToEdit = lastShownList.stream()
-                    .filter(member -> id.equals(member.getId())).findAny().orElse(null);
+            memberToEdit = model.getMember(id).orElse(null);
         }
         if (memberToEdit != null) {
             Member editedMember = createEditedMember(memberToEdit, editMemberDescriptor);
@@ -8,12 +8,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.persistent.PersistentVector;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -28,6 +29,7 @@ import seedu.address.model.member.Point;
 import seedu.address.model.reservation.DateTime;
 import seedu.address.model.reservation.Remark;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationEntry;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.transaction.Transaction;
 
@@ -115,19 +117,18 @@ public class EditReservationCommand extends EditCommand {
         Credit credit = memberToEdit.getCredit();
         Point point = memberToEdit.getPoint();
         List<Transaction> transactions = memberToEdit.getTransactions();
-        List<Reservation> reservations = memberToEdit.getReservations();
+        PersistentVector<Reservation> reservations = memberToEdit.getReservations();
         Set<Tag> updatedTags = memberToEdit.getTags();
 
         // Reservation
         DateTime updatedDateTime = editReservationDescriptor.getDateTime().orElse(reservationToEdit.getDateTime());
         Remark updatedRemark = editReservationDescriptor.getRemark().orElse(reservationToEdit.getRemark());
 
-        List<Reservation> updatedReservations = new ArrayList<>(reservations);
         Reservation updatedReservation = new Reservation(reservationToEdit.getId(), updatedDateTime, updatedRemark);
-        updatedReservations.stream()
-                .filter(reservation -> reservation.isSameId(reservationToEdit)).findAny()
-                .ifPresent(reservation -> updatedReservations
-                        .set(updatedReservations.indexOf(reservation), updatedReservation));
+        int index = reservations.findIndex(reservation -> reservation.isSameId(reservationToEdit));
+        PersistentVector<Reservation> updatedReservations = index < 0
+                ? reservations
+                : reservations.replaced(index, updatedReservation);
 
         return new Member(id, updatedName, updatedPhone, updatedEmail, updatedAddress, timestamp, credit, point,
                 transactions, updatedReservations, updatedTags);
@@ -143,9 +144,7 @@ public class EditReservationCommand extends EditCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Member> lastShownList = model.getUpdatedMemberList();
-        Member memberToEdit = lastShownList.stream()
-                .filter(member -> memberId.equals(member.getId())).findAny().orElse(null);
+        Member memberToEdit = model.getMember(memberId).orElse(null);
         if (memberToEdit == null) {
             throw new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID);
         }
@@ -160,12 +159,21 @@ public class EditReservationCommand extends EditCommand {
             if (!Reservation.isValidDateTime(dateTimeToEdit)) {
                 throw new CommandException(Reservation.MESSAGE_CONSTRAINTS);
             }
-            reservationSameDate = memberToEdit.getReservations().stream()
-                    .filter(reservation -> !reservation.equals(reservationToEdit)
-                            && reservation.isSameDate(dateTimeToEdit.getLocalDateTimeValue()))
+            reservationSameDate = model.getReservationsByDate(dateTimeToEdit.getLocalDateValue()).stream()
+                    .filter(entry -> entry.getMember().isSameId(memberToEdit))
+                    .map(ReservationEntry::getReservation)
+                    .filter(reservation -> !reservation.equals(reservationToEdit))
                     .findAny().orElse(null);
         }
         if (reservationSameDate == null) {
+            if (dateTimeToEdit != null) {
+                LocalDateTime dateTime = dateTimeToEdit.getLocalDateTimeValue();
+                ReservationEntry entryToEdit = new ReservationEntry(memberToEdit, reservationToEdit);
+                if (!model.hasReservationCapacity(dateTime, entryToEdit)) {
+                    throw new CommandException(AddReservationCommand.createFullyBookedMessage(dateTime,
+                            model.getAvailableReservationSlots(dateTime, entryToEdit)));
+                }
+            }
             Member editedMember = createEditedMember(memberToEdit, reservationToEdit, editReservationDescriptor);
             model.setMember(memberToEdit, editedMember);
             model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
@@ -7,12 +7,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.persistent.PersistentVector;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -103,7 +103,7 @@ public class EditTransactionCommand extends EditCommand {
         Email email = memberToEdit.getEmail();
         Address address = memberToEdit.getAddress();
         Timestamp timestamp = memberToEdit.getTimestamp();
-        List<Transaction> transactions = memberToEdit.getTransactions();
+        PersistentVector<Transaction> transactions = memberToEdit.getTransactions();
         List<Reservation> reservations = memberToEdit.getReservations();
         Set<Tag> updatedTags = memberToEdit.getTags();
 
@@ -111,20 +111,21 @@ public class EditTransactionCommand extends EditCommand {
         Timestamp updatedTimestamp = editTransactionDescriptor.getTimestamp().orElse(transactionToEdit.getTimestamp());
         Billing updatedBilling = editTransactionDescriptor.getBilling().orElse(transactionToEdit.getBilling());
 
-        List<Transaction> updatedTransactions = new ArrayList<>(transactions);
         Transaction updatedTransaction = new Transaction(transactionToEdit.getId(), updatedTimestamp, updatedBilling);
-        updatedTransactions.stream()
-                .filter(transaction -> transaction.isSameId(transactionToEdit)).findAny()
-                .ifPresent(transaction -> updatedTransactions
-                        .set(updatedTransactions.indexOf(transaction), updatedTransaction));
-        Credit updatedCredit = new Credit("" + Math.min(updatedTransactions.stream()
-                .mapToInt(t -> (int) t.getBilling().getDoubleValue()).sum(), Credit.MAX));
+        int index = transactions.findIndex(transaction -> transaction.isSameId(transactionToEdit));
+        PersistentVector<Transaction> updatedTransactions = index < 0
+                ? transactions
+                : transactions.replaced(index, updatedTransaction);
+        Credit updatedCredit = index < 0
+                ? memberToEdit.getCredit()
+                : memberToEdit.getCredit().plus((long) updatedBilling.getDoubleValue()
+                        - (long) transactionToEdit.getBilling().getDoubleValue());
 
         Point updatedPoint;
         if (updatedBilling.getDoubleValue() > transactionToEdit.getBilling().getDoubleValue()) {
-            updatedPoint = new Point("" + Math.min(Integer.parseInt(String.valueOf(updatedCredit.getIntValue()
-                    - memberToEdit.getCredit().getIntValue()
-                    + memberToEdit.getPoint().getIntValue())), Point.MAX));
+            updatedPoint = new Point("" + Math.min(updatedCredit.getLongValue()
+                    - memberToEdit.getCredit().getLongValue()
+                    + memberToEdit.getPoint().getLongValue(), Point.MAX));
         } else {
             updatedPoint = memberToEdit.getPoint();
         }
@@ -142,19 +143,18 @@ public class EditTransactionCommand extends EditCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Member> lastShownList = model.getUpdatedMemberList();
-        Member memberToEdit = lastShownList.stream()
-                .filter(member -> memberId.equals(member.getId())).findAny().orElse(null);
-        if (memberToEdit == null) {
-            throw new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID);
-        }
+        long version = model.getMemberVersion(memberId);
+        Member memberToEdit = model.getMember(memberId)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID));
         Transaction transactionToEdit = memberToEdit.getTransactions().stream()
                 .filter(transaction -> transactionId.equals(transaction.getId())).findAny().orElse(null);
         if (transactionToEdit == null) {
             throw new CommandException(Messages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_ID);
         }
         Member editedMember = createEditedMember(memberToEdit, transactionToEdit, editTransactionDescriptor);
-        model.setMember(memberToEdit, editedMember);
+        if (!model.setMember(memberToEdit, editedMember, version)) {
+            throw new CommandException(Messages.MESSAGE_MEMBER_CHANGED);
+        }
         model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
         Transaction updatedTransaction = editedMember.getTransactions().stream()
                 .filter(transaction -> transactionId.equals(transaction.getId())).findAny().orElse(null);
@@ -163,6 +163,14 @@ public class EditTransactionCommand extends EditCommand {
                 + "; Transaction: " + "[" + updatedTransaction + "]"));
     }
 
+    /**
+     * Overrides and gets the id of the member whose transaction is edited.
+     */
+    @Override
+    public Optional<seedu.address.model.member.Id> getTargetMemberId() {
+        return Optional.of(memberId);
+    }
+
     /**
      * Overrides the equals method.
      */
@@ -0,0 +1,410 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.member.Member;
+import seedu.address.model.member.Tier;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.storage.RecordWriter;
+
+/**
+ * Exports the members, transactions or reservations of the ezFoodie to a CSV or JSON lines file.
+ * The records are written from a snapshot of the model in the background, so that the export sees the data as it
+ * was when the command ran without holding up other commands, and uses the same memory however long the histories
+ * of the members are. The file is written under a temporary name and renamed once complete, and whether the export
+ * completes is reported back as the follow-up feedback of the command.
+ */
+public class ExportCommand extends Command {
+
+    /**
+     * Stands for export command word.
+     */
+    public static final String COMMAND_WORD = "export";
+
+    /**
+     * Stands for the message of usage of export command.
+     */
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the members, transactions or reservations of the members to a file in the background, "
+            + "as JSON lines if the file ends with " + RecordWriter.JSON_LINES_EXTENSION + " and as CSV otherwise. "
+            + "Records can be filtered by date (registration date of members), and by the tier and tags of "
+            + "their members.\n"
+            + "Parameters: FILE_PATH " + PREFIX_MEMBER + "|" + PREFIX_TRANSACTION + "|" + PREFIX_RESERVATION
+            + " [" + PREFIX_DATE + "FROM_DATE [" + PREFIX_DATE + "TO_DATE]] [" + PREFIX_TIER + "TIER] ["
+            + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " data/january.csv " + PREFIX_TRANSACTION + " "
+            + PREFIX_DATE + "2021-01-01 " + PREFIX_DATE + "2021-01-31";
+
+    /**
+     * Stands for the message of an export started.
+     */
+    public static final String MESSAGE_SUCCESS = "Exporting %1$s to %2$s in the background.";
+
+    /**
+     * Stands for the message of an export completed, which is the follow-up feedback of the command.
+     */
+    public static final String MESSAGE_COMPLETED = "Exported %1$d %2$s to %3$s in %4$d ms.";
+
+    /**
+     * Stands for the message of an export failed, which is the follow-up feedback of the command.
+     */
+    public static final String MESSAGE_FAILED = "Could not export %1$s to %2$s: %3$s";
+
+    /**
+     * Stands for the message of a file that cannot be written.
+     */
+    public static final String MESSAGE_FILE_ERROR = "Could not write file: %1$s";
+
+    /**
+     * Stands for the message of a directory that cannot be written to.
+     */
+    public static final String MESSAGE_DIRECTORY_ERROR = "Could not write to directory: %1$s";
+
+    /**
+     * Stands for the suffix of the file being written, which is renamed once complete.
+     */
+    public static final String PART_SUFFIX = ".part";
+
+    /**
+     * Stands for the columns of the exported members, which can be imported again with {@code ImportCommand}.
+     */
+    public static final List<String> MEMBER_COLUMNS = List.of("id", ImportCommand.COLUMN_NAME,
+            ImportCommand.COLUMN_PHONE, ImportCommand.COLUMN_EMAIL, ImportCommand.COLUMN_ADDRESS,
+            ImportCommand.COLUMN_TIMESTAMP, "tier", "credit", "points", ImportCommand.COLUMN_TAGS);
+
+    /**
+     * Stands for the columns of the exported transactions, which can be imported again with {@code ImportCommand}.
+     */
+    public static final List<String> TRANSACTION_COLUMNS = List.of("member_id", ImportCommand.COLUMN_PHONE, "id",
+            ImportCommand.COLUMN_TIMESTAMP, ImportCommand.COLUMN_BILLING);
+
+    /**
+     * Stands for the columns of the exported reservations.
+     */
+    public static final List<String> RESERVATION_COLUMNS = List.of("member_id", ImportCommand.COLUMN_PHONE, "id",
+            "date_time", "remark");
+
+    private static final ExecutorService BACKGROUND_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ezFoodie-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /**
+     * Represents the kind of records exported.
+     */
+    public enum RecordType {
+        MEMBERS("members", MEMBER_COLUMNS),
+        TRANSACTIONS("transactions", TRANSACTION_COLUMNS),
+        RESERVATIONS("reservations", RESERVATION_COLUMNS);
+
+        private final String name;
+        private final List<String> columns;
+
+        RecordType(String name, List<String> columns) {
+            this.name = name;
+            this.columns = columns;
+        }
+
+        /**
+         * Gets the columns of the records.
+         */
+        public List<String> getColumns() {
+            return columns;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private final Path filePath;
+    private final RecordType recordType;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final Tier tier;
+    private final Set<Tag> tags;
+    private final Executor executor;
+
+    /**
+     * Constructs an {@code ExportCommand} to export the records of {@code recordType} dated from {@code fromDate}
+     * to {@code toDate} inclusive, of the members of {@code tier} with any of {@code tags}, to {@code filePath}.
+     * The dates and the tier may be null and the tags empty, for no filter.
+     */
+    public ExportCommand(Path filePath, RecordType recordType, LocalDate fromDate, LocalDate toDate, Tier tier,
+            Set<Tag> tags) {
+        this(filePath, recordType, fromDate, toDate, tier, tags, BACKGROUND_EXECUTOR);
+    }
+
+    /**
+     * Constructs an {@code ExportCommand} like above that writes the file on {@code executor}.
+     */
+    public ExportCommand(Path filePath, RecordType recordType, LocalDate fromDate, LocalDate toDate, Tier tier,
+            Set<Tag> tags, Executor executor) {
+        requireAllNonNull(filePath, recordType, tags, executor);
+        this.filePath = filePath;
+        this.recordType = recordType;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.tier = tier;
+        this.tags = new HashSet<>(tags);
+        this.executor = executor;
+    }
+
+    /**
+     * Takes a snapshot of the model and writes its records to the file in the background.
+     * The target directory is checked before the export starts, and whether the export completes is reported
+     * through the follow-up feedback of the result, since the command returns before it does.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return CommandResult with the file being written.
+     * @throws CommandException if the directory cannot be written to or the file cannot be created.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ModelSnapshot snapshot = model.snapshot();
+        Path partFilePath = filePath.resolveSibling(filePath.getFileName() + PART_SUFFIX);
+        RecordWriter writer;
+        try {
+            Path parent = filePath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+                if (!Files.isDirectory(parent) || !Files.isWritable(parent)) {
+                    throw new CommandException(String.format(MESSAGE_DIRECTORY_ERROR, parent));
+                }
+            }
+            if (Files.isDirectory(filePath)) {
+                throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath));
+            }
+            writer = RecordWriter.open(partFilePath, RecordWriter.isJsonLines(filePath), recordType.getColumns());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath), ioe);
+        }
+        CompletableFuture<String> followUp = new CompletableFuture<>();
+        executor.execute(() -> followUp.complete(export(snapshot, writer, partFilePath)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, recordType, filePath), followUp);
+    }
+
+    /**
+     * Writes the records of {@code snapshot} to the file, and returns whether the export completed or failed.
+     */
+    private String export(ModelSnapshot snapshot, RecordWriter writer, Path partFilePath) {
+        long startTime = System.nanoTime();
+        long recordCount;
+        try (RecordWriter recordWriter = writer) {
+            recordCount = writeRecords(snapshot.getMembers(), recordWriter);
+        } catch (IOException | RuntimeException e) {
+            return fail(partFilePath, e);
+        }
+        try {
+            moveReplacing(partFilePath, filePath);
+        } catch (IOException ioe) {
+            return fail(partFilePath, ioe);
+        }
+        String completion = String.format(MESSAGE_COMPLETED, recordCount, recordType, filePath,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        logger.info(completion);
+        return completion;
+    }
+
+    /**
+     * Logs that the export failed with {@code e}, deletes the file being written, and returns the message of the
+     * failure.
+     */
+    private String fail(Path partFilePath, Exception e) {
+        String failure = String.format(MESSAGE_FAILED, recordType, filePath, e.getMessage());
+        logger.warning(failure);
+        deleteQuietly(partFilePath);
+        return failure;
+    }
+
+    /**
+     * Writes the records of the members that pass the filters, and returns the number of records written.
+     */
+    private long writeRecords(List<Member> members, RecordWriter writer) throws IOException {
+        // the date range is turned into bounds once, so that the records are compared without parsing any dates
+        ZoneId zone = ZoneId.systemDefault();
+        long fromMillis = fromDate == null ? Long.MIN_VALUE : fromDate.atStartOfDay(zone).toInstant().toEpochMilli();
+        long toMillis = toDate == null ? Long.MAX_VALUE
+                : toDate.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        String fromDateTime = fromDate == null ? "" : DateTimeUtil.formatDate(fromDate);
+        String toDateTime = toDate == null ? null : DateTimeUtil.formatDate(toDate.plusDays(1));
+
+        long recordCount = 0;
+        for (Member member : members) {
+            if (!isMemberIncluded(member)) {
+                continue;
+            }
+            switch (recordType) {
+            case MEMBERS:
+                if (isWithin(member.getTimestamp().getLongValue(), fromMillis, toMillis)) {
+                    writeMember(member, writer);
+                    recordCount++;
+                }
+                break;
+            case TRANSACTIONS:
+                for (Transaction transaction : member.getTransactions()) {
+                    if (isWithin(transaction.getTimestamp().getLongValue(), fromMillis, toMillis)) {
+                        writeTransaction(member, transaction, writer);
+                        recordCount++;
+                    }
+                }
+                break;
+            case RESERVATIONS:
+                for (Reservation reservation : member.getReservations()) {
+                    // date times are written yyyy-MM-dd HH:mm, so they sort as text against a yyyy-MM-dd bound
+                    String dateTime = reservation.getDateTime().value;
+                    if (dateTime.compareTo(fromDateTime) >= 0
+                            && (toDateTime == null || dateTime.compareTo(toDateTime) < 0)) {
+                        writeReservation(member, reservation, writer);
+                        recordCount++;
+                    }
+                }
+                break;
+            default:
+                throw new AssertionError("Unknown record type: " + recordType);
+            }
+        }
+        return recordCount;
+    }
+
+    private boolean isMemberIncluded(Member member) {
+        if (tier != null && !tier.getKey().equals(Tier.getTierByCredit(member.getCredit().getLongValue()))) {
+            return false;
+        }
+        return tags.isEmpty() || !Collections.disjoint(tags, member.getTags());
+    }
+
+    private static boolean isWithin(long timestamp, long fromMillis, long toMillis) {
+        return timestamp >= fromMillis && timestamp < toMillis;
+    }
+
+    private static void writeMember(Member member, RecordWriter writer) throws IOException {
+        writer.writeField(member.getId().value);
+        writer.writeField(member.getName().fullName);
+        writer.writeField(member.getPhone().value);
+        writer.writeField(member.getEmail().value);
+        writer.writeField(member.getAddress().value);
+        writer.writeNumberField(member.getTimestamp().value);
+        writer.writeField(Tier.getTierByCredit(member.getCredit().getLongValue()));
+        writer.writeNumberField(member.getCredit().value);
+        writer.writeNumberField(member.getPoint().value);
+        writer.writeListField(new TagNames(member.getTags()));
+        writer.endRecord();
+    }
+
+    private static void writeTransaction(Member member, Transaction transaction, RecordWriter writer)
+            throws IOException {
+        writer.writeField(member.getId().value);
+        writer.writeField(member.getPhone().value);
+        writer.writeField(transaction.getId().value);
+        writer.writeNumberField(transaction.getTimestamp().value);
+        writer.writeNumberField(transaction.getBilling().value);
+        writer.endRecord();
+    }
+
+    private static void writeReservation(Member member, Reservation reservation, RecordWriter writer)
+            throws IOException {
+        writer.writeField(member.getId().value);
+        writer.writeField(member.getPhone().value);
+        writer.writeField(reservation.getId().value);
+        writer.writeField(reservation.getDateTime().value);
+        writer.writeField(reservation.getRemark().value);
+        writer.endRecord();
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ioe) {
+            logger.warning("Could not delete " + path + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Overrides the equals method.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+        ExportCommand otherCommand = (ExportCommand) other;
+        return filePath.equals(otherCommand.filePath)
+                && recordType == otherCommand.recordType
+                && Objects.equals(fromDate, otherCommand.fromDate)
+                && Objects.equals(toDate, otherCommand.toDate)
+                && tier == otherCommand.tier
+                && tags.equals(otherCommand.tags);
+    }
+
+    /**
+     * The names of a set of tags, read from the tags as the list is iterated.
+     */
+    private static class TagNames extends AbstractList<String> {
+        private final Tag[] tags;
+
+        TagNames(Set<Tag> tags) {
+            this.tags = tags.toArray(new Tag[0]);
+        }
+
+        @Override
+        public String get(int index) {
+            return tags[index].tagName;
+        }
+
+        @Override
+        public int size() {
+            return tags.length;
+        }
+    }
+}
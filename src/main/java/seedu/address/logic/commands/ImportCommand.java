@@ -0,0 +1,610 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.persistent.PersistentVector;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.EzFoodie;
+import seedu.address.model.Model;
+import seedu.address.model.Timestamp;
+import seedu.address.model.id.IdRegistry;
+import seedu.address.model.member.Address;
+import seedu.address.model.member.Credit;
+import seedu.address.model.member.Email;
+import seedu.address.model.member.Member;
+import seedu.address.model.member.Name;
+import seedu.address.model.member.Phone;
+import seedu.address.model.member.Point;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Billing;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Imports members and transactions from CSV files, such as those exported by a previous loyalty system.
+ * The files are read a batch of rows at a time, and the rows of a batch are validated in parallel with the rules of
+ * {@code ParserUtil}. Rows that fail are written to a rejects file next to their file, and the rest are applied to a
+ * copy of the ezFoodie, which replaces the ezFoodie in one change once both files are read. Since the import is one
+ * command, the ezFoodie is saved once at the end, and it is undone as a whole.
+ */
+public class ImportCommand extends Command {
+
+    /**
+     * Stands for import command word.
+     */
+    public static final String COMMAND_WORD = "import";
+
+    /**
+     * Stands for the columns of the member file, of which the tags are optional.
+     */
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_TIMESTAMP = "timestamp";
+    public static final String COLUMN_TAGS = "tags";
+
+    /**
+     * Stands for the column of the transaction file, along with the phone of the member and the timestamp.
+     */
+    public static final String COLUMN_BILLING = "billing";
+
+    /**
+     * Stands for the separator of the tags of a member.
+     */
+    public static final String TAG_SEPARATOR = ";";
+
+    /**
+     * Stands for the suffix of the rejects file, which replaces the extension of the imported file.
+     */
+    public static final String REJECTS_SUFFIX = ".rejects.csv";
+
+    /**
+     * Stands for the column of the rejects file that holds why the row was rejected.
+     */
+    public static final String COLUMN_ERROR = "error";
+
+    /**
+     * Stands for the message of usage of import command.
+     */
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports members and transactions from CSV files with a header row. "
+            + "Member files have the columns " + String.join(", ", COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL,
+                    COLUMN_ADDRESS, COLUMN_TIMESTAMP) + " and optionally " + COLUMN_TAGS + " (separated by "
+            + TAG_SEPARATOR + "). Transaction files have the columns " + String.join(", ", COLUMN_PHONE,
+                    COLUMN_TIMESTAMP, COLUMN_BILLING) + ", where the phone is the phone of the member. "
+            + "Rows that cannot be imported are written to a file ending with " + REJECTS_SUFFIX + ".\n"
+            + "Parameters: [" + PREFIX_MEMBER + "MEMBER_FILE_PATH] [" + PREFIX_TRANSACTION
+            + "TRANSACTION_FILE_PATH]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_MEMBER + "data/members.csv "
+            + PREFIX_TRANSACTION + "data/transactions.csv";
+
+    /**
+     * Stands for the message of import success.
+     */
+    public static final String MESSAGE_SUCCESS =
+            "Imported %1$d member(s) and %2$d transaction(s) in %3$d ms (%4$d rows per second).";
+
+    /**
+     * Stands for the message of the rejected rows of a file.
+     */
+    public static final String MESSAGE_REJECTS = "%1$d row(s) of %2$s were rejected, see %3$s";
+
+    /**
+     * Stands for the message of a rejected row in the rejects file.
+     */
+    public static final String MESSAGE_REJECTED_ROW = "Line %1$d: %2$s";
+
+    /**
+     * Stands for the message of the progress of a file, which is logged as the file is read.
+     */
+    public static final String MESSAGE_PROGRESS = "Importing %1$s: %2$d%% (%3$d rows read, %4$d rejected)";
+
+    /**
+     * Stands for the message of a file that cannot be read.
+     */
+    public static final String MESSAGE_FILE_ERROR = "Could not import file: %1$s";
+
+    /**
+     * Stands for the message of a file without a header row.
+     */
+    public static final String MESSAGE_MISSING_HEADER = "The file %1$s has no header row.";
+
+    /**
+     * Stands for the message of a header row without a column.
+     */
+    public static final String MESSAGE_MISSING_COLUMN = "The header row of %1$s has no column \"%2$s\".";
+
+    /**
+     * Stands for the message of a row with fewer fields than the header.
+     */
+    public static final String MESSAGE_MISSING_FIELDS = "The row has %1$d field(s) but the header has %2$d.";
+
+    /**
+     * Stands for the message of a transaction of an unknown member.
+     */
+    public static final String MESSAGE_UNKNOWN_MEMBER = "No member has the phone %1$s.";
+
+    /**
+     * Stands for the message of a transaction the member already has.
+     */
+    public static final String MESSAGE_DUPLICATE_TRANSACTION =
+            "The member already has a transaction of the same billing at the same time.";
+
+    /**
+     * Stands for the number of rows validated in parallel at a time.
+     */
+    public static final int BATCH_SIZE = 4096;
+
+    /**
+     * Stands for the number of rows read between progress messages.
+     */
+    public static final int PROGRESS_INTERVAL = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path memberFilePath;
+    private final Path transactionFilePath;
+
+    /**
+     * Constructs an {@code ImportCommand} to import the members at {@code memberFilePath} and then the transactions
+     * at {@code transactionFilePath}. Either path may be null, but not both.
+     */
+    public ImportCommand(Path memberFilePath, Path transactionFilePath) {
+        assert memberFilePath != null || transactionFilePath != null;
+        this.memberFilePath = memberFilePath;
+        this.transactionFilePath = transactionFilePath;
+    }
+
+    /**
+     * Returns the path of the rejects file of the file at {@code filePath}.
+     */
+    public static Path getRejectsFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + REJECTS_SUFFIX);
+    }
+
+    /**
+     * Imports the files into a copy of the ezFoodie, and replaces the ezFoodie of the model with the copy.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return CommandResult with the number of members and transactions imported and the rows rejected.
+     * @throws CommandException if a file cannot be read, or has no header row with the required columns.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+        Import newImport = new Import(model);
+        List<String> rejectMessages = new ArrayList<>();
+
+        if (memberFilePath != null) {
+            FileSummary summary = importFile(memberFilePath, List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL,
+                    COLUMN_ADDRESS, COLUMN_TIMESTAMP), ImportCommand::parseMember, newImport::addMember);
+            summary.getRejectMessage().ifPresent(rejectMessages::add);
+        }
+        if (transactionFilePath != null) {
+            FileSummary summary = importFile(transactionFilePath, List.of(COLUMN_PHONE, COLUMN_TIMESTAMP,
+                    COLUMN_BILLING), ImportCommand::parseTransaction, newImport::addTransaction);
+            summary.getRejectMessage().ifPresent(rejectMessages::add);
+        }
+        newImport.applyTo(model);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        int rowCount = newImport.memberCount + newImport.transactionCount;
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, newImport.memberCount,
+                newImport.transactionCount, elapsedMillis, rowCount * 1000L / Math.max(elapsedMillis, 1)));
+        rejectMessages.forEach(message -> feedback.append("\n").append(message));
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Reads the file at {@code filePath} a batch at a time, parsing the rows of each batch in parallel with
+     * {@code parser}, and then passing them to {@code importer} in the order of the file.
+     * Rows that fail either step are written to the rejects file of the file, which is deleted if no row fails.
+     */
+    private static <T> FileSummary importFile(Path filePath, List<String> requiredColumns, RowParser<T> parser,
+            RowImporter<T> importer) throws CommandException {
+        Path rejectsFilePath = getRejectsFilePath(filePath);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+                RejectsWriter rejects = new RejectsWriter(rejectsFilePath)) {
+            Files.deleteIfExists(rejectsFilePath);
+            long fileSize = Math.max(Files.size(filePath), 1);
+            String header = readHeader(reader, filePath);
+            Map<String, Integer> columns = parseHeader(header, requiredColumns, filePath);
+            rejects.setHeader(header);
+
+            FileSummary summary = new FileSummary(filePath, rejectsFilePath);
+            List<Row> batch = new ArrayList<>(BATCH_SIZE);
+            long charsRead = header.length() + 1;
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                charsRead += line.length() + 1;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(new Row(lineNumber, line));
+                if (batch.size() == BATCH_SIZE) {
+                    importBatch(batch, columns, parser, importer, rejects, summary);
+                    batch.clear();
+                    logProgress(summary, Math.min(charsRead * 100 / fileSize, 100));
+                }
+            }
+            importBatch(batch, columns, parser, importer, rejects, summary);
+            logProgress(summary, 100);
+            return summary;
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath), ioe);
+        }
+    }
+
+    private static <T> void importBatch(List<Row> batch, Map<String, Integer> columns, RowParser<T> parser,
+            RowImporter<T> importer, RejectsWriter rejects, FileSummary summary) throws IOException {
+        List<ParsedRow<T>> parsedRows = batch.parallelStream()
+                .map(row -> parseRow(row, columns, parser))
+                .collect(Collectors.toList());
+        for (ParsedRow<T> parsedRow : parsedRows) {
+            summary.rowCount++;
+            String error = parsedRow.error;
+            if (error == null) {
+                try {
+                    importer.importRow(parsedRow.value);
+                } catch (IllegalValueException e) {
+                    error = e.getMessage();
+                }
+            }
+            if (error != null) {
+                summary.rejectCount++;
+                rejects.write(parsedRow.row, error);
+            }
+        }
+    }
+
+    private static <T> ParsedRow<T> parseRow(Row row, Map<String, Integer> columns, RowParser<T> parser) {
+        try {
+            List<String> fields = CsvUtil.parseRow(row.line);
+            if (fields.size() < columns.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELDS, fields.size(),
+                        columns.size()));
+            }
+            return new ParsedRow<>(row, parser.parse(column -> {
+                Integer index = columns.get(column);
+                return index == null ? Optional.empty() : Optional.of(fields.get(index));
+            }), null);
+        } catch (IllegalValueException e) {
+            return new ParsedRow<>(row, null, e.getMessage());
+        }
+    }
+
+    private static String readHeader(BufferedReader reader, Path filePath) throws IOException, CommandException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        throw new CommandException(String.format(MESSAGE_MISSING_HEADER, filePath));
+    }
+
+    private static Map<String, Integer> parseHeader(String header, List<String> requiredColumns, Path filePath)
+            throws CommandException {
+        Map<String, Integer> columns = new HashMap<>();
+        try {
+            List<String> names = CsvUtil.parseRow(header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.putIfAbsent(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_MISSING_HEADER, filePath), e);
+        }
+        for (String column : requiredColumns) {
+            if (!columns.containsKey(column)) {
+                throw new CommandException(String.format(MESSAGE_MISSING_COLUMN, filePath, column));
+            }
+        }
+        return columns;
+    }
+
+    private static void logProgress(FileSummary summary, long percent) {
+        if (summary.rowCount - summary.lastProgressRowCount < PROGRESS_INTERVAL && percent < 100) {
+            return;
+        }
+        summary.lastProgressRowCount = summary.rowCount;
+        logger.info(String.format(MESSAGE_PROGRESS, summary.filePath, percent, summary.rowCount,
+                summary.rejectCount));
+    }
+
+    /**
+     * Parses the fields of a member row into the member it stands for, given the id it is to be added with.
+     */
+    private static Function<seedu.address.model.member.Id, Member> parseMember(Fields fields)
+            throws IllegalValueException {
+        Name name = ParserUtil.parseName(fields.get(COLUMN_NAME));
+        Phone phone = ParserUtil.parsePhone(fields.get(COLUMN_PHONE));
+        Email email = ParserUtil.parseEmail(fields.get(COLUMN_EMAIL));
+        Address address = ParserUtil.parseAddress(fields.get(COLUMN_ADDRESS));
+        Timestamp timestamp = ParserUtil.parseTimestamp(fields.get(COLUMN_TIMESTAMP));
+        Set<Tag> tags = new HashSet<>();
+        Optional<String> tagsField = fields.find(COLUMN_TAGS);
+        if (tagsField.isPresent() && !tagsField.get().isBlank()) {
+            tags = ParserUtil.parseTags(List.of(tagsField.get().split(TAG_SEPARATOR)));
+        }
+        Set<Tag> memberTags = tags;
+        return id -> new Member(id, name, phone, email, address, timestamp, new Credit("0"), new Point("0"),
+                List.of(), List.of(), memberTags);
+    }
+
+    /**
+     * Parses the fields of a transaction row into the transaction it stands for, given its id.
+     */
+    private static PendingTransaction parseTransaction(Fields fields) throws IllegalValueException {
+        Phone phone = ParserUtil.parsePhone(fields.get(COLUMN_PHONE));
+        Timestamp timestamp = ParserUtil.parseTimestamp(fields.get(COLUMN_TIMESTAMP));
+        Billing billing = ParserUtil.parseBilling(fields.get(COLUMN_BILLING));
+        return new PendingTransaction(phone, timestamp, billing);
+    }
+
+    /**
+     * Returns {@code member} with {@code transactions} added, and its credit and points raised as if each
+     * transaction were added by {@code AddTransactionCommand}.
+     */
+    private static Member withTransactions(Member member, List<Transaction> transactions) {
+        PersistentVector<Transaction> updatedTransactions = member.getTransactions();
+        long addedCredit = 0;
+        for (Transaction transaction : transactions) {
+            updatedTransactions = updatedTransactions.appended(transaction);
+            addedCredit = Math.min(addedCredit + (long) transaction.getBilling().getDoubleValue(), Credit.MAX);
+        }
+        Credit updatedCredit = member.getCredit().plus(addedCredit);
+        Point updatedPoint = new Point("" + Math.min(updatedCredit.getLongValue()
+                - member.getCredit().getLongValue()
+                + member.getPoint().getLongValue(), Point.MAX));
+        return new Member(member.getId(), member.getName(), member.getPhone(), member.getEmail(),
+                member.getAddress(), member.getTimestamp(), updatedCredit, updatedPoint, updatedTransactions,
+                member.getReservations(), member.getTags());
+    }
+
+    /**
+     * Overrides the equals method.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && Objects.equals(memberFilePath, ((ImportCommand) other).memberFilePath)
+                && Objects.equals(transactionFilePath, ((ImportCommand) other).transactionFilePath));
+    }
+
+    /**
+     * The rows imported so far, applied to a copy of the ezFoodie of the model.
+     * Members are deduplicated with the phone, email and id indexes of the copy, and the transactions of each member
+     * are held until the end, so that its credit and points are worked out once.
+     */
+    private static class Import {
+        private final EzFoodie ezFoodie;
+        private final IdRegistry idRegistry;
+        private final Map<seedu.address.model.member.Id, List<Transaction>> transactions = new LinkedHashMap<>();
+        private final Map<seedu.address.model.member.Id, Set<String>> transactionKeys = new HashMap<>();
+        private Map<Phone, seedu.address.model.member.Id> memberIdsByPhone;
+        private int memberCount;
+        private int transactionCount;
+
+        Import(Model model) {
+            ezFoodie = new EzFoodie(model.getEzFoodie());
+            idRegistry = new IdRegistry(model.getUserPrefs().getIdReusePolicy());
+            idRegistry.setMembers(ezFoodie.getMemberList());
+        }
+
+        void addMember(Function<seedu.address.model.member.Id, Member> memberOfId) throws IllegalValueException {
+            seedu.address.model.member.Id id = idRegistry.nextMemberId()
+                    .orElseThrow(() -> new IllegalValueException(AddMemberCommand.MESSAGE_FULL));
+            Member member = memberOfId.apply(id);
+            if (ezFoodie.hasMember(member)) {
+                throw new IllegalValueException(AddMemberCommand.MESSAGE_DUPLICATE_MEMBER);
+            }
+            ezFoodie.addMember(member);
+            idRegistry.addMember(member);
+            if (memberIdsByPhone != null) {
+                memberIdsByPhone.put(member.getPhone(), id);
+            }
+            memberCount++;
+        }
+
+        void addTransaction(PendingTransaction pending) throws IllegalValueException {
+            if (memberIdsByPhone == null) {
+                memberIdsByPhone = new HashMap<>();
+                ezFoodie.getMemberList().forEach(member -> memberIdsByPhone.put(member.getPhone(), member.getId()));
+            }
+            seedu.address.model.member.Id memberId = memberIdsByPhone.get(pending.phone);
+            if (memberId == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER, pending.phone));
+            }
+            Set<String> keys = transactionKeys.computeIfAbsent(memberId, unused -> ezFoodie.getMember(memberId)
+                    .get().getTransactions().stream()
+                    .map(transaction -> toKey(transaction.getTimestamp(), transaction.getBilling()))
+                    .collect(Collectors.toCollection(HashSet::new)));
+            if (!keys.add(toKey(pending.timestamp, pending.billing))) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_TRANSACTION);
+            }
+            seedu.address.model.transaction.Id id = idRegistry.nextTransactionId(memberId)
+                    .orElseThrow(() -> new IllegalValueException(AddTransactionCommand.MESSAGE_FULL));
+            idRegistry.takeTransactionId(memberId, id);
+            transactions.computeIfAbsent(memberId, unused -> new ArrayList<>())
+                    .add(new Transaction(id, pending.timestamp, pending.billing));
+            transactionCount++;
+        }
+
+        /**
+         * Replaces the ezFoodie of {@code model} with the copy, if anything was imported.
+         * The filters and sorts of the member lists are kept, so every session keeps the members it was looking at.
+         */
+        void applyTo(Model model) {
+            if (memberCount == 0 && transactionCount == 0) {
+                return;
+            }
+            transactions.forEach((memberId, memberTransactions) -> {
+                Member member = ezFoodie.getMember(memberId).get();
+                ezFoodie.setMember(member, withTransactions(member, memberTransactions));
+            });
+            model.setEzFoodie(ezFoodie);
+        }
+
+        private static String toKey(Timestamp timestamp, Billing billing) {
+            return timestamp.value + " " + billing.value;
+        }
+    }
+
+    /**
+     * The rows read and rejected from a file.
+     */
+    private static class FileSummary {
+        private final Path filePath;
+        private final Path rejectsFilePath;
+        private int rowCount;
+        private int rejectCount;
+        private int lastProgressRowCount;
+
+        FileSummary(Path filePath, Path rejectsFilePath) {
+            this.filePath = filePath;
+            this.rejectsFilePath = rejectsFilePath;
+        }
+
+        Optional<String> getRejectMessage() {
+            return rejectCount == 0 ? Optional.empty()
+                    : Optional.of(String.format(MESSAGE_REJECTS, rejectCount, filePath, rejectsFilePath));
+        }
+    }
+
+    /**
+     * Writes rejected rows with the reason they were rejected, creating the file at the first rejected row.
+     */
+    private static class RejectsWriter implements Closeable {
+        private final Path filePath;
+        private String header;
+        private BufferedWriter writer;
+
+        RejectsWriter(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        void setHeader(String header) {
+            this.header = header;
+        }
+
+        void write(Row row, String error) throws IOException {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
+                writeRow(header, COLUMN_ERROR);
+            }
+            writeRow(row.line, String.format(MESSAGE_REJECTED_ROW, row.lineNumber, error));
+        }
+
+        private void writeRow(String line, String lastField) throws IOException {
+            writer.write(line);
+            CsvUtil.appendSeparator(writer);
+            CsvUtil.appendField(writer, lastField);
+            writer.newLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    private static class Row {
+        private final int lineNumber;
+        private final String line;
+
+        Row(int lineNumber, String line) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+    }
+
+    private static class ParsedRow<T> {
+        private final Row row;
+        private final T value;
+        private final String error;
+
+        ParsedRow(Row row, T value, String error) {
+            this.row = row;
+            this.value = value;
+            this.error = error;
+        }
+    }
+
+    private static class PendingTransaction {
+        private final Phone phone;
+        private final Timestamp timestamp;
+        private final Billing billing;
+
+        PendingTransaction(Phone phone, Timestamp timestamp, Billing billing) {
+            this.phone = phone;
+            this.timestamp = timestamp;
+            this.billing = billing;
+        }
+    }
+
+    /**
+     * The fields of a row, by the name of their column.
+     */
+    @FunctionalInterface
+    private interface Fields {
+        Optional<String> find(String column);
+
+        default String get(String column) {
+            return find(column).orElseThrow();
+        }
+    }
+
+    /**
+     * Parses the fields of a row, which may be called on several rows at once.
+     */
+    @FunctionalInterface
+    private interface RowParser<T> {
+        T parse(Fields fields) throws IllegalValueException;
+    }
+
+    /**
+     * Imports a parsed row, rejecting it with an {@code IllegalValueException}.
+     */
+    @FunctionalInterface
+    private interface RowImporter<T> {
+        void importRow(T value) throws IllegalValueException;
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.Model;
 
 /**
@@ -20,9 +23,14 @@ public class ListCommand extends Command {
      * Stands for the message of list command.
      */
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Lists out all members.\n"
-            + "Parameters: " + PREFIX_MEMBER + "\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_MEMBER;
+            + ": Lists out all members, or all reservations of a date.\n"
+            + "Parameters:\n"
+            + "List members: " + PREFIX_MEMBER + "\n"
+            + "List reservations: " + PREFIX_RESERVATION + " "
+            + PREFIX_DATE + "DATE (" + DateTimeUtil.DATE_PATTERN + ")\n"
+            + "Example:\n"
+            + "List members: " + COMMAND_WORD + " " + PREFIX_MEMBER + "\n"
+            + "List reservations: " + COMMAND_WORD + " " + PREFIX_RESERVATION + " " + PREFIX_DATE + "2021-12-01";
 
     /**
      * Stands for the message success listed.
@@ -47,6 +55,6 @@ public class ListCommand extends Command {
      */
     @Override
     public boolean equals(Object other) {
-        return other instanceof ListCommand;
+        return other != null && other.getClass() == ListCommand.class;
     }
 }
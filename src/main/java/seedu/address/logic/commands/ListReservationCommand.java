@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.member.Id;
+import seedu.address.model.reservation.ReservationEntry;
+
+/**
+ * Lists all reservations of a date in the ezFoodie to the user as a day sheet,
+ * and shows the members who made them.
+ */
+public class ListReservationCommand extends ListCommand {
+
+    /**
+     * Stands for the message success listed.
+     */
+    public static final String MESSAGE_SUCCESS = "Listed %1$d reservation(s) on %2$s.";
+
+    private final LocalDate date;
+
+    /**
+     * Constructs a {@code ListReservationCommand} to list the reservations on {@code date}.
+     */
+    public ListReservationCommand(LocalDate date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    /**
+     * Overrides and Executes the model.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return CommandResult with the day sheet of the date.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ReservationEntry> reservations = model.getReservationsByDate(date);
+        Set<Id> memberIds = reservations.stream()
+                .map(entry -> entry.getMember().getId()).collect(Collectors.toSet());
+        model.updateFilteredMemberList(member -> memberIds.contains(member.getId()));
+
+        final StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, reservations.size(), date));
+        for (int i = 0; i < reservations.size(); i++) {
+            builder.append("\n")
+                    .append(i + 1)
+                    .append(". ")
+                    .append(reservations.get(i));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    /**
+     * Overrides the equals method.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListReservationCommand // instanceof handles nulls
+                && date.equals(((ListReservationCommand) other).date)); // state check
+    }
+}
@@ -57,13 +57,13 @@ public class LoginCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model) {
-        if (LoginStatus.getLoginStatus() == LoginStatus.MANAGER) {
+        if (model.getLoginStatus() == LoginStatus.MANAGER) {
             return new CommandResult(MESSAGE_ALREADY_IN_STATUS);
         }
         String inputPassword = password.value;
         String readPassword = model.getAccount().getPassword().value;
         if (inputPassword.equals(readPassword)) {
-            LoginStatus.setLoginStatus(LoginStatus.MANAGER);
+            model.setLoginStatus(LoginStatus.MANAGER);
             return new CommandResult(MESSAGE_SUCCESS);
         }
         return new CommandResult(MESSAGE_FAILURE);
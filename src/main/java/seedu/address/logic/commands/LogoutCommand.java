@@ -36,10 +36,10 @@ public class LogoutCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        if (LoginStatus.getLoginStatus() == LoginStatus.STAFF) {
+        if (model.getLoginStatus() == LoginStatus.STAFF) {
             return new CommandResult(MESSAGE_ALREADY_IN_STATUS);
         }
-        LoginStatus.setLoginStatus(LoginStatus.STAFF);
+        model.setLoginStatus(LoginStatus.STAFF);
         model.updateSortedMemberList(COMPARATOR_SORT_MEMBERS_BY_ID_ASC);
         model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
         return new CommandResult(MESSAGE_SUCCESS);
@@ -9,6 +9,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
@@ -111,31 +112,39 @@ public class RedeemCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Member> lastShownList = model.getUpdatedMemberList();
-
-        Member memberToEdit = null;
         if (indexToRedeem != null) {
-            if (indexToRedeem.getZeroBased() < lastShownList.size()) {
-                memberToEdit = lastShownList.get(indexToRedeem.getZeroBased());
-            } else {
+            List<Member> lastShownList = model.getUpdatedMemberList();
+            if (indexToRedeem.getZeroBased() >= lastShownList.size()) {
                 throw new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX);
             }
+            Member memberToEdit = lastShownList.get(indexToRedeem.getZeroBased());
+            return redeem(model, memberToEdit, model.getMemberVersion(memberToEdit.getId()));
         }
-        if (idToRedeem != null) {
-            memberToEdit = lastShownList.stream()
-                    .filter(member -> idToRedeem.equals(member.getId())).findAny().orElse(null);
+        long version = model.getMemberVersion(idToRedeem);
+        Member memberToEdit = model.getMember(idToRedeem)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID));
+        return redeem(model, memberToEdit, version);
+    }
+
+    /**
+     * Overrides and gets the id of the member to redeem points from, if the member is given by id.
+     * A member given by index depends on the displayed list, so the command then runs alone.
+     */
+    @Override
+    public Optional<Id> getTargetMemberId() {
+        return Optional.ofNullable(idToRedeem);
+    }
+
+    private CommandResult redeem(Model model, Member memberToEdit, long version) throws CommandException {
+        Member toRedeemPointsMember = createToRedeemPointsMember(memberToEdit, pointsToRedeemList);
+        if (model.hasMember(toRedeemPointsMember, member -> member.getId() != toRedeemPointsMember.getId())) {
+            throw new CommandException(MESSAGE_DUPLICATE_MEMBER);
         }
-        if (memberToEdit != null) {
-            Member toRedeemPointsMember = createToRedeemPointsMember(memberToEdit, pointsToRedeemList);
-            if (model.hasMember(toRedeemPointsMember, member -> member.getId() != toRedeemPointsMember.getId())) {
-                throw new CommandException(MESSAGE_DUPLICATE_MEMBER);
-            }
-            model.setMember(memberToEdit, toRedeemPointsMember);
-            model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
-            return new CommandResult(String.format(MESSAGE_SUCCESS_REDEMPTION, toRedeemPointsMember));
-        } else {
-            throw new CommandException(Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID);
+        if (!model.setMember(memberToEdit, toRedeemPointsMember, version)) {
+            throw new CommandException(Messages.MESSAGE_MEMBER_CHANGED);
         }
+        model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_REDEMPTION, toRedeemPointsMember));
     }
 
     /**
@@ -162,9 +171,9 @@ public class RedeemCommand extends Command {
         List<Reservation> reservations = memberToRedeemPoints.getReservations();
         Credit credit = memberToRedeemPoints.getCredit();
         Point toRedeemPointsSum = new Point("" + Math.min(toRedeemPointsList.stream()
-                .mapToInt(pointToUpdate -> (int) pointToUpdate.getDoubleValue()).sum(), Point.MAX));
-        int oldPoint = memberToRedeemPoints.getPoint().getIntValue();
-        int toRedeemPoint = toRedeemPointsSum.getIntValue();
+                .mapToLong(Point::getLongValue).sum(), Point.MAX));
+        long oldPoint = memberToRedeemPoints.getPoint().getLongValue();
+        long toRedeemPoint = toRedeemPointsSum.getLongValue();
         if (oldPoint < toRedeemPoint) {
             throw new CommandException(MESSAGE_INVALID_POINTS_LESS_THAN_ZERO);
         }
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Restores the ezFoodie to the state before the last undo command.
+ */
+public class RedoCommand extends Command {
+
+    /**
+     * Stands for redo command word.
+     */
+    public static final String COMMAND_WORD = "redo";
+
+    /**
+     * Stands for success message for redo command.
+     */
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+
+    /**
+     * Stands for failure message for redo command when there is nothing to redo.
+     */
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    /**
+     * Stands for failure message for redo command when a member it would change has been changed again since.
+     */
+    public static final String MESSAGE_CONFLICT = "The last change could not be redone, as its members have been "
+            + "changed again since. It is dropped from the history.";
+
+    /**
+     * Executes the model in the redo command.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return CommandResult related to redo command.
+     * @throws CommandException if there is nothing to redo, or the change to redo conflicts with a later change.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoEzFoodie()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        if (!model.redoEzFoodie()) {
+            throw new CommandException(MESSAGE_CONFLICT);
+        }
+        model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.exceptions.PermissionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+
+/**
+ * Runs every command in a file as one batch.
+ * The batch is all-or-nothing: if any line fails, every change made by the file is rolled back and the failed lines
+ * are reported. Since the batch is one command, the ezFoodie is saved once at the end, and it is undone as a whole.
+ */
+public class RunCommand extends Command {
+
+    /**
+     * Stands for run command word.
+     */
+    public static final String COMMAND_WORD = "run";
+
+    /**
+     * Stands for the start of a comment line in the file.
+     */
+    public static final String COMMENT_PREFIX = "#";
+
+    /**
+     * Stands for the message of usage of run command.
+     */
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs every command in a file, one command per line, as one batch. "
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped. "
+            + "If any command fails, no change is made.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/new_outlet.txt";
+
+    /**
+     * Stands for the message of run success.
+     */
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s in %3$d ms (%4$d commands per second).";
+
+    /**
+     * Stands for the message of run failure.
+     */
+    public static final String MESSAGE_FAILURE = "No changes were made: %1$d of %2$d command(s) in %3$s failed.\n%4$s";
+
+    /**
+     * Stands for the message of a failed line.
+     */
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d: %2$s";
+
+    /**
+     * Stands for the message of the failed lines not reported.
+     */
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more.";
+
+    /**
+     * Stands for the message of a file that cannot be read.
+     */
+    public static final String MESSAGE_FILE_ERROR = "Could not read file: %1$s";
+
+    /**
+     * Stands for the message of a run command inside a run file.
+     */
+    public static final String MESSAGE_NESTED_RUN = "A file cannot run another file.";
+
+    /**
+     * Stands for the number of failed lines reported.
+     */
+    public static final int MAX_FAILURES_REPORTED = 20;
+
+    private final Path filePath;
+    private final LineParser lineParser;
+
+    /**
+     * Constructs a {@code RunCommand} to run the file at {@code filePath}, parsing each line with {@code lineParser}.
+     */
+    public RunCommand(Path filePath, LineParser lineParser) {
+        requireAllNonNull(filePath, lineParser);
+        this.filePath = filePath;
+        this.lineParser = lineParser;
+    }
+
+    /**
+     * Executes every line of the file on the model, rolling the model back if any line fails.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return CommandResult with the throughput of the batch.
+     * @throws CommandException if the file cannot be read or any line fails.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ModelSnapshot snapshot = model.snapshot();
+        long startTime = System.nanoTime();
+        List<String> failures = new ArrayList<>();
+        int commandCount = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    executeLine(trimmedLine, model);
+                } catch (CommandException | ParseException | PermissionException | RuntimeException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILURE, lineNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException ioe) {
+            rollBack(model, snapshot);
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath), ioe);
+        }
+
+        if (!failures.isEmpty()) {
+            rollBack(model, snapshot);
+            throw new CommandException(String.format(MESSAGE_FAILURE, failures.size(), commandCount, filePath,
+                    formatFailures(failures)));
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        long commandsPerSecond = commandCount * 1000L / Math.max(elapsedMillis, 1);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, filePath, elapsedMillis,
+                commandsPerSecond));
+    }
+
+    private void executeLine(String line, Model model) throws CommandException, ParseException, PermissionException {
+        Command command = lineParser.parse(line);
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_RUN);
+        }
+        command.execute(model);
+    }
+
+    private static void rollBack(Model model, ModelSnapshot snapshot) {
+        model.setEzFoodie(snapshot);
+        model.setAccount(snapshot.getAccount());
+        model.updateFilteredMemberList(Model.PREDICATE_SHOW_ALL_MEMBERS);
+    }
+
+    private static String formatFailures(List<String> failures) {
+        StringBuilder builder = new StringBuilder();
+        failures.stream().limit(MAX_FAILURES_REPORTED).forEach(failure -> builder.append(failure).append("\n"));
+        if (failures.size() > MAX_FAILURES_REPORTED) {
+            builder.append(String.format(MESSAGE_MORE_FAILURES, failures.size() - MAX_FAILURES_REPORTED));
+        }
+        return builder.toString().trim();
+    }
+
+    /**
+     * Overrides the equals method.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && filePath.equals(((RunCommand) other).filePath));
+    }
+
+    /**
+     * Parses a line of the file into a command.
+     */
+    @FunctionalInterface
+    public interface LineParser {
+        /**
+         * Parses {@code line} into a command for execution.
+         */
+        Command parse(String line) throws ParseException, PermissionException;
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.model.Model;
+
+/**
+ * Shows the metrics of ezFoodie since it started: how long each kind of command, parsing, saving and reading take,
+ * and the sizes of the data.
+ */
+public class StatsCommand extends Command {
+
+    /**
+     * Stands for stats command word.
+     */
+    public static final String COMMAND_WORD = "stats";
+
+    /**
+     * Stands for success message for stats command.
+     */
+    public static final String MESSAGE_SUCCESS = "Metrics since ezFoodie started:\n%1$s";
+
+    private final MetricsRegistry metrics;
+
+    /**
+     * Constructs a {@code StatsCommand} showing the metrics of the whole application.
+     */
+    public StatsCommand() {
+        this(MetricsRegistry.getDefault());
+    }
+
+    /**
+     * Constructs a {@code StatsCommand} showing the metrics of {@code metrics}.
+     */
+    public StatsCommand(MetricsRegistry metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Executes the model in the stats command.
+     *
+     * @param model {@code Model} which the command should operate on.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, metrics.report()));
+    }
+
+    /**
+     * Overrides the equals method.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof StatsCommand && metrics == ((StatsCommand) other).metrics);
+    }
+}
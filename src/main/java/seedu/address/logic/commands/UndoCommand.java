@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Restores the ezFoodie to the state before the last command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    /**
+     * Stands for undo command word.
+     */
+    public static final String COMMAND_WORD = "undo";
+
+    /**
+     * Stands for success message for undo command.
+     */
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+
+    /**
+     * Stands for failure message for undo command when there is nothing to undo.
+     */
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    /**
+     * Stands for failure message for undo command when a member it would change has been changed again since.
+     */
+    public static final String MESSAGE_CONFLICT = "The last change could not be undone, as its members have been "
+            + "changed again since. It is dropped from the history.";
+
+    /**
+     * Executes the model in the undo command.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return CommandResult related to undo command.
+     * @throws CommandException if there is nothing to undo, or the change to undo conflicts with a later change.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoEzFoodie()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        if (!model.undoEzFoodie()) {
+            throw new CommandException(MESSAGE_CONFLICT);
+        }
+        model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
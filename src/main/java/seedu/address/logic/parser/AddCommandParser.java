@@ -17,4 +17,14 @@ public abstract class AddCommandParser {
      * @throws ParseException if the user input does not conform the expected format.
      */
     public abstract AddCommand parse(String args) throws ParseException;
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other add commands too,
+     * in the context of the AddCommand and returns an AddCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related add command, already tokenized.
+     * @return AddCommand the class for process input add command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public abstract AddCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException;
 }
@@ -8,7 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
 import seedu.address.commons.status.ExecutionStatus;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.Model;
 
 /**
  * Distinguishes between add member and add transaction commands and
@@ -16,17 +15,19 @@ import seedu.address.model.Model;
  * depends on the very first prefix appears after command word.
  */
 public class AddCommandPrefixParser {
-    private final Model model;
+
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.combine(
+            AddMemberCommandParser.TOKENIZER, AddTransactionCommandParser.TOKENIZER,
+            AddReservationCommandParser.TOKENIZER);
+
     private final ExecutionStatus executionStatus;
 
     /**
-     * Constructs a {@code AddCommandPrefixParser} with the given {@code Model} and {@code ExecutionStatus}.
+     * Constructs a {@code AddCommandPrefixParser} with the given {@code ExecutionStatus}.
      *
-     * @param model of ezFoodie.
      * @param executionStatus normal or test.
      */
-    public AddCommandPrefixParser(Model model, ExecutionStatus executionStatus) {
-        this.model = model;
+    public AddCommandPrefixParser(ExecutionStatus executionStatus) {
         this.executionStatus = executionStatus;
     }
 
@@ -39,22 +40,39 @@ public class AddCommandPrefixParser {
      * @throws ParseException if the user input does not conform the expected format.
      */
     public AddCommandParser parse(String args) throws ParseException {
+        return selectParser(TOKENIZER.tokenizeArgs(args));
+    }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args, PREFIX_MEMBER, PREFIX_TRANSACTION, PREFIX_RESERVATION);
+    /**
+     * Parses the given {@code String} of arguments as an add command, tokenizing them only once for both choosing
+     * the AddCommandParser and the parsing by it.
+     *
+     * @param args the input arguments related add command to be parsed.
+     * @return AddCommand the class for process input add command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public AddCommand parseCommand(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
+        return selectParser(argMultimap).parse(argMultimap);
+    }
 
+    /**
+     * Returns the AddCommandParser for the only one of the member, transaction and reservation prefixes in
+     * {@code argMultimap}.
+     */
+    private AddCommandParser selectParser(ArgumentMultimap argMultimap) throws ParseException {
         if (argMultimap.getValue(PREFIX_MEMBER).isPresent()
                 && argMultimap.getValue(PREFIX_TRANSACTION).isEmpty()
                 && argMultimap.getValue(PREFIX_RESERVATION).isEmpty()) {
-            return new AddMemberCommandParser(model, executionStatus);
+            return new AddMemberCommandParser(executionStatus);
         } else if (argMultimap.getValue(PREFIX_TRANSACTION).isPresent()
                 && argMultimap.getValue(PREFIX_MEMBER).isEmpty()
                 && argMultimap.getValue(PREFIX_RESERVATION).isEmpty()) {
-            return new AddTransactionCommandParser(model, executionStatus);
+            return new AddTransactionCommandParser(executionStatus);
         } else if (argMultimap.getValue(PREFIX_RESERVATION).isPresent()
                 && argMultimap.getValue(PREFIX_MEMBER).isEmpty()
                 && argMultimap.getValue(PREFIX_TRANSACTION).isEmpty()) {
-            return new AddReservationCommandParser(model, executionStatus);
+            return new AddReservationCommandParser(executionStatus);
         } else {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
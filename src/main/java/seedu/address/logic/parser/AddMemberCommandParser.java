@@ -17,7 +17,6 @@ import seedu.address.commons.status.ExecutionStatus;
 import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.commands.AddMemberCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.Model;
 import seedu.address.model.Timestamp;
 import seedu.address.model.member.Address;
 import seedu.address.model.member.Credit;
@@ -36,31 +35,20 @@ import seedu.address.model.transaction.Transaction;
  */
 public class AddMemberCommandParser extends AddCommandParser implements Parser<AddMemberCommand> {
 
+    static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_MEMBER, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+
     private static final String ID_STUB = "00001";
 
-    private final Model model;
     private final ExecutionStatus executionStatus;
 
     /**
-     * Constructs a {@code AddMemberCommandParser} with the given {@code Model} and {@code ExecutionStatus}.
+     * Constructs a {@code AddMemberCommandParser} with the given {@code ExecutionStatus}.
      */
-    public AddMemberCommandParser(Model model, ExecutionStatus executionStatus) {
-        this.model = model;
+    public AddMemberCommandParser(ExecutionStatus executionStatus) {
         this.executionStatus = executionStatus;
     }
 
-    private String generateId() throws ParseException {
-        List<Member> memberList = model.getEzFoodie().getMemberList();
-        long latestId = 0;
-        if (memberList.size() > 0) {
-            latestId = memberList.get(memberList.size() - 1).getId().getLongValue();
-        }
-        if (latestId == Id.MAX) {
-            throw new ParseException(AddMemberCommand.MESSAGE_FULL);
-        }
-        return Long.toString(latestId + 1);
-    }
-
     private String generateIdStub() {
         return ID_STUB;
     }
@@ -75,9 +63,20 @@ public class AddMemberCommandParser extends AddCommandParser implements Parser<A
      */
     @Override
     public AddMemberCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_MEMBER, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_ADDRESS, PREFIX_TAG);
+        return parse(TOKENIZER.tokenizeArgs(args));
+    }
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other commands too,
+     * in the context of the AddMemberCommand and returns an AddMemberCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related add member command, already tokenized.
+     * @return AddMemberCommand the class for process input add member command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    @Override
+    public AddMemberCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(tokenizedArgs);
 
         if (!arePrefixesPresent(argMultimap,
                 PREFIX_MEMBER, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL)
@@ -85,10 +84,6 @@ public class AddMemberCommandParser extends AddCommandParser implements Parser<A
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddMemberCommand.MESSAGE_USAGE));
         }
 
-        Id id = executionStatus == ExecutionStatus.NORMAL
-                ? ParserUtil.parseMemberId(generateId())
-                : ParserUtil.parseMemberId(generateIdStub());
-
         Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
         Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
         Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
@@ -96,9 +91,15 @@ public class AddMemberCommandParser extends AddCommandParser implements Parser<A
         Timestamp timestamp = executionStatus == ExecutionStatus.NORMAL
                 ? ParserUtil.parseTimestamp(DateTimeUtil.generateTimestamp())
                 : ParserUtil.parseTimestamp(DateTimeUtil.generateTimestampStub());
+        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        if (executionStatus == ExecutionStatus.NORMAL) {
+            // the member id is handed out by the command, once no other command can hand out the same one
+            return new AddMemberCommand(name, phone, email, address, timestamp, tagList);
+        }
+
+        Id id = ParserUtil.parseMemberId(generateIdStub());
         Credit credit = new Credit("0");
         Point point = new Point(credit.getStringValue());
-        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
         List<Transaction> transactionList = new ArrayList<>();
         List<Reservation> reservationList = new ArrayList<>();
         Member member = new Member(id, name, phone, email, address, timestamp, credit, point,
@@ -1,21 +1,17 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BILLING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
 
-import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.commons.status.ExecutionStatus;
 import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.commands.AddTransactionCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.Model;
 import seedu.address.model.Timestamp;
-import seedu.address.model.member.Member;
 import seedu.address.model.transaction.Billing;
 import seedu.address.model.transaction.Transaction;
 
@@ -24,38 +20,19 @@ import seedu.address.model.transaction.Transaction;
  */
 public class AddTransactionCommandParser extends AddCommandParser implements Parser<AddTransactionCommand> {
 
+    static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_TRANSACTION, PREFIX_BILLING, PREFIX_ID);
+
     private static final String ID_STUB = "000001";
 
-    private final Model model;
     private final ExecutionStatus executionStatus;
 
     /**
-     * Constructs a {@code AddTransactionCommandParser} with the given {@code Model} and {@code ExecutionStatus}.
+     * Constructs a {@code AddTransactionCommandParser} with the given {@code ExecutionStatus}.
      */
-    public AddTransactionCommandParser(Model model, ExecutionStatus executionStatus) {
-        this.model = model;
+    public AddTransactionCommandParser(ExecutionStatus executionStatus) {
         this.executionStatus = executionStatus;
     }
 
-    private String generateId(seedu.address.model.member.Id id) throws ParseException {
-        List<Member> lastShownList = model.getUpdatedMemberList();
-        Member memberToEdit = lastShownList.stream()
-                .filter(member -> id.equals(member.getId())).findAny().orElse(null);
-        if (memberToEdit != null) {
-            List<Transaction> transactionList = memberToEdit.getTransactions();
-            long latestId = 0;
-            if (transactionList.size() > 0) {
-                latestId = transactionList.get(transactionList.size() - 1).getId().getLongValue();
-            }
-            if (latestId == seedu.address.model.transaction.Id.MAX) {
-                throw new ParseException(AddTransactionCommand.MESSAGE_FULL);
-            }
-            return Long.toString(latestId + 1);
-        } else {
-            throw new ParseException(MESSAGE_INVALID_MEMBER_DISPLAYED_ID);
-        }
-    }
-
     private String generateIdStub() {
         return ID_STUB;
     }
@@ -70,8 +47,20 @@ public class AddTransactionCommandParser extends AddCommandParser implements Par
      */
     @Override
     public AddTransactionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_TRANSACTION, PREFIX_BILLING, PREFIX_ID);
+        return parse(TOKENIZER.tokenizeArgs(args));
+    }
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other commands too,
+     * in the context of the AddTransactionCommand and returns an AddTransactionCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related add transaction command, already tokenized.
+     * @return AddTransactionCommand the class for process input add transaction command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    @Override
+    public AddTransactionCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(tokenizedArgs);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_TRANSACTION, PREFIX_BILLING, PREFIX_ID)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -84,11 +73,12 @@ public class AddTransactionCommandParser extends AddCommandParser implements Par
                 ? ParserUtil.parseTimestamp(DateTimeUtil.generateTimestamp())
                 : ParserUtil.parseTimestamp(DateTimeUtil.generateTimestampStub());
         seedu.address.model.member.Id memberId = ParserUtil.parseMemberId(argMultimap.getValue(PREFIX_ID).get());
-        seedu.address.model.transaction.Id transactionId = executionStatus == ExecutionStatus.NORMAL
-                ? ParserUtil.parseTransactionId(generateId(memberId))
-                : ParserUtil.parseTransactionId(generateIdStub());
+        if (executionStatus == ExecutionStatus.NORMAL) {
+            // the transaction id is handed out by the command, under the lock of the member
+            return new AddTransactionCommand(timestamp, billing, memberId);
+        }
 
-        Transaction transaction = new Transaction(transactionId, timestamp, billing);
+        Transaction transaction = new Transaction(ParserUtil.parseTransactionId(generateIdStub()), timestamp, billing);
 
         return new AddTransactionCommand(transaction, memberId);
     }
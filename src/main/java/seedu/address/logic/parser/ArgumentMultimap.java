@@ -12,12 +12,73 @@ import java.util.Optional;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * An {@code ArgumentMultimap} made by an {@code ArgumentTokenizer} also keeps where each prefix was found in the
+ * arguments string, so that the arguments can be tokenized again with fewer prefixes without another scan.
  */
 public class ArgumentMultimap {
 
+    /** Stands for the prefix of the preamble, which is the text before the first prefix. */
+    static final Prefix PREFIX_PREAMBLE = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
     private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
 
+    private final String argsString;
+    private final ArgumentTokenizer tokenizer;
+    private final Prefix[] tokenPrefixes;
+    private final int[] tokenPositions;
+    private final int tokenCount;
+    private final String preamble;
+    private final String[] tokenValues;
+
+    /**
+     * Constructs an empty {@code ArgumentMultimap}.
+     */
+    public ArgumentMultimap() {
+        this.argsString = "";
+        this.tokenizer = null;
+        this.tokenPrefixes = new Prefix[0];
+        this.tokenPositions = new int[0];
+        this.tokenCount = 0;
+        this.preamble = "";
+        this.tokenValues = new String[0];
+    }
+
+    /**
+     * Constructs an {@code ArgumentMultimap} of {@code argsString}, in which {@code tokenizer} found the first
+     * {@code tokenCount} of {@code tokenPrefixes} at the matching {@code tokenPositions}, in order.
+     */
+    ArgumentMultimap(String argsString, ArgumentTokenizer tokenizer, Prefix[] tokenPrefixes, int[] tokenPositions,
+            int tokenCount) {
+        this(argsString, tokenizer, tokenPrefixes, tokenPositions, tokenCount, null, new String[tokenCount]);
+    }
+
+    /**
+     * Constructs an {@code ArgumentMultimap} like the constructor above, which takes the preamble and the value of
+     * each token from {@code preamble} and {@code tokenValues} where they are not null.
+     */
+    private ArgumentMultimap(String argsString, ArgumentTokenizer tokenizer, Prefix[] tokenPrefixes,
+            int[] tokenPositions, int tokenCount, String preamble, String[] tokenValues) {
+        this.argsString = argsString;
+        this.tokenizer = tokenizer;
+        this.tokenPrefixes = tokenPrefixes;
+        this.tokenPositions = tokenPositions;
+        this.tokenCount = tokenCount;
+        this.tokenValues = tokenValues;
+
+        this.preamble = preamble != null ? preamble
+                : extractValue(0, tokenCount == 0 ? argsString.length() : tokenPositions[0]);
+        put(PREFIX_PREAMBLE, this.preamble);
+        for (int i = 0; i < tokenCount; i++) {
+            if (tokenValues[i] == null) {
+                int valueStart = tokenPositions[i] + tokenPrefixes[i].getPrefix().length();
+                int valueEnd = i + 1 < tokenCount ? tokenPositions[i + 1] : argsString.length();
+                tokenValues[i] = extractValue(valueStart, valueEnd);
+            }
+            put(tokenPrefixes[i], tokenValues[i]);
+        }
+    }
+
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
      * If the map previously contained a mapping for the key, the new value is appended to the list of existing values.
@@ -26,17 +87,15 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key.
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, key -> new ArrayList<>(1)).add(argValue);
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<String> values = argMultimap.get(prefix);
+        return values == null || values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
     }
 
     /**
@@ -55,7 +114,7 @@ public class ArgumentMultimap {
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREFIX_PREAMBLE).orElse("");
     }
 
     /**
@@ -64,4 +123,55 @@ public class ArgumentMultimap {
     public int getSize() {
         return argMultimap.size();
     }
+
+    String getArgsString() {
+        return argsString;
+    }
+
+    ArgumentTokenizer getTokenizer() {
+        return tokenizer;
+    }
+
+    /**
+     * Returns the arguments as if only the prefixes of {@code narrowerTokenizer} were found, where each value runs
+     * on to the next of those prefixes. {@code narrowerTokenizer} recognizes no prefix that the tokenizer of these
+     * arguments does not. A value that ends where it did is not extracted again.
+     */
+    ArgumentMultimap retain(ArgumentTokenizer narrowerTokenizer) {
+        Prefix[] retainedPrefixes = new Prefix[tokenCount];
+        int[] retainedPositions = new int[tokenCount];
+        String[] retainedValues = new String[tokenCount];
+        int retainedCount = 0;
+        int firstRetained = -1;
+        for (int i = 0; i < tokenCount; i++) {
+            if (!narrowerTokenizer.recognizes(tokenPrefixes[i])) {
+                continue;
+            }
+            if (firstRetained < 0) {
+                firstRetained = i;
+            }
+            retainedPrefixes[retainedCount] = tokenPrefixes[i];
+            retainedPositions[retainedCount] = tokenPositions[i];
+            boolean isNextRetained = i + 1 == tokenCount || narrowerTokenizer.recognizes(tokenPrefixes[i + 1]);
+            retainedValues[retainedCount] = isNextRetained ? tokenValues[i] : null;
+            retainedCount++;
+        }
+        String retainedPreamble = firstRetained == 0 || (firstRetained < 0 && tokenCount == 0) ? preamble : null;
+        return new ArgumentMultimap(argsString, narrowerTokenizer, retainedPrefixes, retainedPositions,
+                retainedCount, retainedPreamble, retainedValues);
+    }
+
+    /**
+     * Returns the value of the argument between {@code start} and {@code end} of the arguments string, without
+     * leading and trailing whitespaces as in {@link String#trim()}, taking a single substring.
+     */
+    private String extractValue(int start, int end) {
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return argsString.substring(start, end);
+    }
 }
@@ -1,9 +1,13 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,137 +16,149 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * A tokenizer looks its prefixes up by their first character, so that the arguments string is scanned once for
+ * all of them. A parser keeps its tokenizer, as the lookup table is made when the tokenizer is constructed.
  */
 public class ArgumentTokenizer {
 
+    private static final int INITIAL_TOKEN_CAPACITY = 8;
+
+    private final Set<Prefix> prefixes;
+
     /**
-     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
-     * respective argument values. Only the given prefixes will be recognized in the arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}.
-     * @param prefixes   Prefixes to tokenize the arguments string with.
-     * @return           ArgumentMultimap object that maps prefixes to their arguments.
+     * The prefixes starting with each character, with the longer prefixes first, indexed by the character.
+     * The table ends at the largest first character of a prefix.
      */
-    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
+    private final Prefix[][] prefixesByFirstChar;
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}.
-     * @param prefixes   Prefixes to find in the arguments string.
-     * @return           List of zero-based prefix positions in the given arguments string.
+     * Constructs an {@code ArgumentTokenizer} that recognizes only the given {@code prefixes}.
      */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+    public ArgumentTokenizer(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        this.prefixes = new LinkedHashSet<>(Arrays.asList(prefixes));
+
+        int tableSize = 0;
+        for (Prefix prefix : this.prefixes) {
+            if (!prefix.getPrefix().isEmpty()) {
+                tableSize = Math.max(tableSize, prefix.getPrefix().charAt(0) + 1);
+            }
+        }
+        List<List<Prefix>> lists = new ArrayList<>(tableSize);
+        for (int i = 0; i < tableSize; i++) {
+            lists.add(new ArrayList<>());
+        }
+        for (Prefix prefix : this.prefixes) {
+            if (!prefix.getPrefix().isEmpty()) {
+                lists.get(prefix.getPrefix().charAt(0)).add(prefix);
+            }
+        }
+        prefixesByFirstChar = new Prefix[tableSize][];
+        for (int i = 0; i < tableSize; i++) {
+            List<Prefix> list = lists.get(i);
+            list.sort(Comparator.comparingInt((Prefix prefix) -> prefix.getPrefix().length()).reversed());
+            prefixesByFirstChar[i] = list.isEmpty() ? null : list.toArray(new Prefix[0]);
+        }
     }
 
     /**
-     * {@see findAllPrefixPositions}
+     * Returns an {@code ArgumentTokenizer} that recognizes the prefixes of all the given {@code tokenizers}.
+     * Arguments tokenized by it can be tokenized again by any of the {@code tokenizers} without another scan.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    public static ArgumentTokenizer combine(ArgumentTokenizer... tokenizers) {
+        requireNonNull(tokenizers);
+        Set<Prefix> prefixes = new LinkedHashSet<>();
+        for (ArgumentTokenizer tokenizer : tokenizers) {
+            prefixes.addAll(tokenizer.prefixes);
         }
-
-        return positions;
+        return new ArgumentTokenizer(prefixes.toArray(new Prefix[0]));
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
+     * respective argument values. Only the given prefixes will be recognized in the arguments string.
      *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}.
+     * @param prefixes   Prefixes to tokenize the arguments string with.
+     * @return           ArgumentMultimap object that maps prefixes to their arguments.
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+        return new ArgumentTokenizer(prefixes).tokenizeArgs(argsString);
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
+     * respective argument values. Only the prefixes of this tokenizer will be recognized in the arguments string.
+     * A prefix is recognized where it follows a space, e.g. {@code p/} in {@code e/hi p/900} but not in
+     * {@code e/hip/900}.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}.
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}.
-     * @return                ArgumentMultimap object that maps prefixes to their arguments.
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}.
+     * @return           ArgumentMultimap object that maps prefixes to their arguments.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    public ArgumentMultimap tokenizeArgs(String argsString) {
+        requireNonNull(argsString);
+        Prefix[] tokenPrefixes = new Prefix[INITIAL_TOKEN_CAPACITY];
+        int[] tokenPositions = new int[INITIAL_TOKEN_CAPACITY];
+        int tokenCount = 0;
+
+        int lastIndex = argsString.length() - 1;
+        for (int space = argsString.indexOf(' '); space >= 0 && space < lastIndex;
+                space = argsString.indexOf(' ', space + 1)) {
+            Prefix prefix = findPrefixAt(argsString, space + 1);
+            if (prefix == null) {
+                continue;
+            }
+            if (tokenCount == tokenPositions.length) {
+                tokenPrefixes = Arrays.copyOf(tokenPrefixes, tokenCount * 2);
+                tokenPositions = Arrays.copyOf(tokenPositions, tokenCount * 2);
+            }
+            tokenPrefixes[tokenCount] = prefix;
+            tokenPositions[tokenCount] = space + 1;
+            tokenCount++;
         }
 
-        return argMultimap;
+        return new ArgumentMultimap(argsString, this, tokenPrefixes, tokenPositions, tokenCount);
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns {@code argMultimap} as if its arguments string were tokenized by this tokenizer.
+     * If {@code argMultimap} was tokenized with all the prefixes of this tokenizer, such as by a tokenizer
+     * {@link #combine combined} from this one, the arguments string is not scanned again.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    public ArgumentMultimap tokenizeArgs(ArgumentMultimap argMultimap) {
+        requireNonNull(argMultimap);
+        ArgumentTokenizer source = argMultimap.getTokenizer();
+        if (source == this) {
+            return argMultimap;
+        }
+        if (source == null || !source.prefixes.containsAll(prefixes)) {
+            return tokenizeArgs(argMultimap.getArgsString());
+        }
+        return argMultimap.retain(this);
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns true if this tokenizer recognizes {@code prefix}.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
+    boolean recognizes(Prefix prefix) {
+        return prefixes.contains(prefix);
+    }
 
-        int getStartPosition() {
-            return startPosition;
+    /**
+     * Returns the longest prefix of this tokenizer that starts at {@code index} of {@code argsString},
+     * or null if there is none.
+     */
+    private Prefix findPrefixAt(String argsString, int index) {
+        char firstChar = argsString.charAt(index);
+        if (firstChar >= prefixesByFirstChar.length || prefixesByFirstChar[firstChar] == null) {
+            return null;
         }
-
-        Prefix getPrefix() {
-            return prefix;
+        for (Prefix prefix : prefixesByFirstChar[firstChar]) {
+            if (argsString.startsWith(prefix.getPrefix(), index)) {
+                return prefix;
+            }
         }
+        return null;
     }
 
 }
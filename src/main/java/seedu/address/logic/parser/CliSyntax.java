@@ -91,6 +91,11 @@ public class CliSyntax {
      */
     public static final Prefix PREFIX_TAG = new Prefix("-tag/");
 
+    /**
+     * Stands for PREFIX_TIER.
+     */
+    public static final Prefix PREFIX_TIER = new Prefix("-tier/");
+
 
     /* Only used in sort command */
     /**
@@ -16,4 +16,14 @@ public abstract class DeleteCommandParser {
      */
     public abstract DeleteCommand parse(String args) throws ParseException;
 
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other delete commands too,
+     * in the context of the DeleteCommand and returns an DeleteCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related delete command, already tokenized.
+     * @return DeleteCommand the class for process input delete command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public abstract DeleteCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException;
+
 }
@@ -15,6 +15,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class DeleteCommandPrefixParser {
 
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.combine(
+            DeleteMemberCommandParser.TOKENIZER, DeleteTransactionCommandParser.TOKENIZER,
+            DeleteReservationCommandParser.TOKENIZER);
+
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommandParser
      * and returns an DeleteCommandParser object for execution.
@@ -24,10 +29,27 @@ public class DeleteCommandPrefixParser {
      * @throws ParseException if the user input does not conform the expected format.
      */
     public DeleteCommandParser parse(String args) throws ParseException {
+        return selectParser(TOKENIZER.tokenizeArgs(args));
+    }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args, PREFIX_MEMBER, PREFIX_TRANSACTION, PREFIX_RESERVATION);
+    /**
+     * Parses the given {@code String} of arguments as a delete command, tokenizing them only once for both choosing
+     * the DeleteCommandParser and the parsing by it.
+     *
+     * @param args the input arguments related delete command to be parsed.
+     * @return DeleteCommand the class for process input delete command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public DeleteCommand parseCommand(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
+        return selectParser(argMultimap).parse(argMultimap);
+    }
 
+    /**
+     * Returns the DeleteCommandParser for the only one of the member, transaction and reservation prefixes in
+     * {@code argMultimap}.
+     */
+    private DeleteCommandParser selectParser(ArgumentMultimap argMultimap) throws ParseException {
         if (argMultimap.getValue(PREFIX_MEMBER).isPresent()
                 && argMultimap.getValue(PREFIX_TRANSACTION).isEmpty()
                 && argMultimap.getValue(PREFIX_RESERVATION).isEmpty()) {
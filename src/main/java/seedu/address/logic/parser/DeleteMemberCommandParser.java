@@ -16,6 +16,8 @@ import seedu.address.model.member.Id;
  */
 public class DeleteMemberCommandParser extends DeleteCommandParser implements Parser<DeleteMemberCommand> {
 
+    static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MEMBER, PREFIX_ID, PREFIX_INDEX);
+
     private static final int PREFIX_SIZE = 3;
 
     /**
@@ -26,9 +28,23 @@ public class DeleteMemberCommandParser extends DeleteCommandParser implements Pa
      * @return DeleteMemberCommand the class for process input delete member command string.
      * @throws ParseException if the user input does not conform the expected format.
      */
+    @Override
     public DeleteMemberCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEMBER, PREFIX_ID, PREFIX_INDEX);
+        return parse(TOKENIZER.tokenizeArgs(args));
+    }
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other commands too,
+     * in the context of the DeleteMemberCommand and returns a DeleteMemberCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related delete member command, already tokenized.
+     * @return DeleteMemberCommand the class for process input delete member command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    @Override
+    public DeleteMemberCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(tokenizedArgs);
 
         if (argMultimap.getSize() != PREFIX_SIZE || argMultimap.getValue(PREFIX_MEMBER).isEmpty()
                 || (argMultimap.getValue(PREFIX_ID).isEmpty() && argMultimap.getValue(PREFIX_INDEX).isEmpty())
@@ -15,6 +15,9 @@ import seedu.address.model.reservation.Id;
  * Parses input arguments and creates a new DeleteReservationCommand object.
  */
 public class DeleteReservationCommandParser extends DeleteCommandParser implements Parser<DeleteReservationCommand> {
+
+    static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_RESERVATION, PREFIX_ID);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteReservationCommand
      * and returns a DeleteReservationCommand object for execution.
@@ -23,9 +26,23 @@ public class DeleteReservationCommandParser extends DeleteCommandParser implemen
      * @return DeleteReservationCommand the class for process input delete reservation command string.
      * @throws ParseException if the user input does not conform the expected format.
      */
+    @Override
     public DeleteReservationCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_RESERVATION, PREFIX_ID);
+        return parse(TOKENIZER.tokenizeArgs(args));
+    }
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other commands too,
+     * in the context of the DeleteReservationCommand and returns a DeleteReservationCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related delete reservation command, already tokenized.
+     * @return DeleteReservationCommand the class for process input delete reservation command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    @Override
+    public DeleteReservationCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(tokenizedArgs);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_RESERVATION, PREFIX_ID)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -35,9 +52,9 @@ public class DeleteReservationCommandParser extends DeleteCommandParser implemen
 
         String ids = argMultimap.getValue(PREFIX_ID).get();
         seedu.address.model.member.Id memberId =
-                ParserUtil.parseMemberId(ids.substring(0, seedu.address.model.member.Id.LENGTH));
+                ParserUtil.parseMemberIdOfIds(ids);
         Id reservationId =
-                ParserUtil.parseReservationId(ids.substring(seedu.address.model.member.Id.LENGTH));
+                ParserUtil.parseReservationIdOfIds(ids);
 
         return new DeleteReservationCommand(memberId, reservationId);
     }
@@ -15,6 +15,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class DeleteTransactionCommandParser extends DeleteCommandParser implements Parser<DeleteTransactionCommand> {
 
+    static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_TRANSACTION, PREFIX_ID);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteTransactionCommand
      * and returns a DeleteTransactionCommand object for execution.
@@ -23,9 +25,23 @@ public class DeleteTransactionCommandParser extends DeleteCommandParser implemen
      * @return DeleteTransactionCommand the class for process input delete transaction command string.
      * @throws ParseException if the user input does not conform the expected format.
      */
+    @Override
     public DeleteTransactionCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TRANSACTION, PREFIX_ID);
+        return parse(TOKENIZER.tokenizeArgs(args));
+    }
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other commands too,
+     * in the context of the DeleteTransactionCommand and returns a DeleteTransactionCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related delete transaction command, already tokenized.
+     * @return DeleteTransactionCommand the class for process input delete transaction command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    @Override
+    public DeleteTransactionCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(tokenizedArgs);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_TRANSACTION, PREFIX_ID)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -35,9 +51,9 @@ public class DeleteTransactionCommandParser extends DeleteCommandParser implemen
 
         String ids = argMultimap.getValue(PREFIX_ID).get();
         seedu.address.model.member.Id memberId =
-                ParserUtil.parseMemberId(ids.substring(0, seedu.address.model.member.Id.LENGTH));
+                ParserUtil.parseMemberIdOfIds(ids);
         seedu.address.model.transaction.Id transactionId =
-                ParserUtil.parseTransactionId(ids.substring(seedu.address.model.member.Id.LENGTH));
+                ParserUtil.parseTransactionIdOfIds(ids);
 
         return new DeleteTransactionCommand(memberId, transactionId);
     }
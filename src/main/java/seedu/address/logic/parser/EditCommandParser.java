@@ -17,4 +17,14 @@ public abstract class EditCommandParser {
      * @throws ParseException if the user input does not conform the expected format.
      */
     public abstract EditCommand parse(String args) throws ParseException;
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other edit commands too,
+     * in the context of the EditCommand and returns an EditCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related edit command, already tokenized.
+     * @return EditCommand the class for process input edit command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public abstract EditCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException;
 }
@@ -15,6 +15,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * depends on the very first prefix appears after command word.
  */
 public class EditCommandPrefixParser {
+
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.combine(
+            EditMemberCommandParser.TOKENIZER, EditTransactionCommandParser.TOKENIZER,
+            EditReservationCommandParser.TOKENIZER);
+
     private final ExecutionStatus executionStatus;
 
     /**
@@ -35,10 +40,27 @@ public class EditCommandPrefixParser {
      * @throws ParseException if the user input does not conform the expected format.
      */
     public EditCommandParser parse(String args) throws ParseException {
+        return selectParser(TOKENIZER.tokenizeArgs(args));
+    }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-                args, PREFIX_MEMBER, PREFIX_TRANSACTION, PREFIX_RESERVATION);
+    /**
+     * Parses the given {@code String} of arguments as an edit command, tokenizing them only once for both choosing
+     * the EditCommandParser and the parsing by it.
+     *
+     * @param args the input arguments related edit command to be parsed.
+     * @return EditCommand the class for process input edit command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public EditCommand parseCommand(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
+        return selectParser(argMultimap).parse(argMultimap);
+    }
 
+    /**
+     * Returns the EditCommandParser for the only one of the member, transaction and reservation prefixes in
+     * {@code argMultimap}.
+     */
+    private EditCommandParser selectParser(ArgumentMultimap argMultimap) throws ParseException {
         if (argMultimap.getValue(PREFIX_MEMBER).isPresent()
                 && argMultimap.getValue(PREFIX_TRANSACTION).isEmpty()
                 && argMultimap.getValue(PREFIX_RESERVATION).isEmpty()) {
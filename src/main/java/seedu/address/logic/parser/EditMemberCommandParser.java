@@ -28,6 +28,10 @@ import seedu.address.model.tag.Tag;
  */
 public class EditMemberCommandParser extends EditCommandParser implements Parser<EditMemberCommand> {
 
+    static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_MEMBER, PREFIX_ID, PREFIX_INDEX, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+            PREFIX_TAG);
+
     private static final int PREFIX_SIZE = 3;
 
     /**
@@ -38,10 +42,23 @@ public class EditMemberCommandParser extends EditCommandParser implements Parser
      * @return EditMemberCommand the class for process input edit member command string.
      * @throws ParseException if the user input does not conform the expected format.
      */
+    @Override
     public EditMemberCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEMBER, PREFIX_ID, PREFIX_INDEX,
-                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        return parse(TOKENIZER.tokenizeArgs(args));
+    }
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other commands too,
+     * in the context of the EditMemberCommand and returns an EditMemberCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related edit member command, already tokenized.
+     * @return EditMemberCommand the class for process input edit member command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    @Override
+    public EditMemberCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(tokenizedArgs);
 
         if (argMultimap.getSize() < PREFIX_SIZE || argMultimap.getValue(PREFIX_MEMBER).isEmpty()
                 || (argMultimap.getValue(PREFIX_ID).isEmpty() && argMultimap.getValue(PREFIX_INDEX).isEmpty())
@@ -18,6 +18,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class EditReservationCommandParser extends EditCommandParser implements Parser<EditReservationCommand> {
 
+    static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_RESERVATION, PREFIX_ID, PREFIX_DATE_TIME, PREFIX_REMARK);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -26,10 +29,23 @@ public class EditReservationCommandParser extends EditCommandParser implements P
      * @return EditReservationCommand the class for process input edit reservation command string.
      * @throws ParseException if the user input does not conform the expected format.
      */
+    @Override
     public EditReservationCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_RESERVATION, PREFIX_ID,
-                PREFIX_DATE_TIME, PREFIX_REMARK);
+        return parse(TOKENIZER.tokenizeArgs(args));
+    }
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other commands too,
+     * in the context of the EditReservationCommand and returns an EditReservationCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related edit reservation command, already tokenized.
+     * @return EditReservationCommand the class for process input edit reservation command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    @Override
+    public EditReservationCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(tokenizedArgs);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_RESERVATION, PREFIX_ID)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -39,9 +55,9 @@ public class EditReservationCommandParser extends EditCommandParser implements P
 
         String ids = argMultimap.getValue(PREFIX_ID).get();
         seedu.address.model.member.Id memberId =
-                ParserUtil.parseMemberId(ids.substring(0, seedu.address.model.member.Id.LENGTH));
+                ParserUtil.parseMemberIdOfIds(ids);
         seedu.address.model.reservation.Id reservationId =
-                ParserUtil.parseReservationId(ids.substring(seedu.address.model.member.Id.LENGTH));
+                ParserUtil.parseReservationIdOfIds(ids);
 
         EditReservationDescriptor editReservationDescriptor = new EditReservationDescriptor();
         if (argMultimap.getValue(PREFIX_DATE_TIME).isPresent()) {
@@ -20,6 +20,8 @@ import seedu.address.model.Timestamp;
  */
 public class EditTransactionCommandParser extends EditCommandParser implements Parser<EditTransactionCommand> {
 
+    static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_TRANSACTION, PREFIX_ID, PREFIX_BILLING);
+
     private final ExecutionStatus executionStatus;
 
     /**
@@ -37,9 +39,23 @@ public class EditTransactionCommandParser extends EditCommandParser implements P
      * @return EditTransactionCommand the class for process input edit transaction command string.
      * @throws ParseException if the user input does not conform the expected format.
      */
+    @Override
     public EditTransactionCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TRANSACTION, PREFIX_ID, PREFIX_BILLING);
+        return parse(TOKENIZER.tokenizeArgs(args));
+    }
+
+    /**
+     * Parses the given arguments, which may have been tokenized with the prefixes of other commands too,
+     * in the context of the EditTransactionCommand and returns an EditTransactionCommand object for execution.
+     *
+     * @param tokenizedArgs the input arguments related edit transaction command, already tokenized.
+     * @return EditTransactionCommand the class for process input edit transaction command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    @Override
+    public EditTransactionCommand parse(ArgumentMultimap tokenizedArgs) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(tokenizedArgs);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_TRANSACTION, PREFIX_ID)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -49,9 +65,9 @@ public class EditTransactionCommandParser extends EditCommandParser implements P
 
         String ids = argMultimap.getValue(PREFIX_ID).get();
         seedu.address.model.member.Id memberId =
-                ParserUtil.parseMemberId(ids.substring(0, seedu.address.model.member.Id.LENGTH));
+                ParserUtil.parseMemberIdOfIds(ids);
         seedu.address.model.transaction.Id transactionId =
-                ParserUtil.parseTransactionId(ids.substring(seedu.address.model.member.Id.LENGTH));
+                ParserUtil.parseTransactionIdOfIds(ids);
 
         EditTransactionDescriptor editTransactionDescriptor = new EditTransactionDescriptor();
         if (argMultimap.getValue(PREFIX_BILLING).isPresent()) {
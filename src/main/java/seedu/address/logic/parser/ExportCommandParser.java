@@ -0,0 +1,100 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.RecordType;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.member.Tier;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_MEMBER, PREFIX_TRANSACTION, PREFIX_RESERVATION, PREFIX_DATE, PREFIX_TIER, PREFIX_TAG);
+
+    /**
+     * Stands for the message of a date range that ends before it starts.
+     */
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The first date should not be after the second date.";
+
+    private static final int MAX_DATES = 2;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     *
+     * @param args the file path, the kind of records and the filters of the export.
+     * @return ExportCommand the class for process input export command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
+
+        String filePath = argMultimap.getPreamble();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        RecordType recordType = parseRecordType(argMultimap);
+
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        if (dates.size() > MAX_DATES) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        LocalDate fromDate = dates.isEmpty() ? null : ParserUtil.parseDate(dates.get(0));
+        LocalDate toDate = dates.size() < MAX_DATES ? null : ParserUtil.parseDate(dates.get(1));
+        if (toDate != null && toDate.isBefore(fromDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        Tier tier = argMultimap.getValue(PREFIX_TIER).isPresent()
+                ? ParserUtil.parseTier(argMultimap.getValue(PREFIX_TIER).get())
+                : null;
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+
+        return new ExportCommand(Paths.get(filePath), recordType, fromDate, toDate, tier, tags);
+    }
+
+    /**
+     * Returns the kind of records of the one flag given, which takes no value.
+     */
+    private static RecordType parseRecordType(ArgumentMultimap argMultimap) throws ParseException {
+        RecordType recordType = null;
+        int flagCount = 0;
+        if (argMultimap.getValue(PREFIX_MEMBER).isPresent()) {
+            recordType = RecordType.MEMBERS;
+            flagCount++;
+        }
+        if (argMultimap.getValue(PREFIX_TRANSACTION).isPresent()) {
+            recordType = RecordType.TRANSACTIONS;
+            flagCount++;
+        }
+        if (argMultimap.getValue(PREFIX_RESERVATION).isPresent()) {
+            recordType = RecordType.RESERVATIONS;
+            flagCount++;
+        }
+        if (flagCount != 1 || !argMultimap.getValue(PREFIX_MEMBER).orElse("").isEmpty()
+                || !argMultimap.getValue(PREFIX_TRANSACTION).orElse("").isEmpty()
+                || !argMultimap.getValue(PREFIX_RESERVATION).orElse("").isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        return recordType;
+    }
+}
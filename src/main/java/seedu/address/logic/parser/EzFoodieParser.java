@@ -10,22 +10,27 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.exceptions.PermissionException;
 import seedu.address.commons.status.ExecutionStatus;
 import seedu.address.commons.status.LoginStatus;
-import seedu.address.commons.util.CommandUtil;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.LoginCommand;
 import seedu.address.logic.commands.LogoutCommand;
 import seedu.address.logic.commands.RedeemCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SetAccountCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.SummaryCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -73,20 +78,18 @@ public class EzFoodieParser {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        CommandUtil.addCommand(userInput);
-
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
         switch (commandWord) {
 
         case AddCommand.COMMAND_WORD:
-            return new AddCommandPrefixParser(model, executionStatus).parse(arguments).parse(arguments);
+            return new AddCommandPrefixParser(executionStatus).parseCommand(arguments);
 
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
         case EditCommand.COMMAND_WORD:
-            return new EditCommandPrefixParser(executionStatus).parse(arguments).parse(arguments);
+            return new EditCommandPrefixParser(executionStatus).parseCommand(arguments);
 
         case ViewCommand.COMMAND_WORD:
             return new ViewCommandParser().parse(arguments);
@@ -95,26 +98,53 @@ public class EzFoodieParser {
             return new RedeemCommandParser(model, executionStatus).parse(arguments);
 
         case DeleteCommand.COMMAND_WORD:
-            if (LoginStatus.getLoginStatus() == LoginStatus.MANAGER) {
-                return new DeleteCommandPrefixParser().parse(arguments).parse(arguments);
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
+                return new DeleteCommandPrefixParser().parseCommand(arguments);
             }
             throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
 
         case ClearCommand.COMMAND_WORD:
-            if (LoginStatus.getLoginStatus() == LoginStatus.MANAGER) {
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
                 return new ClearCommand();
             }
             throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
 
+        case UndoCommand.COMMAND_WORD:
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
+                return new UndoCommand();
+            }
+            throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
+
+        case RedoCommand.COMMAND_WORD:
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
+                return new RedoCommand();
+            }
+            throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommandParser().parse(arguments);
 
         case SortCommand.COMMAND_WORD:
-            if (LoginStatus.getLoginStatus() == LoginStatus.MANAGER) {
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
                 return new SortCommandParser().parse(arguments);
             }
             throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
 
+        case ImportCommand.COMMAND_WORD:
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
+                return new ImportCommandParser().parse(arguments);
+            }
+            throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
+
+        case ExportCommand.COMMAND_WORD:
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
+                return new ExportCommandParser().parse(arguments);
+            }
+            throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser(this::parseCommand).parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -125,7 +155,7 @@ public class EzFoodieParser {
             return new LogoutCommand();
 
         case SetAccountCommand.COMMAND_WORD:
-            if (LoginStatus.getLoginStatus() == LoginStatus.MANAGER) {
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
                 return new SetAccountCommandParser().parse(arguments);
             }
             throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
@@ -133,8 +163,14 @@ public class EzFoodieParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
+                return new StatsCommand();
+            }
+            throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
+
         case SummaryCommand.COMMAND_WORD:
-            if (LoginStatus.getLoginStatus() == LoginStatus.MANAGER) {
+            if (model.getLoginStatus() == LoginStatus.MANAGER) {
                 return new SummaryCommand();
             }
             throw new PermissionException(Messages.MESSAGE_PERMISSION_DENIED);
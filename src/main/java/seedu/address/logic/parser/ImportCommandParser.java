@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MEMBER, PREFIX_TRANSACTION);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     *
+     * @param args the paths of the member file and the transaction file to import.
+     * @return ImportCommand the class for process input import command string.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path memberFilePath = parseFilePath(argMultimap.getValue(PREFIX_MEMBER));
+        Path transactionFilePath = parseFilePath(argMultimap.getValue(PREFIX_TRANSACTION));
+        if (memberFilePath == null && transactionFilePath == null) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(memberFilePath, transactionFilePath);
+    }
+
+    /**
+     * Returns the path of {@code value}, or null if there is no value.
+     */
+    private static Path parseFilePath(Optional<String> value) throws ParseException {
+        if (value.isEmpty()) {
+            return null;
+        }
+        String trimmedValue = value.get().trim();
+        if (trimmedValue.isEmpty() || !FileUtil.isValidPath(trimmedValue)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        return Paths.get(trimmedValue);
+    }
+}
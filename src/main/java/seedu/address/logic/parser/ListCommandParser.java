@@ -2,9 +2,12 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
 
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListReservationCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -12,7 +15,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ListCommandParser implements Parser<ListCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_MEMBER, PREFIX_RESERVATION, PREFIX_DATE);
+
     private static final int PREFIX_SIZE = 2;
+    private static final int RESERVATION_PREFIX_SIZE = 3;
 
     /**
      * Parses the given {@code String} of arguments in the context of the ListCommand
@@ -24,15 +31,24 @@ public class ListCommandParser implements Parser<ListCommand> {
      */
     public ListCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEMBER);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
-        if (argMultimap.getSize() != PREFIX_SIZE || argMultimap.getValue(PREFIX_MEMBER).isEmpty()
-                || !argMultimap.getPreamble().isEmpty()) {
+        if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
-        } else {
+        }
+
+        if (argMultimap.getSize() == PREFIX_SIZE && argMultimap.getValue(PREFIX_MEMBER).isPresent()) {
             return new ListCommand();
         }
+
+        if (argMultimap.getSize() == RESERVATION_PREFIX_SIZE && argMultimap.getValue(PREFIX_RESERVATION).isPresent()
+                && argMultimap.getValue(PREFIX_DATE).isPresent()) {
+            return new ListReservationCommand(ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get()));
+        }
+
+        throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
     }
 
 }
@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -12,6 +14,7 @@ import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.commons.util.EncryptUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -22,6 +25,7 @@ import seedu.address.model.member.Email;
 import seedu.address.model.member.Name;
 import seedu.address.model.member.Phone;
 import seedu.address.model.member.Point;
+import seedu.address.model.member.Tier;
 import seedu.address.model.reservation.DateTime;
 import seedu.address.model.reservation.Remark;
 import seedu.address.model.tag.Tag;
@@ -33,6 +37,11 @@ import seedu.address.model.transaction.Billing;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE = "Dates should be valid date " + DateTimeUtil.DATE_PATTERN;
+    public static final String ID_SEPARATOR = "-";
+    public static final String MESSAGE_INVALID_IDS = "IDs should be a member ID and an item ID separated by \""
+            + ID_SEPARATOR + "\", or a " + seedu.address.model.member.Id.PADDED_LENGTH
+            + "-digit member ID directly followed by the item ID.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -165,6 +174,55 @@ public class ParserUtil {
         return new seedu.address.model.reservation.Id(trimmedId);
     }
 
+    /**
+     * Parses the member id out of {@code ids}, the combined ids of a member and one of its transactions
+     * or reservations.
+     *
+     * @throws ParseException if the given {@code ids} or the member id in it is invalid.
+     */
+    public static seedu.address.model.member.Id parseMemberIdOfIds(String ids) throws ParseException {
+        return parseMemberId(splitIds(ids)[0]);
+    }
+
+    /**
+     * Parses the transaction id out of {@code ids}, the combined ids of a member and one of its transactions.
+     *
+     * @throws ParseException if the given {@code ids} or the transaction id in it is invalid.
+     */
+    public static seedu.address.model.transaction.Id parseTransactionIdOfIds(String ids) throws ParseException {
+        return parseTransactionId(splitIds(ids)[1]);
+    }
+
+    /**
+     * Parses the reservation id out of {@code ids}, the combined ids of a member and one of its reservations.
+     *
+     * @throws ParseException if the given {@code ids} or the reservation id in it is invalid.
+     */
+    public static seedu.address.model.reservation.Id parseReservationIdOfIds(String ids) throws ParseException {
+        return parseReservationId(splitIds(ids)[1]);
+    }
+
+    /**
+     * Splits {@code ids} into the member id and the item id. The ids are either separated by {@code ID_SEPARATOR},
+     * which works for ids of any length, or written as a padded member id directly followed by the item id,
+     * which is how ids were combined before they were widened.
+     *
+     * @throws ParseException if the given {@code ids} cannot be split.
+     */
+    private static String[] splitIds(String ids) throws ParseException {
+        requireNonNull(ids);
+        String trimmedIds = ids.trim();
+        int separatorIndex = trimmedIds.indexOf(ID_SEPARATOR);
+        if (separatorIndex >= 0) {
+            return new String[] {trimmedIds.substring(0, separatorIndex), trimmedIds.substring(separatorIndex + 1)};
+        }
+        if (trimmedIds.length() <= seedu.address.model.member.Id.PADDED_LENGTH) {
+            throw new ParseException(MESSAGE_INVALID_IDS);
+        }
+        return new String[] {trimmedIds.substring(0, seedu.address.model.member.Id.PADDED_LENGTH),
+            trimmedIds.substring(seedu.address.model.member.Id.PADDED_LENGTH)};
+    }
+
     /**
      * Parses a {@code String billing} into a {@code Billing}.
      * Leading and trailing whitespaces will be trimmed.
@@ -197,6 +255,21 @@ public class ParserUtil {
         return new DateTime(trimmedDateTime);
     }
 
+    /**
+     * Parses a {@code String date} into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return DateTimeUtil.parseDate(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+    }
+
     /**
      * Parses a {@code String remark} into a {@code Remark}.
      * Leading and trailing whitespaces will be trimmed.
@@ -242,6 +315,23 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses a {@code String tier} into a {@code Tier}, ignoring case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code tier} is not the name of a tier.
+     */
+    public static Tier parseTier(String tier) throws ParseException {
+        requireNonNull(tier);
+        String trimmedTier = tier.trim();
+        for (Tier candidate : Tier.values()) {
+            if (candidate.getKey().equalsIgnoreCase(trimmedTier)) {
+                return candidate;
+            }
+        }
+        throw new ParseException(Tier.MESSAGE_CONSTRAINTS);
+    }
+
     /**
      * Parses a {@code String points} into a {@code Points}.
      * Leading and trailing whitespaces will be trimmed.
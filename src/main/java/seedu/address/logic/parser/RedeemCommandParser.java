@@ -21,6 +21,8 @@ import seedu.address.model.member.Point;
  */
 public class RedeemCommandParser implements Parser<RedeemCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_REDEEM, PREFIX_ID, PREFIX_INDEX);
+
     private final Model model;
     private final ExecutionStatus executionStatus;
 
@@ -43,8 +45,7 @@ public class RedeemCommandParser implements Parser<RedeemCommand> {
     @Override
     public RedeemCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_REDEEM, PREFIX_ID, PREFIX_INDEX);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
         if ((argMultimap.getValue(PREFIX_ID).isEmpty() && argMultimap.getValue(PREFIX_INDEX).isEmpty())
                 || (argMultimap.getValue(PREFIX_ID).isPresent() && argMultimap.getValue(PREFIX_INDEX).isPresent())
                 || !argMultimap.getPreamble().isEmpty()) {
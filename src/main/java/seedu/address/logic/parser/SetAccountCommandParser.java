@@ -13,6 +13,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class SetAccountCommandParser implements Parser<SetAccountCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_PASS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditAccountCommand
      * and returns an EditAccountCommand object for execution.
@@ -21,7 +23,7 @@ public class SetAccountCommandParser implements Parser<SetAccountCommand> {
      */
     public SetAccountCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PASS);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (argMultimap.getValue(PREFIX_PASS).isEmpty()) {
             throw new ParseException(
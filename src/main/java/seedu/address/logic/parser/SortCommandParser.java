@@ -16,6 +16,9 @@ import seedu.address.model.member.CreditSortComparator;
  */
 public class SortCommandParser implements Parser<SortCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(
+            PREFIX_MEMBER, PREFIX_CREDIT, PREFIX_ASC, PREFIX_DESC);
+
     private static final int PREFIX_SIZE = 4;
 
     /**
@@ -28,8 +31,7 @@ public class SortCommandParser implements Parser<SortCommand> {
      */
     public SortCommand parse(String args) throws ParseException {
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEMBER, PREFIX_CREDIT, PREFIX_ASC,
-                PREFIX_DESC);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (argMultimap.getSize() != PREFIX_SIZE || argMultimap.getValue(PREFIX_MEMBER).isEmpty()
                 || argMultimap.getValue(PREFIX_CREDIT).isEmpty()
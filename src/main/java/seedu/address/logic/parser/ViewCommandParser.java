@@ -15,6 +15,8 @@ import seedu.address.model.member.IdContainsKeywordsPredicate;
 
 public class ViewCommandParser implements Parser<Command> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MEMBER, PREFIX_ID);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ViewCommand
      * and returns a ViewCommand object for execution.
@@ -25,7 +27,7 @@ public class ViewCommandParser implements Parser<Command> {
      */
     public ViewCommand parse(String args) throws ParseException {
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MEMBER, PREFIX_ID);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArgs(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_MEMBER, PREFIX_ID)
                 || !argMultimap.getPreamble().isEmpty()) {
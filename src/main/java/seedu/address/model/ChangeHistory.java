@@ -0,0 +1,323 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.core.persistent.PersistentVector;
+import seedu.address.model.member.Id;
+import seedu.address.model.member.Member;
+
+/**
+ * The undo and redo history of the changes one session makes to the ezFoodie.
+ * Each change made is recorded as it is made, and stays pending until it is committed, either along with every other
+ * pending change or along with the other pending changes to the same member only. The latter lets commands on
+ * different members run at the same time and still be undone one by one.
+ * A committed change only keeps the members it changed, or the members before and after it if it replaced the whole
+ * member list, and is priced by the members and tree nodes only the history holds on to. The oldest changes are
+ * dropped once the estimated size of the history exceeds the memory budget, but the newest one is always kept, so
+ * that a change larger than the budget, such as clearing a large ezFoodie by mistake, can still be undone.
+ * A {@code ChangeHistory} is not thread-safe, and is only used under the lock of the {@code ModelManager} it records.
+ */
+class ChangeHistory {
+
+    public static final String MESSAGE_CONSTRAINTS = "The memory budget of the history should be positive.";
+
+    /**
+     * Stands for the default memory budget of the history, in bytes.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    private static final long ESTIMATED_STEP_BYTES = 40;
+    private static final long ESTIMATED_NODE_BYTES = 40;
+    private static final long ESTIMATED_MEMBER_BYTES = 512;
+
+    private final long memoryBudget;
+    private final List<PendingStep> pendingSteps = new ArrayList<>();
+    private final Deque<Change> undoChanges = new ArrayDeque<>();
+    private final Deque<Change> redoChanges = new ArrayDeque<>();
+    private PersistentVector<Member> membersBeforeReplacement;
+    private long historyBytes;
+
+    /**
+     * Constructs an empty {@code ChangeHistory} with the default memory budget.
+     */
+    ChangeHistory() {
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Constructs an empty {@code ChangeHistory} keeping about {@code memoryBudget} bytes of changes.
+     */
+    ChangeHistory(long memoryBudget) {
+        checkArgument(memoryBudget > 0, MESSAGE_CONSTRAINTS);
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Records that {@code before}, which was at {@code index} of the member list {@code membersBefore}, was replaced
+     * by {@code after}. {@code before} is null for an added member, and {@code after} is null for a removed member.
+     */
+    void recordMemberChange(PersistentVector<Member> membersBefore, Member before, int index, Member after) {
+        pendingSteps.add(new PendingStep(new Step(before, index, after), membersBefore));
+    }
+
+    /**
+     * Records that the member list {@code membersBefore} was replaced as a whole.
+     */
+    void recordReplacement(PersistentVector<Member> membersBefore) {
+        if (membersBeforeReplacement == null) {
+            membersBeforeReplacement = pendingSteps.isEmpty() ? membersBefore : pendingSteps.get(0).membersBefore;
+        }
+    }
+
+    /**
+     * Commits every pending change as one change, which leaves the member list as {@code members}, and drops the
+     * undone changes. Does nothing if no change is pending.
+     */
+    void commit(PersistentVector<Member> members) {
+        Change change = takePendingChanges(members);
+        if (change != null) {
+            push(change);
+        }
+    }
+
+    /**
+     * Commits the pending changes to the member of {@code memberId} as one change, and drops the undone changes.
+     * Every pending change is committed if the member list was replaced as a whole, which leaves it as
+     * {@code members}. Does nothing if no such change is pending.
+     */
+    void commit(Id memberId, PersistentVector<Member> members) {
+        if (membersBeforeReplacement != null) {
+            commit(members);
+            return;
+        }
+        List<Step> steps = new ArrayList<>();
+        for (Iterator<PendingStep> iterator = pendingSteps.iterator(); iterator.hasNext();) {
+            Step step = iterator.next().step;
+            if (step.isOf(memberId)) {
+                steps.add(step);
+                iterator.remove();
+            }
+        }
+        if (!steps.isEmpty()) {
+            push(new Change(steps));
+        }
+    }
+
+    /**
+     * Returns every pending change as one change, which leaves the member list as {@code members}, and forgets them.
+     * Returns null if no change is pending.
+     */
+    Change takePendingChanges(PersistentVector<Member> members) {
+        Change change = null;
+        if (membersBeforeReplacement != null) {
+            change = membersBeforeReplacement == members ? null : new Change(membersBeforeReplacement, members);
+        } else if (!pendingSteps.isEmpty()) {
+            List<Step> steps = new ArrayList<>();
+            pendingSteps.forEach(pendingStep -> steps.add(pendingStep.step));
+            change = new Change(steps);
+        }
+        pendingSteps.clear();
+        membersBeforeReplacement = null;
+        return change;
+    }
+
+    /**
+     * Returns true if there is a change to undo.
+     */
+    boolean canUndo() {
+        return !undoChanges.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone change to redo.
+     */
+    boolean canRedo() {
+        return !redoChanges.isEmpty();
+    }
+
+    /**
+     * Removes and returns the last change, which the caller undoes and hands back with {@link #undone(Change)}.
+     */
+    Change takeUndo() {
+        checkArgument(canUndo(), "There is no change to undo.");
+        Change change = undoChanges.pop();
+        historyBytes -= change.bytes;
+        return change;
+    }
+
+    /**
+     * Keeps {@code change}, which has been undone, for redo.
+     */
+    void undone(Change change) {
+        redoChanges.push(change);
+        historyBytes += change.bytes;
+    }
+
+    /**
+     * Removes and returns the last undone change, which the caller redoes and hands back with {@link #redone(Change)}.
+     */
+    Change takeRedo() {
+        checkArgument(canRedo(), "There is no change to redo.");
+        Change change = redoChanges.pop();
+        historyBytes -= change.bytes;
+        return change;
+    }
+
+    /**
+     * Keeps {@code change}, which has been redone, for undo.
+     */
+    void redone(Change change) {
+        undoChanges.push(change);
+        historyBytes += change.bytes;
+        dropOldestChangesOverBudget();
+    }
+
+    /**
+     * Returns the estimated size of the history in bytes.
+     */
+    long getHistoryBytes() {
+        return historyBytes;
+    }
+
+    private void push(Change change) {
+        redoChanges.forEach(undone -> historyBytes -= undone.bytes);
+        redoChanges.clear();
+        redone(change);
+    }
+
+    /**
+     * Drops the oldest changes until the history fits in the memory budget, or only the newest change is left.
+     */
+    private void dropOldestChangesOverBudget() {
+        while (historyBytes > memoryBudget && undoChanges.size() > 1) {
+            historyBytes -= undoChanges.removeLast().bytes;
+        }
+    }
+
+    /**
+     * A committed change, which is either a list of member changes or the replacement of the whole member list.
+     */
+    static final class Change {
+        final List<Step> steps;
+        final PersistentVector<Member> membersBefore;
+        final PersistentVector<Member> membersAfter;
+        private final long bytes;
+
+        private Change(List<Step> steps) {
+            this.steps = Collections.unmodifiableList(steps);
+            membersBefore = null;
+            membersAfter = null;
+            bytes = steps.stream().mapToLong(Step::estimateBytes).sum();
+        }
+
+        private Change(PersistentVector<Member> membersBefore, PersistentVector<Member> membersAfter) {
+            steps = null;
+            this.membersBefore = membersBefore;
+            this.membersAfter = membersAfter;
+            bytes = estimateReplacementBytes(membersBefore, membersAfter);
+        }
+
+        /**
+         * Returns the estimated bytes held only by a change from {@code membersBefore} to {@code membersAfter}, which
+         * are the tree nodes of {@code membersBefore} and the members that {@code membersAfter} no longer has.
+         * The members kept are shared with the ezFoodie, so they cost nothing more.
+         */
+        private static long estimateReplacementBytes(PersistentVector<Member> membersBefore,
+                PersistentVector<Member> membersAfter) {
+            Set<Member> membersKept = Collections.newSetFromMap(new IdentityHashMap<>());
+            membersKept.addAll(membersAfter);
+            long membersDropped = membersBefore.stream().filter(member -> !membersKept.contains(member)).count();
+            // a replacement builds a new tree, so none of the nodes of membersBefore are shared with membersAfter
+            return membersBefore.size() * ESTIMATED_NODE_BYTES + membersDropped * ESTIMATED_MEMBER_BYTES;
+        }
+
+        /**
+         * Returns true if the change replaced the whole member list.
+         */
+        boolean isReplacement() {
+            return steps == null;
+        }
+
+        /**
+         * Returns the member of each member id the steps touched as it was before them, or null if it was absent.
+         */
+        Map<Id, Member> getMembersBefore() {
+            Map<Id, Member> members = new HashMap<>();
+            for (int i = steps.size() - 1; i >= 0; i--) {
+                Step step = steps.get(i);
+                if (step.after != null) {
+                    members.put(step.after.getId(), null);
+                }
+                if (step.before != null) {
+                    members.put(step.before.getId(), step.before);
+                }
+            }
+            return members;
+        }
+
+        /**
+         * Returns the member of each member id the steps touched as the steps left it, or null if it was removed.
+         */
+        Map<Id, Member> getMembersAfter() {
+            Map<Id, Member> members = new HashMap<>();
+            for (Step step : steps) {
+                if (step.before != null) {
+                    members.put(step.before.getId(), null);
+                }
+                if (step.after != null) {
+                    members.put(step.after.getId(), step.after);
+                }
+            }
+            return members;
+        }
+    }
+
+    /**
+     * A change to one member, from {@code before} at {@code index} of the member list to {@code after}.
+     * {@code before} is null for an added member, and {@code after} is null for a removed member.
+     */
+    static final class Step {
+        final Member before;
+        final int index;
+        final Member after;
+
+        private Step(Member before, int index, Member after) {
+            this.before = before;
+            this.index = index;
+            this.after = after;
+        }
+
+        private boolean isOf(Id memberId) {
+            return (before != null && before.getId().equals(memberId))
+                    || (after != null && after.getId().equals(memberId));
+        }
+
+        private long estimateBytes() {
+            return ESTIMATED_STEP_BYTES + ESTIMATED_MEMBER_BYTES;
+        }
+    }
+
+    /**
+     * A pending step and the member list before it.
+     */
+    private static class PendingStep {
+        private final Step step;
+        private final PersistentVector<Member> membersBefore;
+
+        PendingStep(Step step, PersistentVector<Member> membersBefore) {
+            this.step = step;
+            this.membersBefore = membersBefore;
+        }
+    }
+}
@@ -2,12 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.jfr.IndexRebuildEvent;
+import seedu.address.model.member.Id;
 import seedu.address.model.member.Member;
 import seedu.address.model.member.UniqueMemberList;
+import seedu.address.model.reservation.ReservationCalendar;
+import seedu.address.model.reservation.ReservationEntry;
 
 /**
  * Wraps all data at the ezFoodie level.
@@ -16,6 +21,7 @@ import seedu.address.model.member.UniqueMemberList;
 public class EzFoodie implements ReadOnlyEzFoodie {
 
     private final UniqueMemberList members;
+    private final ReservationCalendar reservationCalendar;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +32,7 @@ public class EzFoodie implements ReadOnlyEzFoodie {
      */
     {
         members = new UniqueMemberList();
+        reservationCalendar = new ReservationCalendar();
     }
 
     /**
@@ -51,6 +58,10 @@ public class EzFoodie implements ReadOnlyEzFoodie {
      */
     public void setMembers(List<Member> members) {
         this.members.setMembers(members);
+        IndexRebuildEvent event = new IndexRebuildEvent();
+        event.begin();
+        reservationCalendar.setMembers(members);
+        event.commit(IndexRebuildEvent.INDEX_RESERVATION_CALENDAR, members.size());
     }
 
     /**
@@ -81,12 +92,30 @@ public class EzFoodie implements ReadOnlyEzFoodie {
         return members.contains(member, predicate);
     }
 
+    /**
+     * Returns the member of {@code id} in the ezFoodie, if any.
+     */
+    public Optional<Member> getMember(Id id) {
+        requireNonNull(id);
+        return members.get(id);
+    }
+
     /**
      * Adds a member to the ezFoodie.
      * The member must not already exist in the ezFoodie.
      */
     public void addMember(Member p) {
         members.add(p);
+        reservationCalendar.addMember(p);
+    }
+
+    /**
+     * Adds a member to the ezFoodie at {@code index} of the member list.
+     * The member must not already exist in the ezFoodie.
+     */
+    void addMember(int index, Member p) {
+        members.add(index, p);
+        reservationCalendar.addMember(p);
     }
 
     /**
@@ -97,6 +126,7 @@ public class EzFoodie implements ReadOnlyEzFoodie {
     public void setMember(Member target, Member editedMember) {
         requireNonNull(editedMember);
         members.setMember(target, editedMember);
+        reservationCalendar.setMember(target, editedMember);
     }
 
     /**
@@ -105,6 +135,24 @@ public class EzFoodie implements ReadOnlyEzFoodie {
      */
     public void removeMember(Member key) {
         members.remove(key);
+        reservationCalendar.removeMember(key);
+    }
+
+    /**
+     * Returns the position of {@code member} in the member list, or -1 if the ezFoodie does not contain it.
+     */
+    int indexOf(Member member) {
+        return members.indexOf(member);
+    }
+
+    //// reservation-level operations
+
+    /**
+     * Returns the reservations of all members on {@code date} in ascending order of date time.
+     */
+    public List<ReservationEntry> getReservations(LocalDate date) {
+        requireNonNull(date);
+        return reservationCalendar.getReservations(date);
     }
 
     //// util methods
@@ -114,18 +162,18 @@ public class EzFoodie implements ReadOnlyEzFoodie {
      */
     @Override
     public String toString() {
-        return members.asUnmodifiableObservableList().size() + " members";
+        return members.asUnmodifiableList().size() + " members";
         // TODO: refine later
     }
 
     /**
      * Overrides and gets member list.
      *
-     * @return ObservableList a series list data of members.
+     * @return List a series list data of members.
      */
     @Override
-    public ObservableList<Member> getMemberList() {
-        return members.asUnmodifiableObservableList();
+    public List<Member> getMemberList() {
+        return members.asUnmodifiableList();
     }
 
     /**
@@ -0,0 +1,192 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.persistent.PersistentVector;
+import seedu.address.model.member.Member;
+
+/**
+ * An unmodifiable live view of the members of a {@code VersionedEzFoodie} that match a predicate,
+ * optionally sorted by a comparator.
+ * The view is brought up to date on the first read after the members, the predicate or the comparator change, so
+ * changes to the ezFoodie cost nothing until the view is read. The members changed since the last read are then moved
+ * into place one by one, in O(log n) each when the view is sorted, and the view is only filtered and sorted from
+ * scratch after its predicate or comparator changes, the whole ezFoodie is replaced, or more members have changed
+ * than the ezFoodie logs.
+ * Each method runs alone on the view, so a single {@code get} or {@code size} may be called from any thread, but
+ * iterating over the view while the ezFoodie changes may mix two versions of it. A reader that iterates over the view
+ * from several threads takes a {@link #snapshot()} instead.
+ */
+class MemberListView extends AbstractList<Member> {
+
+    private final VersionedEzFoodie ezFoodie;
+    private Predicate<Member> predicate = Model.PREDICATE_SHOW_ALL_MEMBERS;
+    private Comparator<Member> comparator;
+    private long viewedVersion;
+    private PersistentVector<Member> view;
+
+    /**
+     * Constructs an unsorted {@code MemberListView} of every member of {@code ezFoodie}.
+     */
+    MemberListView(VersionedEzFoodie ezFoodie) {
+        requireNonNull(ezFoodie);
+        this.ezFoodie = ezFoodie;
+    }
+
+    /**
+     * Gets the predicate of the view.
+     */
+    synchronized Predicate<Member> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Sets the predicate of the view. Setting the same predicate again keeps the view as it is.
+     */
+    synchronized void setPredicate(Predicate<Member> predicate) {
+        requireNonNull(predicate);
+        if (predicate != this.predicate) {
+            this.predicate = predicate;
+            view = null;
+        }
+    }
+
+    /**
+     * Sets the comparator of the view, or keeps the order of the ezFoodie if {@code comparator} is null.
+     */
+    synchronized void setComparator(Comparator<Member> comparator) {
+        if (comparator != this.comparator) {
+            this.comparator = comparator;
+            view = null;
+        }
+    }
+
+    /**
+     * Returns the current members of the view as an immutable list, which is not changed by later operations.
+     */
+    synchronized List<Member> snapshot() {
+        return getView();
+    }
+
+    @Override
+    public synchronized Member get(int index) {
+        return getView().get(index);
+    }
+
+    @Override
+    public synchronized int size() {
+        return getView().size();
+    }
+
+    private PersistentVector<Member> getView() {
+        if (predicate == Model.PREDICATE_SHOW_ALL_MEMBERS && comparator == null) {
+            view = null;
+            return ezFoodie.getMemberVector();
+        }
+        VersionedEzFoodie.Revision revision = ezFoodie.getRevisionSince(viewedVersion);
+        if (view != null && revision.changes != null) {
+            for (VersionedEzFoodie.MemberChange change : revision.changes) {
+                view = applyChange(view, change);
+                if (view == null) {
+                    break;
+                }
+            }
+        }
+        if (view == null || revision.changes == null) {
+            view = computeView(revision.members);
+        }
+        viewedVersion = revision.version;
+        return view;
+    }
+
+    private PersistentVector<Member> computeView(PersistentVector<Member> members) {
+        List<Member> matched = new ArrayList<>();
+        members.forEach(member -> {
+            if (predicate.test(member)) {
+                matched.add(member);
+            }
+        });
+        if (comparator != null) {
+            matched.sort(comparator);
+        }
+        return PersistentVector.copyOf(matched);
+    }
+
+    /**
+     * Returns {@code view} with {@code change} applied, or null if the view has to be computed from scratch.
+     */
+    private PersistentVector<Member> applyChange(PersistentVector<Member> view,
+            VersionedEzFoodie.MemberChange change) {
+        boolean isRemovedShown = change.removed != null && predicate.test(change.removed);
+        boolean isAddedShown = change.added != null && predicate.test(change.added);
+        if (!isRemovedShown && !isAddedShown) {
+            return view;
+        }
+        int removedIndex = isRemovedShown ? indexOf(view, change.removed) : -1;
+        if (isRemovedShown && removedIndex < 0) {
+            return null;
+        }
+        if (isRemovedShown && isAddedShown
+                && (comparator == null || comparator.compare(change.removed, change.added) == 0)) {
+            return view.replaced(removedIndex, change.added);
+        }
+        PersistentVector<Member> updated = isRemovedShown ? view.removed(removedIndex) : view;
+        if (!isAddedShown) {
+            return updated;
+        }
+        if (comparator != null) {
+            return updated.inserted(upperBound(updated, change.added), change.added);
+        }
+        // members are only ever added at the end of the ezFoodie, but the place of an edited member that is newly
+        // shown is unknown without a comparator
+        return change.removed == null ? updated.appended(change.added) : null;
+    }
+
+    /**
+     * Returns the index of {@code member} itself in {@code view}, or -1 if it is not there.
+     */
+    private int indexOf(PersistentVector<Member> view, Member member) {
+        if (comparator == null) {
+            return view.findIndex(shown -> shown == member);
+        }
+        int low = 0;
+        int high = view.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(view.get(middle), member) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int i = low; i < view.size() && comparator.compare(view.get(i), member) == 0; i++) {
+            if (view.get(i) == member) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index after the last member of {@code view} that does not come after {@code member}.
+     */
+    private int upperBound(PersistentVector<Member> view, Member member) {
+        int low = 0;
+        int high = view.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(view.get(middle), member) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
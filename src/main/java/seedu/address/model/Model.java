@@ -1,12 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.status.LoginStatus;
 import seedu.address.model.member.Member;
+import seedu.address.model.reservation.CapacitySettings;
+import seedu.address.model.reservation.ReservationEntry;
 
 /**
  * The API of the Model component.
@@ -42,6 +48,16 @@ public interface Model {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Returns the user prefs' reservation capacity settings.
+     */
+    CapacitySettings getCapacitySettings();
+
+    /**
+     * Sets the user prefs' reservation capacity settings.
+     */
+    void setCapacitySettings(CapacitySettings capacitySettings);
+
     /**
      * Returns the user prefs' account path.
      */
@@ -72,6 +88,24 @@ public interface Model {
      */
     ReadOnlyAccount getAccount();
 
+    /**
+     * Returns the login status of this session.
+     */
+    LoginStatus getLoginStatus();
+
+    /**
+     * Sets the login status of this session.
+     */
+    void setLoginStatus(LoginStatus loginStatus);
+
+    /**
+     * Opens a new session on the same data, which starts logged in as {@code STAFF} and showing all members.
+     * The login status, the filtered and sorted member lists and the undo history of a session are its own, so
+     * sessions do not change each other's, while every change to the data is seen by all of them. Undo in a session
+     * only reverts the changes made in that session.
+     */
+    Model openSession();
+
     /**
      * Replaces ezFoodie data with the data in {@code ezFoodie}.
      */
@@ -82,6 +116,23 @@ public interface Model {
      */
     ReadOnlyEzFoodie getEzFoodie();
 
+    /**
+     * Returns an immutable point-in-time view of the members and account, which can be read from any thread.
+     */
+    ModelSnapshot snapshot();
+
+    /**
+     * Returns the member of {@code id} in the ezFoodie, if any.
+     */
+    Optional<Member> getMember(seedu.address.model.member.Id id);
+
+    /**
+     * Returns the version stamp of the member of {@code id}.
+     * The stamp changes whenever the member is added, replaced or removed, or the whole ezFoodie is replaced,
+     * so a command that read the stamp before the member can tell whether the member changed since.
+     */
+    long getMemberVersion(seedu.address.model.member.Id id);
+
     /**
      * Returns true if a member with the same identity as {@code member} exists in the ezFoodie.
      */
@@ -113,15 +164,105 @@ public interface Model {
     void setMember(Member target, Member editedMember);
 
     /**
-     * Returns an unmodifiable view of the sorted or filtered member list.
+     * Replaces the given member {@code target} with {@code editedMember} if the version stamp of {@code target}
+     * is still {@code expectedVersion}, and returns true if it is replaced.
+     * {@code target} must exist in the ezFoodie.
+     * The member identity of {@code editedMember} must not be the same as another existing member in the ezFoodie.
+     */
+    boolean setMember(Member target, Member editedMember, long expectedVersion);
+
+    /**
+     * Commits every change made since the last commit, undo or redo as one change to undo and redo.
+     * Does nothing if the ezFoodie has not changed since then.
+     */
+    void commitEzFoodie();
+
+    /**
+     * Commits the changes made to the member of {@code memberId} since the last commit, undo or redo as one change
+     * to undo and redo, leaving the changes to other members to their own commits.
+     * Every change is committed if the whole ezFoodie was replaced since then.
+     */
+    void commitEzFoodie(seedu.address.model.member.Id memberId);
+
+    /**
+     * Returns true if the ezFoodie has a change to undo.
+     */
+    boolean canUndoEzFoodie();
+
+    /**
+     * Returns true if the ezFoodie has an undone change to redo.
+     */
+    boolean canRedoEzFoodie();
+
+    /**
+     * Reverts the last committed change, and returns true if it is reverted.
+     * The change is dropped instead, and false is returned, if a member it changed has been changed again since by
+     * a change that is not in the same history.
+     */
+    boolean undoEzFoodie();
+
+    /**
+     * Makes the last undone change again, and returns true if it is made.
+     * The change is dropped instead, and false is returned, if a member it changed has been changed again since by
+     * a change that is not in the same history.
+     */
+    boolean redoEzFoodie();
+
+    /**
+     * Returns the next member id to hand out, or an empty {@code Optional} if every member id is taken.
+     */
+    Optional<seedu.address.model.member.Id> getNextMemberId();
+
+    /**
+     * Returns the next transaction id of the member of {@code memberId} to hand out,
+     * or an empty {@code Optional} if every transaction id of the member is taken.
+     */
+    Optional<seedu.address.model.transaction.Id> getNextTransactionId(seedu.address.model.member.Id memberId);
+
+    /**
+     * Returns the next reservation id of the member of {@code memberId} to hand out,
+     * or an empty {@code Optional} if every reservation id of the member is taken.
+     */
+    Optional<seedu.address.model.reservation.Id> getNextReservationId(seedu.address.model.member.Id memberId);
+
+    /**
+     * Returns an unmodifiable list of the reservations of all members on {@code date},
+     * in ascending order of date time.
+     */
+    List<ReservationEntry> getReservationsByDate(LocalDate date);
+
+    /**
+     * Returns true if a table is free for a reservation at {@code dateTime}.
+     */
+    boolean hasReservationCapacity(LocalDateTime dateTime);
+
+    /**
+     * Returns true if a table is free for a reservation at {@code dateTime},
+     * assuming the table of {@code toReplace} is released first.
+     */
+    boolean hasReservationCapacity(LocalDateTime dateTime, ReservationEntry toReplace);
+
+    /**
+     * Returns the nearest future date times to {@code dateTime} with a free table.
+     */
+    List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime);
+
+    /**
+     * Returns the nearest future date times to {@code dateTime} with a free table,
+     * assuming the table of {@code toReplace} is released first.
+     */
+    List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime, ReservationEntry toReplace);
+
+    /**
+     * Returns an immutable snapshot of the sorted or filtered member list, which may be iterated from any thread.
      */
-    ObservableList<Member> getUpdatedMemberList();
+    List<Member> getUpdatedMemberList();
 
     /**
-     * Returns an unmodifiable view of the sorted or filtered member list
+     * Returns an immutable snapshot of the sorted or filtered member list
      * for viewCommand to use only.
      */
-    ObservableList<Member> getUpdatedMemberListForView();
+    List<Member> getUpdatedMemberListForView();
 
     /**
      * Updates the filter of the filtered member list to filter by the given {@code predicate}.
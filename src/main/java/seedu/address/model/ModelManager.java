@@ -4,29 +4,51 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.IndexRebuildEvent;
+import seedu.address.commons.core.persistent.PersistentVector;
+import seedu.address.commons.status.LoginStatus;
+import seedu.address.model.id.IdRegistry;
 import seedu.address.model.member.Member;
+import seedu.address.model.reservation.CapacitySettings;
+import seedu.address.model.reservation.ReservationEntry;
+import seedu.address.model.reservation.ReservationSlotAllocator;
 
 /**
  * Represents the in-memory model of the ezFoodie data.
+ * The login status, member list views and undo history of a {@code ModelManager} are those of its first session;
+ * further sessions on the same data, each with its own, are opened with {@link #openSession()}.
+ * Every method may be called from any thread. Each one runs alone on the data, but a command that needs several
+ * calls to see and change the data consistently must be kept apart from other commands by its caller, e.g. with
+ * the member locks of {@code LogicManager}. The version stamps of the members let a command detect a change made
+ * by a caller that did not take those locks, instead of overwriting it.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final Account account;
-    private final EzFoodie ezFoodie;
+    private final VersionedEzFoodie ezFoodie;
     private final UserPrefs userPrefs;
-    private final FilteredList<Member> filteredMembers;
-    private final FilteredList<Member> filteredMembersForView;
-    private final SortedList<Member> sortedMembers;
+    private final MemberListView updatedMembers;
+    private final MemberListView updatedMembersForView;
+    private final IdRegistry idRegistry;
+    private final ChangeHistory history = new ChangeHistory();
+    private final Map<seedu.address.model.member.Id, Long> memberVersions = new HashMap<>();
+    private ReservationSlotAllocator reservationSlotAllocator;
+    private long lastMemberVersion;
+    private long baseMemberVersion;
+    private volatile LoginStatus loginStatus = LoginStatus.STAFF;
 
     /**
      * Initializes a ModelManager with the given account, ezFoodie and userPrefs.
@@ -41,12 +63,14 @@ public class ModelManager implements Model {
                 + " and user prefs " + userPrefs);
 
         this.account = new Account(account);
-        this.ezFoodie = new EzFoodie(ezFoodie);
+        this.ezFoodie = new VersionedEzFoodie(ezFoodie);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredMembers = new FilteredList<>(this.ezFoodie.getMemberList());
-        filteredMembersForView = new FilteredList<>(this.ezFoodie.getMemberList());
-        sortedMembers = new SortedList<>(filteredMembers); // Wrap the FilteredList in a SortedList
-        sortedMembers.setComparator(COMPARATOR_SORT_MEMBERS_BY_ID_ASC);
+        updatedMembers = createMemberListView();
+        updatedMembers.setComparator(COMPARATOR_SORT_MEMBERS_BY_ID_ASC);
+        updatedMembersForView = createMemberListView();
+        idRegistry = new IdRegistry(this.userPrefs.getIdReusePolicy());
+        rebuildIdRegistry();
+        resetReservationSlotAllocator();
     }
 
     /**
@@ -62,9 +86,11 @@ public class ModelManager implements Model {
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
     @Override
-    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+    public synchronized void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        idRegistry.setPolicy(this.userPrefs.getIdReusePolicy());
+        resetReservationSlotAllocator();
     }
 
     /**
@@ -92,6 +118,24 @@ public class ModelManager implements Model {
         userPrefs.setGuiSettings(guiSettings);
     }
 
+    /**
+     * Returns the user prefs' reservation capacity settings.
+     */
+    @Override
+    public CapacitySettings getCapacitySettings() {
+        return userPrefs.getCapacitySettings();
+    }
+
+    /**
+     * Sets the user prefs' reservation capacity settings.
+     */
+    @Override
+    public synchronized void setCapacitySettings(CapacitySettings capacitySettings) {
+        requireNonNull(capacitySettings);
+        userPrefs.setCapacitySettings(capacitySettings);
+        resetReservationSlotAllocator();
+    }
+
     /**
      * Returns the user prefs' account path.
      */
@@ -145,6 +189,42 @@ public class ModelManager implements Model {
         return account;
     }
 
+    //=========== Session ====================================================================================
+
+    /**
+     * Returns the login status of this session.
+     */
+    @Override
+    public LoginStatus getLoginStatus() {
+        return loginStatus;
+    }
+
+    /**
+     * Sets the login status of this session.
+     */
+    @Override
+    public void setLoginStatus(LoginStatus loginStatus) {
+        requireNonNull(loginStatus);
+        this.loginStatus = loginStatus;
+    }
+
+    /**
+     * Opens a new session on the data of this {@code ModelManager}.
+     * The model keeps no reference to the session, so the member list views and undo history of the session are
+     * garbage collected along with it once its client is done with it.
+     */
+    @Override
+    public Model openSession() {
+        return new SessionModel(this);
+    }
+
+    /**
+     * Creates a member list view of the ezFoodie, for a session to filter and sort on its own.
+     */
+    MemberListView createMemberListView() {
+        return new MemberListView(ezFoodie);
+    }
+
     //=========== EzFoodie ===================================================================================
 
     /**
@@ -152,7 +232,16 @@ public class ModelManager implements Model {
      */
     @Override
     public void setEzFoodie(ReadOnlyEzFoodie ezFoodie) {
-        this.ezFoodie.resetData(ezFoodie);
+        setEzFoodie(ezFoodie, history);
+    }
+
+    /**
+     * Replaces ezFoodie data with the data in {@code ezFoodie}, and records the change in {@code history}.
+     */
+    synchronized void setEzFoodie(ReadOnlyEzFoodie ezFoodie, ChangeHistory history) {
+        PersistentVector<Member> membersBefore = this.ezFoodie.getMemberVector();
+        replaceEzFoodie(ezFoodie);
+        history.recordReplacement(membersBefore);
     }
 
     /**
@@ -163,11 +252,37 @@ public class ModelManager implements Model {
         return ezFoodie;
     }
 
+    /**
+     * Returns an immutable point-in-time view of the members and account, which can be read from any thread.
+     */
+    @Override
+    public synchronized ModelSnapshot snapshot() {
+        return new ModelSnapshot(ezFoodie.getMemberVector(), account);
+    }
+
+    /**
+     * Returns the member of {@code id} in the ezFoodie, if any.
+     */
+    @Override
+    public synchronized Optional<Member> getMember(seedu.address.model.member.Id id) {
+        requireNonNull(id);
+        return ezFoodie.getMember(id);
+    }
+
+    /**
+     * Returns the version stamp of the member of {@code id}.
+     */
+    @Override
+    public synchronized long getMemberVersion(seedu.address.model.member.Id id) {
+        requireNonNull(id);
+        return memberVersions.getOrDefault(id, baseMemberVersion);
+    }
+
     /**
      * Returns true if a member with the same identity as {@code member} exists in the ezFoodie.
      */
     @Override
-    public boolean hasMember(Member member) {
+    public synchronized boolean hasMember(Member member) {
         requireNonNull(member);
         return ezFoodie.hasMember(member);
     }
@@ -177,7 +292,7 @@ public class ModelManager implements Model {
      * {@code predicate} is the filter condition for the filtered ezFoodie.
      */
     @Override
-    public boolean hasMember(Member member, Predicate<Member> predicate) {
+    public synchronized boolean hasMember(Member member, Predicate<Member> predicate) {
         requireNonNull(member);
         return ezFoodie.hasMember(member, predicate);
     }
@@ -188,7 +303,18 @@ public class ModelManager implements Model {
      */
     @Override
     public void deleteMember(Member target) {
-        ezFoodie.removeMember(target);
+        deleteMember(target, history);
+    }
+
+    /**
+     * Deletes the given member, and records the change in {@code history}.
+     * The member must exist in the ezFoodie.
+     */
+    synchronized void deleteMember(Member target, ChangeHistory history) {
+        PersistentVector<Member> membersBefore = ezFoodie.getMemberVector();
+        int index = ezFoodie.indexOf(target);
+        removeMember(target);
+        history.recordMemberChange(membersBefore, target, index, null);
     }
 
     /**
@@ -197,8 +323,22 @@ public class ModelManager implements Model {
      */
     @Override
     public void addMember(Member member) {
-        ezFoodie.addMember(member);
-        updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        addMember(member, history);
+        // refiltering is skipped when every member is already shown, so that adding stays cheap on large lists
+        if (updatedMembers.getPredicate() != PREDICATE_SHOW_ALL_MEMBERS) {
+            updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        }
+    }
+
+    /**
+     * Adds the given member without changing the member list views of any session, and records the change in
+     * {@code history}.
+     * {@code member} must not already exist in the ezFoodie.
+     */
+    synchronized void addMember(Member member, ChangeHistory history) {
+        PersistentVector<Member> membersBefore = ezFoodie.getMemberVector();
+        insertMember(membersBefore.size(), member);
+        history.recordMemberChange(membersBefore, null, membersBefore.size(), member);
     }
 
     /**
@@ -208,29 +348,390 @@ public class ModelManager implements Model {
      */
     @Override
     public void setMember(Member target, Member editedMember) {
+        setMember(target, editedMember, history);
+    }
+
+    /**
+     * Replaces the given member {@code target} with {@code editedMember}, and records the change in {@code history}.
+     * {@code target} must exist in the ezFoodie.
+     * The member identity of {@code editedMember} must not be the same as another existing member in the ezFoodie.
+     */
+    synchronized void setMember(Member target, Member editedMember, ChangeHistory history) {
+        requireAllNonNull(target, editedMember);
+
+        PersistentVector<Member> membersBefore = ezFoodie.getMemberVector();
+        int index = ezFoodie.indexOf(target);
+        replaceMember(target, editedMember);
+        history.recordMemberChange(membersBefore, target, index, editedMember);
+    }
+
+    /**
+     * Replaces the given member {@code target} with {@code editedMember} if the version stamp of {@code target}
+     * is still {@code expectedVersion}, and returns true if it is replaced.
+     * {@code target} must exist in the ezFoodie.
+     * The member identity of {@code editedMember} must not be the same as another existing member in the ezFoodie.
+     */
+    @Override
+    public boolean setMember(Member target, Member editedMember, long expectedVersion) {
+        return setMember(target, editedMember, expectedVersion, history);
+    }
+
+    /**
+     * Replaces the given member {@code target} with {@code editedMember} if the version stamp of {@code target}
+     * is still {@code expectedVersion}, records the change in {@code history}, and returns true if it is replaced.
+     * {@code target} must exist in the ezFoodie.
+     * The member identity of {@code editedMember} must not be the same as another existing member in the ezFoodie.
+     */
+    synchronized boolean setMember(Member target, Member editedMember, long expectedVersion, ChangeHistory history) {
         requireAllNonNull(target, editedMember);
+        if (getMemberVersion(target.getId()) != expectedVersion) {
+            return false;
+        }
+        setMember(target, editedMember, history);
+        return true;
+    }
+
+    /**
+     * Commits every change made since the last commit, undo or redo as one change to undo and redo.
+     * Does nothing if the ezFoodie has not changed since then.
+     */
+    @Override
+    public void commitEzFoodie() {
+        commitEzFoodie(history);
+    }
+
+    /**
+     * Commits the changes made to the member of {@code memberId} since the last commit, undo or redo as one change
+     * to undo and redo, leaving the changes to other members to their own commits.
+     * Every change is committed if the whole ezFoodie was replaced since then.
+     */
+    @Override
+    public void commitEzFoodie(seedu.address.model.member.Id memberId) {
+        commitEzFoodie(memberId, history);
+    }
+
+    /**
+     * Commits every change recorded in {@code history} since its last commit, undo or redo.
+     */
+    synchronized void commitEzFoodie(ChangeHistory history) {
+        history.commit(ezFoodie.getMemberVector());
+    }
+
+    /**
+     * Commits the changes to the member of {@code memberId} recorded in {@code history} since its last commit, undo
+     * or redo.
+     */
+    synchronized void commitEzFoodie(seedu.address.model.member.Id memberId, ChangeHistory history) {
+        requireNonNull(memberId);
+        history.commit(memberId, ezFoodie.getMemberVector());
+    }
+
+    /**
+     * Returns true if the ezFoodie has a change to undo.
+     */
+    @Override
+    public boolean canUndoEzFoodie() {
+        return canUndoEzFoodie(history);
+    }
+
+    /**
+     * Returns true if {@code history} has a change to undo.
+     */
+    synchronized boolean canUndoEzFoodie(ChangeHistory history) {
+        return history.canUndo();
+    }
+
+    /**
+     * Returns true if the ezFoodie has an undone change to redo.
+     */
+    @Override
+    public boolean canRedoEzFoodie() {
+        return canRedoEzFoodie(history);
+    }
 
+    /**
+     * Returns true if {@code history} has an undone change to redo.
+     */
+    synchronized boolean canRedoEzFoodie(ChangeHistory history) {
+        return history.canRedo();
+    }
+
+    /**
+     * Reverts the last committed change, and returns true if it is reverted.
+     */
+    @Override
+    public boolean undoEzFoodie() {
+        return undoEzFoodie(history);
+    }
+
+    /**
+     * Reverts the last committed change of {@code history}, and returns true if it is reverted.
+     * Changes made since the last commit are reverted first. The last committed change is dropped instead, and false
+     * is returned, if a member it changed has been changed again by a change outside {@code history} since.
+     */
+    synchronized boolean undoEzFoodie(ChangeHistory history) {
+        ChangeHistory.Change pending = history.takePendingChanges(ezFoodie.getMemberVector());
+        if (pending != null && isAfter(pending)) {
+            revert(pending);
+        }
+        ChangeHistory.Change change = history.takeUndo();
+        if (!isAfter(change)) {
+            return false;
+        }
+        revert(change);
+        history.undone(change);
+        return true;
+    }
+
+    /**
+     * Makes the last undone change again, and returns true if it is made.
+     */
+    @Override
+    public boolean redoEzFoodie() {
+        return redoEzFoodie(history);
+    }
+
+    /**
+     * Makes the last undone change of {@code history} again, and returns true if it is made.
+     * Changes made since the last commit are reverted first. The last undone change is dropped instead, and false
+     * is returned, if a member it changed has been changed again by a change outside {@code history} since.
+     */
+    synchronized boolean redoEzFoodie(ChangeHistory history) {
+        ChangeHistory.Change pending = history.takePendingChanges(ezFoodie.getMemberVector());
+        if (pending != null && isAfter(pending)) {
+            revert(pending);
+        }
+        ChangeHistory.Change change = history.takeRedo();
+        if (!isBefore(change)) {
+            return false;
+        }
+        reapply(change);
+        history.redone(change);
+        return true;
+    }
+
+    /**
+     * Returns true if the ezFoodie is still as {@code change} left it.
+     */
+    private boolean isAfter(ChangeHistory.Change change) {
+        return change.isReplacement()
+                ? ezFoodie.getMemberVector() == change.membersAfter
+                : hasMembers(change.getMembersAfter());
+    }
+
+    /**
+     * Returns true if the ezFoodie is as it was before {@code change}, as far as the change is concerned.
+     */
+    private boolean isBefore(ChangeHistory.Change change) {
+        return change.isReplacement()
+                ? ezFoodie.getMemberVector() == change.membersBefore
+                : hasMembers(change.getMembersBefore());
+    }
+
+    /**
+     * Returns true if the member of each member id in {@code members} is the same instance as the mapped one, or is
+     * absent where it is mapped to null.
+     */
+    private boolean hasMembers(Map<seedu.address.model.member.Id, Member> members) {
+        return members.entrySet().stream()
+                .allMatch(entry -> ezFoodie.getMember(entry.getKey()).orElse(null) == entry.getValue());
+    }
+
+    private void revert(ChangeHistory.Change change) {
+        if (change.isReplacement()) {
+            replaceEzFoodie(new ModelSnapshot(change.membersBefore, account));
+            return;
+        }
+        for (int i = change.steps.size() - 1; i >= 0; i--) {
+            ChangeHistory.Step step = change.steps.get(i);
+            moveMember(step.after, step.index, step.before);
+        }
+    }
+
+    private void reapply(ChangeHistory.Change change) {
+        if (change.isReplacement()) {
+            replaceEzFoodie(new ModelSnapshot(change.membersAfter, account));
+            return;
+        }
+        for (ChangeHistory.Step step : change.steps) {
+            moveMember(step.before, step.index, step.after);
+        }
+    }
+
+    /**
+     * Replaces the member {@code from} with {@code to} without recording the change, where a null {@code from} adds
+     * {@code to} at {@code index} of the member list, or at its end if it is shorter, and a null {@code to} removes
+     * {@code from}.
+     */
+    private void moveMember(Member from, int index, Member to) {
+        if (from == null) {
+            insertMember(Math.min(index, ezFoodie.getMemberVector().size()), to);
+        } else if (to == null) {
+            removeMember(from);
+        } else {
+            replaceMember(from, to);
+        }
+    }
+
+    private void insertMember(int index, Member member) {
+        ezFoodie.addMember(index, member);
+        idRegistry.addMember(member);
+        reservationSlotAllocator.addMember(member);
+        memberVersions.put(member.getId(), ++lastMemberVersion);
+    }
+
+    private void removeMember(Member target) {
+        ezFoodie.removeMember(target);
+        idRegistry.removeMember(target);
+        reservationSlotAllocator.removeMember(target);
+        memberVersions.put(target.getId(), ++lastMemberVersion);
+    }
+
+    private void replaceMember(Member target, Member editedMember) {
         ezFoodie.setMember(target, editedMember);
+        idRegistry.setMember(target, editedMember);
+        reservationSlotAllocator.setMember(target, editedMember);
+        memberVersions.put(target.getId(), ++lastMemberVersion);
+        memberVersions.put(editedMember.getId(), lastMemberVersion);
+    }
+
+    private void replaceEzFoodie(ReadOnlyEzFoodie ezFoodie) {
+        this.ezFoodie.resetData(ezFoodie);
+        resetMemberVersions();
+        rebuildIdRegistry();
+        rebuildReservationSlots();
+    }
+
+    /**
+     * Returns the next member id to hand out, or an empty {@code Optional} if every member id is taken.
+     */
+    @Override
+    public synchronized Optional<seedu.address.model.member.Id> getNextMemberId() {
+        return idRegistry.nextMemberId();
+    }
+
+    /**
+     * Returns the next transaction id of the member of {@code memberId} to hand out,
+     * or an empty {@code Optional} if every transaction id of the member is taken.
+     */
+    @Override
+    public synchronized Optional<seedu.address.model.transaction.Id> getNextTransactionId(
+            seedu.address.model.member.Id memberId) {
+        requireNonNull(memberId);
+        return idRegistry.nextTransactionId(memberId);
+    }
+
+    /**
+     * Returns the next reservation id of the member of {@code memberId} to hand out,
+     * or an empty {@code Optional} if every reservation id of the member is taken.
+     */
+    @Override
+    public synchronized Optional<seedu.address.model.reservation.Id> getNextReservationId(
+            seedu.address.model.member.Id memberId) {
+        requireNonNull(memberId);
+        return idRegistry.nextReservationId(memberId);
+    }
+
+    /**
+     * Changes the version stamp of every member, after the whole ezFoodie is replaced.
+     */
+    private void resetMemberVersions() {
+        memberVersions.clear();
+        baseMemberVersion = ++lastMemberVersion;
+    }
+
+    //=========== Reservation Calendar =======================================================================
+
+    /**
+     * Returns an unmodifiable list of the reservations of all members on {@code date},
+     * in ascending order of date time.
+     */
+    @Override
+    public synchronized List<ReservationEntry> getReservationsByDate(LocalDate date) {
+        requireNonNull(date);
+        return ezFoodie.getReservations(date);
+    }
+
+    /**
+     * Returns true if a table is free for a reservation at {@code dateTime}.
+     */
+    @Override
+    public synchronized boolean hasReservationCapacity(LocalDateTime dateTime) {
+        return reservationSlotAllocator.isAvailable(dateTime);
+    }
+
+    /**
+     * Returns true if a table is free for a reservation at {@code dateTime},
+     * assuming the table of {@code toReplace} is released first.
+     */
+    @Override
+    public synchronized boolean hasReservationCapacity(LocalDateTime dateTime, ReservationEntry toReplace) {
+        return reservationSlotAllocator.isAvailable(dateTime, toReplace);
+    }
+
+    /**
+     * Returns the nearest future date times to {@code dateTime} with a free table.
+     */
+    @Override
+    public synchronized List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime) {
+        return reservationSlotAllocator.suggestSlots(dateTime);
+    }
+
+    /**
+     * Returns the nearest future date times to {@code dateTime} with a free table,
+     * assuming the table of {@code toReplace} is released first.
+     */
+    @Override
+    public synchronized List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime,
+            ReservationEntry toReplace) {
+        return reservationSlotAllocator.suggestSlots(dateTime, toReplace);
+    }
+
+    /**
+     * Rebuilds the reservation slot allocator from the user prefs' capacity settings and all members.
+     */
+    private void resetReservationSlotAllocator() {
+        reservationSlotAllocator = new ReservationSlotAllocator(userPrefs.getCapacitySettings());
+        rebuildReservationSlots();
+    }
+
+    /**
+     * Rebuilds the id registry from all members.
+     */
+    private void rebuildIdRegistry() {
+        IndexRebuildEvent event = new IndexRebuildEvent();
+        event.begin();
+        idRegistry.setMembers(ezFoodie.getMemberList());
+        event.commit(IndexRebuildEvent.INDEX_ID_REGISTRY, ezFoodie.getMemberList().size());
+    }
+
+    /**
+     * Rebuilds the booked reservation slots from all members.
+     */
+    private void rebuildReservationSlots() {
+        IndexRebuildEvent event = new IndexRebuildEvent();
+        event.begin();
+        reservationSlotAllocator.setMembers(ezFoodie.getMemberList());
+        event.commit(IndexRebuildEvent.INDEX_RESERVATION_SLOTS, ezFoodie.getMemberList().size());
     }
 
     //=========== Updated Member List for display ============================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code Member} backed by the internal list of
-     * {@code versionedEzFoodie}.
+     * Returns an immutable snapshot of the sorted and filtered member list, which is not changed by later commands.
      */
     @Override
-    public ObservableList<Member> getUpdatedMemberList() {
-        return sortedMembers;
+    public List<Member> getUpdatedMemberList() {
+        return updatedMembers.snapshot();
     }
 
     /**
-     * Returns an unmodifiable view of the list of {@code Member} backed by the internal list of
-     * {@code versionedEzFoodie} for viewCommand to use only.
+     * Returns an immutable snapshot of the filtered member list for viewCommand to use only, which is not changed by
+     * later commands.
      */
     @Override
-    public ObservableList<Member> getUpdatedMemberListForView() {
-        return filteredMembersForView;
+    public List<Member> getUpdatedMemberListForView() {
+        return updatedMembersForView.snapshot();
     }
 
     //=========== Filtered Member List Accessors =============================================================
@@ -243,7 +744,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredMemberList(Predicate<Member> predicate) {
         requireNonNull(predicate);
-        filteredMembers.setPredicate(predicate);
+        updatedMembers.setPredicate(predicate);
     }
 
     /**
@@ -254,7 +755,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredMemberListForView(Predicate<Member> predicate) {
         requireNonNull(predicate);
-        filteredMembersForView.setPredicate(predicate);
+        updatedMembersForView.setPredicate(predicate);
     }
 
     //=========== Sorted Member List Accessors ===============================================================
@@ -267,7 +768,7 @@ public class ModelManager implements Model {
     @Override
     public void updateSortedMemberList(Comparator<Member> comparator) {
         requireNonNull(comparator);
-        sortedMembers.setComparator(comparator);
+        updatedMembers.setComparator(comparator);
     }
 
     /**
@@ -289,8 +790,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return ezFoodie.equals(other.ezFoodie)
                 && userPrefs.equals(other.userPrefs)
-                && filteredMembers.equals(other.filteredMembers)
-                && sortedMembers.equals(other.sortedMembers);
+                && updatedMembers.equals(other.updatedMembers);
     }
 
 }
@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.core.persistent.PersistentVector;
+import seedu.address.model.member.Id;
+import seedu.address.model.member.Member;
+import seedu.address.model.reservation.ReservationCalendar;
+import seedu.address.model.reservation.ReservationEntry;
+
+/**
+ * An immutable point-in-time view of the members and account of a {@code Model}.
+ * Taking a snapshot costs O(1) because the members are held in the same {@code PersistentVector} as the live model,
+ * which is never changed in place. Once taken, a snapshot can be read from any thread while commands keep changing
+ * the live model, so long reads such as reports, exports and backups neither block nor are blocked by commands.
+ * The indexes derived from the members are built on first use and kept with the snapshot.
+ */
+public class ModelSnapshot implements ReadOnlyEzFoodie {
+
+    private final PersistentVector<Member> members;
+    private final ReadOnlyAccount account;
+    private Map<Id, Member> membersById;
+    private ReservationCalendar reservationCalendar;
+
+    /**
+     * Constructs a {@code ModelSnapshot} of {@code members} and {@code account}.
+     */
+    public ModelSnapshot(PersistentVector<Member> members, ReadOnlyAccount account) {
+        requireAllNonNull(members, account);
+        this.members = members;
+        this.account = new Account(account.getPassword());
+    }
+
+    /**
+     * Returns the members of the snapshot.
+     */
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns the account of the snapshot.
+     */
+    public ReadOnlyAccount getAccount() {
+        return account;
+    }
+
+    /**
+     * Returns the member of {@code id} in the snapshot, if any.
+     */
+    public synchronized Optional<Member> getMember(Id id) {
+        requireNonNull(id);
+        if (membersById == null) {
+            membersById = new HashMap<>();
+            members.forEach(member -> membersById.put(member.getId(), member));
+        }
+        return Optional.ofNullable(membersById.get(id));
+    }
+
+    /**
+     * Returns the reservations of all members in the snapshot on {@code date} in ascending order of date time.
+     */
+    public synchronized List<ReservationEntry> getReservations(LocalDate date) {
+        requireNonNull(date);
+        if (reservationCalendar == null) {
+            reservationCalendar = new ReservationCalendar();
+            reservationCalendar.setMembers(members);
+        }
+        return reservationCalendar.getReservations(date);
+    }
+
+    /**
+     * Overrides and gets the members of the snapshot.
+     */
+    @Override
+    public List<Member> getMemberList() {
+        return members;
+    }
+
+    /**
+     * Overrides the toString method.
+     */
+    @Override
+    public String toString() {
+        return members.size() + " members";
+    }
+}
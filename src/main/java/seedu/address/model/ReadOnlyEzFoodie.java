@@ -1,6 +1,7 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+
 import seedu.address.model.member.Member;
 
 /**
@@ -12,6 +13,6 @@ public interface ReadOnlyEzFoodie {
      * Returns an unmodifiable view of the members list.
      * This list will not contain any duplicate members.
      */
-    ObservableList<Member> getMemberList();
+    List<Member> getMemberList();
 
 }
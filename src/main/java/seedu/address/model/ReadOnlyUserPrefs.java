@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.id.IdReusePolicy;
+import seedu.address.model.reservation.CapacitySettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -11,6 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     GuiSettings getGuiSettings();
 
+    CapacitySettings getCapacitySettings();
+
+    IdReusePolicy getIdReusePolicy();
+
     Path getEzFoodieFilePath();
 
 }
@@ -0,0 +1,324 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.status.LoginStatus;
+import seedu.address.model.member.Member;
+import seedu.address.model.reservation.CapacitySettings;
+import seedu.address.model.reservation.ReservationEntry;
+
+/**
+ * A session on the data of a {@code ModelManager}, such as a connection of the daemon.
+ * The session has its own login status, member list views and undo history, and passes everything else to the
+ * {@code ModelManager}, so all sessions share one copy of the data in memory. Undo and redo only revert the changes
+ * of this session, and a change is dropped instead if another session has changed its members again since.
+ * The views catch up with the shared members when they are read, so the {@code ModelManager} holds no
+ * reference to them and they are garbage collected along with the session.
+ */
+class SessionModel implements Model {
+
+    private final ModelManager modelManager;
+    private final MemberListView updatedMembers;
+    private final MemberListView updatedMembersForView;
+    private final ChangeHistory history = new ChangeHistory();
+    private volatile LoginStatus loginStatus = LoginStatus.STAFF;
+
+    /**
+     * Constructs a {@code SessionModel} on the data of {@code modelManager}.
+     */
+    SessionModel(ModelManager modelManager) {
+        requireNonNull(modelManager);
+        this.modelManager = modelManager;
+        updatedMembers = modelManager.createMemberListView();
+        updatedMembers.setComparator(COMPARATOR_SORT_MEMBERS_BY_ID_ASC);
+        updatedMembersForView = modelManager.createMemberListView();
+    }
+
+    //=========== UserPrefs and Account ======================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        modelManager.setUserPrefs(userPrefs);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return modelManager.getUserPrefs();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return modelManager.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        modelManager.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public CapacitySettings getCapacitySettings() {
+        return modelManager.getCapacitySettings();
+    }
+
+    @Override
+    public void setCapacitySettings(CapacitySettings capacitySettings) {
+        modelManager.setCapacitySettings(capacitySettings);
+    }
+
+    @Override
+    public Path getAccountFilePath() {
+        return modelManager.getAccountFilePath();
+    }
+
+    @Override
+    public void setAccountFilePath(Path accountFilePath) {
+        modelManager.setAccountFilePath(accountFilePath);
+    }
+
+    @Override
+    public Path getEzFoodieFilePath() {
+        return modelManager.getEzFoodieFilePath();
+    }
+
+    @Override
+    public void setEzFoodieFilePath(Path ezFoodieFilePath) {
+        modelManager.setEzFoodieFilePath(ezFoodieFilePath);
+    }
+
+    @Override
+    public void setAccount(ReadOnlyAccount account) {
+        modelManager.setAccount(account);
+    }
+
+    @Override
+    public ReadOnlyAccount getAccount() {
+        return modelManager.getAccount();
+    }
+
+    //=========== Session ====================================================================================
+
+    /**
+     * Returns the login status of this session.
+     */
+    @Override
+    public LoginStatus getLoginStatus() {
+        return loginStatus;
+    }
+
+    /**
+     * Sets the login status of this session.
+     */
+    @Override
+    public void setLoginStatus(LoginStatus loginStatus) {
+        requireNonNull(loginStatus);
+        this.loginStatus = loginStatus;
+    }
+
+    /**
+     * Opens a new session on the same data.
+     */
+    @Override
+    public Model openSession() {
+        return modelManager.openSession();
+    }
+
+    //=========== EzFoodie ===================================================================================
+
+    @Override
+    public void setEzFoodie(ReadOnlyEzFoodie ezFoodie) {
+        modelManager.setEzFoodie(ezFoodie, history);
+    }
+
+    @Override
+    public ReadOnlyEzFoodie getEzFoodie() {
+        return modelManager.getEzFoodie();
+    }
+
+    @Override
+    public ModelSnapshot snapshot() {
+        return modelManager.snapshot();
+    }
+
+    @Override
+    public Optional<Member> getMember(seedu.address.model.member.Id id) {
+        return modelManager.getMember(id);
+    }
+
+    @Override
+    public long getMemberVersion(seedu.address.model.member.Id id) {
+        return modelManager.getMemberVersion(id);
+    }
+
+    @Override
+    public boolean hasMember(Member member) {
+        return modelManager.hasMember(member);
+    }
+
+    @Override
+    public boolean hasMember(Member member, Predicate<Member> predicate) {
+        return modelManager.hasMember(member, predicate);
+    }
+
+    @Override
+    public void deleteMember(Member target) {
+        modelManager.deleteMember(target, history);
+    }
+
+    /**
+     * Adds the given member, and shows all members in the member list of this session.
+     * {@code member} must not already exist in the ezFoodie.
+     */
+    @Override
+    public void addMember(Member member) {
+        modelManager.addMember(member, history);
+        // refiltering is skipped when every member is already shown, so that adding stays cheap on large lists
+        if (updatedMembers.getPredicate() != PREDICATE_SHOW_ALL_MEMBERS) {
+            updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        }
+    }
+
+    @Override
+    public void setMember(Member target, Member editedMember) {
+        modelManager.setMember(target, editedMember, history);
+    }
+
+    @Override
+    public boolean setMember(Member target, Member editedMember, long expectedVersion) {
+        return modelManager.setMember(target, editedMember, expectedVersion, history);
+    }
+
+    @Override
+    public void commitEzFoodie() {
+        modelManager.commitEzFoodie(history);
+    }
+
+    @Override
+    public void commitEzFoodie(seedu.address.model.member.Id memberId) {
+        modelManager.commitEzFoodie(memberId, history);
+    }
+
+    @Override
+    public boolean canUndoEzFoodie() {
+        return modelManager.canUndoEzFoodie(history);
+    }
+
+    @Override
+    public boolean canRedoEzFoodie() {
+        return modelManager.canRedoEzFoodie(history);
+    }
+
+    @Override
+    public boolean undoEzFoodie() {
+        return modelManager.undoEzFoodie(history);
+    }
+
+    @Override
+    public boolean redoEzFoodie() {
+        return modelManager.redoEzFoodie(history);
+    }
+
+    @Override
+    public Optional<seedu.address.model.member.Id> getNextMemberId() {
+        return modelManager.getNextMemberId();
+    }
+
+    @Override
+    public Optional<seedu.address.model.transaction.Id> getNextTransactionId(
+            seedu.address.model.member.Id memberId) {
+        return modelManager.getNextTransactionId(memberId);
+    }
+
+    @Override
+    public Optional<seedu.address.model.reservation.Id> getNextReservationId(
+            seedu.address.model.member.Id memberId) {
+        return modelManager.getNextReservationId(memberId);
+    }
+
+    //=========== Reservation Calendar =======================================================================
+
+    @Override
+    public List<ReservationEntry> getReservationsByDate(LocalDate date) {
+        return modelManager.getReservationsByDate(date);
+    }
+
+    @Override
+    public boolean hasReservationCapacity(LocalDateTime dateTime) {
+        return modelManager.hasReservationCapacity(dateTime);
+    }
+
+    @Override
+    public boolean hasReservationCapacity(LocalDateTime dateTime, ReservationEntry toReplace) {
+        return modelManager.hasReservationCapacity(dateTime, toReplace);
+    }
+
+    @Override
+    public List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime) {
+        return modelManager.getAvailableReservationSlots(dateTime);
+    }
+
+    @Override
+    public List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime, ReservationEntry toReplace) {
+        return modelManager.getAvailableReservationSlots(dateTime, toReplace);
+    }
+
+    //=========== Updated Member List of the session =========================================================
+
+    /**
+     * Returns an immutable snapshot of the sorted and filtered member list of this session.
+     */
+    @Override
+    public List<Member> getUpdatedMemberList() {
+        return updatedMembers.snapshot();
+    }
+
+    /**
+     * Returns an immutable snapshot of the filtered member list of this session for viewCommand to use only.
+     */
+    @Override
+    public List<Member> getUpdatedMemberListForView() {
+        return updatedMembersForView.snapshot();
+    }
+
+    /**
+     * Updates the filter of the filtered member list of this session.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    @Override
+    public void updateFilteredMemberList(Predicate<Member> predicate) {
+        requireNonNull(predicate);
+        updatedMembers.setPredicate(predicate);
+    }
+
+    /**
+     * Updates the filter of the filtered member list of this session for viewCommand to use only.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    @Override
+    public void updateFilteredMemberListForView(Predicate<Member> predicate) {
+        requireNonNull(predicate);
+        updatedMembersForView.setPredicate(predicate);
+    }
+
+    /**
+     * Updates the sort of the sorted member list of this session.
+     *
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    @Override
+    public void updateSortedMemberList(Comparator<Member> comparator) {
+        requireNonNull(comparator);
+        updatedMembers.setComparator(comparator);
+    }
+}
@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.id.IdReusePolicy;
+import seedu.address.model.reservation.CapacitySettings;
 
 /**
  * Represents User's preferences.
@@ -14,6 +16,8 @@ import seedu.address.commons.core.GuiSettings;
 public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
+    private CapacitySettings capacitySettings = new CapacitySettings();
+    private IdReusePolicy idReusePolicy = IdReusePolicy.MONOTONIC;
     private Path accountFilePath = Paths.get("data" , "account.json");
     private Path ezFoodieFilePath = Paths.get("data" , "ezfoodie.json");
 
@@ -36,6 +40,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void resetData(ReadOnlyUserPrefs newUserPrefs) {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setCapacitySettings(newUserPrefs.getCapacitySettings());
+        setIdReusePolicy(newUserPrefs.getIdReusePolicy());
         setEzFoodieFilePath(newUserPrefs.getEzFoodieFilePath());
     }
 
@@ -54,6 +60,36 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    /**
+     * Gets reservation capacity settings.
+     */
+    public CapacitySettings getCapacitySettings() {
+        return capacitySettings;
+    }
+
+    /**
+     * Sets the reservation capacity settings by this input {@code capacitySettings}.
+     */
+    public void setCapacitySettings(CapacitySettings capacitySettings) {
+        requireNonNull(capacitySettings);
+        this.capacitySettings = capacitySettings;
+    }
+
+    /**
+     * Gets the reuse policy of member, transaction and reservation ids.
+     */
+    public IdReusePolicy getIdReusePolicy() {
+        return idReusePolicy;
+    }
+
+    /**
+     * Sets the reuse policy of member, transaction and reservation ids by this input {@code idReusePolicy}.
+     */
+    public void setIdReusePolicy(IdReusePolicy idReusePolicy) {
+        requireNonNull(idReusePolicy);
+        this.idReusePolicy = idReusePolicy;
+    }
+
     /**
      * Gets account file path.
      *
@@ -103,6 +139,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
+                && capacitySettings.equals(o.capacitySettings)
+                && idReusePolicy == o.idReusePolicy
                 && accountFilePath.equals(o.accountFilePath)
                 && ezFoodieFilePath.equals(o.ezFoodieFilePath);
     }
@@ -112,7 +150,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, accountFilePath, ezFoodieFilePath);
+        return Objects.hash(guiSettings, capacitySettings, idReusePolicy, accountFilePath, ezFoodieFilePath);
     }
 
     /**
@@ -0,0 +1,195 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.commons.core.persistent.PersistentVector;
+import seedu.address.model.member.Member;
+
+/**
+ * {@code EzFoodie} whose member list is mirrored in a {@code PersistentVector}, so that every version of the members
+ * can be kept for snapshots and views at the cost of the tree nodes on the changed paths only.
+ * The most recent member changes are also logged, so that a view of the members can catch up with them one by one
+ * instead of being computed again from every member.
+ */
+public class VersionedEzFoodie extends EzFoodie {
+
+    private static final int MAX_LOGGED_CHANGES = 1024;
+
+    private final Deque<MemberChange> changeLog = new ArrayDeque<>();
+    private volatile PersistentVector<Member> currentMembers = PersistentVector.empty();
+    private long version;
+
+    /**
+     * Constructs an empty {@code VersionedEzFoodie}.
+     */
+    public VersionedEzFoodie() {
+        super();
+    }
+
+    /**
+     * Constructs a {@code VersionedEzFoodie} with the data in {@code toBeCopied}.
+     */
+    public VersionedEzFoodie(ReadOnlyEzFoodie toBeCopied) {
+        this();
+        resetData(toBeCopied);
+    }
+
+    //// list overwrite operations
+
+    /**
+     * Replaces the contents of the member list with {@code members}.
+     * {@code members} must not contain duplicate members.
+     */
+    @Override
+    public void setMembers(List<Member> members) {
+        super.setMembers(members);
+        replaceMembers(PersistentVector.copyOf(members));
+    }
+
+    /**
+     * Resets the existing data of this {@code VersionedEzFoodie} with {@code newData}.
+     * The members of a {@code ModelSnapshot} are taken as they are, so that restoring a snapshot of the current
+     * members does not count as a change.
+     */
+    @Override
+    public void resetData(ReadOnlyEzFoodie newData) {
+        requireNonNull(newData);
+        if (newData instanceof ModelSnapshot) {
+            setMembers(((ModelSnapshot) newData).getMembers());
+            return;
+        }
+        super.resetData(newData);
+    }
+
+    //// member-level operations
+
+    /**
+     * Adds a member to the ezFoodie.
+     * The member must not already exist in the ezFoodie.
+     */
+    @Override
+    public void addMember(Member p) {
+        super.addMember(p);
+        changeMembers(currentMembers.appended(p), new MemberChange(null, p));
+    }
+
+    /**
+     * Adds a member to the ezFoodie at {@code index} of the member list.
+     * The member must not already exist in the ezFoodie.
+     */
+    @Override
+    void addMember(int index, Member p) {
+        if (index == currentMembers.size()) {
+            addMember(p);
+            return;
+        }
+        super.addMember(index, p);
+        // the change log only describes members added at the end, so views compute a member inserted elsewhere again
+        replaceMembers(currentMembers.inserted(index, p));
+    }
+
+    /**
+     * Replaces the given member {@code target} in the list with {@code editedMember}.
+     * {@code target} must exist in the ezFoodie.
+     * The member identity of {@code editedMember} must not be the same as another existing member in the ezFoodie.
+     */
+    @Override
+    public void setMember(Member target, Member editedMember) {
+        int index = indexOf(target);
+        super.setMember(target, editedMember);
+        changeMembers(currentMembers.replaced(index, editedMember), new MemberChange(target, editedMember));
+    }
+
+    /**
+     * Removes {@code key} from this {@code EzFoodie}.
+     * {@code key} must exist in the ezFoodie.
+     */
+    @Override
+    public void removeMember(Member key) {
+        int index = indexOf(key);
+        super.removeMember(key);
+        changeMembers(currentMembers.removed(index), new MemberChange(key, null));
+    }
+
+    //// versions
+
+    /**
+     * Returns the current members as a {@code PersistentVector}, which is not changed by later operations.
+     */
+    public PersistentVector<Member> getMemberVector() {
+        return currentMembers;
+    }
+
+    /**
+     * Returns the current members along with the member changes made since {@code sinceVersion}, which is the
+     * version of an earlier {@code Revision}. The changes are left out if they are no longer all logged.
+     */
+    synchronized Revision getRevisionSince(long sinceVersion) {
+        long firstLoggedVersion = version - changeLog.size();
+        if (sinceVersion < firstLoggedVersion || sinceVersion > version) {
+            return new Revision(currentMembers, version, null);
+        }
+        List<MemberChange> changes = new ArrayList<>((int) (version - sinceVersion));
+        changeLog.stream().skip(sinceVersion - firstLoggedVersion).forEach(changes::add);
+        return new Revision(currentMembers, version, changes);
+    }
+
+    /**
+     * Moves to {@code members}, which differ from the current members by {@code change}, and logs the change.
+     */
+    private synchronized void changeMembers(PersistentVector<Member> members, MemberChange change) {
+        if (changeLog.size() == MAX_LOGGED_CHANGES) {
+            changeLog.removeFirst();
+        }
+        changeLog.addLast(change);
+        currentMembers = members;
+        version++;
+    }
+
+    /**
+     * Moves to {@code members}, which replace the current members as a whole, and clears the change log.
+     */
+    private synchronized void replaceMembers(PersistentVector<Member> members) {
+        if (members == currentMembers) {
+            return;
+        }
+        changeLog.clear();
+        currentMembers = members;
+        version++;
+    }
+
+    /**
+     * A change to one member, where {@code removed} is null for a member added at the end of the member list and
+     * {@code added} is null for a removed member.
+     */
+    static final class MemberChange {
+        final Member removed;
+        final Member added;
+
+        MemberChange(Member removed, Member added) {
+            this.removed = removed;
+            this.added = added;
+        }
+    }
+
+    /**
+     * The members of a version of the ezFoodie, and the member changes that led to it from an earlier version,
+     * or null if those changes are unknown.
+     */
+    static final class Revision {
+        final PersistentVector<Member> members;
+        final long version;
+        final List<MemberChange> changes;
+
+        Revision(PersistentVector<Member> members, long version, List<MemberChange> changes) {
+            this.members = members;
+            this.version = version;
+            this.changes = changes;
+        }
+    }
+}
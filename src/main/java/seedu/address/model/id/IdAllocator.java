@@ -0,0 +1,201 @@
+package seedu.address.model.id;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+
+/**
+ * Allocates ids from {@code 1} to {@code max} according to an {@code IdReusePolicy}.
+ * Id {@code 0} is valid in data files but is never handed out.
+ * Taken ids below {@code DENSE_LIMIT} are kept in a compact bitset of 64-bit words, with a second-level bitset
+ * marking the words that are full, so that the lowest free id is found by skipping 4096 ids at a time instead of
+ * scanning every id. The bitset grows with the highest id taken, so an allocator of a few ids costs a few words.
+ * The rare ids at or above {@code DENSE_LIMIT} are kept in a sorted set, so that a sparse 64-bit id does not
+ * allocate a bitset up to it.
+ */
+public class IdAllocator {
+
+    public static final String MESSAGE_CONSTRAINTS = "IDs should be between 0 and the max ID of the allocator.";
+
+    /**
+     * Stands for the first id kept in the sorted set instead of the bitset, which caps the bitset at 2 MB.
+     */
+    public static final long DENSE_LIMIT = 1L << 24;
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int INITIAL_WORDS = 1;
+    private static final int MAX_WORDS = (int) (DENSE_LIMIT / BITS_PER_WORD);
+    private static final long FULL_WORD = -1L;
+    private static final long RESERVED_ID_ZERO = 1L;
+
+    private final long max;
+    private final TreeSet<Long> sparseIds = new TreeSet<>();
+    private IdReusePolicy policy;
+    private long[] takenWords;
+    private long[] fullWords;
+    private long highestAllocated;
+    private int count;
+
+    /**
+     * Constructs an {@code IdAllocator} of the ids from {@code 1} to {@code max} with {@code policy}.
+     */
+    public IdAllocator(long max, IdReusePolicy policy) {
+        requireNonNull(policy);
+        checkArgument(max > 0, MESSAGE_CONSTRAINTS);
+        this.max = max;
+        this.policy = policy;
+        clear();
+    }
+
+    /**
+     * Gets the reuse policy of the allocator.
+     */
+    public IdReusePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Sets the reuse policy of the allocator. Ids already taken are kept.
+     */
+    public void setPolicy(IdReusePolicy policy) {
+        requireNonNull(policy);
+        this.policy = policy;
+    }
+
+    /**
+     * Returns the next id to hand out, or an empty {@code OptionalLong} if every id is taken.
+     * The id is not taken until {@link #take(long)} is called, so that a parsed command may still fail.
+     */
+    public OptionalLong peekNext() {
+        if (policy == IdReusePolicy.MONOTONIC && highestAllocated < max) {
+            return OptionalLong.of(highestAllocated + 1);
+        }
+        long lowestFree = findLowestFree();
+        return lowestFree <= max ? OptionalLong.of(lowestFree) : OptionalLong.empty();
+    }
+
+    /**
+     * Marks {@code id} as taken.
+     */
+    public void take(long id) {
+        checkArgument(id >= 0 && id <= max, MESSAGE_CONSTRAINTS);
+        highestAllocated = Math.max(highestAllocated, id);
+        if (id >= DENSE_LIMIT) {
+            if (sparseIds.add(id)) {
+                count++;
+            }
+            return;
+        }
+        int wordIndex = toWordIndex(id);
+        ensureCapacity(wordIndex);
+        long bit = 1L << id;
+        if ((takenWords[wordIndex] & bit) == 0) {
+            takenWords[wordIndex] |= bit;
+            count++;
+            if (takenWords[wordIndex] == FULL_WORD) {
+                fullWords[wordIndex / BITS_PER_WORD] |= 1L << wordIndex;
+            }
+        }
+    }
+
+    /**
+     * Marks {@code id} as free. The highest id ever allocated is kept for the {@code MONOTONIC} policy.
+     */
+    public void release(long id) {
+        if (!isTaken(id)) {
+            return;
+        }
+        count--;
+        if (id >= DENSE_LIMIT) {
+            sparseIds.remove(id);
+            return;
+        }
+        int wordIndex = toWordIndex(id);
+        takenWords[wordIndex] &= ~(1L << id);
+        fullWords[wordIndex / BITS_PER_WORD] &= ~(1L << wordIndex);
+    }
+
+    /**
+     * Returns true if {@code id} is taken.
+     */
+    public boolean isTaken(long id) {
+        if (id <= 0 || id > max) {
+            return false;
+        }
+        if (id >= DENSE_LIMIT) {
+            return sparseIds.contains(id);
+        }
+        int wordIndex = toWordIndex(id);
+        return wordIndex < takenWords.length && (takenWords[wordIndex] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns the number of ids taken.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Frees every id and forgets the highest id ever allocated.
+     */
+    public void clear() {
+        takenWords = new long[INITIAL_WORDS];
+        fullWords = new long[INITIAL_WORDS];
+        // id 0 is never handed out, so it is marked as taken without being counted
+        takenWords[0] = RESERVED_ID_ZERO;
+        sparseIds.clear();
+        highestAllocated = 0;
+        count = 0;
+    }
+
+    /**
+     * Returns the lowest id that is not taken, which may be greater than {@code max}.
+     */
+    private long findLowestFree() {
+        long lowestFree = findLowestFreeInBitset();
+        if (lowestFree < DENSE_LIMIT) {
+            return lowestFree;
+        }
+        for (long id : sparseIds) {
+            if (id != lowestFree) {
+                break;
+            }
+            lowestFree++;
+        }
+        return lowestFree;
+    }
+
+    private long findLowestFreeInBitset() {
+        for (int summaryIndex = 0; summaryIndex < fullWords.length; summaryIndex++) {
+            if (fullWords[summaryIndex] == FULL_WORD) {
+                continue;
+            }
+            int wordIndex = summaryIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(~fullWords[summaryIndex]);
+            if (wordIndex >= takenWords.length) {
+                break;
+            }
+            return (long) wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(~takenWords[wordIndex]);
+        }
+        return (long) takenWords.length * BITS_PER_WORD;
+    }
+
+    private static int toWordIndex(long id) {
+        return (int) (id / BITS_PER_WORD);
+    }
+
+    /**
+     * Grows the bitsets to hold the word at {@code wordIndex}, doubling their size to keep growth amortised.
+     */
+    private void ensureCapacity(int wordIndex) {
+        if (wordIndex < takenWords.length) {
+            return;
+        }
+        int words = Math.min(Math.max(wordIndex + 1, takenWords.length * 2), MAX_WORDS);
+        takenWords = Arrays.copyOf(takenWords, words);
+        fullWords = Arrays.copyOf(fullWords, (words + BITS_PER_WORD - 1) / BITS_PER_WORD);
+    }
+}
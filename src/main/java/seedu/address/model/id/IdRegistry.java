@@ -0,0 +1,166 @@
+package seedu.address.model.id;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import seedu.address.model.member.Id;
+import seedu.address.model.member.Member;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Keeps the {@code IdAllocator} of the member ids, and the allocators of the transaction ids and the
+ * reservation ids of each member, which are numbered per member.
+ *
+ * Like the {@code ReservationCalendar}, the registry must be kept in sync with the member list,
+ * and {@code setMembers} rebuilds every allocator in one pass over the members.
+ */
+public class IdRegistry {
+
+    private IdReusePolicy policy;
+    private final IdAllocator memberIds;
+    private final Map<Id, IdAllocator> transactionIds = new HashMap<>();
+    private final Map<Id, IdAllocator> reservationIds = new HashMap<>();
+
+    /**
+     * Constructs an {@code IdRegistry} whose allocators follow {@code policy}.
+     */
+    public IdRegistry(IdReusePolicy policy) {
+        requireNonNull(policy);
+        this.policy = policy;
+        memberIds = new IdAllocator(Id.MAX, policy);
+    }
+
+    /**
+     * Gets the reuse policy of the registry.
+     */
+    public IdReusePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Sets the reuse policy of every allocator of the registry.
+     */
+    public void setPolicy(IdReusePolicy policy) {
+        requireNonNull(policy);
+        this.policy = policy;
+        memberIds.setPolicy(policy);
+        transactionIds.values().forEach(allocator -> allocator.setPolicy(policy));
+        reservationIds.values().forEach(allocator -> allocator.setPolicy(policy));
+    }
+
+    /**
+     * Takes the id of {@code member}, and the ids of its transactions and reservations.
+     */
+    public void addMember(Member member) {
+        requireNonNull(member);
+        memberIds.take(member.getId().getLongValue());
+        takeItemIds(member);
+    }
+
+    /**
+     * Releases the id of {@code member}, and forgets the ids of its transactions and reservations.
+     */
+    public void removeMember(Member member) {
+        requireNonNull(member);
+        memberIds.release(member.getId().getLongValue());
+        transactionIds.remove(member.getId());
+        reservationIds.remove(member.getId());
+    }
+
+    /**
+     * Replaces the ids taken for {@code target} with the ids of {@code editedMember}.
+     * The transaction and reservation allocators of the member are kept, so that a {@code MONOTONIC}
+     * policy does not hand out the id of a transaction or reservation deleted by the edit.
+     */
+    public void setMember(Member target, Member editedMember) {
+        requireAllNonNull(target, editedMember);
+        memberIds.release(target.getId().getLongValue());
+        memberIds.take(editedMember.getId().getLongValue());
+        for (Transaction transaction : target.getTransactions()) {
+            getTransactionIds(target.getId()).release(transaction.getId().getLongValue());
+        }
+        for (Reservation reservation : target.getReservations()) {
+            getReservationIds(target.getId()).release(reservation.getId().getLongValue());
+        }
+        if (!target.getId().equals(editedMember.getId())) {
+            transactionIds.put(editedMember.getId(), transactionIds.remove(target.getId()));
+            reservationIds.put(editedMember.getId(), reservationIds.remove(target.getId()));
+        }
+        takeItemIds(editedMember);
+    }
+
+    /**
+     * Rebuilds every allocator from {@code members} in one pass.
+     */
+    public void setMembers(List<Member> members) {
+        requireNonNull(members);
+        memberIds.clear();
+        transactionIds.clear();
+        reservationIds.clear();
+        members.forEach(this::addMember);
+    }
+
+    /**
+     * Returns the next member id to hand out, or an empty {@code Optional} if every member id is taken.
+     */
+    public Optional<Id> nextMemberId() {
+        return toOptional(memberIds.peekNext()).map(Id::new);
+    }
+
+    /**
+     * Returns the next transaction id of the member of {@code memberId} to hand out,
+     * or an empty {@code Optional} if every transaction id of the member is taken.
+     */
+    public Optional<seedu.address.model.transaction.Id> nextTransactionId(Id memberId) {
+        requireNonNull(memberId);
+        return toOptional(getTransactionIds(memberId).peekNext()).map(seedu.address.model.transaction.Id::new);
+    }
+
+    /**
+     * Returns the next reservation id of the member of {@code memberId} to hand out,
+     * or an empty {@code Optional} if every reservation id of the member is taken.
+     */
+    public Optional<seedu.address.model.reservation.Id> nextReservationId(Id memberId) {
+        requireNonNull(memberId);
+        return toOptional(getReservationIds(memberId).peekNext()).map(seedu.address.model.reservation.Id::new);
+    }
+
+    /**
+     * Takes {@code transactionId} for a transaction of the member of {@code memberId} before the transaction is
+     * added to the member, so that many transactions of the member can be handed out ids in a row.
+     */
+    public void takeTransactionId(Id memberId, seedu.address.model.transaction.Id transactionId) {
+        requireAllNonNull(memberId, transactionId);
+        getTransactionIds(memberId).take(transactionId.getLongValue());
+    }
+
+    private void takeItemIds(Member member) {
+        for (Transaction transaction : member.getTransactions()) {
+            getTransactionIds(member.getId()).take(transaction.getId().getLongValue());
+        }
+        for (Reservation reservation : member.getReservations()) {
+            getReservationIds(member.getId()).take(reservation.getId().getLongValue());
+        }
+    }
+
+    private IdAllocator getTransactionIds(Id memberId) {
+        return transactionIds.computeIfAbsent(memberId, unused ->
+                new IdAllocator(seedu.address.model.transaction.Id.MAX, policy));
+    }
+
+    private IdAllocator getReservationIds(Id memberId) {
+        return reservationIds.computeIfAbsent(memberId, unused ->
+                new IdAllocator(seedu.address.model.reservation.Id.MAX, policy));
+    }
+
+    private static Optional<String> toOptional(OptionalLong id) {
+        return id.isPresent() ? Optional.of(Long.toString(id.getAsLong())) : Optional.empty();
+    }
+}
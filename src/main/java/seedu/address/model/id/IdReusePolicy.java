@@ -0,0 +1,18 @@
+package seedu.address.model.id;
+
+/**
+ * Represents how an {@code IdAllocator} hands out the ids of deleted items again.
+ */
+public enum IdReusePolicy {
+
+    /**
+     * Hands out the id after the highest id ever allocated, so that the id of a deleted item is not reused
+     * until every higher id has been taken. Once the id space is exhausted, the lowest free id is handed out.
+     */
+    MONOTONIC,
+
+    /**
+     * Hands out the lowest free id, reusing the id of a deleted item straight away.
+     */
+    REUSE_AFTER_DELETE
+}
@@ -12,13 +12,13 @@ public class Credit {
     /**
      * Stands for the max credit number.
      */
-    public static final int MAX = 99999999;
+    public static final long MAX = 999999999999999999L;
 
     /**
      * Stands for credits message constraints.
      */
     public static final String MESSAGE_CONSTRAINTS =
-            "Credits should only contain no more than 8 digits and it should not be blank, and max credit is " + MAX;
+            "Credits should only contain no more than 18 digits and it should not be blank, and max credit is " + MAX;
 
     /**
      * Stands for trim leading zero regex
@@ -33,7 +33,7 @@ public class Credit {
     /**
      * Stands for the length of credit.
      */
-    public static final int LENGTH = 8; // Max credit is 99999999
+    public static final int LENGTH = 18; // Max credit is 999999999999999999
 
     /**
      * Stands for the credit value.
@@ -57,17 +57,24 @@ public class Credit {
     public static boolean isValidCredit(String test) {
         test = test.replaceFirst(TRIM_LEADING_ZERO_REGEX, "");
         try {
-            return test.length() <= LENGTH && Integer.parseInt(test) <= MAX && test.matches(VALIDATION_REGEX);
+            return test.length() <= LENGTH && Long.parseLong(test) <= MAX && test.matches(VALIDATION_REGEX);
         } catch (NumberFormatException e) {
             return false;
         }
     }
 
     /**
-     * Gets int value of credit.
+     * Gets long value of credit.
      */
-    public int getIntValue() {
-        return Integer.parseInt(value);
+    public long getLongValue() {
+        return Long.parseLong(value);
+    }
+
+    /**
+     * Returns the credit with {@code amount} added, which may be negative, kept between 0 and {@link #MAX}.
+     */
+    public Credit plus(long amount) {
+        return new Credit("" + Math.max(0, Math.min(getLongValue() + amount, MAX)));
     }
 
     /**
@@ -33,9 +33,9 @@ public class CreditSortComparator implements Comparator<Member> {
     @Override
     public int compare(Member m1, Member m2) {
         if (sortStatus == SortStatus.DESC) {
-            return Integer.compare(m2.getCredit().getIntValue(), m1.getCredit().getIntValue());
+            return Long.compare(m2.getCredit().getLongValue(), m1.getCredit().getLongValue());
         } else {
-            return Integer.compare(m1.getCredit().getIntValue(), m2.getCredit().getIntValue());
+            return Long.compare(m1.getCredit().getLongValue(), m2.getCredit().getLongValue());
         }
     }
 
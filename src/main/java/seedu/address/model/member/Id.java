@@ -12,13 +12,13 @@ public class Id {
     /**
      * Stands for the max Id number.
      */
-    public static final int MAX = 99999;
+    public static final long MAX = Long.MAX_VALUE;
 
     /**
      * Stands for Id message constraints.
      */
     public static final String MESSAGE_CONSTRAINTS =
-            "Member IDs should only contain 5 digits and it should not be blank, and max ID is " + MAX;
+            "Member IDs should only contain digits and it should not be blank, and max ID is " + MAX;
 
     /**
      * Stands for trim leading zero regex
@@ -31,14 +31,19 @@ public class Id {
     public static final String VALIDATION_REGEX = "[\\p{Digit}]*";
 
     /**
-     * Stands for pattern of Id.
+     * Stands for pattern of Id, which pads the id to at least {@code PADDED_LENGTH} digits.
      */
     public static final String PATTERN = "%05d";
 
     /**
-     * Stands for length of Id is five.
+     * Stands for the number of digits the Id is padded to.
      */
-    public static final int LENGTH = 5; // Max ID is 99999
+    public static final int PADDED_LENGTH = 5;
+
+    /**
+     * Stands for max length of Id.
+     */
+    public static final int LENGTH = 19; // Max ID is 9223372036854775807
 
     /**
      * Stands Id value.
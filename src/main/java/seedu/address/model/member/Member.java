@@ -2,13 +2,13 @@ package seedu.address.model.member;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.core.persistent.PersistentVector;
 import seedu.address.model.Timestamp;
 import seedu.address.model.reservation.Reservation;
 import seedu.address.model.tag.Tag;
@@ -33,8 +33,9 @@ public class Member {
     private final Point point;
     private final Set<Tag> tags = new HashSet<>();
 
-    private final List<Transaction> transactions = new ArrayList<>();
-    private final List<Reservation> reservations = new ArrayList<>();
+    // Histories share structure with the histories of the members this member was edited from
+    private final PersistentVector<Transaction> transactions;
+    private final PersistentVector<Reservation> reservations;
 
 
     /**
@@ -67,8 +68,8 @@ public class Member {
         this.credit = credit;
         this.point = point;
         this.tags.addAll(tags);
-        this.transactions.addAll(transactions);
-        this.reservations.addAll(reservations);
+        this.transactions = PersistentVector.copyOf(transactions);
+        this.reservations = PersistentVector.copyOf(reservations);
     }
 
     /**
@@ -154,19 +155,19 @@ public class Member {
     }
 
     /**
-     * Returns an immutable transaction set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * Returns an immutable transaction list, which throws {@code UnsupportedOperationException}
+     * if modification is attempted. Use the {@code PersistentVector} methods to derive an updated list.
      */
-    public List<Transaction> getTransactions() {
-        return Collections.unmodifiableList(transactions);
+    public PersistentVector<Transaction> getTransactions() {
+        return transactions;
     }
 
     /**
-     * Returns an immutable transaction list, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * Returns an immutable reservation list, which throws {@code UnsupportedOperationException}
+     * if modification is attempted. Use the {@code PersistentVector} methods to derive an updated list.
      */
-    public List<Reservation> getReservations() {
-        return Collections.unmodifiableList(reservations);
+    public PersistentVector<Reservation> getReservations() {
+        return reservations;
     }
 
     /**
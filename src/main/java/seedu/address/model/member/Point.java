@@ -12,13 +12,13 @@ public class Point {
     /**
      * Stands for point max value.
      */
-    public static final int MAX = 99999999;
+    public static final long MAX = 999999999999999999L;
 
     /**
      * Stands for message constraints for point.
      */
     public static final String MESSAGE_CONSTRAINTS =
-            "Points should only contain no more than 8 digits and it should not be blank, and max point is " + MAX;
+            "Points should only contain no more than 18 digits and it should not be blank, and max point is " + MAX;
 
     /**
      * Stands for trim leading zero regex.
@@ -33,7 +33,7 @@ public class Point {
     /**
      * Stands for point max length.
      */
-    public static final int LENGTH = 8; // Max point is 99999999
+    public static final int LENGTH = 18; // Max point is 999999999999999999
 
     /**
      * Stands for point value.
@@ -57,19 +57,19 @@ public class Point {
     public static boolean isValidPoint(String test) {
         test = test.replaceFirst(TRIM_LEADING_ZERO_REGEX, "");
         try {
-            return test.length() <= LENGTH && Integer.parseInt(test) <= MAX && test.matches(VALIDATION_REGEX);
+            return test.length() <= LENGTH && Long.parseLong(test) <= MAX && test.matches(VALIDATION_REGEX);
         } catch (NumberFormatException e) {
             return false;
         }
     }
 
     /**
-     * Gets int value of point.
+     * Gets long value of point.
      *
-     * @return int the value converts from string to int type.
+     * @return long the value converts from string to long type.
      */
-    public int getIntValue() {
-        return Integer.parseInt(value);
+    public long getLongValue() {
+        return Long.parseLong(value);
     }
 
     /**
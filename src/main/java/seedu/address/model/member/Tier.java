@@ -10,6 +10,12 @@ public enum Tier {
     GOLD("Gold", 500),
     PLATINUM("Platinum", 1000);
 
+    /**
+     * Stands for the message of an unknown tier.
+     */
+    public static final String MESSAGE_CONSTRAINTS = "Tiers should be one of "
+            + String.join(", ", getAllKeys()) + ".";
+
     private final String key;
     private final Integer value;
 
@@ -45,7 +51,7 @@ public enum Tier {
         return this.value;
     }
 
-    public static String getTierByCredit(int credit) {
+    public static String getTierByCredit(long credit) {
         if (credit >= PLATINUM.getValue()) {
             return PLATINUM.key;
         }
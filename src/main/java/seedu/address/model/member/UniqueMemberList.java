@@ -3,12 +3,17 @@ package seedu.address.model.member;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.model.member.exceptions.DuplicateMemberException;
 import seedu.address.model.member.exceptions.MemberNotFoundException;
 
@@ -19,22 +24,30 @@ import seedu.address.model.member.exceptions.MemberNotFoundException;
  * unique in terms of identity in the UniqueMemberList. However, the removal of a member uses Member#equals(Object) so
  * as to ensure that the member with exactly the same fields will be removed.
  *
+ * The ids, emails and phones of the members are counted in hash maps, so that checking whether a member is in the
+ * list takes constant time instead of a scan of the list. The position of each member is kept by its id, so that
+ * looking up or replacing a member takes constant time too.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Member#isSameMember(Member)
  */
 public class UniqueMemberList implements Iterable<Member> {
 
-    private final ObservableList<Member> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Member> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final List<Member> internalList = new ArrayList<>();
+    private final List<Member> internalUnmodifiableList = Collections.unmodifiableList(internalList);
+    private final Map<Id, Integer> positions = new HashMap<>();
+    private final Map<Email, Integer> emailCounts = new HashMap<>();
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent member as the given argument.
      */
     public boolean contains(Member toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameMember);
+        return positions.containsKey(toCheck.getId())
+                || emailCounts.containsKey(toCheck.getEmail())
+                || phoneCounts.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -51,11 +64,41 @@ public class UniqueMemberList implements Iterable<Member> {
      * The member must not already exist in the list.
      */
     public void add(Member toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a member to the list at {@code index}, moving the members from {@code index} onwards back by one.
+     * The member must not already exist in the list.
+     */
+    public void add(int index, Member toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateMemberException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        index(toAdd, index);
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns the member of {@code id} in the list, if any.
+     */
+    public Optional<Member> get(Id id) {
+        requireNonNull(id);
+        Integer position = positions.get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the position of {@code member} in the list, or -1 if the list does not contain it.
+     */
+    public int indexOf(Member member) {
+        requireNonNull(member);
+        Integer position = positions.get(member.getId());
+        return position != null && internalList.get(position).equals(member) ? position : -1;
     }
 
     /**
@@ -66,7 +109,7 @@ public class UniqueMemberList implements Iterable<Member> {
     public void setMember(Member target, Member editedMember) {
         requireAllNonNull(target, editedMember);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new MemberNotFoundException();
         }
@@ -76,6 +119,8 @@ public class UniqueMemberList implements Iterable<Member> {
         }
 
         internalList.set(index, editedMember);
+        unindex(target);
+        index(editedMember, index);
     }
 
     /**
@@ -84,9 +129,15 @@ public class UniqueMemberList implements Iterable<Member> {
      */
     public void remove(Member toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new MemberNotFoundException();
         }
+        internalList.remove(index);
+        unindex(toRemove);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
     }
 
     /**
@@ -94,7 +145,9 @@ public class UniqueMemberList implements Iterable<Member> {
      */
     public void setMembers(UniqueMemberList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.clear();
+        internalList.addAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -109,15 +162,17 @@ public class UniqueMemberList implements Iterable<Member> {
             throw new DuplicateMemberException();
         }
 
-        internalList.setAll(members);
+        internalList.clear();
+        internalList.addAll(members);
+        reindex();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList<Member>}.
+     * Returns the backing list as an unmodifiable {@code List<Member>}.
      *
-     * @return ObservableList a list of observations.
+     * @return List an unmodifiable view of the members.
      */
-    public ObservableList<Member> asUnmodifiableObservableList() {
+    public List<Member> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
@@ -129,19 +184,48 @@ public class UniqueMemberList implements Iterable<Member> {
         return internalList.iterator();
     }
 
+    private void index(Member member, int position) {
+        positions.put(member.getId(), position);
+        emailCounts.merge(member.getEmail(), 1, Integer::sum);
+        phoneCounts.merge(member.getPhone(), 1, Integer::sum);
+    }
+
+    private void unindex(Member member) {
+        positions.remove(member.getId());
+        decrement(emailCounts, member.getEmail());
+        decrement(phoneCounts, member.getPhone());
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    private void reindex() {
+        positions.clear();
+        emailCounts.clear();
+        phoneCounts.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code members} contains only unique members.
+     * Two members are the same if they share an id, an email or a phone, so each of those is checked with a hash set
+     * in one pass instead of comparing every pair of members.
      */
     private boolean membersAreUnique(List<Member> members) {
-        for (int i = 0; i < members.size() - 1; i++) {
-            for (int j = i + 1; j < members.size(); j++) {
-                if (members.get(i).isSameMember(members.get(j))) {
-                    return false;
-                }
+        Set<Id> ids = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        for (Member member : members) {
+            if (!ids.add(member.getId()) || !emails.add(member.getEmail()) || !phones.add(member.getPhone())) {
+                return false;
             }
         }
         return true;
     }
+
     /**
      * Overrides the equals method.
      */
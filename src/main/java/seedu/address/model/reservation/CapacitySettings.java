@@ -0,0 +1,107 @@
+package seedu.address.model.reservation;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the reservation capacity settings of the restaurant.
+ * Every reservation takes one table for {@code diningMinutes}, and at most {@code tables} reservations
+ * may overlap at any time. Alternative times are suggested in steps of {@code slotMinutes}.
+ * Guarantees: immutable.
+ */
+public class CapacitySettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Tables, dining minutes and slot minutes should all be positive numbers.";
+
+    private static final int DEFAULT_TABLES = 20;
+    private static final int DEFAULT_DINING_MINUTES = 120;
+    private static final int DEFAULT_SLOT_MINUTES = 30;
+
+    private final int tables;
+    private final int diningMinutes;
+    private final int slotMinutes;
+
+    /**
+     * Constructs a {@code CapacitySettings} with the default tables, dining minutes and slot minutes.
+     */
+    public CapacitySettings() {
+        tables = DEFAULT_TABLES;
+        diningMinutes = DEFAULT_DINING_MINUTES;
+        slotMinutes = DEFAULT_SLOT_MINUTES;
+    }
+
+    /**
+     * Constructs a {@code CapacitySettings} with the specified tables, dining minutes and slot minutes.
+     */
+    public CapacitySettings(int tables, int diningMinutes, int slotMinutes) {
+        checkArgument(tables > 0 && diningMinutes > 0 && slotMinutes > 0, MESSAGE_CONSTRAINTS);
+        this.tables = tables;
+        this.diningMinutes = diningMinutes;
+        this.slotMinutes = slotMinutes;
+    }
+
+    /**
+     * Gets the number of tables available at any time.
+     */
+    public int getTables() {
+        return tables;
+    }
+
+    /**
+     * Gets the number of minutes a reservation takes a table for.
+     */
+    public int getDiningMinutes() {
+        return diningMinutes;
+    }
+
+    /**
+     * Gets the number of minutes between two suggested reservation slots.
+     */
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    /**
+     * Overrides the equals method.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof CapacitySettings)) { //this handles null as well.
+            return false;
+        }
+
+        CapacitySettings o = (CapacitySettings) other;
+
+        return tables == o.tables
+                && diningMinutes == o.diningMinutes
+                && slotMinutes == o.slotMinutes;
+    }
+
+    /**
+     * Overrides the hashCode method.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(tables, diningMinutes, slotMinutes);
+    }
+
+    /**
+     * Overrides the toString method.
+     *
+     * @return String including tables, dining minutes and slot minutes.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Tables : " + tables + "\n");
+        sb.append("Dining minutes : " + diningMinutes + "\n");
+        sb.append("Slot minutes : " + slotMinutes);
+        return sb.toString();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 
@@ -24,6 +25,8 @@ public class DateTime {
      */
     public final String value;
 
+    private final LocalDateTime localDateTime;
+
     /**
      * Constructs a {@code Reservation}.
      *
@@ -33,6 +36,7 @@ public class DateTime {
         requireNonNull(dateTime);
         checkArgument(isValidDateTime(dateTime), MESSAGE_CONSTRAINTS);
         value = dateTime;
+        localDateTime = DateTimeUtil.parseDateTime(dateTime);
     }
 
     /**
@@ -51,7 +55,14 @@ public class DateTime {
      * Returns LocalDateTime value of date time.
      */
     public LocalDateTime getLocalDateTimeValue() {
-        return DateTimeUtil.parseDateTime(value);
+        return localDateTime;
+    }
+
+    /**
+     * Returns LocalDate value of date time.
+     */
+    public LocalDate getLocalDateValue() {
+        return localDateTime.toLocalDate();
     }
 
     /**
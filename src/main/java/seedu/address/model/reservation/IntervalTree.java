@@ -0,0 +1,250 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A self-balancing (AVL) interval tree of half-open intervals {@code [start, end)} over {@code long} points.
+ * Each node is augmented with the maximum end point of its subtree, so that inserting and removing an interval
+ * takes O(log n) and finding the k intervals overlapping a window takes O(log n + k).
+ * Intervals with the same start and end points share one node.
+ *
+ * @param <T> the type of the values attached to the intervals.
+ */
+public class IntervalTree<T> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The start of an interval must be before its end.";
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Inserts the interval {@code [start, end)} with {@code value} into the tree.
+     */
+    public void insert(long start, long end, T value) {
+        requireNonNull(value);
+        checkArgument(start < end, MESSAGE_CONSTRAINTS);
+        root = insert(root, start, end, value);
+        size++;
+    }
+
+    /**
+     * Removes one interval {@code [start, end)} with a value equal to {@code value} from the tree.
+     *
+     * @return true if such an interval was found and removed.
+     */
+    public boolean remove(long start, long end, T value) {
+        requireNonNull(value);
+        Node<T> node = find(root, start, end);
+        if (node == null || !node.values.remove(value)) {
+            return false;
+        }
+        if (node.values.isEmpty()) {
+            root = delete(root, start, end);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns all intervals overlapping the window {@code [start, end)}.
+     */
+    public List<Interval<T>> findOverlapping(long start, long end) {
+        List<Interval<T>> overlapping = new ArrayList<>();
+        collectOverlapping(root, start, end, overlapping);
+        return overlapping;
+    }
+
+    /**
+     * Returns the number of intervals in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all intervals from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    private static int compare(long start, long end, Node<?> node) {
+        int byStart = Long.compare(start, node.start);
+        return byStart != 0 ? byStart : Long.compare(end, node.end);
+    }
+
+    private Node<T> find(Node<T> node, long start, long end) {
+        while (node != null) {
+            int cmp = compare(start, end, node);
+            if (cmp == 0) {
+                return node;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private void collectOverlapping(Node<T> node, long start, long end, List<Interval<T>> overlapping) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, overlapping);
+        if (node.start >= end) {
+            // every interval in the right subtree starts even later
+            return;
+        }
+        if (node.end > start) {
+            for (T value : node.values) {
+                overlapping.add(new Interval<>(node.start, node.end, value));
+            }
+        }
+        collectOverlapping(node.right, start, end, overlapping);
+    }
+
+    private Node<T> insert(Node<T> node, long start, long end, T value) {
+        if (node == null) {
+            Node<T> created = new Node<>(start, end);
+            created.values.add(value);
+            return created;
+        }
+        int cmp = compare(start, end, node);
+        if (cmp == 0) {
+            node.values.add(value);
+            return node;
+        }
+        if (cmp < 0) {
+            node.left = insert(node.left, start, end, value);
+        } else {
+            node.right = insert(node.right, start, end, value);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> delete(Node<T> node, long start, long end) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, end, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, end);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, end);
+        } else if (node.left == null || node.right == null) {
+            return node.left == null ? node.right : node.left;
+        } else {
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node<T> replacement = new Node<>(successor.start, successor.end);
+            replacement.values.addAll(successor.values);
+            replacement.left = node.left;
+            replacement.right = delete(node.right, successor.start, successor.end);
+            node = replacement;
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Represents an interval {@code [start, end)} with its value.
+     */
+    public static class Interval<T> {
+        private final long start;
+        private final long end;
+        private final T value;
+
+        Interval(long start, long end, T value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * Represents a node of the tree holding all values of the same interval.
+     */
+    private static class Node<T> {
+        private final long start;
+        private final long end;
+        private final List<T> values = new ArrayList<>(1);
+        private long maxEnd;
+        private int height;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(long start, long end) {
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.height = 1;
+        }
+
+        void update() {
+            height = 1 + Math.max(IntervalTree.height(left), IntervalTree.height(right));
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
@@ -2,12 +2,9 @@ package seedu.address.model.reservation;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
-import seedu.address.commons.util.DateTimeUtil;
-
 /**
  * Represents a Reservation in the member.
  * Guarantees: details are present and not null, field values are validated, immutable.
@@ -85,28 +82,21 @@ public class Reservation {
             return true;
         }
 
-        LocalDate otherDate = DateTimeUtil.parseDateTime(otherReservation.getDateTime().value).toLocalDate();
-        LocalDate date = DateTimeUtil.parseDateTime(getDateTime().value).toLocalDate();
-        return otherDate.isEqual(date);
+        return otherReservation.getDateTime().getLocalDateValue().isEqual(getDateTime().getLocalDateValue());
     }
 
     /**
      * Returns true if the reservation have the same date with the other date time.
      */
     public boolean isSameDate(LocalDateTime otherDateTime) {
-
-        LocalDate otherDate = otherDateTime.toLocalDate();
-        LocalDate date = DateTimeUtil.parseDateTime(getDateTime().value).toLocalDate();
-        return otherDate.isEqual(date);
+        return otherDateTime.toLocalDate().isEqual(getDateTime().getLocalDateValue());
     }
 
     /**
      * Returns true if a given date time is after current date time.
      */
     public static boolean isValidDateTime(DateTime dateTime) {
-        LocalDateTime otherDateTime = DateTimeUtil.parseDateTime(dateTime.value);
-        LocalDateTime nowDateTime = LocalDateTime.now();
-        return otherDateTime.isAfter(nowDateTime);
+        return dateTime.getLocalDateTimeValue().isAfter(LocalDateTime.now());
     }
 
     /**
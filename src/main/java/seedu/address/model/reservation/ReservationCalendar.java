@@ -0,0 +1,132 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.model.member.Id;
+import seedu.address.model.member.Member;
+
+/**
+ * An index of the reservations of all members, keyed by the date of the reservation.
+ * Reservations of the same date are kept in ascending order of their date time, so that a day sheet
+ * can be read without scanning every member.
+ *
+ * The calendar does not own any data: it must be kept in sync with the member list by calling
+ * {@code addMember}, {@code setMember} and {@code removeMember} whenever the member list changes.
+ */
+public class ReservationCalendar {
+
+    private static final Comparator<ReservationEntry> COMPARATOR_BY_DATE_TIME =
+            Comparator.comparing(ReservationEntry::getLocalDateTime);
+
+    private final TreeMap<LocalDate, List<ReservationEntry>> entriesByDate = new TreeMap<>();
+
+    /**
+     * Adds all reservations of {@code member} to the calendar.
+     */
+    public void addMember(Member member) {
+        requireNonNull(member);
+        for (Reservation reservation : member.getReservations()) {
+            add(new ReservationEntry(member, reservation));
+        }
+    }
+
+    /**
+     * Removes all reservations of {@code member} from the calendar.
+     */
+    public void removeMember(Member member) {
+        requireNonNull(member);
+        for (Reservation reservation : member.getReservations()) {
+            LocalDate date = reservation.getDateTime().getLocalDateValue();
+            List<ReservationEntry> entries = entriesByDate.get(date);
+            if (entries == null) {
+                continue;
+            }
+            entries.removeIf(entry -> entry.getMember().isSameId(member));
+            if (entries.isEmpty()) {
+                entriesByDate.remove(date);
+            }
+        }
+    }
+
+    /**
+     * Replaces the reservations of {@code target} in the calendar with the reservations of {@code editedMember}.
+     */
+    public void setMember(Member target, Member editedMember) {
+        requireAllNonNull(target, editedMember);
+        removeMember(target);
+        addMember(editedMember);
+    }
+
+    /**
+     * Replaces the contents of the calendar with the reservations of {@code members}.
+     */
+    public void setMembers(List<Member> members) {
+        requireNonNull(members);
+        entriesByDate.clear();
+        members.forEach(this::addMember);
+    }
+
+    /**
+     * Returns the reservations of {@code date} in ascending order of date time.
+     * The returned list is unmodifiable and empty if there is no reservation on {@code date}.
+     */
+    public List<ReservationEntry> getReservations(LocalDate date) {
+        requireNonNull(date);
+        List<ReservationEntry> entries = entriesByDate.get(date);
+        return entries == null ? Collections.emptyList() : Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns the reservation made by the member of {@code memberId} on {@code date}, if any.
+     */
+    public Optional<ReservationEntry> getReservation(LocalDate date, Id memberId) {
+        requireAllNonNull(date, memberId);
+        return getReservations(date).stream()
+                .filter(entry -> memberId.equals(entry.getMember().getId()))
+                .findFirst();
+    }
+
+    /**
+     * Returns the number of reservations in the calendar.
+     */
+    public int size() {
+        return entriesByDate.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Inserts {@code entry} into the list of its date, keeping the list in ascending order of date time.
+     */
+    private void add(ReservationEntry entry) {
+        List<ReservationEntry> entries = entriesByDate.computeIfAbsent(
+                entry.getReservation().getDateTime().getLocalDateValue(), unused -> new ArrayList<>());
+        int index = Collections.binarySearch(entries, entry, COMPARATOR_BY_DATE_TIME);
+        entries.add(index < 0 ? -index - 1 : index + 1, entry);
+    }
+
+    /**
+     * Overrides the equals method.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReservationCalendar // instanceof handles nulls
+                && entriesByDate.equals(((ReservationCalendar) other).entriesByDate));
+    }
+
+    /**
+     * Overrides the hashCode method.
+     */
+    @Override
+    public int hashCode() {
+        return entriesByDate.hashCode();
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.reservation;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.model.member.Member;
+
+/**
+ * Represents a Reservation in the reservation calendar, together with the member who made it.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class ReservationEntry {
+
+    private final Member member;
+    private final Reservation reservation;
+
+    /**
+     * Constructs a {@code ReservationEntry},
+     * every field must be present and not null.
+     *
+     * @param member the member who made the reservation.
+     * @param reservation the reservation of the member.
+     */
+    public ReservationEntry(Member member, Reservation reservation) {
+        requireAllNonNull(member, reservation);
+        this.member = member;
+        this.reservation = reservation;
+    }
+
+    /**
+     * Gets the member who made the reservation.
+     *
+     * @return Member of the reservation.
+     */
+    public Member getMember() {
+        return member;
+    }
+
+    /**
+     * Gets the reservation.
+     *
+     * @return Reservation of the member.
+     */
+    public Reservation getReservation() {
+        return reservation;
+    }
+
+    /**
+     * Gets the parsed date time of the reservation.
+     *
+     * @return LocalDateTime of the reservation.
+     */
+    public LocalDateTime getLocalDateTime() {
+        return reservation.getDateTime().getLocalDateTimeValue();
+    }
+
+    /**
+     * Overrides the equals method.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReservationEntry // instanceof handles nulls
+                && member.equals(((ReservationEntry) other).member)
+                && reservation.equals(((ReservationEntry) other).reservation)); // state check
+    }
+
+    /**
+     * Overrides the hashCode method.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(member.getId(), reservation);
+    }
+
+    /**
+     * Overrides the toString method.
+     *
+     * @return String of the reservation entry including member id, name and reservation.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("Member Id: ")
+                .append(member.getId())
+                .append("; Name: ")
+                .append(member.getName())
+                .append("; ")
+                .append(reservation);
+
+        return builder.toString();
+    }
+}
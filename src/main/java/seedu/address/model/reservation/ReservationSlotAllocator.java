@@ -0,0 +1,199 @@
+package seedu.address.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.member.Member;
+
+/**
+ * Allocates tables to reservations according to the {@code CapacitySettings} of the restaurant.
+ * Every reservation takes one table from its date time for the dining minutes, and the booked tables
+ * are kept in an {@code IntervalTree}, so that checking a time takes O(log n + k) where k is the number of
+ * overlapping reservations, which is bounded by the number of tables.
+ *
+ * Like the {@code ReservationCalendar}, the allocator must be kept in sync with the member list.
+ */
+public class ReservationSlotAllocator {
+
+    /**
+     * Stands for the maximum number of alternative slots suggested.
+     */
+    public static final int MAX_SUGGESTIONS = 3;
+
+    /**
+     * Stands for the maximum number of slots searched before and after the requested time.
+     */
+    private static final int MAX_SEARCH_STEPS = 48;
+
+    private static final String NO_EXCLUDED_KEY = "";
+
+    private final CapacitySettings capacitySettings;
+    private final IntervalTree<String> bookedTables = new IntervalTree<>();
+
+    /**
+     * Constructs a {@code ReservationSlotAllocator} with the given {@code CapacitySettings}.
+     */
+    public ReservationSlotAllocator(CapacitySettings capacitySettings) {
+        requireNonNull(capacitySettings);
+        this.capacitySettings = capacitySettings;
+    }
+
+    /**
+     * Gets the capacity settings of the allocator.
+     */
+    public CapacitySettings getCapacitySettings() {
+        return capacitySettings;
+    }
+
+    /**
+     * Books a table for each reservation of {@code member}.
+     */
+    public void addMember(Member member) {
+        requireNonNull(member);
+        for (Reservation reservation : member.getReservations()) {
+            long start = toEpochMinutes(reservation.getDateTime().getLocalDateTimeValue());
+            bookedTables.insert(start, start + capacitySettings.getDiningMinutes(), toKey(member, reservation));
+        }
+    }
+
+    /**
+     * Releases the tables booked for the reservations of {@code member}.
+     */
+    public void removeMember(Member member) {
+        requireNonNull(member);
+        for (Reservation reservation : member.getReservations()) {
+            long start = toEpochMinutes(reservation.getDateTime().getLocalDateTimeValue());
+            bookedTables.remove(start, start + capacitySettings.getDiningMinutes(), toKey(member, reservation));
+        }
+    }
+
+    /**
+     * Replaces the tables booked for {@code target} with the tables for {@code editedMember}.
+     */
+    public void setMember(Member target, Member editedMember) {
+        requireAllNonNull(target, editedMember);
+        removeMember(target);
+        addMember(editedMember);
+    }
+
+    /**
+     * Replaces all booked tables with the tables for the reservations of {@code members}.
+     */
+    public void setMembers(List<Member> members) {
+        requireNonNull(members);
+        bookedTables.clear();
+        members.forEach(this::addMember);
+    }
+
+    /**
+     * Returns true if a table is free for the whole dining time starting at {@code dateTime}.
+     */
+    public boolean isAvailable(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return isAvailable(toEpochMinutes(dateTime), NO_EXCLUDED_KEY);
+    }
+
+    /**
+     * Returns true if a table is free for the whole dining time starting at {@code dateTime},
+     * assuming the table of {@code toReplace} is released first.
+     */
+    public boolean isAvailable(LocalDateTime dateTime, ReservationEntry toReplace) {
+        requireAllNonNull(dateTime, toReplace);
+        return isAvailable(toEpochMinutes(dateTime), toKey(toReplace.getMember(), toReplace.getReservation()));
+    }
+
+    /**
+     * Returns up to {@code MAX_SUGGESTIONS} future slots with a free table, nearest to {@code dateTime} first.
+     */
+    public List<LocalDateTime> suggestSlots(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return suggestSlots(dateTime, NO_EXCLUDED_KEY);
+    }
+
+    /**
+     * Returns up to {@code MAX_SUGGESTIONS} future slots with a free table, nearest to {@code dateTime} first,
+     * assuming the table of {@code toReplace} is released first.
+     */
+    public List<LocalDateTime> suggestSlots(LocalDateTime dateTime, ReservationEntry toReplace) {
+        requireAllNonNull(dateTime, toReplace);
+        return suggestSlots(dateTime, toKey(toReplace.getMember(), toReplace.getReservation()));
+    }
+
+    private List<LocalDateTime> suggestSlots(LocalDateTime dateTime, String excludedKey) {
+        List<LocalDateTime> suggestions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int step = 1; step <= MAX_SEARCH_STEPS && suggestions.size() < MAX_SUGGESTIONS; step++) {
+            long offset = (long) step * capacitySettings.getSlotMinutes();
+            for (LocalDateTime candidate : Arrays.asList(dateTime.minusMinutes(offset), dateTime.plusMinutes(offset))) {
+                if (suggestions.size() < MAX_SUGGESTIONS && candidate.isAfter(now)
+                        && isAvailable(toEpochMinutes(candidate), excludedKey)) {
+                    suggestions.add(candidate);
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns true if fewer than all tables are booked at every minute of the dining time starting at
+     * {@code start}, not counting the reservation of {@code excludedKey}.
+     */
+    private boolean isAvailable(long start, String excludedKey) {
+        long end = start + capacitySettings.getDiningMinutes();
+        List<IntervalTree.Interval<String>> overlapping = bookedTables.findOverlapping(start, end);
+        if (overlapping.size() < capacitySettings.getTables()) {
+            return true;
+        }
+
+        long[] starts = new long[overlapping.size()];
+        long[] ends = new long[overlapping.size()];
+        int count = 0;
+        for (IntervalTree.Interval<String> interval : overlapping) {
+            if (!interval.getValue().equals(excludedKey)) {
+                starts[count] = Math.max(interval.getStart(), start);
+                ends[count] = Math.min(interval.getEnd(), end);
+                count++;
+            }
+        }
+        return peakOverlap(starts, ends, count) < capacitySettings.getTables();
+    }
+
+    /**
+     * Returns the maximum number of the first {@code count} intervals that overlap at the same time.
+     */
+    private static int peakOverlap(long[] starts, long[] ends, int count) {
+        Arrays.sort(starts, 0, count);
+        Arrays.sort(ends, 0, count);
+        int peak = 0;
+        int current = 0;
+        int endIndex = 0;
+        for (int i = 0; i < count; i++) {
+            // intervals are half-open, so an interval ending at a point does not overlap one starting there
+            while (ends[endIndex] <= starts[i]) {
+                endIndex++;
+                current--;
+            }
+            current++;
+            peak = Math.max(peak, current);
+        }
+        return peak;
+    }
+
+    private static long toEpochMinutes(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    /**
+     * Returns the key of {@code reservation}, which is the member ID and the reservation ID separated by {@code -},
+     * as IDs of any length would run into each other without the separator.
+     */
+    private static String toKey(Member member, Reservation reservation) {
+        return member.getId().value + "-" + reservation.getId().value;
+    }
+}
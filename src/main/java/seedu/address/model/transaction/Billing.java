@@ -12,7 +12,7 @@ public class Billing {
     /**
      * Stands for the max transaction billing number.
      */
-    public static final double MAX = 9999.99;
+    public static final double MAX = 999999999.99;
 
     /**
      * Stands for message constraints of transaction billing.
@@ -33,7 +33,7 @@ public class Billing {
     /**
      * Stands for transaction billing max amount length.
      */
-    public static final int LENGTH = 7; // Max amount is 9999.99
+    public static final int LENGTH = 12; // Max amount is 999999999.99
 
     /**
      * Stands for transaction billing value.
@@ -12,13 +12,13 @@ public class Id {
     /**
      * Stands for the max transaction max id number.
      */
-    public static final int MAX = 999999;
+    public static final long MAX = Long.MAX_VALUE;
 
     /**
      * Stands for message constraints of transaction Id.
      */
     public static final String MESSAGE_CONSTRAINTS =
-            "Transaction IDs should only contain 6 digits and it should not be blank, and max ID is " + MAX;
+            "Transaction IDs should only contain digits and it should not be blank, and max ID is " + MAX;
 
     /**
      * Stands for trim leading zero regex.
@@ -38,7 +38,7 @@ public class Id {
     /**
      * Stands for transaction Id max length.
      */
-    public static final int LENGTH = 6; // Max ID is 999999
+    public static final int LENGTH = 19; // Max ID is 9223372036854775807
 
     /**
      * Stands for transaction Id value.
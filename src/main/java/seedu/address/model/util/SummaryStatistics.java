@@ -0,0 +1,160 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.member.Member;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * The statistics of the summary of members, as computed by {@code SummaryUtil}, kept up to date incrementally.
+ * The share of each member is remembered, so an update only goes through the transactions of members that were
+ * added or edited since the last update. As members are immutable, an edited member is a new member.
+ * The shares within the past months are worked out again when the month changes.
+ */
+public class SummaryStatistics {
+
+    /**
+     * Stands for the numbers of past months that the statistics are kept for.
+     */
+    public static final List<Integer> PAST_MONTHS = List.of(1, 3, 6);
+
+    public static final String MESSAGE_UNTRACKED_PAST_MONTHS = "The statistics are only kept for the past "
+            + PAST_MONTHS + " months.";
+
+    private static final long CENTS_PER_DOLLAR = 100;
+
+    private final Clock clock;
+    private Map<Member, Share> shares = new IdentityHashMap<>();
+    private YearMonth currentMonth;
+
+    private long memberCount;
+    private long transactionCount;
+    private long billingCents;
+    private final long[] transactionCountsInPastMonths = new long[PAST_MONTHS.size()];
+    private final long[] billingCentsInPastMonths = new long[PAST_MONTHS.size()];
+
+    /**
+     * Constructs a {@code SummaryStatistics} of no members.
+     */
+    public SummaryStatistics() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a {@code SummaryStatistics} of no members, reading the current month from {@code clock}.
+     */
+    SummaryStatistics(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        this.currentMonth = YearMonth.now(clock);
+    }
+
+    /**
+     * Updates the statistics to those of {@code members}.
+     */
+    public void update(List<Member> members) {
+        requireNonNull(members);
+        YearMonth month = YearMonth.now(clock);
+        if (!month.equals(currentMonth)) {
+            currentMonth = month;
+            shares.clear();
+        }
+
+        Map<Member, Share> updatedShares = new IdentityHashMap<>(members.size());
+        memberCount = members.size();
+        transactionCount = 0;
+        billingCents = 0;
+        Arrays.fill(transactionCountsInPastMonths, 0);
+        Arrays.fill(billingCentsInPastMonths, 0);
+        for (Member member : members) {
+            Share share = shares.get(member);
+            if (share == null) {
+                share = new Share(member);
+            }
+            updatedShares.put(member, share);
+            transactionCount += share.transactionCount;
+            billingCents += share.billingCents;
+            for (int i = 0; i < PAST_MONTHS.size(); i++) {
+                transactionCountsInPastMonths[i] += share.transactionCountsInPastMonths[i];
+                billingCentsInPastMonths[i] += share.billingCentsInPastMonths[i];
+            }
+        }
+        shares = updatedShares;
+    }
+
+    public long getMemberCount() {
+        return memberCount;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public double getBilling() {
+        return (double) billingCents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Returns the number of transactions within the past {@code numOfPastMonths} months, which is one of
+     * {@code PAST_MONTHS}.
+     */
+    public long getTransactionCountInPastMonths(int numOfPastMonths) {
+        return transactionCountsInPastMonths[indexOfPastMonths(numOfPastMonths)];
+    }
+
+    /**
+     * Returns the total billing of the transactions within the past {@code numOfPastMonths} months, which is one
+     * of {@code PAST_MONTHS}.
+     */
+    public double getBillingInPastMonths(int numOfPastMonths) {
+        return (double) billingCentsInPastMonths[indexOfPastMonths(numOfPastMonths)] / CENTS_PER_DOLLAR;
+    }
+
+    private static int indexOfPastMonths(int numOfPastMonths) {
+        int index = PAST_MONTHS.indexOf(numOfPastMonths);
+        checkArgument(index >= 0, MESSAGE_UNTRACKED_PAST_MONTHS);
+        return index;
+    }
+
+    /**
+     * The share of one member in the statistics, in the current month.
+     */
+    private class Share {
+        private long transactionCount;
+        private long billingCents;
+        private final long[] transactionCountsInPastMonths = new long[PAST_MONTHS.size()];
+        private final long[] billingCentsInPastMonths = new long[PAST_MONTHS.size()];
+
+        /**
+         * Goes through the transactions of {@code member}. A transaction is within the past months as in
+         * {@code Transaction#isWithinPastMonths(long, int)}.
+         */
+        Share(Member member) {
+            for (Transaction transaction : member.getTransactions()) {
+                // a billing has two decimal places, so its cents add up exactly
+                long cents = Math.round(transaction.getBilling().getDoubleValue() * CENTS_PER_DOLLAR);
+                YearMonth month = YearMonth.from(
+                        Instant.ofEpochMilli(transaction.getTimestamp().getLongValue()).atZone(clock.getZone()));
+                long monthsAgo = month.until(currentMonth, ChronoUnit.MONTHS);
+                transactionCount++;
+                billingCents += cents;
+                for (int i = 0; i < PAST_MONTHS.size(); i++) {
+                    if (monthsAgo <= PAST_MONTHS.get(i)) {
+                        transactionCountsInPastMonths[i]++;
+                        billingCentsInPastMonths[i] += cents;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.member.Member;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Contains utility methods for computing the statistics of the summary of members.
+ */
+public class SummaryUtil {
+
+    /**
+     * Returns the number of transactions of all {@code members}.
+     */
+    public static long countTransactions(List<Member> members) {
+        return countTransactions(members, unused -> true);
+    }
+
+    /**
+     * Returns the total billing of the transactions of all {@code members}.
+     */
+    public static double sumBillings(List<Member> members) {
+        return sumBillings(members, unused -> true);
+    }
+
+    /**
+     * Returns the number of transactions of all {@code members} within the past {@code numOfPastMonths} months.
+     */
+    public static long countTransactionsInPastMonths(List<Member> members, int numOfPastMonths) {
+        return countTransactions(members, isWithinPastMonths(numOfPastMonths));
+    }
+
+    /**
+     * Returns the total billing of the transactions of all {@code members} within the past {@code numOfPastMonths}
+     * months.
+     */
+    public static double sumBillingsInPastMonths(List<Member> members, int numOfPastMonths) {
+        return sumBillings(members, isWithinPastMonths(numOfPastMonths));
+    }
+
+    private static Predicate<Transaction> isWithinPastMonths(int numOfPastMonths) {
+        return transaction -> Transaction.isWithinPastMonths(transaction.getTimestamp().getLongValue(),
+                numOfPastMonths);
+    }
+
+    private static long countTransactions(List<Member> members, Predicate<Transaction> predicate) {
+        requireNonNull(members);
+        return members.stream()
+                .mapToLong(member -> member.getTransactions().stream().filter(predicate).count())
+                .sum();
+    }
+
+    private static double sumBillings(List<Member> members, Predicate<Transaction> predicate) {
+        requireNonNull(members);
+        return members.stream()
+                .mapToDouble(member -> member.getTransactions().stream().filter(predicate)
+                        .mapToDouble(transaction -> transaction.getBilling().getDoubleValue()).sum())
+                .sum();
+    }
+}
@@ -0,0 +1,312 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.ReadOnlyEzFoodie;
+import seedu.address.model.Timestamp;
+import seedu.address.model.member.Address;
+import seedu.address.model.member.Credit;
+import seedu.address.model.member.Email;
+import seedu.address.model.member.Id;
+import seedu.address.model.member.Member;
+import seedu.address.model.member.Name;
+import seedu.address.model.member.Phone;
+import seedu.address.model.member.Point;
+import seedu.address.model.member.Tier;
+import seedu.address.model.reservation.DateTime;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Billing;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Generates realistic members of any number for benchmarks and load tests.
+ * <ul>
+ *     <li>The number of visits of a member follows a Zipf distribution over {@code 1} to {@code maxVisits}: most
+ *     members visit a few times, and a few members visit very often. Each visit is a transaction, at lunch or dinner
+ *     time on a day between the registration of the member and the end of the generated years.</li>
+ *     <li>Some visits are booked beforehand, which gives a reservation at the time of the visit.</li>
+ *     <li>The tier of a member, which is given by its credit, follows the tier weights.</li>
+ * </ul>
+ * Each member is generated from the seed and its index alone, so the same seed always gives the same members, and
+ * {@link #generate()} gives the members one at a time instead of keeping them all in memory.
+ * Use {@code DataGeneratorMain} to write them to a data file.
+ */
+public class SyntheticDataGenerator {
+
+    /**
+     * Stands for the largest number of members, as each of them needs a phone number of its own.
+     */
+    public static final int MAX_MEMBER_COUNT = 40000000;
+
+    public static final String MESSAGE_INVALID_MEMBER_COUNT =
+            "The number of members should be between 0 and " + MAX_MEMBER_COUNT + ".";
+    public static final String MESSAGE_INVALID_VISITS =
+            "The maximum number of visits should be positive, and the Zipf exponent should not be negative.";
+    public static final String MESSAGE_INVALID_YEARS = "The number of years should be positive.";
+    public static final String MESSAGE_INVALID_RESERVATION_RATE = "The reservation rate should be between 0 and 1.";
+    public static final String MESSAGE_INVALID_TIER_WEIGHTS =
+            "There should be one weight for each tier, none of them negative and at least one of them positive.";
+
+    public static final int DEFAULT_MAX_VISITS = 200;
+    public static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+    public static final LocalDate DEFAULT_FIRST_DATE = LocalDate.of(2019, 1, 1);
+    public static final int DEFAULT_YEARS = 3;
+    public static final double DEFAULT_RESERVATION_RATE = 0.2;
+    public static final double[] DEFAULT_TIER_WEIGHTS = {0.6, 0.25, 0.1, 0.05};
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "John",
+        "Mei", "Siti", "Wei", "Aisha", "Ben", "Chloe", "Daniel", "Farah", "Gabriel", "Hui Min", "Jun Jie", "Kumar",
+        "Priya"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Doe",
+        "Tan", "Lim", "Ng", "Wong", "Goh", "Chua", "Ong", "Koh", "Rahman", "Pillai", "Teo", "Lee", "Chan"};
+    private static final String[] STREETS = {"Geylang Street 29", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Ave 3",
+        "Jurong West Ave 6", "Tampines Street 11", "Serangoon Ave 2", "Amoy Street", "Benoi Crescent"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "gmail.com", "yahoo.com", "u.nus.edu"};
+    private static final String[] TAG_NAMES = {"regular", "vegetarian", "birthday", "corporate", "halal", "vip"};
+    private static final int[] VISIT_HOURS = {11, 12, 13, 18, 19, 20, 21};
+    private static final int PHONE_NUMBERS_PER_PREFIX = 10000000;
+    private static final String PHONE_PREFIXES = "3689";
+    private static final int HIGHEST_CREDIT = 20000;
+
+    private final long seed;
+    private final int memberCount;
+    private int maxVisits = DEFAULT_MAX_VISITS;
+    private double zipfExponent = DEFAULT_ZIPF_EXPONENT;
+    private double[] visitsDistribution;
+    private LocalDate firstDate = DEFAULT_FIRST_DATE;
+    private int years = DEFAULT_YEARS;
+    private double reservationRate = DEFAULT_RESERVATION_RATE;
+    private double[] tierDistribution;
+
+    /**
+     * Constructs a {@code SyntheticDataGenerator} of {@code memberCount} members generated from {@code seed}, with
+     * the default settings.
+     */
+    public SyntheticDataGenerator(long seed, int memberCount) {
+        checkArgument(memberCount >= 0 && memberCount <= MAX_MEMBER_COUNT, MESSAGE_INVALID_MEMBER_COUNT);
+        this.seed = seed;
+        this.memberCount = memberCount;
+        withVisits(DEFAULT_MAX_VISITS, DEFAULT_ZIPF_EXPONENT);
+        withTierWeights(DEFAULT_TIER_WEIGHTS);
+    }
+
+    /**
+     * Sets the number of visits of each member to follow a Zipf distribution with {@code zipfExponent} over
+     * {@code 1} to {@code maxVisits}.
+     */
+    public SyntheticDataGenerator withVisits(int maxVisits, double zipfExponent) {
+        checkArgument(maxVisits > 0 && zipfExponent >= 0, MESSAGE_INVALID_VISITS);
+        double[] weights = new double[maxVisits];
+        for (int visits = 1; visits <= maxVisits; visits++) {
+            weights[visits - 1] = 1 / Math.pow(visits, zipfExponent);
+        }
+        this.maxVisits = maxVisits;
+        this.zipfExponent = zipfExponent;
+        visitsDistribution = toCumulativeDistribution(weights);
+        return this;
+    }
+
+    /**
+     * Sets the members to register and visit over {@code years} years from {@code firstDate}.
+     */
+    public SyntheticDataGenerator withYears(LocalDate firstDate, int years) {
+        requireNonNull(firstDate);
+        checkArgument(years > 0, MESSAGE_INVALID_YEARS);
+        this.firstDate = firstDate;
+        this.years = years;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of visits that are booked beforehand.
+     */
+    public SyntheticDataGenerator withReservationRate(double reservationRate) {
+        checkArgument(reservationRate >= 0 && reservationRate <= 1, MESSAGE_INVALID_RESERVATION_RATE);
+        this.reservationRate = reservationRate;
+        return this;
+    }
+
+    /**
+     * Sets the relative numbers of bronze, silver, gold and platinum members.
+     */
+    public SyntheticDataGenerator withTierWeights(double... tierWeights) {
+        requireNonNull(tierWeights);
+        checkArgument(tierWeights.length == Tier.values().length
+                && Arrays.stream(tierWeights).allMatch(weight -> weight >= 0)
+                && Arrays.stream(tierWeights).sum() > 0, MESSAGE_INVALID_TIER_WEIGHTS);
+        tierDistribution = toCumulativeDistribution(tierWeights);
+        return this;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    /**
+     * Returns the mean number of visits, and so of transactions, of a member.
+     */
+    public double getMeanVisits() {
+        double weightedVisits = 0;
+        double totalWeight = 0;
+        for (int visits = 1; visits <= maxVisits; visits++) {
+            double weight = 1 / Math.pow(visits, zipfExponent);
+            weightedVisits += visits * weight;
+            totalWeight += weight;
+        }
+        return weightedVisits / totalWeight;
+    }
+
+    /**
+     * Returns the members of this generator as an ezFoodie, whose members are generated whenever they are read,
+     * so that saving it with a storage that writes the members one at a time does not keep them all in memory.
+     */
+    public ReadOnlyEzFoodie generate() {
+        List<Member> members = new GeneratedMemberList();
+        return () -> members;
+    }
+
+    /**
+     * Returns the member with {@code index}, which is the same for the same seed and settings.
+     * The id, phone and email of the member are different from those of the members of every other index.
+     */
+    public Member getMember(int index) {
+        checkArgument(index >= 0 && index < MAX_MEMBER_COUNT, MESSAGE_INVALID_MEMBER_COUNT);
+        SplittableRandom random = new SplittableRandom(seed + index * 0x9E3779B97F4A7C15L);
+
+        long days = ChronoUnit.DAYS.between(firstDate, firstDate.plusYears(years));
+        long registrationDay = random.nextLong(days);
+        int visits = sample(visitsDistribution, random) + 1;
+        long[] visitTimes = new long[visits];
+        for (int i = 0; i < visits; i++) {
+            LocalDateTime visitTime = firstDate.plusDays(registrationDay + random.nextLong(days - registrationDay))
+                    .atTime(VISIT_HOURS[random.nextInt(VISIT_HOURS.length)], 0);
+            visitTimes[i] = visitTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+        Arrays.sort(visitTimes);
+
+        List<Transaction> transactions = new ArrayList<>(visits);
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 0; i < visits; i++) {
+            transactions.add(new Transaction(new seedu.address.model.transaction.Id(String.valueOf(i + 1)),
+                    new Timestamp(String.valueOf(visitTimes[i])), new Billing(toBilling(random))));
+            if (random.nextDouble() < reservationRate) {
+                LocalDateTime visitTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(visitTimes[i]), ZoneOffset.UTC);
+                reservations.add(new Reservation(
+                        new seedu.address.model.reservation.Id(String.valueOf(reservations.size() + 1)),
+                        new DateTime(DateTimeUtil.formatDateTime(visitTime)),
+                        new Remark((random.nextInt(8) + 1) + " people")));
+            }
+        }
+
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        long credit = toCredit(Tier.values()[sample(tierDistribution, random)], random);
+        long registrationTime = firstDate.plusDays(registrationDay).atStartOfDay().toInstant(ZoneOffset.UTC)
+                .toEpochMilli();
+        return new Member(new Id(String.valueOf(index + 1)), new Name(firstName + " " + lastName),
+                new Phone(toPhone(index)),
+                new Email((firstName + "." + lastName).replace(' ', '.').toLowerCase() + index + "@"
+                        + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]),
+                new Address("Blk " + (random.nextInt(998) + 1) + " " + STREETS[random.nextInt(STREETS.length)]
+                        + ", #" + String.format("%02d-%02d", random.nextInt(30) + 1, random.nextInt(99) + 1)),
+                new Timestamp(String.valueOf(registrationTime)), new Credit(String.valueOf(credit)),
+                new Point(String.valueOf(random.nextLong(credit + 1))), transactions, reservations,
+                toTags(random));
+    }
+
+    /**
+     * Returns a phone number that is different for every index, and looks random.
+     */
+    private static String toPhone(int index) {
+        long number = (index % PHONE_NUMBERS_PER_PREFIX * 3000017L + 1234567) % PHONE_NUMBERS_PER_PREFIX;
+        return PHONE_PREFIXES.charAt(index / PHONE_NUMBERS_PER_PREFIX) + String.format("%07d", number);
+    }
+
+    /**
+     * Returns a billing of mostly 10 to 80 dollars, and now and then of a few hundred dollars.
+     */
+    private static String toBilling(SplittableRandom random) {
+        long cents = Math.round(Math.exp(3.4 + 0.6 * gaussian(random)) * 100);
+        return String.format("%d.%02d", cents / 100, cents % 100);
+    }
+
+    /**
+     * Returns a credit within {@code tier}.
+     */
+    private static long toCredit(Tier tier, SplittableRandom random) {
+        Tier[] tiers = Tier.values();
+        int nextTier = tier.ordinal() + 1;
+        long highestCredit = nextTier < tiers.length ? tiers[nextTier].getValue() : HIGHEST_CREDIT;
+        return tier.getValue() + random.nextLong(highestCredit - tier.getValue());
+    }
+
+    private static Set<Tag> toTags(SplittableRandom random) {
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = random.nextInt(10) < 6 ? 0 : random.nextInt(3) + 1;
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(TAG_NAMES[random.nextInt(TAG_NAMES.length)]));
+        }
+        return tags;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller transform, as SplittableRandom has no nextGaussian
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static double[] toCumulativeDistribution(double[] weights) {
+        double[] distribution = new double[weights.length];
+        double total = Arrays.stream(weights).sum();
+        double cumulativeWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            cumulativeWeight += weights[i];
+            distribution[i] = cumulativeWeight / total;
+        }
+        distribution[weights.length - 1] = 1;
+        return distribution;
+    }
+
+    /**
+     * Returns the index of the outcome of {@code distribution} drawn by {@code random}.
+     */
+    private static int sample(double[] distribution, SplittableRandom random) {
+        int index = Arrays.binarySearch(distribution, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * The members of this generator, generated whenever they are read.
+     */
+    private class GeneratedMemberList extends AbstractList<Member> {
+
+        @Override
+        public Member get(int index) {
+            if (index < 0 || index >= memberCount) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + memberCount);
+            }
+            return getMember(index);
+        }
+
+        @Override
+        public int size() {
+            return memberCount;
+        }
+    }
+}
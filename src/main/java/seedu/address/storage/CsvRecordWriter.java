@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import seedu.address.commons.util.CsvUtil;
+
+/**
+ * Writes records as rows of comma-separated values, after a header row of the names of their columns.
+ * The values of a list field are separated by {@link #LIST_SEPARATOR}.
+ */
+public class CsvRecordWriter implements RecordWriter {
+
+    /**
+     * Stands for the separator of the values of a list field.
+     */
+    public static final String LIST_SEPARATOR = ";";
+
+    private final Writer writer;
+    private boolean isFirstField = true;
+
+    /**
+     * Constructs a {@code CsvRecordWriter} that writes to {@code writer}, starting with the header row of
+     * {@code columns}.
+     */
+    public CsvRecordWriter(Writer writer, List<String> columns) throws IOException {
+        requireAllNonNull(writer, columns);
+        this.writer = writer;
+        for (String column : columns) {
+            writeField(column);
+        }
+        endRecord();
+    }
+
+    @Override
+    public void writeField(String value) throws IOException {
+        startField();
+        CsvUtil.appendField(writer, value);
+    }
+
+    @Override
+    public void writeNumberField(String value) throws IOException {
+        startField();
+        writer.write(value);
+    }
+
+    @Override
+    public void writeListField(Iterable<String> values) throws IOException {
+        startField();
+        boolean isFirstValue = true;
+        for (String value : values) {
+            if (!isFirstValue) {
+                writer.write(LIST_SEPARATOR);
+            }
+            CsvUtil.appendField(writer, value);
+            isFirstValue = false;
+        }
+    }
+
+    @Override
+    public void endRecord() throws IOException {
+        writer.write('\n');
+        isFirstField = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void startField() throws IOException {
+        if (!isFirstField) {
+            CsvUtil.appendSeparator(writer);
+        }
+        isFirstField = false;
+    }
+}
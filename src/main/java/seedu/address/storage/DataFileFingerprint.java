@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * Identifies the contents of a data file by its size, last modified time and CRC-32C checksum, so that an image
+ * of the data is only used while the file is unchanged.
+ */
+public class DataFileFingerprint {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final long size;
+    private final long lastModifiedMillis;
+    private final long checksum;
+
+    /**
+     * Constructs a {@code DataFileFingerprint} with the given size, last modified time and checksum.
+     */
+    public DataFileFingerprint(long size, long lastModifiedMillis, long checksum) {
+        this.size = size;
+        this.lastModifiedMillis = lastModifiedMillis;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the fingerprint of the file at {@code filePath}, reading the whole file for its checksum.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static DataFileFingerprint of(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        long size = Files.size(filePath);
+        long lastModifiedMillis = Files.getLastModifiedTime(filePath).toMillis();
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return new DataFileFingerprint(size, lastModifiedMillis, crc.getValue());
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} still has the size and last modified time of this fingerprint,
+     * which is checked without reading the file.
+     */
+    public boolean hasSameAttributes(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return Files.exists(filePath) && Files.size(filePath) == size
+                && Files.getLastModifiedTime(filePath).toMillis() == lastModifiedMillis;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModifiedMillis;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Overrides the equals method.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DataFileFingerprint)) {
+            return false;
+        }
+        DataFileFingerprint otherFingerprint = (DataFileFingerprint) other;
+        return size == otherFingerprint.size
+                && lastModifiedMillis == otherFingerprint.lastModifiedMillis
+                && checksum == otherFingerprint.checksum;
+    }
+
+    /**
+     * Overrides the hashCode method.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, lastModifiedMillis, checksum);
+    }
+
+    /**
+     * Overrides the toString method.
+     */
+    @Override
+    public String toString() {
+        return String.format("%d bytes, modified at %d, CRC-32C %08x", size, lastModifiedMillis, checksum);
+    }
+}
@@ -0,0 +1,278 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.EzFoodie;
+import seedu.address.model.ReadOnlyEzFoodie;
+import seedu.address.model.Timestamp;
+import seedu.address.model.member.Address;
+import seedu.address.model.member.Credit;
+import seedu.address.model.member.Email;
+import seedu.address.model.member.Id;
+import seedu.address.model.member.Member;
+import seedu.address.model.member.Name;
+import seedu.address.model.member.Phone;
+import seedu.address.model.member.Point;
+import seedu.address.model.reservation.DateTime;
+import seedu.address.model.reservation.Remark;
+import seedu.address.model.reservation.Reservation;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Billing;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * A binary image of the ezFoodie data in a data file, which is read at startup instead of the data file while the
+ * data file has the {@code DataFileFingerprint} the image was made from.
+ * Reading the image skips parsing JSON and building the JSON-adapted members, as each value is stored as a
+ * length-prefixed string in the order the model constructors take them.
+ * The image ends with the CRC-32C checksum of the rest of it, so that a damaged image is not used.
+ */
+public class EzFoodieImageCache {
+
+    /**
+     * Stands for the extension added to the name of a data file for the name of its image.
+     */
+    public static final String IMAGE_FILE_EXTENSION = ".image";
+
+    /**
+     * Stands for "EZFI", the first bytes of an image.
+     */
+    static final int MAGIC = 0x455A4649;
+
+    /**
+     * Stands for the version of the layout of the image, which changes whenever the layout does.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    /**
+     * Stands for the largest capacity a list is created with, so that a damaged count cannot use up the heap.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(EzFoodieImageCache.class);
+
+    private final Path imageFilePath;
+
+    /**
+     * Constructs a {@code EzFoodieImageCache} whose image is kept at {@code imageFilePath}.
+     */
+    public EzFoodieImageCache(Path imageFilePath) {
+        requireNonNull(imageFilePath);
+        this.imageFilePath = imageFilePath;
+    }
+
+    /**
+     * Returns the path of the image of the data file at {@code dataFilePath}, next to the data file.
+     */
+    public static Path getImageFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + IMAGE_FILE_EXTENSION);
+    }
+
+    public Path getImageFilePath() {
+        return imageFilePath;
+    }
+
+    /**
+     * Returns the ezFoodie data in the image if the image was made from a data file of {@code fingerprint}.
+     * Returns {@code Optional.empty()} if there is no image, or it was made from another version of the data file,
+     * or it is damaged.
+     */
+    public Optional<ReadOnlyEzFoodie> read(DataFileFingerprint fingerprint) {
+        requireNonNull(fingerprint);
+        if (!Files.exists(imageFilePath)) {
+            return Optional.empty();
+        }
+
+        CRC32C crc = new CRC32C();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(imageFilePath)), crc))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                logger.info("Image " + imageFilePath + " is of another format. Reading the data file instead.");
+                return Optional.empty();
+            }
+            DataFileFingerprint imageFingerprint = new DataFileFingerprint(in.readLong(), in.readLong(),
+                    in.readLong());
+            if (!imageFingerprint.equals(fingerprint)) {
+                logger.info("Image " + imageFilePath + " is of another version of the data file. "
+                        + "Reading the data file instead.");
+                return Optional.empty();
+            }
+
+            int memberCount = readCount(in);
+            List<Member> members = new ArrayList<>(Math.min(memberCount, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < memberCount; i++) {
+                members.add(readMember(in));
+            }
+            long checksum = crc.getValue();
+            if (in.readLong() != checksum) {
+                throw new IOException("checksum mismatch");
+            }
+
+            EzFoodie ezFoodie = new EzFoodie();
+            ezFoodie.setMembers(members);
+            return Optional.of(ezFoodie);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Image " + imageFilePath + " is damaged (" + e + "). Reading the data file instead.");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Saves the image of {@code ezFoodie}, which is the data in a data file of {@code fingerprint}.
+     * The image is written to a temporary file first, so that a failed write leaves the previous image whole.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void write(ReadOnlyEzFoodie ezFoodie, DataFileFingerprint fingerprint) throws IOException {
+        requireAllNonNull(ezFoodie, fingerprint);
+        FileUtil.createParentDirsOfFile(imageFilePath);
+        Path temporaryFilePath = Files.createTempFile(imageFilePath.toAbsolutePath().getParent(),
+                imageFilePath.getFileName().toString(), ".tmp");
+        try {
+            CRC32C crc = new CRC32C();
+            try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFilePath)), crc))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(fingerprint.getSize());
+                out.writeLong(fingerprint.getLastModifiedMillis());
+                out.writeLong(fingerprint.getChecksum());
+                List<Member> members = ezFoodie.getMemberList();
+                out.writeInt(members.size());
+                for (Member member : members) {
+                    writeMember(out, member);
+                }
+                out.writeLong(crc.getValue());
+            }
+            try {
+                Files.move(temporaryFilePath, imageFilePath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFilePath, imageFilePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFilePath);
+        }
+    }
+
+    /**
+     * Deletes the image, if there is one.
+     *
+     * @throws IOException if there was any problem deleting the file.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(imageFilePath);
+    }
+
+    private static void writeMember(DataOutputStream out, Member member) throws IOException {
+        writeString(out, member.getId().value);
+        writeString(out, member.getName().fullName);
+        writeString(out, member.getPhone().value);
+        writeString(out, member.getEmail().value);
+        writeString(out, member.getAddress().value);
+        writeString(out, member.getTimestamp().value);
+        writeString(out, member.getCredit().value);
+        writeString(out, member.getPoint().value);
+
+        out.writeInt(member.getTags().size());
+        for (Tag tag : member.getTags()) {
+            writeString(out, tag.tagName);
+        }
+        out.writeInt(member.getTransactions().size());
+        for (Transaction transaction : member.getTransactions()) {
+            writeString(out, transaction.getId().value);
+            writeString(out, transaction.getTimestamp().value);
+            writeString(out, transaction.getBilling().value);
+        }
+        out.writeInt(member.getReservations().size());
+        for (Reservation reservation : member.getReservations()) {
+            writeString(out, reservation.getId().value);
+            writeString(out, reservation.getDateTime().value);
+            writeString(out, reservation.getRemark().value);
+        }
+    }
+
+    private static Member readMember(DataInputStream in) throws IOException {
+        Id id = new Id(readString(in));
+        Name name = new Name(readString(in));
+        Phone phone = new Phone(readString(in));
+        Email email = new Email(readString(in));
+        Address address = new Address(readString(in));
+        Timestamp timestamp = new Timestamp(readString(in));
+        Credit credit = new Credit(readString(in));
+        Point point = new Point(readString(in));
+
+        int tagCount = readCount(in);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(readString(in)));
+        }
+        int transactionCount = readCount(in);
+        List<Transaction> transactions = new ArrayList<>(Math.min(transactionCount, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < transactionCount; i++) {
+            transactions.add(new Transaction(new seedu.address.model.transaction.Id(readString(in)),
+                    new Timestamp(readString(in)), new Billing(readString(in))));
+        }
+        int reservationCount = readCount(in);
+        List<Reservation> reservations = new ArrayList<>(Math.min(reservationCount, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < reservationCount; i++) {
+            reservations.add(new Reservation(new seedu.address.model.reservation.Id(readString(in)),
+                    new DateTime(readString(in)), new Remark(readString(in))));
+        }
+        return new Member(id, name, phone, email, address, timestamp, credit, point, transactions, reservations,
+                tags);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the number of the items that follow, which cannot be negative.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("invalid count " + count);
+        }
+        return count;
+    }
+}
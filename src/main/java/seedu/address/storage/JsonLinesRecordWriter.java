@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Writes records as JSON lines, a compact JSON object per line whose keys are the names of the columns.
+ * The objects are written with a streaming {@code JsonGenerator}, so that no tree of nodes is built per record.
+ */
+public class JsonLinesRecordWriter implements RecordWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private final SerializableString[] columns;
+    private int fieldIndex;
+
+    /**
+     * Constructs a {@code JsonLinesRecordWriter} that writes to {@code writer} records of {@code columns}.
+     */
+    public JsonLinesRecordWriter(Writer writer, List<String> columns) throws IOException {
+        requireAllNonNull(writer, columns);
+        generator = JSON_FACTORY.createGenerator(writer);
+        // each record ends with a line break instead of the space written between root values by default
+        generator.setRootValueSeparator(null);
+        this.columns = columns.stream().map(SerializedString::new).toArray(SerializableString[]::new);
+    }
+
+    @Override
+    public void writeField(String value) throws IOException {
+        startField();
+        generator.writeString(value);
+    }
+
+    @Override
+    public void writeNumberField(String value) throws IOException {
+        startField();
+        generator.writeNumber(value);
+    }
+
+    @Override
+    public void writeListField(Iterable<String> values) throws IOException {
+        startField();
+        generator.writeStartArray();
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void endRecord() throws IOException {
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        fieldIndex = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private void startField() throws IOException {
+        if (fieldIndex == 0) {
+            generator.writeStartObject();
+        }
+        generator.writeFieldName(columns[fieldIndex++]);
+    }
+}
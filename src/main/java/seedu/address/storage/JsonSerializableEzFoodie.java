@@ -1,8 +1,8 @@
 package seedu.address.storage;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -23,23 +23,36 @@ class JsonSerializableEzFoodie {
      */
     public static final String MESSAGE_DUPLICATE_MEMBER = "Members list contains duplicate member(s).";
 
-    private final List<JsonAdaptedMember> members = new ArrayList<>();
+    private final List<JsonAdaptedMember> members;
 
     /**
      * Constructs a {@code JsonSerializableEzFoodie} with the given members.
      */
     @JsonCreator
     public JsonSerializableEzFoodie(@JsonProperty("members") List<JsonAdaptedMember> members) {
-        this.members.addAll(members);
+        this.members = new ArrayList<>(members);
     }
 
     /**
      * Converts a given {@code ReadOnlyEzFoodie} into this class for Jackson use.
      *
-     * @param source future changes to this will not affect the created {@code JsonSerializableEzFoodie}.
+     * The members are converted one at a time as they are written, so that they need not all be in memory at once.
+     *
+     * @param source should not change until the created {@code JsonSerializableEzFoodie} is written.
      */
     public JsonSerializableEzFoodie(ReadOnlyEzFoodie source) {
-        members.addAll(source.getMemberList().stream().map(JsonAdaptedMember::new).collect(Collectors.toList()));
+        List<Member> sourceMembers = source.getMemberList();
+        members = new AbstractList<>() {
+            @Override
+            public JsonAdaptedMember get(int index) {
+                return new JsonAdaptedMember(sourceMembers.get(index));
+            }
+
+            @Override
+            public int size() {
+                return sourceMembers.size();
+            }
+        };
     }
 
     /**
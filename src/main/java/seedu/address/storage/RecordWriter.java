@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes records of named fields one field at a time, such as the rows of an export.
+ * The fields are written straight to the underlying buffer, so that no string is built per record.
+ */
+public interface RecordWriter extends Closeable {
+
+    /**
+     * Stands for the extension of files written as JSON lines. Files of any other extension are written as CSV.
+     */
+    String JSON_LINES_EXTENSION = ".jsonl";
+
+    /**
+     * Stands for the size of the buffer in front of the file channel.
+     */
+    int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes the next field of the current record as text.
+     */
+    void writeField(String value) throws IOException;
+
+    /**
+     * Writes the next field of the current record as a number, given as its decimal digits.
+     */
+    void writeNumberField(String value) throws IOException;
+
+    /**
+     * Writes the next field of the current record as a list of text values.
+     */
+    void writeListField(Iterable<String> values) throws IOException;
+
+    /**
+     * Ends the current record. The next field starts a new record.
+     */
+    void endRecord() throws IOException;
+
+    /**
+     * Opens a {@code RecordWriter} of records with {@code columns} that writes to {@code filePath} through a buffered
+     * file channel, replacing the file. The records are written as JSON lines if {@code isJsonLines} is true, and as
+     * CSV with a header row otherwise.
+     */
+    static RecordWriter open(Path filePath, boolean isJsonLines, List<String> columns) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(columns);
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1),
+                BUFFER_SIZE);
+        try {
+            return isJsonLines
+                    ? new JsonLinesRecordWriter(writer, columns)
+                    : new CsvRecordWriter(writer, columns);
+        } catch (IOException | RuntimeException e) {
+            writer.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is to be written as JSON lines, by its extension.
+     */
+    static boolean isJsonLines(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(JSON_LINES_EXTENSION);
+    }
+}
@@ -78,4 +78,11 @@ public interface Storage extends EzFoodieStorage, AccountStorage, UserPrefsStora
     @Override
     void saveEzFoodie(ReadOnlyEzFoodie ezFoodie) throws IOException;
 
+    /**
+     * Saves the image of the data last saved, which is read at the next start instead of the data file.
+     *
+     * @throws IOException if there was any problem reading the data file or writing the image.
+     */
+    void saveEzFoodieImage() throws IOException;
+
 }
@@ -1,26 +1,53 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.StorageEvent;
+import seedu.address.commons.core.metrics.MetricsRegistry;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAccount;
 import seedu.address.model.ReadOnlyEzFoodie;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.member.Member;
 
 /**
  * Manages storage of EzFoodie data in local storage.
  */
 public class StorageManager implements Storage {
 
+    /**
+     * Stands for the counter of the bytes written to the data files.
+     */
+    public static final String METRIC_BYTES_WRITTEN = "storage.bytesWritten";
+
+    /**
+     * Stands for the timer of reading the data from its image.
+     */
+    public static final String METRIC_READ_IMAGE = "storage.readEzFoodieImage";
+
+    /**
+     * Stands for the timer of saving the image of the data.
+     */
+    public static final String METRIC_SAVE_IMAGE = "storage.saveEzFoodieImage";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AccountStorage accountStorage;
     private EzFoodieStorage ezFoodieStorage;
     private UserPrefsStorage userPrefsStorage;
+    private EzFoodieImageCache ezFoodieImageCache;
+
+    // the members last saved to the data file, and the size and modified time the data file had after the save
+    private List<Member> lastSavedMembers;
+    private long lastSavedSize;
+    private long lastSavedModifiedMillis;
 
     /**
      * Constructs a {@code StorageManager} with the given {@code AccountStorage}, {@code ezFoodieStorage}
@@ -28,10 +55,21 @@ public class StorageManager implements Storage {
      */
     public StorageManager(AccountStorage accountStorage, EzFoodieStorage ezFoodieStorage,
             UserPrefsStorage userPrefsStorage) {
+        this(accountStorage, ezFoodieStorage, userPrefsStorage, null);
+    }
+
+    /**
+     * Constructs a {@code StorageManager} with the given {@code AccountStorage}, {@code ezFoodieStorage}
+     * and {@code UserPrefStorage}, which reads the data file from the image in {@code ezFoodieImageCache} while
+     * the image is of the data file. There is no image if {@code ezFoodieImageCache} is null.
+     */
+    public StorageManager(AccountStorage accountStorage, EzFoodieStorage ezFoodieStorage,
+            UserPrefsStorage userPrefsStorage, EzFoodieImageCache ezFoodieImageCache) {
         super();
         this.accountStorage = accountStorage;
         this.ezFoodieStorage = ezFoodieStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.ezFoodieImageCache = ezFoodieImageCache;
     }
 
     // ================ UserPrefs methods ==============================
@@ -86,7 +124,7 @@ public class StorageManager implements Storage {
      */
     @Override
     public Optional<ReadOnlyAccount> readAccount() throws DataConversionException, IOException {
-        return accountStorage.readAccount();
+        return readAccount(accountStorage.getAccountFilePath());
     }
 
     /**
@@ -95,7 +133,12 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAccount> readAccount(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read account from file: " + filePath);
-        return accountStorage.readAccount(filePath);
+        long startNanos = System.nanoTime();
+        try {
+            return accountStorage.readAccount(filePath);
+        } finally {
+            MetricsRegistry.getDefault().recordSince("storage.readAccount", startNanos);
+        }
     }
 
     /**
@@ -106,7 +149,7 @@ public class StorageManager implements Storage {
      */
     @Override
     public void saveAccount(ReadOnlyAccount account) throws IOException {
-        accountStorage.saveAccount(account);
+        saveAccount(account, accountStorage.getAccountFilePath());
     }
 
     /**
@@ -115,7 +158,9 @@ public class StorageManager implements Storage {
     @Override
     public void saveAccount(ReadOnlyAccount account, Path filePath) throws IOException {
         logger.fine("Attempting to write to account file: " + filePath);
+        long startNanos = System.nanoTime();
         accountStorage.saveAccount(account, filePath);
+        recordWrite("storage.saveAccount", startNanos, filePath);
     }
 
     // ================== EzFoodie methods ===============================
@@ -146,7 +191,34 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyEzFoodie> readEzFoodie(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return ezFoodieStorage.readEzFoodie(filePath);
+        long startNanos = System.nanoTime();
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        DataFileFingerprint fingerprint = isImaged(filePath) && Files.exists(filePath)
+                ? DataFileFingerprint.of(filePath)
+                : null;
+        Optional<ReadOnlyEzFoodie> ezFoodie = fingerprint == null ? Optional.empty()
+                : ezFoodieImageCache.read(fingerprint);
+        if (ezFoodie.isPresent()) {
+            logger.info("Read data from image " + ezFoodieImageCache.getImageFilePath());
+            MetricsRegistry.getDefault().recordSince(METRIC_READ_IMAGE, startNanos);
+        } else {
+            try {
+                ezFoodie = ezFoodieStorage.readEzFoodie(filePath);
+            } finally {
+                MetricsRegistry.getDefault().recordSince("storage.readEzFoodie", startNanos);
+            }
+            if (fingerprint != null && ezFoodie.isPresent() && fingerprint.hasSameAttributes(filePath)) {
+                saveEzFoodieImage(ezFoodie.get(), fingerprint);
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            commitStorageEvent(event, StorageEvent.OPERATION_LOAD, filePath,
+                    Files.exists(filePath) ? Files.size(filePath) : 0,
+                    ezFoodie.map(data -> data.getMemberList().size()).orElse(0));
+        }
+        return ezFoodie;
     }
 
     /**
@@ -166,7 +238,96 @@ public class StorageManager implements Storage {
     @Override
     public void saveEzFoodie(ReadOnlyEzFoodie ezFoodie, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        long startNanos = System.nanoTime();
+        StorageEvent event = new StorageEvent();
+        event.begin();
         ezFoodieStorage.saveEzFoodie(ezFoodie, filePath);
+        long bytes = recordWrite("storage.saveEzFoodie", startNanos, filePath);
+        event.end();
+        if (event.shouldCommit()) {
+            commitStorageEvent(event, StorageEvent.OPERATION_SAVE, filePath, bytes, ezFoodie.getMemberList().size());
+        }
+        if (isImaged(filePath)) {
+            recordSavedMembers(ezFoodie, filePath);
+        }
+    }
+
+    /**
+     * Saves the image of the data last saved to the data file, if the data file has not changed since, so that
+     * the next start reads the image instead of the data file.
+     * Does nothing if there is no image, or no data has been saved.
+     *
+     * @throws IOException if there was any problem reading the data file or writing the image.
+     */
+    @Override
+    public synchronized void saveEzFoodieImage() throws IOException {
+        if (ezFoodieImageCache == null || lastSavedMembers == null) {
+            return;
+        }
+        Path filePath = getEzFoodieFilePath();
+        DataFileFingerprint fingerprint = DataFileFingerprint.of(filePath);
+        if (fingerprint.getSize() != lastSavedSize || fingerprint.getLastModifiedMillis() != lastSavedModifiedMillis) {
+            logger.info("Data file " + filePath + " has changed since it was saved. Its image is not saved.");
+            return;
+        }
+        List<Member> members = lastSavedMembers;
+        saveEzFoodieImage(() -> members, fingerprint);
+        lastSavedMembers = null;
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} has an image.
+     */
+    private boolean isImaged(Path filePath) {
+        return ezFoodieImageCache != null && filePath.equals(getEzFoodieFilePath());
+    }
+
+    /**
+     * Remembers the members of {@code ezFoodie}, which was just saved to {@code filePath}, for the image.
+     * A snapshot is kept as it is, as it does not change; other data is copied.
+     */
+    private synchronized void recordSavedMembers(ReadOnlyEzFoodie ezFoodie, Path filePath) throws IOException {
+        lastSavedMembers = ezFoodie instanceof ModelSnapshot
+                ? ezFoodie.getMemberList()
+                : List.copyOf(ezFoodie.getMemberList());
+        lastSavedSize = Files.size(filePath);
+        lastSavedModifiedMillis = Files.getLastModifiedTime(filePath).toMillis();
+    }
+
+    /**
+     * Saves the image of {@code ezFoodie}, the data in a data file of {@code fingerprint}. As the image is only a
+     * cache, a failure is logged and otherwise ignored.
+     */
+    private void saveEzFoodieImage(ReadOnlyEzFoodie ezFoodie, DataFileFingerprint fingerprint) {
+        long startNanos = System.nanoTime();
+        try {
+            ezFoodieImageCache.write(ezFoodie, fingerprint);
+            MetricsRegistry.getDefault().recordSince(METRIC_SAVE_IMAGE, startNanos);
+            logger.info("Saved image of data to " + ezFoodieImageCache.getImageFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to save image of data: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records how long the write of {@code filePath} timed by {@code timerName} took, and the size of the file,
+     * which is returned.
+     */
+    private static long recordWrite(String timerName, long startNanos, Path filePath) throws IOException {
+        MetricsRegistry metrics = MetricsRegistry.getDefault();
+        metrics.recordSince(timerName, startNanos);
+        long bytes = Files.size(filePath);
+        metrics.counter(METRIC_BYTES_WRITTEN).add(bytes);
+        return bytes;
+    }
+
+    private static void commitStorageEvent(StorageEvent event, String operation, Path filePath, long bytes,
+            int memberCount) {
+        event.operation = operation;
+        event.path = filePath.toString();
+        event.bytes = bytes;
+        event.memberCount = memberCount;
+        event.commit();
     }
 
 }
@@ -1,16 +1,15 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
-import seedu.address.commons.exceptions.PermissionException;
-import seedu.address.commons.util.CommandUtil;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Represents for the UI component that is responsible for receiving user command inputs.
@@ -32,6 +31,11 @@ public class CommandBox extends UiPart<Region> {
      */
     private final CommandExecutor commandExecutor;
 
+    /**
+     * Holds the commands entered in this session.
+     */
+    private final CommandHistory commandHistory;
+
     /**
      * Represents text box in FXML.
      */
@@ -39,19 +43,20 @@ public class CommandBox extends UiPart<Region> {
     private TextField commandTextField;
 
     /**
-     * Constructs a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Constructs a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandHistory}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandHistory commandHistory) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandHistory = commandHistory;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         commandTextField.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
             if (event.getCode() == KeyCode.UP) {
-                commandTextField.setText(CommandUtil.getPreCommand());
+                commandTextField.setText(commandHistory.getPreCommand());
             }
             if (event.getCode() == KeyCode.DOWN) {
-                commandTextField.setText(CommandUtil.getNextCommand());
+                commandTextField.setText(commandHistory.getNextCommand());
             }
         });
     }
@@ -66,12 +71,17 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException | PermissionException e) {
+        // the command runs in the background, so the box is cleared at once to take the next command
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error == null) {
+                return;
+            }
+            if (commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+            }
             setStyleToIndicateCommandFailure();
-        }
+        });
     }
 
     /**
@@ -100,11 +110,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command and returns the future result, which is completed on the JavaFX application thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.AsyncCommandExecutor#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException, PermissionException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,11 +14,10 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.exceptions.PermissionException;
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.logic.AsyncCommandExecutor;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -29,6 +30,16 @@ public class MainWindow extends UiPart<Stage> {
      */
     private static final String FXML = "MainWindow.fxml";
 
+    /**
+     * Stands for the message shown while a command is waiting for its result.
+     */
+    private static final String MESSAGE_PENDING = "Running: %1$s ...";
+
+    /**
+     * Stands for the timer of showing the result of a command.
+     */
+    private static final String METRIC_REFRESH = "ui.refresh";
+
     /**
      * Uses logger to log events happen in MainWindow.
      */
@@ -44,9 +55,22 @@ public class MainWindow extends UiPart<Stage> {
      */
     private Logic logic;
 
+    /**
+     * Runs commands off the JavaFX application thread and publishes the member lists to display.
+     */
+    private AsyncCommandExecutor commandExecutor;
+
+    /**
+     * Holds the member lists published by {@code commandExecutor}.
+     */
+    private PublishedMemberLists publishedMemberLists;
+
     // Independent Ui parts residing in this Ui container
     private MemberListPanel memberListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
+
+    // Secondary windows, created when they are first shown
     private HelpWindow helpWindow;
     private MemberViewWindow memberViewWindow;
     private SummaryWindow summaryWindow;
@@ -81,15 +105,13 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.publishedMemberLists = new PublishedMemberLists();
+        this.commandExecutor = new AsyncCommandExecutor(logic, Platform::runLater, publishedMemberLists);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
-
-        helpWindow = new HelpWindow();
-        memberViewWindow = new MemberViewWindow(logic);
-        summaryWindow = new SummaryWindow(logic);
     }
 
     /**
@@ -144,16 +166,16 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        memberListPanel = new MemberListPanel(logic.getUpdatedMemberList());
+        memberListPanel = new MemberListPanel(publishedMemberLists.getUpdatedMemberList());
         memberListPanelPlaceholder.getChildren().add(memberListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getEzFoodieFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getEzFoodieFilePath(), logic.getLoginStatus());
         statusBarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getCommandHistory());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -174,6 +196,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -186,6 +211,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleMemberView() {
+        if (memberViewWindow == null) {
+            memberViewWindow = new MemberViewWindow(publishedMemberLists);
+        }
         if (!memberViewWindow.isShowing()) {
             memberViewWindow.show();
         } else {
@@ -198,6 +226,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleSummary() {
+        if (summaryWindow == null) {
+            summaryWindow = new SummaryWindow(publishedMemberLists);
+        }
         if (!summaryWindow.isShowing()) {
             summaryWindow.show();
         } else {
@@ -220,9 +251,16 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
-        memberViewWindow.hide();
-        summaryWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
+        if (memberViewWindow != null) {
+            memberViewWindow.hide();
+        }
+        if (summaryWindow != null) {
+            summaryWindow.hide();
+        }
+        commandExecutor.shutdown();
         primaryStage.hide();
     }
 
@@ -236,38 +274,51 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to run off the JavaFX application thread and handles its result once it is delivered.
+     * The result display shows the command as pending until then.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see AsyncCommandExecutor#submit(String)
      */
-    private CommandResult executeCommand(String commandText)
-            throws CommandException, ParseException, PermissionException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_PENDING, commandText));
+        return commandExecutor.submit(commandText).whenComplete((commandResult, error) -> {
+            long startNanos = System.nanoTime();
+            handleResult(commandText, commandResult, error);
+            MetricsRegistry.getDefault().recordSince(METRIC_REFRESH, startNanos);
+        });
+    }
 
-            if (commandResult.isShowMemberView()) {
-                handleMemberView();
-            }
+    /**
+     * Shows the result of {@code commandText}, or the {@code error} it failed with.
+     * The follow-up feedback of work the command left running in the background is shown once it is done.
+     */
+    private void handleResult(String commandText, CommandResult commandResult, Throwable error) {
+        if (error != null) {
+            logger.info("Invalid command: " + commandText);
+            resultDisplay.setFeedbackToUser(error.getMessage());
+            return;
+        }
 
-            if (commandResult.isShowSummary()) {
-                handleSummary();
-            }
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        statusBarFooter.setLoginStatus(logic.getLoginStatus());
+        commandResult.getFollowUp().ifPresent(followUp ->
+                followUp.thenAcceptAsync(resultDisplay::setFeedbackToUser, Platform::runLater));
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException | PermissionException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowMemberView()) {
+            handleMemberView();
+        }
+
+        if (commandResult.isShowSummary()) {
+            handleSummary();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 }
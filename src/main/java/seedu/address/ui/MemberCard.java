@@ -70,8 +70,8 @@ public class MemberCard extends UiPart<Region> {
         email.setText(member.getEmail().value);
         credit.setText(member.getCredit().value);
         point.setText(member.getPoint().value);
-        tier.setText(Tier.getTierByCredit(Integer.parseInt(member.getCredit().value)));
-        tier.getStyleClass().add(Tier.getTierByCredit(Integer.parseInt(member.getCredit().value)).toLowerCase());
+        tier.setText(Tier.getTierByCredit(member.getCredit().getLongValue()));
+        tier.getStyleClass().add(Tier.getTierByCredit(member.getCredit().getLongValue()).toLowerCase());
         member.getReservations().stream()
                 .sorted(Comparator.comparing(reservation -> DateTimeUtil
                         .parseDateTime(reservation.getDateTime().value)))
@@ -77,8 +77,8 @@ public class MemberDetailsCard extends UiPart<Region> {
         registrationTime.setText(DateTimeUtil.timestampToDate(Long.parseLong(member.getTimestamp().value)).toString());
         credit.setText(member.getCredit().value);
         point.setText(member.getPoint().value);
-        tier.setText(Tier.getTierByCredit(Integer.parseInt(member.getCredit().value)));
-        tier.getStyleClass().add(Tier.getTierByCredit(Integer.parseInt(member.getCredit().value)).toLowerCase());
+        tier.setText(Tier.getTierByCredit(member.getCredit().getLongValue()));
+        tier.getStyleClass().add(Tier.getTierByCredit(member.getCredit().getLongValue()).toLowerCase());
 
         ObservableList<Reservation> internalReservationList = FXCollections.observableArrayList();
         internalReservationList.addAll(member.getReservations());
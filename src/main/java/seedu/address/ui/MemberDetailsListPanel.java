@@ -17,6 +17,8 @@ public class MemberDetailsListPanel extends UiPart<Region> {
      */
     private static final String FXML = "MemberDetailsListPanel.fxml";
 
+    private final ObservableList<Member> memberList;
+
     /**
      * Stands for components to be used in FXML.
      */
@@ -24,14 +26,29 @@ public class MemberDetailsListPanel extends UiPart<Region> {
     private ListView<Member> memberDetailsListView;
 
     /**
-     * Creates a {@code MemberListPanel} with the given {@code ObservableList}.
+     * Creates a {@code MemberListPanel} with the given {@code ObservableList}. It shows no members until it is
+     * attached.
      */
     public MemberDetailsListPanel(ObservableList<Member> memberList) {
         super(FXML);
-        memberDetailsListView.setItems(memberList);
+        this.memberList = memberList;
         memberDetailsListView.setCellFactory(listView -> new MemberDetailsListViewCell());
     }
 
+    /**
+     * Starts showing the members of the member list, and keeps them up to date as it changes.
+     */
+    public void attach() {
+        memberDetailsListView.setItems(memberList);
+    }
+
+    /**
+     * Stops keeping the members shown up to date, such as while the member view window is hidden.
+     */
+    public void detach() {
+        memberDetailsListView.setItems(null);
+    }
+
     /**
      * Customs {@code ListCell} that displays the graphics of a {@code Member} using a {@code MemberDetailsCard}.
      */
@@ -8,7 +8,6 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.Logic;
 
 /**
  * Controller for a member view page for related details.
@@ -29,15 +28,18 @@ public class MemberViewWindow extends UiPart<Stage> {
     private StackPane memberDetailsListPlaceholder;
 
     /**
-     * Constructs a new {@code MemberViewWindow} .
+     * Constructs a new {@code MemberViewWindow}. Its member list is only kept up to date while it is shown.
      *
      * @param root Stage to use as the root of the MemberViewWindow.
-     * @param logic summary of logic.
+     * @param publishedMemberLists member lists published to display.
      */
-    public MemberViewWindow(Stage root, Logic logic) {
+    public MemberViewWindow(Stage root, PublishedMemberLists publishedMemberLists) {
         super(FXML, root);
-        MemberDetailsListPanel memberDetailsListPanel = new MemberDetailsListPanel(logic.getUpdatedMemberListForView());
+        MemberDetailsListPanel memberDetailsListPanel =
+                new MemberDetailsListPanel(publishedMemberLists.getUpdatedMemberListForView());
         memberDetailsListPlaceholder.getChildren().add(memberDetailsListPanel.getRoot());
+        getRoot().setOnShowing(event -> memberDetailsListPanel.attach());
+        getRoot().setOnHidden(event -> memberDetailsListPanel.detach());
         getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             System.out.println(event.getCode());
             if (event.getCode() == KeyCode.ESCAPE) {
@@ -50,10 +52,10 @@ public class MemberViewWindow extends UiPart<Stage> {
     /**
      * Constructs a new {@code MemberViewWindow}, with a default new stage.
      *
-     * @param logic logic refers to backend logic.
+     * @param publishedMemberLists member lists published to display.
      */
-    public MemberViewWindow(Logic logic) {
-        this(new Stage(), logic);
+    public MemberViewWindow(PublishedMemberLists publishedMemberLists) {
+        this(new Stage(), publishedMemberLists);
     }
 
     /**
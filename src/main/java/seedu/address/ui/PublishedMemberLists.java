@@ -0,0 +1,85 @@
+package seedu.address.ui;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.logic.AsyncCommandExecutor;
+import seedu.address.model.member.Member;
+
+/**
+ * Holds the member lists published by an {@code AsyncCommandExecutor} as {@code ObservableList}s for the UI.
+ * The lists are only changed on the JavaFX application thread.
+ * Each published list is compared with the one published before it, and only the rows between the unchanged ones at
+ * both ends are replaced, so the UI only lays out the members a command changed.
+ */
+public class PublishedMemberLists implements AsyncCommandExecutor.PublicationListener {
+
+    private final ObservableList<Member> members = FXCollections.observableArrayList();
+    private final ObservableList<Member> membersForView = FXCollections.observableArrayList();
+    private final ObservableList<Member> unmodifiableMembers = FXCollections.unmodifiableObservableList(members);
+    private final ObservableList<Member> unmodifiableMembersForView =
+            FXCollections.unmodifiableObservableList(membersForView);
+    private List<Member> lastPublishedMembers;
+    private List<Member> lastPublishedMembersForView;
+
+    /**
+     * Overrides and updates the displayed lists to the published ones.
+     * A list published again as the same instance is known to be unchanged and is skipped.
+     */
+    @Override
+    public void onPublish(List<Member> members, List<Member> membersForView) {
+        if (members != lastPublishedMembers) {
+            update(this.members, members);
+            lastPublishedMembers = members;
+        }
+        if (membersForView != lastPublishedMembersForView) {
+            update(this.membersForView, membersForView);
+            lastPublishedMembersForView = membersForView;
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the updated member list.
+     */
+    public ObservableList<Member> getUpdatedMemberList() {
+        return unmodifiableMembers;
+    }
+
+    /**
+     * Returns an unmodifiable view of the updated member list for viewCommand.
+     */
+    public ObservableList<Member> getUpdatedMemberListForView() {
+        return unmodifiableMembersForView;
+    }
+
+    /**
+     * Changes {@code shown} into {@code published}, by replacing only the rows between the longest common prefix and
+     * suffix of the two lists. Rows are compared by identity, as members are immutable.
+     */
+    private static void update(ObservableList<Member> shown, List<Member> published) {
+        Member[] updated = published.toArray(new Member[0]);
+        int shownSize = shown.size();
+        int commonSize = Math.min(shownSize, updated.length);
+        int prefix = 0;
+        while (prefix < commonSize && shown.get(prefix) == updated[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonSize - prefix
+                && shown.get(shownSize - 1 - suffix) == updated[updated.length - 1 - suffix]) {
+            suffix++;
+        }
+        int shownEnd = shownSize - suffix;
+        int updatedEnd = updated.length - suffix;
+        if (shownEnd - prefix == updatedEnd - prefix) {
+            for (int i = prefix; i < shownEnd; i++) {
+                shown.set(i, updated[i]);
+            }
+            return;
+        }
+        shown.remove(prefix, shownEnd);
+        shown.addAll(prefix, Arrays.asList(updated).subList(prefix, updatedEnd));
+    }
+}
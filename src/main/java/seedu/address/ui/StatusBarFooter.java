@@ -34,12 +34,20 @@ public class StatusBarFooter extends UiPart<Region> {
      * Creates a StatusBarFooter to display.
      *
      * @param saveLocation current location of saved file.
+     * @param loginStatus current login status of the session.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, LoginStatus loginStatus) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
-        loginStatus.textProperty().bind(LoginStatus.CURRENT_STATUS);
-        GridPane.setHalignment(loginStatus, HPos.RIGHT);
+        setLoginStatus(loginStatus);
+        GridPane.setHalignment(this.loginStatus, HPos.RIGHT);
+    }
+
+    /**
+     * Displays {@code loginStatus} as the login status of the session.
+     */
+    public void setLoginStatus(LoginStatus loginStatus) {
+        this.loginStatus.setText(loginStatus.toString());
     }
 
 }
@@ -2,13 +2,14 @@ package seedu.address.ui;
 
 import java.text.DecimalFormat;
 
-import javafx.beans.binding.Bindings;
+import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.jfr.SummaryEvent;
 import seedu.address.model.member.Member;
-import seedu.address.model.transaction.Transaction;
+import seedu.address.model.util.SummaryStatistics;
 
 /**
  * A UI component that displays information of a summary.
@@ -25,11 +26,20 @@ public class SummaryBox extends UiPart<Region> {
      */
     private static final String PATTERN = "#.##";
 
+    /**
+     * Stands for the statistic of the {@code SummaryEvent} of an update of all statistics.
+     */
+    private static final String SUMMARY_STATISTICS = "summary";
+
     /**
      * Stands for current displaying memberList.
      */
     public final ObservableList<Member> memberList;
 
+    private final SummaryStatistics statistics = new SummaryStatistics();
+    private final InvalidationListener memberListListener = unused -> refresh();
+    private boolean isAttached;
+
     /**
      * Stands for components to be used in FXML.
      *
@@ -59,54 +69,56 @@ public class SummaryBox extends UiPart<Region> {
     private Label totalAmountOfTransactionsInPast6Months;
 
     /**
-     * Creates a {@code MemberCode} with the given {@code Member} and index to display.
+     * Creates a {@code SummaryBox} of the members in {@code memberList}. It shows no statistics until it is
+     * attached.
      */
     public SummaryBox(ObservableList<Member> memberList) {
         super(FXML);
         this.memberList = memberList;
+    }
+
+    /**
+     * Starts showing the statistics of the member list, and keeps them up to date as it changes.
+     * The statistics catch up on the changes made while the box was detached, going through the transactions of
+     * the added and edited members only.
+     */
+    public void attach() {
+        if (isAttached) {
+            return;
+        }
+        isAttached = true;
+        memberList.addListener(memberListListener);
+        refresh();
+    }
+
+    /**
+     * Stops keeping the statistics up to date, such as while the summary window is hidden.
+     */
+    public void detach() {
+        isAttached = false;
+        memberList.removeListener(memberListListener);
+    }
+
+    /**
+     * Updates the statistics to those of the member list, and emits a {@code SummaryEvent} for the update.
+     */
+    private void refresh() {
+        SummaryEvent event = new SummaryEvent();
+        event.begin();
+        statistics.update(memberList);
+        event.commit(SUMMARY_STATISTICS, memberList.size());
+
         DecimalFormat df = new DecimalFormat(PATTERN);
-        totalNumberOfMembers.textProperty().bind(
-                Bindings.createStringBinding(() -> String.valueOf(memberList.size()), memberList));
-        totalNumberOfTransactions.textProperty().bind(
-                Bindings.createStringBinding(() -> String.valueOf(memberList.stream()
-                        .mapToInt(member -> member.getTransactions().size()).sum()), memberList));
-        totalAmountOfTransactions.textProperty().bind(
-                Bindings.createStringBinding(() -> df.format(memberList.stream()
-                        .mapToDouble(member -> member.getTransactions().stream()
-                                .mapToDouble(transaction -> transaction.getBilling()
-                                        .getDoubleValue()).sum()).sum()), memberList));
-        totalNumberOfTransactionsInPastMonth.textProperty().bind(
-                Bindings.createStringBinding(() -> String.valueOf(memberList.stream()
-                        .mapToLong(member -> member.getTransactions().stream().filter(transaction -> Transaction
-                                        .isWithinPastMonths(transaction.getTimestamp().getLongValue(), 1))
-                                .count()).sum()), memberList));
-        totalAmountOfTransactionsInPastMonth.textProperty().bind(
-                Bindings.createStringBinding(() -> df.format(memberList.stream()
-                        .mapToDouble(member -> member.getTransactions().stream().filter(transaction -> Transaction
-                                        .isWithinPastMonths(transaction.getTimestamp().getLongValue(), 1))
-                                .mapToDouble(transaction -> transaction.getBilling()
-                                        .getDoubleValue()).sum()).sum()), memberList));
-        totalNumberOfTransactionsInPast3Months.textProperty().bind(
-                Bindings.createStringBinding(() -> String.valueOf(memberList.stream()
-                        .mapToLong(member -> member.getTransactions().stream().filter(transaction -> Transaction
-                                        .isWithinPastMonths(transaction.getTimestamp().getLongValue(), 3))
-                                .count()).sum()), memberList));
-        totalAmountOfTransactionsInPast3Months.textProperty().bind(
-                Bindings.createStringBinding(() -> df.format(memberList.stream()
-                        .mapToDouble(member -> member.getTransactions().stream().filter(transaction -> Transaction
-                                        .isWithinPastMonths(transaction.getTimestamp().getLongValue(), 3))
-                                .mapToDouble(transaction -> transaction.getBilling()
-                                        .getDoubleValue()).sum()).sum()), memberList));
-        totalNumberOfTransactionsInPast6Months.textProperty().bind(
-                Bindings.createStringBinding(() -> String.valueOf(memberList.stream()
-                        .mapToLong(member -> member.getTransactions().stream().filter(transaction -> Transaction
-                                        .isWithinPastMonths(transaction.getTimestamp().getLongValue(), 6))
-                                .count()).sum()), memberList));
-        totalAmountOfTransactionsInPast6Months.textProperty().bind(
-                Bindings.createStringBinding(() -> df.format(memberList.stream()
-                        .mapToDouble(member -> member.getTransactions().stream().filter(transaction -> Transaction
-                                        .isWithinPastMonths(transaction.getTimestamp().getLongValue(), 6))
-                                .mapToDouble(transaction -> transaction.getBilling()
-                                        .getDoubleValue()).sum()).sum()), memberList));
+        totalNumberOfMembers.setText(String.valueOf(statistics.getMemberCount()));
+        totalNumberOfTransactions.setText(String.valueOf(statistics.getTransactionCount()));
+        totalAmountOfTransactions.setText(df.format(statistics.getBilling()));
+        totalNumberOfTransactionsInPastMonth.setText(String.valueOf(statistics.getTransactionCountInPastMonths(1)));
+        totalAmountOfTransactionsInPastMonth.setText(df.format(statistics.getBillingInPastMonths(1)));
+        totalNumberOfTransactionsInPast3Months.setText(
+                String.valueOf(statistics.getTransactionCountInPastMonths(3)));
+        totalAmountOfTransactionsInPast3Months.setText(df.format(statistics.getBillingInPastMonths(3)));
+        totalNumberOfTransactionsInPast6Months.setText(
+                String.valueOf(statistics.getTransactionCountInPastMonths(6)));
+        totalAmountOfTransactionsInPast6Months.setText(df.format(statistics.getBillingInPastMonths(6)));
     }
 }
@@ -8,7 +8,6 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.Logic;
 
 /**
  * Controller for a summary page.
@@ -32,15 +31,17 @@ public class SummaryWindow extends UiPart<Stage> {
     private StackPane summaryBoxPlaceholder;
 
     /**
-     * Constructs a new {@code SummaryWindow} .
+     * Constructs a new {@code SummaryWindow}. Its summary box is only kept up to date while it is shown.
      *
      * @param root Stage to use as the root of the SummaryWindow.
-     * @param logic summary of logic.
+     * @param publishedMemberLists member lists published to display.
      */
-    public SummaryWindow(Stage root, Logic logic) {
+    public SummaryWindow(Stage root, PublishedMemberLists publishedMemberLists) {
         super(FXML, root);
-        SummaryBox summaryBox = new SummaryBox(logic.getUpdatedMemberList());
+        SummaryBox summaryBox = new SummaryBox(publishedMemberLists.getUpdatedMemberList());
         summaryBoxPlaceholder.getChildren().add(summaryBox.getRoot());
+        getRoot().setOnShowing(event -> summaryBox.attach());
+        getRoot().setOnHidden(event -> summaryBox.detach());
         getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             System.out.println(event.getCode());
             if (event.getCode() == KeyCode.ESCAPE) {
@@ -54,10 +55,10 @@ public class SummaryWindow extends UiPart<Stage> {
     /**
      * Constructs a SummaryWindow with a default new stage.
      *
-     * @param logic logic refers to backend logic.
+     * @param publishedMemberLists member lists published to display.
      */
-    public SummaryWindow(Logic logic) {
-        this(new Stage(), logic);
+    public SummaryWindow(PublishedMemberLists publishedMemberLists) {
+        this(new Stage(), publishedMemberLists);
     }
 
     /**
@@ -32,6 +32,13 @@ public class UiManager implements Ui {
      */
     private static final String ICON_APPLICATION = "/images/ezfoodie_icon.png";
 
+    /**
+     * Lists the FXML files loaded when the main window is shown. The secondary windows are loaded when they are
+     * first shown.
+     */
+    private static final String[] STARTUP_FXML_FILES = {"MainWindow.fxml", "CommandBox.fxml", "ResultDisplay.fxml",
+        "MemberListPanel.fxml", "MemberListCard.fxml", "StatusBarFooter.fxml"};
+
     /**
      * Refers to backend logic.
      */
@@ -50,6 +57,14 @@ public class UiManager implements Ui {
         this.logic = logic;
     }
 
+    /**
+     * Reads the FXML files of the main window, and loads the classes they use, ahead of {@link #start(Stage)}.
+     * This does not touch the scene graph, so it may run on any thread while the data is read.
+     */
+    public static void preload() {
+        UiPart.preloadFxmlFiles(STARTUP_FXML_FILES);
+    }
+
     /**
      * Starts the UI (and the Application).
      */
@@ -2,8 +2,16 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
@@ -19,6 +27,16 @@ public abstract class UiPart<T> {
      */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    /**
+     * Matches the name of a class imported by a FXML document.
+     */
+    private static final Pattern FXML_IMPORT_PATTERN = Pattern.compile("<\\?import\\s+([\\w.$]+)\\s*\\?>");
+
+    /**
+     * Caches the FXML documents by URL, as the cards of a list load the same document once for each card.
+     */
+    private static final Map<String, byte[]> fxmlDocuments = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -72,12 +90,44 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
-        } catch (IOException e) {
+            fxmlLoader.load(new ByteArrayInputStream(getFxmlDocument(location)));
+        } catch (IOException | UncheckedIOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Reads the FXML files of {@code fxmlFileNames} within {@link #FXML_FILE_FOLDER} into the cache, and loads the
+     * classes they import, so that the UI parts using them are constructed faster.
+     * This may run on any thread, such as while the data is read at startup.
+     */
+    public static void preloadFxmlFiles(String... fxmlFileNames) {
+        for (String fxmlFileName : fxmlFileNames) {
+            String fxmlDocument = new String(getFxmlDocument(getFxmlFileUrl(fxmlFileName)), StandardCharsets.UTF_8);
+            Matcher importMatcher = FXML_IMPORT_PATTERN.matcher(fxmlDocument);
+            while (importMatcher.find()) {
+                try {
+                    Class.forName(importMatcher.group(1), false, UiPart.class.getClassLoader());
+                } catch (ClassNotFoundException e) {
+                    // the FXML loader reports it when the document is loaded
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the FXML document at {@code location}, reading it into the cache if it is not cached.
+     */
+    private static byte[] getFxmlDocument(URL location) {
+        return fxmlDocuments.computeIfAbsent(location.toExternalForm(), unused -> {
+            try (InputStream inputStream = location.openStream()) {
+                return inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
@@ -3,56 +3,82 @@ package seedu.address;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Paths;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.application.Application;
-
 public class AppParametersTest {
 
-    private final ParametersStub parametersStub = new ParametersStub();
+    private final Map<String, String> namedParameters = new HashMap<>();
     private final AppParameters expected = new AppParameters();
 
     @Test
     public void parse_validConfigPath_success() {
-        parametersStub.namedParameters.put("config", "config.json");
+        namedParameters.put("config", "config.json");
         expected.setConfigPath(Paths.get("config.json"));
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
     public void parse_nullConfigPath_success() {
-        parametersStub.namedParameters.put("config", null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        namedParameters.put("config", null);
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
     public void parse_invalidConfigPath_success() {
-        parametersStub.namedParameters.put("config", "a\0");
+        namedParameters.put("config", "a\0");
         expected.setConfigPath(null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
-    private static class ParametersStub extends Application.Parameters {
-        private Map<String, String> namedParameters = new HashMap<>();
+    @Test
+    public void parse_validRunPath_success() {
+        namedParameters.put("run", "outlet.txt");
+        expected.setRunPath(Paths.get("outlet.txt"));
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
 
-        @Override
-        public List<String> getRaw() {
-            throw new AssertionError("should not be called");
-        }
+    @Test
+    public void parse_invalidRunPath_success() {
+        namedParameters.put("run", "a\0");
+        expected.setRunPath(null);
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
 
-        @Override
-        public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
-        }
+    @Test
+    public void parse_validSocketPort_success() {
+        namedParameters.put("socket", "7654");
+        expected.setSocketPort(7654);
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
 
-        @Override
-        public Map<String, String> getNamed() {
-            return Collections.unmodifiableMap(namedParameters);
-        }
+    @Test
+    public void parse_invalidSocketPort_success() {
+        namedParameters.put("socket", "65536");
+        assertEquals(expected, AppParameters.parse(namedParameters));
+        namedParameters.put("socket", "port");
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
+
+    @Test
+    public void parse_exitAfterStart_success() {
+        namedParameters.put("exit-after-start", "true");
+        expected.setExitAfterStart(true);
+        assertEquals(expected, AppParameters.parse(namedParameters));
+
+        namedParameters.put("exit-after-start", "no");
+        expected.setExitAfterStart(false);
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
+
+    @Test
+    public void getNamedParameters_mixedArguments_onlyNamedReturned() {
+        Map<String, String> expectedParameters = new HashMap<>();
+        expectedParameters.put("config", "config.json");
+        expectedParameters.put("run", "a=b.txt");
+        assertEquals(expectedParameters, AppParameters.getNamedParameters(
+                "--config=config.json", "unnamed", "--=empty", "-x=1", "--run=a=b.txt"));
     }
 }
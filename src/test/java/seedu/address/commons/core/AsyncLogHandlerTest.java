@@ -0,0 +1,122 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void flush_recordsPublished_writtenInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.getMessages().size());
+        assertEquals("message 99", target.getMessages().get(99));
+        assertEquals(0, handler.getDiscardedCount());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithDiscard_discardsAndReports() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.DISCARD_BELOW_WARNING);
+
+        // holds up the background thread, so that the buffer fills up
+        target.block();
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        target.awaitBlocked();
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "dropped " + i));
+        }
+        target.unblock();
+        handler.close();
+
+        assertTrue(handler.getDiscardedCount() > 0);
+        List<String> messages = target.getMessages();
+        assertEquals("first", messages.get(0));
+        assertEquals(String.format(AsyncLogHandler.MESSAGE_DISCARDED, handler.getDiscardedCount()),
+                messages.get(messages.size() - 1));
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void close_recordsPublished_writesAllBeforeReturning() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 1024, OverflowPolicy.DISCARD);
+
+        for (int i = 0; i < 500; i++) {
+            handler.publish(new LogRecord(Level.WARNING, "message " + i));
+        }
+        handler.close();
+        handler.close();
+        handler.publish(new LogRecord(Level.WARNING, "after close"));
+
+        assertEquals(501, target.getMessages().size());
+        assertEquals("after close", target.getMessages().get(500));
+    }
+
+    /**
+     * A handler that keeps the messages published to it, and can hold up the thread that publishes.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            blocked.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (messages) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            blocked.await();
+        }
+
+        void unblock() {
+            gate.countDown();
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.commons.core.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RingBufferTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, RingBuffer.MESSAGE_CONSTRAINTS, () -> new RingBuffer<>(0));
+    }
+
+    @Test
+    public void constructor_validCapacity_roundsUpToPowerOfTwo() {
+        assertEquals(1, new RingBuffer<>(1).capacity());
+        assertEquals(64, new RingBuffer<>(33).capacity());
+    }
+
+    @Test
+    public void offer_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RingBuffer<>(4).offer(null));
+    }
+
+    @Test
+    public void offerAndPoll_overManyLaps_keepsOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer(lap * 4 + i));
+            }
+            assertFalse(buffer.offer(-1));
+            for (int i = 0; i < 4; i++) {
+                assertEquals(Integer.valueOf(lap * 4 + i), buffer.poll());
+            }
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    @Test
+    public void offer_concurrentThreads_everyElementPolledOnce() throws Exception {
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        int threadCount = 4;
+        int elementsPerThread = 10000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int first = t * elementsPerThread;
+            Thread thread = new Thread(() -> {
+                for (int i = first; i < first + elementsPerThread; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        Set<Integer> polled = new HashSet<>();
+        while (polled.size() < threadCount * elementsPerThread) {
+            Integer element = buffer.poll();
+            if (element != null) {
+                assertTrue(polled.add(element));
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.core.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class StripedLockTest {
+
+    @Test
+    public void constructor_invalidStripeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, StripedLock.MESSAGE_CONSTRAINTS, () -> new StripedLock(0));
+        assertThrows(IllegalArgumentException.class, StripedLock.MESSAGE_CONSTRAINTS, () -> new StripedLock(-1));
+    }
+
+    @Test
+    public void constructor_validStripeCount_roundsUpToPowerOfTwo() {
+        assertEquals(1, new StripedLock(1).size());
+        assertEquals(8, new StripedLock(8).size());
+        assertEquals(64, new StripedLock(33).size());
+    }
+
+    @Test
+    public void get_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StripedLock(4).get(null));
+    }
+
+    @Test
+    public void get_equalKeys_returnsSameLock() {
+        StripedLock stripedLock = new StripedLock(16);
+        assertSame(stripedLock.get("00001"), stripedLock.get(new String("00001")));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getValueAtPercentile_noValues_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, LatencyHistogram.MESSAGE_INVALID_PERCENTILE, () ->
+                new LatencyHistogram().getValueAtPercentile(101));
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformValues_withinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertEquals(100000, histogram.getCount());
+        assertEquals(100000000, histogram.getMax());
+        assertWithinPrecision(50000000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(99000000, histogram.getValueAtPercentile(99));
+        assertEquals(histogram.getMax(), histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_smallAndNegativeValues_countedExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(3);
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(2, histogram.getMean());
+    }
+
+    @Test
+    public void getBucketIndex_everyBucket_holdsItsHighestValue() {
+        for (long value : new long[] {0, 31, 32, 33, 1000, 123456789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.getBucketIndex(value);
+            assertTrue(LatencyHistogram.getBucketHighestValue(index) >= value);
+            assertEquals(index, LatencyHistogram.getBucketIndex(LatencyHistogram.getBucketHighestValue(index)));
+        }
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.04, "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MetricsRegistryTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    public void timer_sameName_returnsSameHistogram() {
+        assertSame(registry.timer("command.AddMemberCommand"), registry.timer("command.AddMemberCommand"));
+    }
+
+    @Test
+    public void report_allMetrics_sortedByName() {
+        registry.timer("logic.save").record(2000000);
+        registry.timer("logic.parse").record(500000);
+        registry.counter("storage.bytesWritten").add(1024);
+        registry.registerGauge("model.members", () -> 9);
+
+        String[] lines = registry.report().split("\n");
+
+        assertEquals(MetricsRegistry.TIMERS_HEADER, lines[0]);
+        assertTrue(lines[1].startsWith("logic.parse "));
+        assertTrue(lines[1].endsWith("0.500"));
+        assertTrue(lines[2].startsWith("logic.save "));
+        assertTrue(lines[3].startsWith("storage.bytesWritten ") && lines[3].endsWith(" 1024"));
+        assertTrue(lines[4].startsWith("model.members ") && lines[4].endsWith(" 9"));
+    }
+
+    @Test
+    public void report_reporter_appendsToFile() throws Exception {
+        Path file = temporaryFolder.resolve("metrics.log");
+        registry.counter("storage.bytesWritten").increment();
+
+        try (MetricsReporter reporter = new MetricsReporter(registry, file, 3600)) {
+            reporter.report();
+        }
+
+        String reports = Files.readString(file);
+        assertEquals(2, reports.split(Pattern.quote(MetricsRegistry.TIMERS_HEADER), -1).length - 1);
+    }
+}
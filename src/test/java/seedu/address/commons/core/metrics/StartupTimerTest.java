@@ -0,0 +1,47 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimerTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final StartupTimer startupTimer = new StartupTimer(registry);
+
+    @Test
+    public void time_supplier_returnsResultAndRecordsPhase() {
+        assertEquals("config", startupTimer.time("config", () -> "config"));
+        assertEquals(1, registry.timer(StartupTimer.METRIC_PREFIX + "config").getCount());
+        assertTrue(startupTimer.getPhaseMillis().containsKey("config"));
+    }
+
+    @Test
+    public void time_throwingPhase_recordsPhase() {
+        assertThrows(IllegalStateException.class, () -> startupTimer.time("data", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, registry.timer(StartupTimer.METRIC_PREFIX + "data").getCount());
+    }
+
+    @Test
+    public void timeAsync_phasesInOrderEnded() {
+        startupTimer.time("prefs", () -> { });
+        String account = startupTimer.timeAsync("account", () -> "account").join();
+        startupTimer.time("model", () -> { });
+
+        assertEquals("account", account);
+        assertEquals(Arrays.asList("prefs", "account", "model"),
+                new ArrayList<>(startupTimer.getPhaseMillis().keySet()));
+    }
+
+    @Test
+    public void logReady_returnsUptime() {
+        assertTrue(startupTimer.logReady() > 0);
+    }
+}
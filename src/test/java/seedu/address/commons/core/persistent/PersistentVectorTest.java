@@ -0,0 +1,92 @@
+package seedu.address.commons.core.persistent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void copyOf_persistentVector_returnsSameVector() {
+        PersistentVector<String> vector = PersistentVector.copyOf(List.of("a", "b"));
+        assertSame(vector, PersistentVector.copyOf(vector));
+        assertEquals(List.of("a", "b"), vector);
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        List<String> elements = new ArrayList<>();
+        elements.add(null);
+        assertThrows(NullPointerException.class, () -> PersistentVector.copyOf(elements));
+    }
+
+    @Test
+    public void mutators_throwUnsupportedOperationException() {
+        PersistentVector<String> vector = PersistentVector.<String>empty().appended("a");
+        assertThrows(UnsupportedOperationException.class, () -> vector.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> vector.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> vector.set(0, "b"));
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.empty().get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.empty().removed(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.empty().inserted(1, "a"));
+    }
+
+    @Test
+    public void appended_oldVersionUnchanged() {
+        PersistentVector<String> original = PersistentVector.copyOf(List.of("a", "b"));
+        PersistentVector<String> updated = original.appended("c").replaced(0, "z").removed(1);
+        assertEquals(List.of("a", "b"), original);
+        assertEquals(List.of("z", "c"), updated);
+    }
+
+    @Test
+    public void findIndex_returnsFirstMatchOrMinusOne() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(List.of(1, 2, 3, 2));
+        assertEquals(1, vector.findIndex(value -> value == 2));
+        assertEquals(-1, vector.findIndex(value -> value > 3));
+        assertEquals(2, vector.indexOf(3));
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                expected.add(step);
+                vector = vector.appended(step);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                vector = vector.inserted(index, step);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -step);
+                vector = vector.replaced(index, -step);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.removed(index);
+            }
+        }
+        assertEquals(expected, vector);
+        assertEquals(expected.hashCode(), vector.hashCode());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+        assertTrue(vector.equals(expected) && expected.equals(vector));
+    }
+}
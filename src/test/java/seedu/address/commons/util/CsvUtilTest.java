@@ -0,0 +1,42 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseRow_plainFields_splitsOnSeparators() throws Exception {
+        assertEquals(List.of("a", "b c", "", "d"), CsvUtil.parseRow("a,b c,,d"));
+        assertEquals(List.of(""), CsvUtil.parseRow(""));
+        assertEquals(List.of("a", ""), CsvUtil.parseRow("a,"));
+    }
+
+    @Test
+    public void parseRow_quotedFields_unquotes() throws Exception {
+        assertEquals(List.of("1, Main St", "say \"hi\"", "x"), CsvUtil.parseRow("\"1, Main St\",\"say \"\"hi\"\"\",x"));
+        assertEquals(List.of("", "a"), CsvUtil.parseRow("\"\",a"));
+    }
+
+    @Test
+    public void parseRow_invalidQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.parseRow("a,\"b"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.parseRow("\"a\"b,c"));
+    }
+
+    @Test
+    public void toRow_fields_quotesWhereNeeded() throws Exception {
+        List<String> fields = List.of("a", "1, Main St", "say \"hi\"", "");
+        String row = CsvUtil.toRow(fields);
+        assertEquals("a,\"1, Main St\",\"say \"\"hi\"\"\",", row);
+        assertEquals(fields, CsvUtil.parseRow(row));
+    }
+}
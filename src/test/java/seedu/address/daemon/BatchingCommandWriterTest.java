@@ -0,0 +1,94 @@
+package seedu.address.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BILLING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Account;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.member.Member;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.storage.JsonAccountStorage;
+import seedu.address.storage.JsonEzFoodieStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchingCommandWriterTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonAccountStorage(temporaryFolder.resolve("account.json")),
+                new JsonEzFoodieStorage(temporaryFolder.resolve("ezfoodie.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void constructor_invalidParallelism_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new BatchingCommandWriter(logic, 1, 1, 0, snapshot -> { }));
+    }
+
+    @Test
+    public void submit_commandsOnSeveralMembersInOneBatch_eachMemberInQueueOrder() throws Exception {
+        List<Member> members = List.copyOf(model.getEzFoodie().getMemberList().subList(0, 4));
+        int commandsPerMember = 20;
+        BatchingCommandWriter writer = new BatchingCommandWriter(logic, members.size() * commandsPerMember,
+                members.size() * commandsPerMember, 4, snapshot -> { });
+
+        // every command is queued before the writer starts, so that they all run in one batch
+        List<CompletableFuture<CommandResult>> futures = new ArrayList<>();
+        for (int i = 1; i <= commandsPerMember; i++) {
+            for (Member member : members) {
+                futures.add(writer.submit(AddCommand.COMMAND_WORD + " " + PREFIX_TRANSACTION + " " + PREFIX_BILLING
+                        + i + ".00 " + PREFIX_ID + member.getId()));
+            }
+        }
+        writer.start();
+        for (CompletableFuture<CommandResult> future : futures) {
+            future.get();
+        }
+        writer.stop();
+
+        // transaction ids are handed out as the commands run, so they follow the order the commands ran in
+        List<Double> expectedBillings = new ArrayList<>();
+        for (int i = 1; i <= commandsPerMember; i++) {
+            expectedBillings.add((double) i);
+        }
+        for (Member member : members) {
+            List<Transaction> oldTransactions = member.getTransactions();
+            List<Double> billings = model.getMember(member.getId()).get().getTransactions().stream()
+                    .filter(transaction -> !oldTransactions.contains(transaction))
+                    .sorted(Comparator.comparing(transaction -> transaction.getId().value))
+                    .map(transaction -> transaction.getBilling().getDoubleValue())
+                    .collect(Collectors.toList());
+            assertEquals(expectedBillings, billings);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.status.LoginStatus;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.ReadOnlyEzFoodie;
+import seedu.address.model.member.Member;
+
+public class CommandSessionTest {
+
+    private final LogicStub logic = new LogicStub();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        BufferedReader input = new BufferedReader(new StringReader(""));
+        PrintWriter output = new PrintWriter(new StringWriter());
+        assertThrows(NullPointerException.class, () -> new CommandSession(null, input, output));
+        assertThrows(NullPointerException.class, () -> new CommandSession(logic, null, output));
+        assertThrows(NullPointerException.class, () -> new CommandSession(logic, input, null));
+    }
+
+    @Test
+    public void run_commands_responsesWritten() {
+        String output = runSession("first\n\n" + LogicStub.INVALID_COMMAND + "\nsecond\n");
+        assertEquals(String.join(System.lineSeparator(), "OK", "first", ".",
+                "ERROR", LogicStub.INVALID_COMMAND, ".",
+                "OK", "second", ".", ""), output);
+        assertEquals(List.of("first", LogicStub.INVALID_COMMAND, "second"), logic.commandsRun);
+    }
+
+    @Test
+    public void run_feedbackWithEndMarker_markerEscaped() {
+        String output = runSession("line one\n.\n");
+        assertEquals(String.join(System.lineSeparator(), "OK", "line one", ".",
+                "OK", "..", ".", ""), output);
+    }
+
+    @Test
+    public void run_exitCommand_sessionEnds() {
+        runSession(LogicStub.EXIT_COMMAND + "\nnot run\n");
+        assertEquals(List.of(LogicStub.EXIT_COMMAND), logic.commandsRun);
+    }
+
+    private String runSession(String input) {
+        StringWriter output = new StringWriter();
+        new CommandSession(logic, new BufferedReader(new StringReader(input)), new PrintWriter(output)).run();
+        return output.toString();
+    }
+
+    /**
+     * A Logic stub that records the commands it runs and echoes them as feedback.
+     */
+    private static class LogicStub implements Logic {
+        private static final String INVALID_COMMAND = "invalid";
+        private static final String EXIT_COMMAND = "exit";
+
+        private final List<String> commandsRun = new ArrayList<>();
+
+        @Override
+        public CommandResult execute(String commandText) throws ParseException {
+            commandsRun.add(commandText);
+            if (commandText.equals(INVALID_COMMAND)) {
+                throw new ParseException(INVALID_COMMAND);
+            }
+            boolean isExit = commandText.equals(EXIT_COMMAND);
+            return new CommandResult(commandText, false, isExit, false, false);
+        }
+
+        @Override
+        public CommandResult executeWithoutSaving(String commandText) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Command parseCommand(String commandText) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandResult executeWithoutSaving(Command command, String commandText) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveData() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Logic openSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LoginStatus getLoginStatus() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandHistory getCommandHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyEzFoodie getEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberListForView() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Path getEzFoodieFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GuiSettings getGuiSettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setGuiSettings(GuiSettings guiSettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
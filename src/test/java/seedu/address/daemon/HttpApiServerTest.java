@@ -0,0 +1,184 @@
+package seedu.address.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Account;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyEzFoodie;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.member.Member;
+import seedu.address.storage.JsonAccountStorage;
+import seedu.address.storage.JsonEzFoodieStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HttpApiServerTest {
+
+    private static final String TRANSACTION_BODY = "{\"memberId\": \"" + ALICE.getId().value
+            + "\", \"billing\": \"23.00\"}";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private HttpApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        startServer(new JsonEzFoodieStorage(temporaryFolder.resolve("ezfoodie.json")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void getMember_existingMember_returnsMember() throws Exception {
+        HttpResponse<String> response = send(get("/api/members/1"));
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"name\":\"" + ALICE.getName().fullName + "\""));
+    }
+
+    @Test
+    public void getMember_invalidOrMissingMember_returnsError() throws Exception {
+        assertEquals(400, send(get("/api/members/abc")).statusCode());
+        assertEquals(404, send(get("/api/members/99999")).statusCode());
+    }
+
+    @Test
+    public void send_unknownPathOrMethod_returnsError() throws Exception {
+        assertEquals(404, send(get("/api/unknown")).statusCode());
+        assertEquals(405, send(get("/api/transactions")).statusCode());
+    }
+
+    @Test
+    public void postTransaction_validBody_transactionAdded() throws Exception {
+        int transactionCount = getAlice().getTransactions().size();
+        HttpResponse<String> response = send(post("/api/transactions", TRANSACTION_BODY).build());
+        assertEquals(200, response.statusCode());
+        assertEquals(transactionCount + 1, getAlice().getTransactions().size());
+
+        // the change is visible to lookups as soon as it is acknowledged
+        assertTrue(send(get("/api/members/1")).body().contains("\"billing\":\"23.00\""));
+    }
+
+    @Test
+    public void postTransaction_invalidBody_returnsBadRequest() throws Exception {
+        assertEquals(400, send(post("/api/transactions", "[]").build()).statusCode());
+        assertEquals(400, send(post("/api/transactions", "{\"memberId\": \"1\"}").build()).statusCode());
+        // a field cannot add another prefix to the command
+        String injected = "{\"memberId\": \"1\", \"billing\": \"23.00 -id/2\"}";
+        assertEquals(400, send(post("/api/transactions", injected).build()).statusCode());
+    }
+
+    @Test
+    public void postTransaction_sameIdempotencyKey_runOnce() throws Exception {
+        int transactionCount = getAlice().getTransactions().size();
+        HttpRequest request = post("/api/transactions", TRANSACTION_BODY)
+                .header(HttpApiServer.IDEMPOTENCY_KEY_HEADER, "till-1-0001").build();
+
+        HttpResponse<String> first = send(request);
+        HttpResponse<String> retry = send(request);
+        assertEquals(200, first.statusCode());
+        assertEquals(first.body(), retry.body());
+        assertEquals(transactionCount + 1, getAlice().getTransactions().size());
+
+        // the same key cannot be used for a different request
+        HttpRequest different = post("/api/transactions", TRANSACTION_BODY.replace("23.00", "24.00"))
+                .header(HttpApiServer.IDEMPOTENCY_KEY_HEADER, "till-1-0001").build();
+        assertEquals(422, send(different).statusCode());
+    }
+
+    @Test
+    public void postTransaction_saveFailsThenRetried_acceptedAndRunOnce() throws Exception {
+        server.close();
+        startServer(new JsonEzFoodieIoExceptionThrowingStub(temporaryFolder.resolve("ezfoodie.json")));
+        int transactionCount = getAlice().getTransactions().size();
+        HttpRequest request = post("/api/transactions", TRANSACTION_BODY)
+                .header(HttpApiServer.IDEMPOTENCY_KEY_HEADER, "till-1-0002").build();
+
+        // the transaction is applied though it is not saved, so a retry must not apply it again
+        HttpResponse<String> first = send(request);
+        HttpResponse<String> retry = send(request);
+        assertEquals(202, first.statusCode());
+        assertTrue(first.body().contains("\"saved\":false"));
+        assertEquals(first.body(), retry.body());
+        assertEquals(transactionCount + 1, getAlice().getTransactions().size());
+    }
+
+    @Test
+    public void getMetrics_afterRequests_latenciesRecorded() throws Exception {
+        send(get("/api/members/1"));
+        send(get("/api/members/abc"));
+        HttpResponse<String> response = send(get("/api/metrics"));
+
+        assertEquals(200, response.statusCode());
+        LatencyMetrics memberMetrics = server.getMetrics().get(HttpApiServer.ENDPOINT_GET_MEMBER);
+        assertEquals(2, memberMetrics.getCount());
+        assertEquals(1, memberMetrics.getErrorCount());
+    }
+
+    private void startServer(JsonEzFoodieStorage ezFoodieStorage) throws IOException {
+        model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonAccountStorage(temporaryFolder.resolve("account.json")),
+                ezFoodieStorage, new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new HttpApiServer(new LogicManager(model, storage),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2);
+        server.start();
+    }
+
+    private Member getAlice() {
+        return model.snapshot().getMember(ALICE.getId()).get();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(toUri(path)).GET().build();
+    }
+
+    private HttpRequest.Builder post(String path, String body) {
+        return HttpRequest.newBuilder(toUri(path)).POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private URI toUri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonEzFoodieIoExceptionThrowingStub extends JsonEzFoodieStorage {
+        private JsonEzFoodieIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveEzFoodie(ReadOnlyEzFoodie ezFoodie, Path filePath) throws IOException {
+            throw new IOException("dummy IO exception");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class IdempotencyCacheTest {
+
+    private final IdempotencyCache<String> cache = new IdempotencyCache<>(2);
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IdempotencyCache<String>(0));
+    }
+
+    @Test
+    public void putIfAbsent_sameKey_returnsFirstEntry() {
+        CompletableFuture<String> first = new CompletableFuture<>();
+        assertTrue(cache.putIfAbsent("key", "request", first).isEmpty());
+
+        IdempotencyCache.Entry<String> entry = cache.putIfAbsent("key", "other", new CompletableFuture<>()).get();
+        assertSame(first, entry.getResponse());
+        assertEquals("request", entry.getFingerprint());
+    }
+
+    @Test
+    public void putIfAbsent_overCapacity_leastRecentlyUsedForgotten() {
+        cache.putIfAbsent("a", "request", new CompletableFuture<>());
+        cache.putIfAbsent("b", "request", new CompletableFuture<>());
+        cache.putIfAbsent("a", "request", new CompletableFuture<>());
+        cache.putIfAbsent("c", "request", new CompletableFuture<>());
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.putIfAbsent("a", "request", new CompletableFuture<>()).isPresent());
+        assertTrue(cache.putIfAbsent("b", "request", new CompletableFuture<>()).isEmpty());
+    }
+
+    @Test
+    public void remove_otherResponse_entryKept() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        cache.putIfAbsent("key", "request", response);
+
+        cache.remove("key", new CompletableFuture<>());
+        assertEquals(1, cache.size());
+        cache.remove("key", response);
+        assertEquals(0, cache.size());
+    }
+}
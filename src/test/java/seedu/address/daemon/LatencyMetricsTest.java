@@ -0,0 +1,36 @@
+package seedu.address.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyMetricsTest {
+
+    @Test
+    public void getPercentileMicros_nothingRecorded_returnsZero() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        assertEquals(0, metrics.getPercentileMicros(99));
+        assertEquals(0, metrics.getMeanMicros());
+    }
+
+    @Test
+    public void record_latencies_summarised() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        for (int i = 0; i < 99; i++) {
+            metrics.record(TimeUnit.MICROSECONDS.toNanos(100), false);
+        }
+        metrics.record(TimeUnit.MICROSECONDS.toNanos(10_000), true);
+
+        assertEquals(100, metrics.getCount());
+        assertEquals(1, metrics.getErrorCount());
+        assertEquals(10_000, metrics.getMaxMicros());
+        assertEquals(199, metrics.getMeanMicros());
+        // percentiles are reported as the bound of their bucket, at most twice the real value
+        long median = metrics.getPercentileMicros(50);
+        assertTrue(median >= 100 && median <= 200);
+        assertEquals(10_000, metrics.getPercentileMicros(100));
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.LogicManager;
+
+public class CommandLogTest {
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CommandLog.parse(null));
+    }
+
+    @Test
+    public void parse_commandFile_returnsEachCommand() {
+        List<String> lines = Arrays.asList("list -mem/", "", "  find -n/Alex  ", "   ");
+        assertEquals(Arrays.asList("list -mem/", "find -n/Alex"), CommandLog.parse(lines));
+    }
+
+    @Test
+    public void parse_logFile_returnsLoggedCommands() {
+        List<String> lines = Arrays.asList(
+                "[2021-11-01 12:00:00.000] [INFO] [MainApp] Starting ezFoodie 1.4",
+                "[2021-11-01 12:00:01.000] [INFO] [LogicManager] " + LogicManager.LOG_COMMAND_PREFIX + "list -mem/]",
+                "[2021-11-01 12:00:02.000] [INFO] [LogicManager] " + LogicManager.LOG_COMMAND_PREFIX
+                        + "find -n/[Alex]]",
+                "[2021-11-01 12:00:03.000] [INFO] [LogicManager] " + LogicManager.LOG_COMMAND_PREFIX + "]");
+        assertEquals(Arrays.asList("list -mem/", "find -n/[Alex]"), CommandLog.parse(lines));
+    }
+}
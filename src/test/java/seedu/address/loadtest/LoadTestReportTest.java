@@ -0,0 +1,76 @@
+package seedu.address.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+
+public class LoadTestReportTest {
+
+    private static final long MILLI = 1000000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void findRegressions_invalidThreshold_throwsIllegalArgumentException() {
+        LoadTestReport report = createReport(1000, MILLI);
+        assertThrows(IllegalArgumentException.class, LoadTestReport.MESSAGE_INVALID_THRESHOLD, () ->
+                report.findRegressions(report, -0.1));
+    }
+
+    @Test
+    public void findRegressions_p99AboveThreshold_returnsRegression() {
+        LoadTestReport baseline = createReport(1000, 10 * MILLI);
+        List<String> regressions = createReport(1000, 13 * MILLI).findRegressions(baseline, 0.2);
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith("p99 of list -mem/"));
+    }
+
+    @Test
+    public void findRegressions_p99WithinThreshold_returnsNothing() {
+        LoadTestReport baseline = createReport(1000, 10 * MILLI);
+        assertTrue(createReport(1000, 11 * MILLI).findRegressions(baseline, 0.2).isEmpty());
+        assertTrue(createReport(1000, 5 * MILLI).findRegressions(baseline, 0.2).isEmpty());
+    }
+
+    @Test
+    public void findRegressions_tinyIncrease_returnsNothing() {
+        LoadTestReport baseline = createReport(1000, 10000);
+        assertTrue(createReport(1000, 50000).findRegressions(baseline, 0.2).isEmpty());
+    }
+
+    @Test
+    public void findRegressions_fewCommands_returnsNothing() {
+        LoadTestReport baseline = createReport(LoadTestReport.MIN_COMPARED_COUNT - 1, 10 * MILLI);
+        assertTrue(createReport(1000, 20 * MILLI).findRegressions(baseline, 0.2).isEmpty());
+    }
+
+    @Test
+    public void saveAndRead_sameLatencies() throws Exception {
+        LoadTestReport report = createReport(1000, 10 * MILLI);
+        Path reportPath = testFolder.resolve("report.json");
+        JsonUtil.saveJsonFile(report, reportPath);
+        LoadTestReport readReport = JsonUtil.readJsonFile(reportPath, LoadTestReport.class).get();
+
+        assertEquals(report.getCommandCount(), readReport.getCommandCount());
+        assertEquals(report.getBytesWritten(), readReport.getBytesWritten());
+        assertEquals(report.getLatencies().keySet(), readReport.getLatencies().keySet());
+        assertEquals(Long.valueOf(10 * MILLI),
+                Long.valueOf(readReport.getLatencies().get("list -mem/").getP99Nanos()));
+    }
+
+    private static LoadTestReport createReport(long count, long p99Nanos) {
+        LoadTestReport.Latencies latencies = new LoadTestReport.Latencies(count, p99Nanos / 2, p99Nanos / 2,
+                p99Nanos / 2, p99Nanos, p99Nanos);
+        return new LoadTestReport(count, 0, 1000, 0, 0, Map.of("list -mem/", latencies));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonEzFoodieStorage;
+
+public class LoadTestTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeRate_throwsIllegalArgumentException() throws Exception {
+        try (TemporaryDataCopy dataCopy = createDataCopy()) {
+            assertThrows(IllegalArgumentException.class, LoadTest.MESSAGE_INVALID_RATE, () ->
+                    new LoadTest(dataCopy.getLogic(), new MetricsRegistry(), -1));
+        }
+    }
+
+    @Test
+    public void getShape() {
+        assertEquals("list -mem/", LoadTest.getShape("  list -mem/"));
+        assertEquals("find -n/", LoadTest.getShape("find -n/Alex Yeoh"));
+        assertEquals("show", LoadTest.getShape("show 1"));
+        assertEquals("summary", LoadTest.getShape("summary"));
+    }
+
+    @Test
+    public void run_commands_reportsEachShape() throws Exception {
+        Path dataPath = testFolder.resolve("ezfoodie.json");
+        new JsonEzFoodieStorage(dataPath).saveEzFoodie(new SyntheticDataGenerator(1, 50).generate());
+        byte[] data = Files.readAllBytes(dataPath);
+        List<String> commands = Arrays.asList("list -mem/", "list -mem/", "find -mem/ -n/Alex", "del -mem/ -id/00001",
+                "add -mem/ -n/Load Test -p/91234567 -e/loadtest@example.com -a/1 Load Street");
+
+        LoadTestReport report;
+        try (TemporaryDataCopy dataCopy = new TemporaryDataCopy(dataPath, null, null)) {
+            report = new LoadTest(dataCopy.getLogic(), MetricsRegistry.getDefault(), 0).run(commands);
+            assertTrue(Files.exists(dataCopy.getDirectory()));
+            dataCopy.close();
+            assertFalse(Files.exists(dataCopy.getDirectory()));
+        }
+
+        assertEquals(5, report.getCommandCount());
+        // deleting needs a manager to be logged in
+        assertEquals(1, report.getFailureCount());
+        assertEquals(Long.valueOf(2), Long.valueOf(report.getLatencies().get("list -mem/").getCount()));
+        assertEquals(Long.valueOf(5), Long.valueOf(report.getLatencies().get(LoadTestReport.ALL_COMMANDS).getCount()));
+        assertTrue(report.getLatencies().containsKey("add -mem/"));
+        assertTrue(report.getSaveCount() >= 1);
+        assertTrue(report.getBytesWritten() > 0);
+        assertArrayEquals(data, Files.readAllBytes(dataPath));
+    }
+
+    private TemporaryDataCopy createDataCopy() throws Exception {
+        Path dataPath = testFolder.resolve("empty.json");
+        new JsonEzFoodieStorage(dataPath).saveEzFoodie(new SyntheticDataGenerator(1, 0).generate());
+        return new TemporaryDataCopy(dataPath, null, null);
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.status.LoginStatus;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.ReadOnlyEzFoodie;
+import seedu.address.model.member.Member;
+
+public class AsyncCommandExecutorTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new AsyncCommandExecutor(null, Runnable::run, new PublicationListenerStub()));
+        assertThrows(NullPointerException.class, () ->
+                new AsyncCommandExecutor(new LogicStub(), null, new PublicationListenerStub()));
+        assertThrows(NullPointerException.class, () -> new AsyncCommandExecutor(new LogicStub(), Runnable::run, null));
+    }
+
+    @Test
+    public void submit_commands_runInOrderOffCallerThread() throws Exception {
+        LogicStub logic = new LogicStub();
+        AsyncCommandExecutor executor =
+                new AsyncCommandExecutor(logic, Runnable::run, new PublicationListenerStub());
+
+        CompletableFuture<CommandResult> first = executor.submit("first");
+        CompletableFuture<CommandResult> second = executor.submit("second");
+
+        assertEquals("first", first.get().getFeedbackToUser());
+        assertEquals("second", second.get().getFeedbackToUser());
+        assertEquals(List.of("first", "second"), logic.commandsRun);
+        assertNotEquals(Thread.currentThread().getName(), logic.threadName);
+        executor.shutdown();
+    }
+
+    @Test
+    public void submit_failingCommand_completesExceptionally() {
+        AsyncCommandExecutor executor =
+                new AsyncCommandExecutor(new LogicStub(), Runnable::run, new PublicationListenerStub());
+        CompletableFuture<CommandResult> future = executor.submit(LogicStub.INVALID_COMMAND);
+
+        assertTrue(future.handle((result, error) -> error).join() instanceof ParseException);
+        executor.shutdown();
+    }
+
+    @Test
+    public void submit_commandEndingWithError_completesExceptionally() {
+        LogicStub logic = new LogicStub();
+        AsyncCommandExecutor executor = new AsyncCommandExecutor(logic, Runnable::run, new PublicationListenerStub());
+        CompletableFuture<CommandResult> future = executor.submit(LogicStub.ERROR_COMMAND);
+
+        assertTrue(future.handle((result, error) -> error).join() instanceof StackOverflowError);
+        assertEquals(0, executor.getPendingCount());
+        executor.shutdown();
+    }
+
+    @Test
+    public void submit_publicationPending_publishesLatestListsOnce() throws Exception {
+        LogicStub logic = new LogicStub();
+        QueuedExecutor uiExecutor = new QueuedExecutor();
+        PublicationListenerStub publicationListener = new PublicationListenerStub();
+        AsyncCommandExecutor executor = new AsyncCommandExecutor(logic, uiExecutor, publicationListener);
+
+        CompletableFuture<CommandResult> first = executor.submit("add " + ALICE.getId());
+        executor.submit("add " + BENSON.getId());
+        while (uiExecutor.tasks.size() < 3) {
+            Thread.sleep(1);
+        }
+
+        // one publication and two results were queued on the UI thread
+        assertEquals(2, executor.getPendingCount());
+        assertEquals(1, publicationListener.publishCount);
+        assertEquals(Collections.emptyList(), publicationListener.members);
+        uiExecutor.runAll();
+        assertEquals(2, publicationListener.publishCount);
+        assertEquals(List.of(ALICE, BENSON), publicationListener.members);
+        assertEquals(List.of(ALICE, BENSON), publicationListener.membersForView);
+        assertEquals(0, executor.getPendingCount());
+        assertTrue(first.isDone());
+        executor.shutdown();
+    }
+
+    /**
+     * A listener that keeps the lists last published to it.
+     */
+    private static class PublicationListenerStub implements AsyncCommandExecutor.PublicationListener {
+        private List<Member> members;
+        private List<Member> membersForView;
+        private int publishCount;
+
+        @Override
+        public void onPublish(List<Member> members, List<Member> membersForView) {
+            this.members = members;
+            this.membersForView = membersForView;
+            publishCount++;
+        }
+    }
+
+    /**
+     * An executor that queues tasks until they are run on the test thread.
+     */
+    private static class QueuedExecutor implements Executor {
+        private final List<Runnable> tasks = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            List<Runnable> toRun;
+            synchronized (tasks) {
+                toRun = new ArrayList<>(tasks);
+                tasks.clear();
+            }
+            toRun.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * A Logic stub that records the commands it runs, and adds ALICE or BENSON on "add" commands.
+     */
+    private static class LogicStub implements Logic {
+        private static final String INVALID_COMMAND = "invalid";
+        private static final String ERROR_COMMAND = "error";
+
+        private final List<String> commandsRun = new ArrayList<>();
+        private final List<Member> members = Collections.synchronizedList(new ArrayList<>());
+        private String threadName;
+
+        @Override
+        public CommandResult execute(String commandText) throws ParseException {
+            threadName = Thread.currentThread().getName();
+            if (commandText.equals(INVALID_COMMAND)) {
+                throw new ParseException(INVALID_COMMAND);
+            } else if (commandText.equals(ERROR_COMMAND)) {
+                throw new StackOverflowError();
+            }
+            commandsRun.add(commandText);
+            if (commandText.equals("add " + ALICE.getId())) {
+                members.add(ALICE);
+            } else if (commandText.equals("add " + BENSON.getId())) {
+                members.add(BENSON);
+            }
+            return new CommandResult(commandText);
+        }
+
+        @Override
+        public CommandResult executeWithoutSaving(String commandText) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Command parseCommand(String commandText) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandResult executeWithoutSaving(Command command, String commandText) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveData() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Logic openSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LoginStatus getLoginStatus() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandHistory getCommandHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyEzFoodie getEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberList() {
+            return List.copyOf(members);
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberListForView() {
+            return List.copyOf(members);
+        }
+
+        @Override
+        public Path getEzFoodieFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GuiSettings getGuiSettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setGuiSettings(GuiSettings guiSettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
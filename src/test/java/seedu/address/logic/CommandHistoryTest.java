@@ -0,0 +1,43 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandHistoryTest {
+
+    @Test
+    public void addCommand_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandHistory().addCommand(null));
+    }
+
+    @Test
+    public void getPreCommand_emptyHistory_returnsEmptyString() {
+        CommandHistory commandHistory = new CommandHistory();
+        assertEquals("", commandHistory.getPreCommand());
+        assertEquals("", commandHistory.getNextCommand());
+    }
+
+    @Test
+    public void getPreCommandAndNextCommand_commandsAdded_walksThroughHistory() {
+        CommandHistory commandHistory = new CommandHistory();
+        commandHistory.addCommand("list -m/");
+        commandHistory.addCommand("help");
+
+        assertEquals("help", commandHistory.getPreCommand());
+        assertEquals("list -m/", commandHistory.getPreCommand());
+        assertEquals("", commandHistory.getPreCommand());
+        assertEquals("list -m/", commandHistory.getNextCommand());
+        assertEquals("help", commandHistory.getNextCommand());
+        assertEquals("", commandHistory.getNextCommand());
+    }
+
+    @Test
+    public void addCommand_separateHistories_independent() {
+        CommandHistory commandHistory = new CommandHistory();
+        CommandHistory otherCommandHistory = new CommandHistory();
+        commandHistory.addCommand("help");
+        assertEquals("", otherCommandHistory.getPreCommand());
+    }
+}
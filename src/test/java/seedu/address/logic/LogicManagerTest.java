@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,32 +10,52 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.MEMBER_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BILLING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TRANSACTION;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalMembers.AMY;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.core.jfr.CommandExecuteEvent;
+import seedu.address.commons.core.jfr.CommandParseEvent;
+import seedu.address.commons.core.jfr.StorageEvent;
+import seedu.address.commons.core.metrics.MetricsRegistry;
 import seedu.address.commons.exceptions.PermissionException;
 import seedu.address.commons.status.ExecutionStatus;
 import seedu.address.commons.status.LoginStatus;
+import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddMemberCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LoginCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Account;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAccount;
 import seedu.address.model.ReadOnlyEzFoodie;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.account.Password;
 import seedu.address.model.member.Member;
 import seedu.address.storage.JsonAccountStorage;
 import seedu.address.storage.JsonEzFoodieStorage;
@@ -48,6 +70,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -57,7 +80,7 @@ public class LogicManagerTest {
         JsonEzFoodieStorage ezFoodieStorage =
                 new JsonEzFoodieStorage(temporaryFolder.resolve("ezfoodie.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(accountStorage, ezFoodieStorage, userPrefsStorage);
+        storage = new StorageManager(accountStorage, ezFoodieStorage, userPrefsStorage);
         logic = new LogicManager(model, storage, ExecutionStatus.TEST);
     }
 
@@ -69,10 +92,9 @@ public class LogicManagerTest {
 
     @Test
     public void execute_commandExecutionError_throwsCommandException() {
-        LoginStatus.setLoginStatus(LoginStatus.MANAGER);
+        model.setLoginStatus(LoginStatus.MANAGER);
         String deleteCommand = DeleteCommand.COMMAND_WORD + " " + PREFIX_MEMBER + " " + PREFIX_INDEX + " 9";
         assertCommandException(deleteCommand, MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX);
-        LoginStatus.setLoginStatus(LoginStatus.STAFF);
     }
 
     @Test
@@ -81,6 +103,43 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordsMetrics() throws Exception {
+        MetricsRegistry metrics = MetricsRegistry.getDefault();
+        String timerName = LogicManager.METRIC_COMMAND_PREFIX + ListCommand.class.getSimpleName();
+        long countBefore = metrics.timer(timerName).getCount();
+
+        logic.execute(ListCommand.COMMAND_WORD + " " + PREFIX_MEMBER);
+
+        assertEquals(countBefore + 1, metrics.timer(timerName).getCount());
+        assertTrue(metrics.timer(LogicManager.METRIC_SAVE).getCount() > 0);
+    }
+
+    @Test
+    public void execute_duringRecording_emitsFlightRecorderEvents() throws Exception {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandParseEvent.NAME);
+            recording.enable(CommandExecuteEvent.NAME);
+            recording.enable(StorageEvent.NAME);
+            recording.start();
+            logic.execute(ListCommand.COMMAND_WORD + " " + PREFIX_MEMBER);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        RecordedEvent executeEvent = events.stream()
+                .filter(event -> event.getEventType().getName().equals(CommandExecuteEvent.NAME))
+                .findFirst().orElseThrow();
+        assertEquals(ListCommand.COMMAND_WORD, executeEvent.getString("commandWord"));
+        assertEquals(ListCommand.class.getSimpleName(), executeEvent.getString("commandClass"));
+        assertTrue(executeEvent.getBoolean("isSuccessful"));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(CommandParseEvent.NAME)));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(StorageEvent.NAME)
+                && event.getString("operation").equals(StorageEvent.OPERATION_SAVE)));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonEzFoodieIoExceptionThrowingStub
@@ -104,6 +163,104 @@ public class LogicManagerTest {
         assertCommandFailure(addMemberCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void openSession_loginInSession_otherSessionsUnchanged() throws Exception {
+        Logic session = logic.openSession();
+        session.execute(LoginCommand.COMMAND_WORD + " " + Password.DEFAULT_PLAINTEXT_PASSWORD);
+        assertEquals(LoginStatus.MANAGER, session.getLoginStatus());
+        assertEquals(LoginStatus.STAFF, logic.getLoginStatus());
+        assertEquals(LoginStatus.STAFF, logic.openSession().getLoginStatus());
+    }
+
+    @Test
+    public void openSession_addMemberInSession_seenByAllSessions() throws Exception {
+        Logic session = logic.openSession();
+        String addMemberCommand = AddMemberCommand.COMMAND_WORD + MEMBER_DESC + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        session.execute(addMemberCommand);
+        assertEquals(1, model.getEzFoodie().getMemberList().size());
+        assertEquals(1, session.getUpdatedMemberList().size());
+        assertEquals(addMemberCommand, session.getCommandHistory().getPreCommand());
+        assertEquals("", logic.getCommandHistory().getPreCommand());
+    }
+
+    @Test
+    public void executeWithoutSaving_concurrentTransactions_allAdded() throws Exception {
+        model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        logic = new LogicManager(model, storage);
+        List<Member> members = model.getEzFoodie().getMemberList().subList(0, 4);
+        List<Integer> transactionCounts = new ArrayList<>();
+        members.forEach(member -> transactionCounts.add(member.getTransactions().size()));
+
+        // two threads per member, so that commands on the same member and on different members overlap
+        int transactionsPerThread = 25;
+        ExecutorService threads = Executors.newFixedThreadPool(members.size() * 2);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < members.size() * 2; i++) {
+            String command = AddCommand.COMMAND_WORD + " " + PREFIX_TRANSACTION + " " + PREFIX_BILLING + "1.00 "
+                    + PREFIX_ID + members.get(i % members.size()).getId();
+            futures.add(threads.submit(() -> {
+                for (int j = 0; j < transactionsPerThread; j++) {
+                    logic.executeWithoutSaving(command);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        threads.shutdown();
+
+        for (int i = 0; i < members.size(); i++) {
+            Member member = model.getMember(members.get(i).getId()).get();
+            int expectedCount = transactionCounts.get(i) + transactionsPerThread * 2;
+            assertEquals(expectedCount, member.getTransactions().size());
+            assertEquals(expectedCount, member.getTransactions().stream().map(t -> t.getId()).distinct().count());
+        }
+    }
+
+    @Test
+    public void executeWithoutSaving_concurrentTransactions_eachUndoneAlone() throws Exception {
+        model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        logic = new LogicManager(model, storage);
+        List<Member> members = model.getEzFoodie().getMemberList().subList(0, 4);
+
+        int commandsPerThread = 25;
+        ExecutorService threads = Executors.newFixedThreadPool(members.size());
+        List<Future<?>> futures = new ArrayList<>();
+        for (Member member : members) {
+            String command = AddCommand.COMMAND_WORD + " " + PREFIX_TRANSACTION + " " + PREFIX_BILLING + "1.00 "
+                    + PREFIX_ID + member.getId();
+            futures.add(threads.submit(() -> {
+                for (int j = 0; j < commandsPerThread; j++) {
+                    logic.executeWithoutSaving(command);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        threads.shutdown();
+
+        // each undo must revert exactly the one transaction its command added, whichever command ran alongside it
+        long transactionCount = countTransactions(members);
+        for (int i = 0; i < members.size() * commandsPerThread; i++) {
+            assertTrue(model.undoEzFoodie());
+            assertEquals(--transactionCount, countTransactions(members));
+        }
+        assertFalse(model.canUndoEzFoodie());
+        for (Member member : members) {
+            assertEquals(member, model.getMember(member.getId()).get());
+        }
+    }
+
+    private long countTransactions(List<Member> members) {
+        return members.stream()
+                .mapToLong(member -> model.getMember(member.getId()).get().getTransactions().size())
+                .sum();
+    }
+
     @Test
     public void getUpdatedMemberList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getUpdatedMemberList().remove(0));
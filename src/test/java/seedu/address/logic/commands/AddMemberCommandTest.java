@@ -7,22 +7,29 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.status.LoginStatus;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.EzFoodie;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAccount;
 import seedu.address.model.ReadOnlyEzFoodie;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.member.Member;
+import seedu.address.model.reservation.CapacitySettings;
+import seedu.address.model.reservation.ReservationEntry;
 import seedu.address.testutil.MemberBuilder;
 
 public class AddMemberCommandTest {
@@ -167,12 +174,127 @@ public class AddMemberCommandTest {
         }
 
         @Override
-        public ObservableList<Member> getUpdatedMemberList() {
+        public List<ReservationEntry> getReservationsByDate(LocalDate date) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Member> getUpdatedMemberListForView() {
+        public CapacitySettings getCapacitySettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCapacitySettings(CapacitySettings capacitySettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasReservationCapacity(LocalDateTime dateTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasReservationCapacity(LocalDateTime dateTime, ReservationEntry toReplace) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime, ReservationEntry toReplace) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<seedu.address.model.member.Id> getNextMemberId() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<seedu.address.model.transaction.Id> getNextTransactionId(seedu.address.model.member.Id memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<seedu.address.model.reservation.Id> getNextReservationId(seedu.address.model.member.Id memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitEzFoodie(seedu.address.model.member.Id memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean undoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean redoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot snapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Member> getMember(seedu.address.model.member.Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getMemberVersion(seedu.address.model.member.Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean setMember(Member target, Member editedMember, long expectedVersion) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LoginStatus getLoginStatus() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLoginStatus(LoginStatus loginStatus) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Model openSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberListForView() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -6,26 +6,36 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MEMBER;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_MEMBER;
 import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.status.LoginStatus;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Account;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAccount;
 import seedu.address.model.ReadOnlyEzFoodie;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.member.Id;
 import seedu.address.model.member.Member;
+import seedu.address.model.reservation.CapacitySettings;
 import seedu.address.model.reservation.Reservation;
+import seedu.address.model.reservation.ReservationEntry;
 import seedu.address.testutil.MemberBuilder;
 import seedu.address.testutil.ReservationBuilder;
 
@@ -54,6 +64,36 @@ public class AddReservationCommandTest {
         assertTrue(expectedMember.getReservations().contains(validReservation));
     }
 
+    @Test
+    public void execute_reservationOnSameDate_throwsCommandException() {
+        Member validMember = model.getUpdatedMemberList().get(INDEX_FIRST_MEMBER.getZeroBased());
+        Reservation reservation = new ReservationBuilder().build();
+        Reservation reservationSameDate = new ReservationBuilder().withId("000002")
+                .withDateTime("2099-12-31 20:00").build();
+        model.setMember(validMember, new MemberBuilder(validMember).withReservations(reservation).build());
+
+        AddReservationCommand addReservationCommand = new AddReservationCommand(reservationSameDate,
+                validMember.getId());
+        assertThrows(CommandException.class, String.format(AddReservationCommand.MESSAGE_SAME_DATE, reservation), ()
+                -> addReservationCommand.execute(new ModelStubAcceptingReservationAdded(model)));
+    }
+
+    @Test
+    public void execute_noTableAvailable_throwsCommandException() {
+        model.setCapacitySettings(new CapacitySettings(1, 120, 30));
+        Member firstMember = model.getUpdatedMemberList().get(INDEX_FIRST_MEMBER.getZeroBased());
+        Member secondMember = model.getUpdatedMemberList().get(INDEX_SECOND_MEMBER.getZeroBased());
+        model.setMember(firstMember, new MemberBuilder(firstMember)
+                .withReservations(new ReservationBuilder().withDateTime("2099-12-31 12:00").build()).build());
+
+        AddReservationCommand addReservationCommand = new AddReservationCommand(
+                new ReservationBuilder().withDateTime("2099-12-31 13:00").build(), secondMember.getId());
+        String expectedMessage = String.format(Messages.MESSAGE_RESERVATION_FULLY_BOOKED, "2099-12-31 13:00",
+                "2099-12-31 14:00, 2099-12-31 14:30, 2099-12-31 15:00");
+        assertThrows(CommandException.class, expectedMessage, ()
+                -> addReservationCommand.execute(new ModelStubAcceptingReservationAdded(model)));
+    }
+
     @Test
     public void equals() {
         Member alice = new MemberBuilder().withName("Alice").build();
@@ -175,12 +215,127 @@ public class AddReservationCommandTest {
         }
 
         @Override
-        public ObservableList<Member> getUpdatedMemberList() {
+        public List<ReservationEntry> getReservationsByDate(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CapacitySettings getCapacitySettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCapacitySettings(CapacitySettings capacitySettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasReservationCapacity(LocalDateTime dateTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasReservationCapacity(LocalDateTime dateTime, ReservationEntry toReplace) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime, ReservationEntry toReplace) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<seedu.address.model.member.Id> getNextMemberId() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<seedu.address.model.transaction.Id> getNextTransactionId(seedu.address.model.member.Id memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<seedu.address.model.reservation.Id> getNextReservationId(seedu.address.model.member.Id memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitEzFoodie(seedu.address.model.member.Id memberId) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Member> getUpdatedMemberListForView() {
+        public boolean canUndoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean undoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean redoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot snapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Member> getMember(seedu.address.model.member.Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getMemberVersion(seedu.address.model.member.Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean setMember(Member target, Member editedMember, long expectedVersion) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LoginStatus getLoginStatus() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLoginStatus(LoginStatus loginStatus) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Model openSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberListForView() {
             throw new AssertionError("This method should not be called.");
 
         }
@@ -219,10 +374,30 @@ public class AddReservationCommandTest {
         }
 
         @Override
-        public ObservableList<Member> getUpdatedMemberList() {
+        public List<ReservationEntry> getReservationsByDate(LocalDate date) {
+            return model.getReservationsByDate(date);
+        }
+
+        @Override
+        public boolean hasReservationCapacity(LocalDateTime dateTime) {
+            return model.hasReservationCapacity(dateTime);
+        }
+
+        @Override
+        public List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime) {
+            return model.getAvailableReservationSlots(dateTime);
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberList() {
             return model.getUpdatedMemberList();
         }
 
+        @Override
+        public Optional<Member> getMember(seedu.address.model.member.Id id) {
+            return model.getMember(id);
+        }
+
         @Override
         public void updateFilteredMemberList(Predicate<Member> predicate) {
             model.updateFilteredMemberList(predicate);
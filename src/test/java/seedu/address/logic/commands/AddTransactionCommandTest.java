@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -9,22 +10,29 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MEMBER;
 import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.status.LoginStatus;
 import seedu.address.model.Account;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAccount;
 import seedu.address.model.ReadOnlyEzFoodie;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.member.Id;
 import seedu.address.model.member.Member;
+import seedu.address.model.reservation.CapacitySettings;
+import seedu.address.model.reservation.ReservationEntry;
 import seedu.address.model.transaction.Transaction;
 import seedu.address.testutil.MemberBuilder;
 import seedu.address.testutil.TransactionBuilder;
@@ -55,6 +63,37 @@ public class AddTransactionCommandTest {
                 expectedMember.getTransactions().get(expectedMember.getTransactions().size() - 1));
     }
 
+    @Test
+    public void execute_noTransactionId_nextIdOfMemberHandedOut() throws Exception {
+        Member member = model.getUpdatedMemberList().get(INDEX_FIRST_MEMBER.getZeroBased());
+        seedu.address.model.transaction.Id nextId = model.getNextTransactionId(member.getId()).get();
+        Transaction transaction = new TransactionBuilder().build();
+        new AddTransactionCommand(transaction.getTimestamp(), transaction.getBilling(), member.getId()).execute(model);
+
+        List<Transaction> transactions = model.getMember(member.getId()).get().getTransactions();
+        assertEquals(nextId, transactions.get(transactions.size() - 1).getId());
+        assertNotEquals(nextId, model.getNextTransactionId(member.getId()).get());
+    }
+
+    @Test
+    public void execute_memberWithLongHistory_billingAddedToCredit() throws Exception {
+        Transaction[] history = new Transaction[20_000];
+        for (int i = 0; i < history.length; i++) {
+            history[i] = new TransactionBuilder().withId(String.format("%06d", i + 1)).withBilling("10.00").build();
+        }
+        Member member = new MemberBuilder().withId("99999").withPhone("91234567").withEmail("history@example.com")
+                .withTransactions(history).withCredit("200000").withPoint("200000").build();
+        model.addMember(member);
+
+        Transaction transaction = new TransactionBuilder().withBilling("23.50").build();
+        new AddTransactionCommand(transaction.getTimestamp(), transaction.getBilling(), member.getId()).execute(model);
+
+        Member editedMember = model.getMember(member.getId()).get();
+        assertEquals("200023", editedMember.getCredit().value);
+        assertEquals("200023", editedMember.getPoint().value);
+        assertEquals(history.length + 1, editedMember.getTransactions().size());
+    }
+
     @Test
     public void equals() {
         Member alice = new MemberBuilder().withName("Alice").build();
@@ -174,12 +213,127 @@ public class AddTransactionCommandTest {
         }
 
         @Override
-        public ObservableList<Member> getUpdatedMemberList() {
+        public List<ReservationEntry> getReservationsByDate(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CapacitySettings getCapacitySettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setCapacitySettings(CapacitySettings capacitySettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasReservationCapacity(LocalDateTime dateTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasReservationCapacity(LocalDateTime dateTime, ReservationEntry toReplace) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<LocalDateTime> getAvailableReservationSlots(LocalDateTime dateTime, ReservationEntry toReplace) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<seedu.address.model.member.Id> getNextMemberId() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<seedu.address.model.transaction.Id> getNextTransactionId(seedu.address.model.member.Id memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<seedu.address.model.reservation.Id> getNextReservationId(seedu.address.model.member.Id memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitEzFoodie() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Member> getUpdatedMemberListForView() {
+        public void commitEzFoodie(seedu.address.model.member.Id memberId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean undoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean redoEzFoodie() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot snapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Member> getMember(seedu.address.model.member.Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getMemberVersion(seedu.address.model.member.Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean setMember(Member target, Member editedMember, long expectedVersion) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LoginStatus getLoginStatus() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLoginStatus(LoginStatus loginStatus) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Model openSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberListForView() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -217,7 +371,23 @@ public class AddTransactionCommandTest {
         }
 
         @Override
-        public ObservableList<Member> getUpdatedMemberList() {
+        public boolean setMember(Member target, Member editedMember, long expectedVersion) {
+            requireAllNonNull(target, editedMember);
+            return model.setMember(target, editedMember, expectedVersion);
+        }
+
+        @Override
+        public Optional<Member> getMember(Id id) {
+            return model.getMember(id);
+        }
+
+        @Override
+        public long getMemberVersion(Id id) {
+            return model.getMemberVersion(id);
+        }
+
+        @Override
+        public List<Member> getUpdatedMemberList() {
             return model.getUpdatedMemberList();
         }
 
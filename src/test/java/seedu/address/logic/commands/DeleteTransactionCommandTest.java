@@ -39,7 +39,7 @@ public class DeleteTransactionCommandTest {
         List<Transaction> expectedTransactions = memberToEdit.getTransactions().stream()
                 .filter(transaction -> !transaction.equals(transactionToDelete)).collect(Collectors.toList());
         Credit expectedCredit = new Credit("" + Math.min(expectedTransactions.stream()
-                .mapToInt(t -> (int) t.getBilling().getDoubleValue()).sum(), Credit.MAX));
+                .mapToLong(t -> (long) t.getBilling().getDoubleValue()).sum(), Credit.MAX));
         Point expectedPoint = memberToEdit.getPoint();
         Member expectedMember = new MemberBuilder(memberToEdit).withCredit(expectedCredit.value)
                 .withPoint(expectedPoint.value).withTransactions(expectedTransactions.toArray(Transaction[]::new))
@@ -47,7 +47,7 @@ public class EditTransactionCommandTest {
                 .ifPresent(transaction -> expectedTransactions
                         .set(expectedTransactions.indexOf(transaction), editedTransaction));
         Credit expectedCredit = new Credit("" + Math.min(expectedTransactions.stream()
-                .mapToInt(t -> (int) t.getBilling().getDoubleValue()).sum(), Credit.MAX));
+                .mapToLong(t -> (long) t.getBilling().getDoubleValue()).sum(), Credit.MAX));
         Member expectedMember = new MemberBuilder(memberToEdit).withCredit(expectedCredit.value)
                 .withTransactions(expectedTransactions.toArray(Transaction[]::new)).build();
         expectedModel.setMember(memberToEdit, expectedMember);
@@ -0,0 +1,200 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand.RecordType;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Account;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.member.Tier;
+import seedu.address.model.tag.Tag;
+
+public class ExportCommandTest {
+
+    private static final Executor SAME_THREAD = Runnable::run;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+
+    @Test
+    public void execute_allMembers_writesCsv() throws Exception {
+        Path file = temporaryFolder.resolve("members.csv");
+
+        CommandResult result = export(file, RecordType.MEMBERS, null, null, null, Collections.emptySet());
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, RecordType.MEMBERS, file),
+                result.getFeedbackToUser());
+        List<String> rows = Files.readAllLines(file);
+        assertEquals(model.getEzFoodie().getMemberList().size() + 1, rows.size());
+        assertEquals(String.join(",", ExportCommand.MEMBER_COLUMNS), rows.get(0));
+        assertEquals("00001,Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\","
+                + "1609459200000,Gold,610,610,friends", rows.get(1));
+        assertFalse(Files.exists(temporaryFolder.resolve("members.csv" + ExportCommand.PART_SUFFIX)));
+    }
+
+    @Test
+    public void execute_tierAndTagFilters_writesMatchingMembers() throws Exception {
+        Path file = temporaryFolder.resolve("members.csv");
+
+        export(file, RecordType.MEMBERS, null, null, Tier.GOLD, Set.of(new Tag("owesMoney")));
+
+        List<String> rows = Files.readAllLines(file);
+        assertEquals(2, rows.size());
+        assertTrue(rows.get(1).startsWith("00002,Benson Meier,"));
+    }
+
+    @Test
+    public void execute_transactionsAsJsonLines_writesOneObjectPerLine() throws Exception {
+        Path file = temporaryFolder.resolve("transactions.jsonl");
+
+        export(file, RecordType.TRANSACTIONS, null, null, Tier.GOLD, Collections.emptySet());
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertEquals("{\"member_id\":\"00001\",\"phone\":\"94351253\",\"id\":\"000001\","
+                + "\"timestamp\":1611100800000,\"billing\":567.54}", lines.get(0));
+    }
+
+    @Test
+    public void execute_dateRange_writesReservationsWithinRange() throws Exception {
+        Path file = temporaryFolder.resolve("reservations.csv");
+        LocalDate date = LocalDate.of(2021, 1, 21);
+
+        export(file, RecordType.RESERVATIONS, date, date, null, Collections.emptySet());
+
+        List<String> rows = Files.readAllLines(file);
+        assertEquals(List.of(String.join(",", ExportCommand.RESERVATION_COLUMNS),
+                "00001,94351253,000002,2021-01-21 00:00,1 people"), rows);
+    }
+
+    @Test
+    public void execute_dateRangeAfterAllMembers_writesHeaderOnly() throws Exception {
+        Path file = temporaryFolder.resolve("members.csv");
+        Files.writeString(file, "old export");
+
+        export(file, RecordType.MEMBERS, LocalDate.of(2100, 1, 1), null, null, Collections.emptySet());
+
+        assertEquals(List.of(String.join(",", ExportCommand.MEMBER_COLUMNS)), Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_modelChangedAfterCommand_writesSnapshot() throws Exception {
+        Path file = temporaryFolder.resolve("members.csv");
+        int memberCount = model.getEzFoodie().getMemberList().size();
+        List<Runnable> pending = new ArrayList<>();
+
+        new ExportCommand(file, RecordType.MEMBERS, null, null, null, Collections.emptySet(), pending::add)
+                .execute(model);
+        model.deleteMember(model.getEzFoodie().getMemberList().get(0));
+        pending.forEach(Runnable::run);
+
+        assertEquals(memberCount + 1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_exportCompleted_followUpReportsCompletion() throws Exception {
+        Path file = temporaryFolder.resolve("members.csv");
+
+        CommandResult result = export(file, RecordType.MEMBERS, null, null, null, Collections.emptySet());
+
+        String followUp = result.getFollowUp().get().getNow(null);
+        assertTrue(followUp.startsWith(String.format("Exported %1$d %2$s to %3$s in ",
+                model.getEzFoodie().getMemberList().size(), RecordType.MEMBERS, file)));
+    }
+
+    @Test
+    public void execute_exportFailedInBackground_followUpReportsFailure() throws Exception {
+        Path file = temporaryFolder.resolve("members.csv");
+        List<Runnable> pending = new ArrayList<>();
+
+        CommandResult result = new ExportCommand(file, RecordType.MEMBERS, null, null, null,
+                Collections.emptySet(), pending::add).execute(model);
+        // a directory that is not empty cannot be replaced by the exported file
+        Files.createDirectories(file.resolve("inner"));
+        pending.forEach(Runnable::run);
+
+        String followUp = result.getFollowUp().get().getNow(null);
+        assertTrue(followUp.startsWith(String.format(ExportCommand.MESSAGE_FAILED, RecordType.MEMBERS, file, "")));
+        assertFalse(Files.exists(temporaryFolder.resolve("members.csv" + ExportCommand.PART_SUFFIX)));
+    }
+
+    @Test
+    public void execute_missingDirectory_directoryCreated() throws Exception {
+        Path file = temporaryFolder.resolve("exports").resolve("members.csv");
+
+        export(file, RecordType.MEMBERS, null, null, null, Collections.emptySet());
+
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    public void execute_parentIsFile_throwsCommandException() throws Exception {
+        Path parent = temporaryFolder.resolve("exports");
+        Files.writeString(parent, "not a directory");
+
+        assertThrows(CommandException.class, () ->
+                export(parent.resolve("members.csv"), RecordType.MEMBERS, null, null, null, Collections.emptySet()));
+    }
+
+    @Test
+    public void execute_fileIsDirectory_throwsCommandException() throws Exception {
+        Path file = temporaryFolder.resolve("members.csv");
+        Files.createDirectories(file);
+
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_FILE_ERROR, file), () ->
+                export(file, RecordType.MEMBERS, null, null, null, Collections.emptySet()));
+    }
+
+    @Test
+    public void equals() {
+        Path file = Path.of("members.csv");
+        ExportCommand exportMembers = new ExportCommand(file, RecordType.MEMBERS, null, null, null,
+                Collections.emptySet());
+
+        // same object -> returns true
+        assertTrue(exportMembers.equals(exportMembers));
+
+        // same values -> returns true
+        assertTrue(exportMembers.equals(new ExportCommand(file, RecordType.MEMBERS, null, null, null,
+                Collections.emptySet(), SAME_THREAD)));
+
+        // different types -> returns false
+        assertFalse(exportMembers.equals(1));
+
+        // null -> returns false
+        assertFalse(exportMembers.equals(null));
+
+        // different record type -> returns false
+        assertFalse(exportMembers.equals(new ExportCommand(file, RecordType.TRANSACTIONS, null, null, null,
+                Collections.emptySet())));
+
+        // different tier -> returns false
+        assertFalse(exportMembers.equals(new ExportCommand(file, RecordType.MEMBERS, null, null, Tier.GOLD,
+                Collections.emptySet())));
+    }
+
+    private CommandResult export(Path file, RecordType recordType, LocalDate fromDate, LocalDate toDate, Tier tier,
+            Set<Tag> tags) throws Exception {
+        return new ExportCommand(file, recordType, fromDate, toDate, tier, tags, SAME_THREAD).execute(model);
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Account;
+import seedu.address.model.EzFoodie;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.member.Member;
+
+public class ImportCommandTest {
+
+    private static final String MEMBER_HEADER = "name,phone,email,address,timestamp,tags";
+    private static final String AMY = "Amy Bee,91111111,amy@example.com,\"Block 312, Amy Street 1\",1609459200000,"
+            + "vip;regular";
+    private static final String BOB = "Bob Choo,92222222,bob@example.com,\"Block 123, Bobby Street 3\",1609459200000,";
+    private static final String TRANSACTION_HEADER = "phone,timestamp,billing";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+
+    @Test
+    public void execute_validMembers_importsAll() throws Exception {
+        Path file = writeFile("members.csv", MEMBER_HEADER, AMY, "", BOB);
+        int sizeBefore = model.getEzFoodie().getMemberList().size();
+
+        CommandResult result = new ImportCommand(file, null).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Imported 2 member(s) and 0 transaction(s)"));
+        List<Member> members = model.getEzFoodie().getMemberList();
+        assertEquals(sizeBefore + 2, members.size());
+        Member amy = members.get(sizeBefore);
+        assertEquals("Block 312, Amy Street 1", amy.getAddress().value);
+        assertEquals(2, amy.getTags().size());
+        assertFalse(Files.exists(ImportCommand.getRejectsFilePath(file)));
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_writesRejects() throws Exception {
+        String duplicate = "Benson Copy,98765432,copy@example.com,Somewhere,1609459200000,";
+        String invalidPhone = "Carl Kurz,abc,carl@example.com,Somewhere,1609459200000,";
+        Path file = writeFile("members.csv", MEMBER_HEADER, AMY, duplicate, invalidPhone, AMY, "Too,Short");
+        int sizeBefore = model.getEzFoodie().getMemberList().size();
+
+        CommandResult result = new ImportCommand(file, null).execute(model);
+
+        Path rejectsFile = ImportCommand.getRejectsFilePath(file);
+        assertEquals(temporaryFolder.resolve("members.rejects.csv"), rejectsFile);
+        assertTrue(result.getFeedbackToUser().contains(String.format(ImportCommand.MESSAGE_REJECTS, 4, file,
+                rejectsFile)));
+        assertEquals(sizeBefore + 1, model.getEzFoodie().getMemberList().size());
+
+        List<String> rejects = Files.readAllLines(rejectsFile);
+        assertEquals(5, rejects.size());
+        assertEquals(MEMBER_HEADER + "," + ImportCommand.COLUMN_ERROR, rejects.get(0));
+        assertEquals(duplicate + ",Line 3: " + AddMemberCommand.MESSAGE_DUPLICATE_MEMBER, rejects.get(1));
+        assertTrue(rejects.get(2).startsWith(invalidPhone + ",\"Line 4: "));
+        assertTrue(rejects.get(3).startsWith(AMY + ",Line 5: "));
+    }
+
+    @Test
+    public void execute_transactions_addedToMembersWithCredit() throws Exception {
+        Path memberFile = writeFile("members.csv", MEMBER_HEADER, AMY);
+        Path transactionFile = writeFile("transactions.csv", TRANSACTION_HEADER,
+                "91111111,1611100800000,100.50", "91111111,1611100900000,20.00", "91111111,1611100900000,20.00",
+                BENSON.getPhone() + ",1611200000000,5.00", "93333333,1611100800000,1.00");
+
+        CommandResult result = new ImportCommand(memberFile, transactionFile).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Imported 1 member(s) and 3 transaction(s)"));
+        Member amy = model.getEzFoodie().getMemberList().get(model.getEzFoodie().getMemberList().size() - 1);
+        assertEquals(2, amy.getTransactions().size());
+        assertEquals(120, amy.getCredit().getLongValue());
+        assertEquals(120, amy.getPoint().getLongValue());
+        assertEquals("000002", amy.getTransactions().get(1).getId().value);
+        Member benson = model.getMember(BENSON.getId()).get();
+        assertEquals(BENSON.getTransactions().size() + 1, benson.getTransactions().size());
+        assertEquals(BENSON.getCredit().getLongValue() + 5, benson.getCredit().getLongValue());
+
+        List<String> rejects = Files.readAllLines(ImportCommand.getRejectsFilePath(transactionFile));
+        assertEquals(3, rejects.size());
+        assertTrue(rejects.get(1).endsWith(ImportCommand.MESSAGE_DUPLICATE_TRANSACTION));
+        assertTrue(rejects.get(2).endsWith(String.format(ImportCommand.MESSAGE_UNKNOWN_MEMBER, "93333333")));
+    }
+
+    @Test
+    public void execute_import_undoneAsOneChange() throws Exception {
+        EzFoodie expectedEzFoodie = new EzFoodie(model.getEzFoodie());
+        Path file = writeFile("members.csv", MEMBER_HEADER, AMY, BOB);
+
+        new ImportCommand(file, null).execute(model);
+        model.commitEzFoodie();
+        model.undoEzFoodie();
+
+        assertEquals(expectedEzFoodie, new EzFoodie(model.getEzFoodie()));
+    }
+
+    @Test
+    public void execute_filteredMemberLists_filtersKept() throws Exception {
+        Model otherSession = model.openSession();
+        model.updateFilteredMemberList(member -> member.equals(BENSON));
+        otherSession.updateFilteredMemberList(member -> member.equals(BENSON));
+        Path file = writeFile("members.csv", MEMBER_HEADER, AMY, BOB);
+
+        new ImportCommand(file, null).execute(model);
+
+        assertEquals(Arrays.asList(BENSON), model.getUpdatedMemberList());
+        assertEquals(Arrays.asList(BENSON), otherSession.getUpdatedMemberList());
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws Exception {
+        Path file = writeFile("members.csv", "name,phone,email,address", AMY);
+        EzFoodie expectedEzFoodie = new EzFoodie(model.getEzFoodie());
+
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_MISSING_COLUMN, file,
+                ImportCommand.COLUMN_TIMESTAMP), () -> new ImportCommand(file, null).execute(model));
+        assertEquals(expectedEzFoodie, new EzFoodie(model.getEzFoodie()));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_FILE_ERROR, file), () ->
+                new ImportCommand(file, null).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path file = temporaryFolder.resolve("members.csv");
+        ImportCommand importCommand = new ImportCommand(file, null);
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(file, null)));
+        assertFalse(importCommand.equals(new ImportCommand(null, file)));
+        assertFalse(importCommand.equals(null));
+    }
+
+    private Path writeFile(String fileName, String... lines) throws IOException {
+        Path file = temporaryFolder.resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
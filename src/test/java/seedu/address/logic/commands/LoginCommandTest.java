@@ -17,8 +17,8 @@ public class LoginCommandTest {
 
     @Test
     public void execute_inStaffLoginStatus_success() throws Exception {
-        LoginStatus.setLoginStatus(LoginStatus.STAFF);
         Model model = new ModelManager();
+        model.setLoginStatus(LoginStatus.STAFF);
         Model expectedModel = new ModelManager();
         Password password = new Password(EncryptUtil.hash(CORRECT_PLAINTEXT_PASSWORD));
 
@@ -27,8 +27,8 @@ public class LoginCommandTest {
 
     @Test
     public void execute_inStaffLoginStatus_failure() throws Exception {
-        LoginStatus.setLoginStatus(LoginStatus.STAFF);
         Model model = new ModelManager();
+        model.setLoginStatus(LoginStatus.STAFF);
         Model expectedModel = new ModelManager();
         Password password = new Password(EncryptUtil.hash(WRONG_PLAINTEXT_PASSWORD));
 
@@ -37,8 +37,8 @@ public class LoginCommandTest {
 
     @Test
     public void execute_inManagerLoginStatus_success() throws Exception {
-        LoginStatus.setLoginStatus(LoginStatus.MANAGER);
         Model model = new ModelManager();
+        model.setLoginStatus(LoginStatus.MANAGER);
         Model expectedModel = new ModelManager();
         Password password = new Password(EncryptUtil.hash(CORRECT_PLAINTEXT_PASSWORD));
 
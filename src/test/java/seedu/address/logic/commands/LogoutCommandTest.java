@@ -12,8 +12,8 @@ public class LogoutCommandTest {
 
     @Test
     public void execute_inStaffLoginStatus_success() {
-        LoginStatus.setLoginStatus(LoginStatus.STAFF);
         Model model = new ModelManager();
+        model.setLoginStatus(LoginStatus.STAFF);
         Model expectedModel = new ModelManager();
 
         assertCommandSuccess(new LogoutCommand(), model, LogoutCommand.MESSAGE_ALREADY_IN_STATUS, expectedModel);
@@ -21,8 +21,8 @@ public class LogoutCommandTest {
 
     @Test
     public void execute_inManagerLoginStatus_success() {
-        LoginStatus.setLoginStatus(LoginStatus.MANAGER);
         Model model = new ModelManager();
+        model.setLoginStatus(LoginStatus.MANAGER);
         Model expectedModel = new ModelManager();
 
         assertCommandSuccess(new LogoutCommand(), model, LogoutCommand.MESSAGE_SUCCESS, expectedModel);
@@ -0,0 +1,34 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Account;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_noUndoneState_failure() {
+        Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneState_success() {
+        Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        Model expectedModel = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        expectedModel.deleteMember(ALICE);
+        model.deleteMember(ALICE);
+        model.commitEzFoodie();
+        model.undoEzFoodie();
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
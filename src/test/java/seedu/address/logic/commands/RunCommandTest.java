@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.MEMBER_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.EzFoodieParser;
+import seedu.address.model.Account;
+import seedu.address.model.EzFoodie;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunCommandTest {
+
+    private static final String ADD_AMY = AddMemberCommand.COMMAND_WORD + MEMBER_DESC + NAME_DESC_AMY
+            + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB = AddMemberCommand.COMMAND_WORD + MEMBER_DESC + NAME_DESC_BOB
+            + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+
+    @Test
+    public void execute_validFile_runsEveryLine() throws Exception {
+        Path file = writeFile("# new outlet", ADD_AMY, "", ADD_BOB);
+        int sizeBefore = model.getEzFoodie().getMemberList().size();
+
+        CommandResult result = newRunCommand(file).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format("Ran %1$d command(s) from %2$s", 2, file)));
+        assertEquals(sizeBefore + 2, model.getEzFoodie().getMemberList().size());
+    }
+
+    @Test
+    public void execute_failingLine_rollsBackAndReportsLine() throws Exception {
+        Path file = writeFile(ADD_AMY, ADD_AMY, "unknown", ADD_BOB);
+        EzFoodie expectedEzFoodie = new EzFoodie(model.getEzFoodie());
+
+        String message = "";
+        try {
+            newRunCommand(file).execute(model);
+            throw new AssertionError("Execution of command should fail.");
+        } catch (CommandException e) {
+            message = e.getMessage();
+        }
+
+        assertTrue(message.startsWith(String.format("No changes were made: 2 of 4 command(s) in %1$s",
+                file)));
+        assertTrue(message.contains(String.format(RunCommand.MESSAGE_LINE_FAILURE, 2,
+                AddMemberCommand.MESSAGE_DUPLICATE_MEMBER)));
+        assertTrue(message.contains("Line 3: "));
+        assertFalse(message.contains("Line 4: "));
+        assertEquals(expectedEzFoodie, model.getEzFoodie());
+        model.commitEzFoodie();
+        assertFalse(model.canUndoEzFoodie());
+    }
+
+    @Test
+    public void execute_nestedRun_failure() throws Exception {
+        Path file = writeFile(RunCommand.COMMAND_WORD + " " + temporaryFolder.resolve("other.txt"));
+        assertThrows(CommandException.class, () -> newRunCommand(file).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path file = temporaryFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_FILE_ERROR, file), () ->
+                newRunCommand(file).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path file = temporaryFolder.resolve("file.txt");
+        RunCommand runCommand = newRunCommand(file);
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(newRunCommand(file)));
+        assertFalse(runCommand.equals(newRunCommand(temporaryFolder.resolve("other.txt"))));
+        assertFalse(runCommand.equals(null));
+    }
+
+    private RunCommand newRunCommand(Path file) {
+        return new RunCommand(file, new EzFoodieParser(model)::parseCommand);
+    }
+
+    private Path writeFile(String... lines) throws IOException {
+        Path file = temporaryFolder.resolve("batch.txt");
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.metrics.MetricsRegistry;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_recordedMetrics_showsReport() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.timer("logic.parse").record(1000);
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+
+        assertCommandSuccess(new StatsCommand(metrics), model,
+                String.format(StatsCommand.MESSAGE_SUCCESS, metrics.report()), expectedModel);
+    }
+}
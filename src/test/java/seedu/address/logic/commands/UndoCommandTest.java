@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Account;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.member.Member;
+import seedu.address.testutil.MemberBuilder;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noCommittedState_failure() {
+        Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_committedState_success() {
+        Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        Model expectedModel = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        model.deleteMember(ALICE);
+        model.commitEzFoodie();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_memberChangedByOtherSession_failure() {
+        Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        Model otherSession = model.openSession();
+        Member editedAlice = new MemberBuilder(ALICE).withName("Alice Edited").build();
+        model.setMember(ALICE, editedAlice);
+        model.commitEzFoodie();
+        otherSession.deleteMember(editedAlice);
+        otherSession.commitEzFoodie();
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_CONFLICT);
+        assertFalse(model.canUndoEzFoodie());
+    }
+}
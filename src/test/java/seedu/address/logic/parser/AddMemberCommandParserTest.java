@@ -33,8 +33,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.status.ExecutionStatus;
 import seedu.address.logic.commands.AddMemberCommand;
-import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 import seedu.address.model.member.Address;
 import seedu.address.model.member.Email;
 import seedu.address.model.member.Member;
@@ -45,8 +43,7 @@ import seedu.address.testutil.MemberBuilder;
 
 public class AddMemberCommandParserTest {
 
-    private Model model = new ModelManager();
-    private AddMemberCommandParser parser = new AddMemberCommandParser(model, ExecutionStatus.TEST);
+    private AddMemberCommandParser parser = new AddMemberCommandParser(ExecutionStatus.TEST);
 
     @Test
     public void parse_allFieldsPresent_success() {
@@ -22,8 +22,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.status.ExecutionStatus;
 import seedu.address.logic.commands.AddReservationCommand;
-import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 import seedu.address.model.member.Id;
 import seedu.address.model.reservation.DateTime;
 import seedu.address.model.reservation.Remark;
@@ -32,8 +30,7 @@ import seedu.address.testutil.ReservationBuilder;
 
 class AddReservationCommandParserTest {
 
-    private Model model = new ModelManager();
-    private AddReservationCommandParser parser = new AddReservationCommandParser(model, ExecutionStatus.TEST);
+    private AddReservationCommandParser parser = new AddReservationCommandParser(ExecutionStatus.TEST);
 
     @Test
     public void parse_allFieldsPresent_success() {
@@ -19,8 +19,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.status.ExecutionStatus;
 import seedu.address.logic.commands.AddTransactionCommand;
-import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 import seedu.address.model.member.Id;
 import seedu.address.model.transaction.Billing;
 import seedu.address.model.transaction.Transaction;
@@ -28,8 +26,7 @@ import seedu.address.testutil.TransactionBuilder;
 
 class AddTransactionCommandParserTest {
 
-    private Model model = new ModelManager();
-    private AddTransactionCommandParser parser = new AddTransactionCommandParser(model, ExecutionStatus.TEST);
+    private AddTransactionCommandParser parser = new AddTransactionCommandParser(ExecutionStatus.TEST);
 
     @Test
     public void parse_allFieldsPresent_success() {
@@ -136,6 +136,51 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenizeArgs_overlappingPrefixes_longestPrefixTaken() {
+        Prefix dashTt = new Prefix("-tt");
+        ArgumentMultimap argMultimap = new ArgumentTokenizer(dashT, dashTt).tokenizeArgs("pre -ttwo -tone");
+        assertPreamblePresent(argMultimap, "pre");
+        assertArgumentPresent(argMultimap, dashTt, "wo");
+        assertArgumentPresent(argMultimap, dashT, "one");
+    }
+
+    @Test
+    public void tokenizeArgs_tokenizedByCombinedTokenizer_sameAsTokenizedAlone() {
+        ArgumentTokenizer pSlashTokenizer = new ArgumentTokenizer(pSlash);
+        ArgumentTokenizer dashTTokenizer = new ArgumentTokenizer(dashT, hatQ);
+        ArgumentTokenizer combined = ArgumentTokenizer.combine(pSlashTokenizer, dashTTokenizer);
+        String[] argsStrings = {
+            "",
+            "  ",
+            "Preamble",
+            "Preamble p/pSlash value -t dashT-Value ^Q111",
+            " -t dashT-Value p/ pSlash value -t ^Q p/second",
+            "Preamble -t dashT-Value ^Q111",
+            " p/pSlash value p/",
+            "p/ not a prefix -tjoined ^Q"
+        };
+
+        for (String argsString : argsStrings) {
+            ArgumentMultimap shared = combined.tokenizeArgs(argsString);
+            for (ArgumentTokenizer tokenizer : new ArgumentTokenizer[] {pSlashTokenizer, dashTTokenizer, combined}) {
+                ArgumentMultimap expected = tokenizer.tokenizeArgs(argsString);
+                ArgumentMultimap actual = tokenizer.tokenizeArgs(shared);
+                assertEquals(expected.getSize(), actual.getSize());
+                assertEquals(expected.getPreamble(), actual.getPreamble());
+                for (Prefix prefix : new Prefix[] {pSlash, dashT, hatQ}) {
+                    assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix));
+                }
+            }
+        }
+
+        // arguments tokenized with fewer prefixes are scanned again
+        ArgumentMultimap argMultimap = combined.tokenizeArgs(pSlashTokenizer.tokenizeArgs("a p/b -t c"));
+        assertPreamblePresent(argMultimap, "a");
+        assertArgumentPresent(argMultimap, pSlash, "b");
+        assertArgumentPresent(argMultimap, dashT, "c");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
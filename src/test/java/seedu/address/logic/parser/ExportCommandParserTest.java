@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.RecordType;
+import seedu.address.model.member.Tier;
+import seedu.address.model.tag.Tag;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_recordTypeOnly_returnsExportCommand() {
+        assertParseSuccess(parser, " data/members.csv -mem/",
+                new ExportCommand(Paths.get("data/members.csv"), RecordType.MEMBERS, null, null, null,
+                        Collections.emptySet()));
+        assertParseSuccess(parser, " data/reservations.jsonl -rs/",
+                new ExportCommand(Paths.get("data/reservations.jsonl"), RecordType.RESERVATIONS, null, null, null,
+                        Collections.emptySet()));
+    }
+
+    @Test
+    public void parse_allFilters_returnsExportCommand() {
+        assertParseSuccess(parser, " data/january.csv -txn/ -d/2021-01-01 -d/2021-01-31 -tier/gold "
+                        + "-tag/friends -tag/owesMoney",
+                new ExportCommand(Paths.get("data/january.csv"), RecordType.TRANSACTIONS,
+                        LocalDate.of(2021, 1, 1), LocalDate.of(2021, 1, 31), Tier.GOLD,
+                        Set.of(new Tag("friends"), new Tag("owesMoney"))));
+    }
+
+    @Test
+    public void parse_invalidRecordType_throwsParseException() {
+        assertParseFailure(parser, " data/members.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " data/members.csv -mem/ -txn/", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " data/members.csv -mem/00001", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " -mem/", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " data/members.csv -mem/ -d/2021-01-01 -d/2021-01-02 -d/2021-01-03",
+                MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " data/members.csv -mem/ -d/2021-01-31 -d/2021-01-01",
+                ExportCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " data/members.csv -mem/ -tier/diamond", Tier.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.PermissionException;
 import seedu.address.commons.status.ExecutionStatus;
 import seedu.address.commons.status.LoginStatus;
 import seedu.address.commons.status.SortStatus;
@@ -38,7 +39,10 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.LoginCommand;
 import seedu.address.logic.commands.LogoutCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -70,13 +74,30 @@ public class EzFoodieParserTest {
 
     @Test
     public void parseCommand_clear() throws Exception {
+        model.setLoginStatus(LoginStatus.MANAGER);
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertThrows(PermissionException.class, () -> parser.parseCommand(StatsCommand.COMMAND_WORD));
+        model.setLoginStatus(LoginStatus.MANAGER);
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertThrows(PermissionException.class, () -> parser.parseCommand(UndoCommand.COMMAND_WORD));
+        assertThrows(PermissionException.class, () -> parser.parseCommand(RedoCommand.COMMAND_WORD));
+        model.setLoginStatus(LoginStatus.MANAGER);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_deleteMemberByIndex() throws Exception {
-        LoginStatus.setLoginStatus(LoginStatus.MANAGER);
+        model.setLoginStatus(LoginStatus.MANAGER);
         DeleteMemberCommand command = (DeleteMemberCommand) parser.parseCommand(DeleteMemberCommand.COMMAND_WORD
                 + " " + PREFIX_MEMBER + " " + PREFIX_INDEX + " " + INDEX_FIRST_MEMBER.getOneBased());
         assertEquals(new DeleteMemberCommand(INDEX_FIRST_MEMBER), command);
@@ -85,7 +106,7 @@ public class EzFoodieParserTest {
     @Test
     public void parseCommand_deleteMemberById() throws Exception {
         Id id = new Id("00001");
-        LoginStatus.setLoginStatus(LoginStatus.MANAGER);
+        model.setLoginStatus(LoginStatus.MANAGER);
         DeleteMemberCommand command = (DeleteMemberCommand) parser.parseCommand(DeleteMemberCommand.COMMAND_WORD
                 + " " + PREFIX_MEMBER + " " + PREFIX_ID + " " + id.value);
         assertEquals(new DeleteMemberCommand(id), command);
@@ -93,7 +114,7 @@ public class EzFoodieParserTest {
 
     @Test
     public void parseCommand_sortAsc() throws Exception {
-        LoginStatus.setLoginStatus(LoginStatus.MANAGER);
+        model.setLoginStatus(LoginStatus.MANAGER);
         SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " "
                 + PREFIX_MEMBER + " " + PREFIX_CREDIT + " " + PREFIX_ASC);
         assertEquals(new SortCommand(new CreditSortComparator(SortStatus.ASC)), command);
@@ -101,7 +122,7 @@ public class EzFoodieParserTest {
 
     @Test
     public void parseCommand_sortDesc() throws Exception {
-        LoginStatus.setLoginStatus(LoginStatus.MANAGER);
+        model.setLoginStatus(LoginStatus.MANAGER);
         SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " "
                 + PREFIX_MEMBER + " " + PREFIX_CREDIT + " " + PREFIX_DESC);
         assertEquals(new SortCommand(new CreditSortComparator(SortStatus.DESC)), command);
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_bothFiles_returnsImportCommand() {
+        assertParseSuccess(parser, " -mem/data/old members.csv -txn/data/transactions.csv",
+                new ImportCommand(Paths.get("data/old members.csv"), Paths.get("data/transactions.csv")));
+    }
+
+    @Test
+    public void parse_oneFile_returnsImportCommand() {
+        assertParseSuccess(parser, " -txn/data/transactions.csv",
+                new ImportCommand(null, Paths.get("data/transactions.csv")));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -mem/ ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " data/members.csv", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -1,13 +1,18 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESERVATION;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListReservationCommand;
 
 public class ListCommandParserTest {
 
@@ -22,4 +27,21 @@ public class ListCommandParserTest {
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_validReservationArgs_returnsListReservationCommand() {
+        assertParseSuccess(parser, " " + PREFIX_RESERVATION + " " + PREFIX_DATE + "2021-12-01",
+                new ListReservationCommand(LocalDate.of(2021, 12, 1)));
+    }
+
+    @Test
+    public void parse_invalidReservationArgs_throwsParseException() {
+        // missing date
+        assertParseFailure(parser, " " + PREFIX_RESERVATION,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+
+        // invalid date
+        assertParseFailure(parser, " " + PREFIX_RESERVATION + " " + PREFIX_DATE + "2021-13-01",
+                ParserUtil.MESSAGE_INVALID_DATE);
+    }
 }
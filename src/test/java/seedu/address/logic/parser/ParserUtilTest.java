@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_IDS;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MEMBER;
@@ -16,9 +17,12 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.member.Address;
 import seedu.address.model.member.Email;
+import seedu.address.model.member.Id;
 import seedu.address.model.member.Name;
 import seedu.address.model.member.Phone;
+import seedu.address.model.member.Tier;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Billing;
 
 public class ParserUtilTest {
     private static final String INVALID_NAME = "R@chel";
@@ -56,6 +60,40 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_MEMBER, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseMemberId_widenedId_returnsId() throws Exception {
+        assertEquals(new Id("00001"), ParserUtil.parseMemberId("1"));
+        assertEquals(new Id("123456789012"), ParserUtil.parseMemberId("123456789012"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseMemberId("9223372036854775808"));
+    }
+
+    @Test
+    public void parseIdsOfIds_legacyCombinedIds_returnsIds() throws Exception {
+        assertEquals(new Id("00001"), ParserUtil.parseMemberIdOfIds("00001000002"));
+        assertEquals("000002", ParserUtil.parseTransactionIdOfIds("00001000002").value);
+        assertEquals("000002", ParserUtil.parseReservationIdOfIds(" 00001000002 ").value);
+    }
+
+    @Test
+    public void parseIdsOfIds_separatedIds_returnsIds() throws Exception {
+        assertEquals(new Id("100000"), ParserUtil.parseMemberIdOfIds("100000-1000000"));
+        assertEquals("1000000", ParserUtil.parseTransactionIdOfIds("100000-1000000").value);
+        assertEquals("000001", ParserUtil.parseReservationIdOfIds("1-1").value);
+    }
+
+    @Test
+    public void parseIdsOfIds_invalidIds_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_IDS, () -> ParserUtil.parseMemberIdOfIds("00001"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseTransactionIdOfIds("00001-"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseReservationIdOfIds("00001-1-1"));
+    }
+
+    @Test
+    public void parseBilling_widenedBilling_returnsBilling() throws Exception {
+        assertEquals(new Billing("999999999.99"), ParserUtil.parseBilling("999999999.99"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseBilling("1000000000.00"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -171,6 +209,16 @@ public class ParserUtilTest {
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
+    @Test
+    public void parseTier_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, Tier.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseTier("Diamond"));
+    }
+
+    @Test
+    public void parseTier_validValueWithWhitespace_returnsTier() throws Exception {
+        assertEquals(Tier.PLATINUM, ParserUtil.parseTier(WHITESPACE + "platinum" + WHITESPACE));
+    }
+
     @Test
     public void parseTags_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTags(null));
@@ -0,0 +1,129 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.persistent.PersistentVector;
+import seedu.address.model.member.Member;
+
+public class ChangeHistoryTest {
+
+    private final PersistentVector<Member> noMembers = PersistentVector.empty();
+
+    @Test
+    public void constructor_invalidMemoryBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeHistory(0));
+    }
+
+    @Test
+    public void commit_noChange_nothingToUndo() {
+        ChangeHistory history = new ChangeHistory();
+        history.commit(noMembers);
+        assertFalse(history.canUndo());
+        assertThrows(IllegalArgumentException.class, history::takeUndo);
+        assertThrows(IllegalArgumentException.class, history::takeRedo);
+    }
+
+    @Test
+    public void commit_memberId_commitsOnlyChangesToThatMember() {
+        ChangeHistory history = new ChangeHistory();
+        history.recordMemberChange(noMembers, null, 0, ALICE);
+        history.recordMemberChange(noMembers.appended(ALICE), null, 1, BENSON);
+        history.commit(BENSON.getId(), noMembers);
+        history.commit(ALICE.getId(), noMembers);
+
+        ChangeHistory.Change aliceChange = history.takeUndo();
+        assertEquals(1, aliceChange.steps.size());
+        assertSame(ALICE, aliceChange.steps.get(0).after);
+        ChangeHistory.Change bensonChange = history.takeUndo();
+        assertEquals(1, bensonChange.steps.size());
+        assertSame(BENSON, bensonChange.steps.get(0).after);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_memberIdAfterReplacement_commitsEveryChange() {
+        ChangeHistory history = new ChangeHistory();
+        PersistentVector<Member> aliceOnly = noMembers.appended(ALICE);
+        history.recordMemberChange(noMembers, null, 0, ALICE);
+        history.recordReplacement(aliceOnly);
+        PersistentVector<Member> bensonOnly = noMembers.appended(BENSON);
+        history.commit(ALICE.getId(), bensonOnly);
+
+        ChangeHistory.Change change = history.takeUndo();
+        assertTrue(change.isReplacement());
+        assertSame(noMembers, change.membersBefore);
+        assertSame(bensonOnly, change.membersAfter);
+    }
+
+    @Test
+    public void takePendingChanges_replacedBackToStart_noChange() {
+        ChangeHistory history = new ChangeHistory();
+        history.recordMemberChange(noMembers, null, 0, ALICE);
+        history.recordReplacement(noMembers.appended(ALICE));
+        assertNull(history.takePendingChanges(noMembers));
+        history.commit(noMembers);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_dropsRedoChanges() {
+        ChangeHistory history = new ChangeHistory();
+        history.recordMemberChange(noMembers, null, 0, ALICE);
+        history.commit(noMembers);
+        history.undone(history.takeUndo());
+        assertTrue(history.canRedo());
+
+        history.recordMemberChange(noMembers, null, 0, BENSON);
+        history.commit(noMembers);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_overMemoryBudget_dropsOldestChangesButKeepsNewest() {
+        ChangeHistory history = new ChangeHistory(1);
+        for (Member member : new Member[] {ALICE, BENSON, CARL}) {
+            history.recordMemberChange(noMembers, null, 0, member);
+            history.commit(noMembers);
+        }
+        assertSame(CARL, history.takeUndo().steps.get(0).after);
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getHistoryBytes());
+    }
+
+    @Test
+    public void commit_clearLargerThanBudget_canBeUndone() {
+        PersistentVector<Member> members = PersistentVector.copyOf(List.of(ALICE, BENSON, CARL));
+        ChangeHistory history = new ChangeHistory(1);
+        history.recordReplacement(members);
+        history.commit(noMembers);
+
+        ChangeHistory.Change change = history.takeUndo();
+        assertSame(members, change.membersBefore);
+        assertSame(noMembers, change.membersAfter);
+    }
+
+    @Test
+    public void commit_replacementKeepingMembers_pricedByMembersDropped() {
+        PersistentVector<Member> members = PersistentVector.copyOf(List.of(ALICE, BENSON, CARL));
+        ChangeHistory history = new ChangeHistory();
+        history.recordReplacement(members);
+        history.commit(PersistentVector.copyOf(List.of(ALICE, BENSON)));
+
+        ChangeHistory clearHistory = new ChangeHistory();
+        clearHistory.recordReplacement(members);
+        clearHistory.commit(noMembers);
+        assertTrue(history.getHistoryBytes() * 2 < clearHistory.getHistoryBytes());
+    }
+}
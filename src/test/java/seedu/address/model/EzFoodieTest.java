@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalMembers.ALICE;
 import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -16,8 +17,6 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.model.member.Member;
 import seedu.address.model.member.exceptions.DuplicateMemberException;
 import seedu.address.testutil.MemberBuilder;
@@ -87,14 +86,14 @@ public class EzFoodieTest {
      * A stub ReadOnlyEzFoodie whose members list can violate interface constraints.
      */
     private static class EzFoodieStub implements ReadOnlyEzFoodie {
-        private final ObservableList<Member> members = FXCollections.observableArrayList();
+        private final List<Member> members = new ArrayList<>();
 
         EzFoodieStub(Collection<Member> members) {
-            this.members.setAll(members);
+            this.members.addAll(members);
         }
 
         @Override
-        public ObservableList<Member> getMemberList() {
+        public List<Member> getMemberList() {
             return members;
         }
     }
@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.status.SortStatus;
+import seedu.address.model.member.CreditSortComparator;
+import seedu.address.model.member.Member;
+import seedu.address.testutil.MemberBuilder;
+
+public class MemberListViewTest {
+
+    private static final Predicate<Member> PREDICATE_EVEN_CREDIT =
+            member -> member.getCredit().getLongValue() % 2 == 0;
+
+    @Test
+    public void setPredicate_showAllUnsorted_isMemberList() {
+        VersionedEzFoodie ezFoodie = new VersionedEzFoodie();
+        MemberListView view = new MemberListView(ezFoodie);
+        ezFoodie.addMember(ALICE);
+        ezFoodie.addMember(BENSON);
+        assertEquals(List.of(ALICE, BENSON), view);
+
+        view.setPredicate(member -> member.equals(BENSON));
+        assertEquals(List.of(BENSON), view);
+        view.setPredicate(Model.PREDICATE_SHOW_ALL_MEMBERS);
+        assertEquals(List.of(ALICE, BENSON), view);
+    }
+
+    @Test
+    public void get_afterRandomChanges_matchesViewComputedFromScratch() {
+        assertIncrementalViewMatches(Model.PREDICATE_SHOW_ALL_MEMBERS, Model.COMPARATOR_SORT_MEMBERS_BY_ID_ASC);
+        assertIncrementalViewMatches(PREDICATE_EVEN_CREDIT, new CreditSortComparator(SortStatus.DESC)
+                .thenComparing(Model.COMPARATOR_SORT_MEMBERS_BY_ID_ASC));
+        assertIncrementalViewMatches(PREDICATE_EVEN_CREDIT, null);
+    }
+
+    /**
+     * Reads a view of {@code predicate} and {@code comparator} after each random change to an ezFoodie,
+     * and checks it against a new view of the same predicate and comparator.
+     */
+    private void assertIncrementalViewMatches(Predicate<Member> predicate, Comparator<Member> comparator) {
+        Random random = new Random(11);
+        VersionedEzFoodie ezFoodie = new VersionedEzFoodie();
+        MemberListView view = new MemberListView(ezFoodie);
+        view.setPredicate(predicate);
+        view.setComparator(comparator);
+        List<Member> members = new ArrayList<>();
+        for (int step = 0; step < 600; step++) {
+            int operation = random.nextInt(4);
+            String credit = String.valueOf(random.nextInt(10));
+            if (operation == 0 || members.isEmpty()) {
+                Member member = new MemberBuilder().withId(String.format("%05d", step))
+                        .withPhone(String.valueOf(80000000 + step)).withEmail("member" + step + "@example.com")
+                        .withCredit(credit).build();
+                ezFoodie.addMember(member);
+                members.add(member);
+            } else if (operation == 3) {
+                ezFoodie.removeMember(members.remove(random.nextInt(members.size())));
+            } else {
+                int index = random.nextInt(members.size());
+                Member edited = new MemberBuilder(members.get(index)).withCredit(credit).build();
+                ezFoodie.setMember(members.get(index), edited);
+                members.set(index, edited);
+            }
+            if (random.nextInt(3) == 0) {
+                MemberListView expected = new MemberListView(ezFoodie);
+                expected.setPredicate(predicate);
+                expected.setComparator(comparator);
+                assertEquals(new ArrayList<>(expected), new ArrayList<>(view));
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalMembers.ALICE;
@@ -11,14 +12,19 @@ import static seedu.address.testutil.TypicalMembers.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.status.LoginStatus;
 import seedu.address.commons.status.SortStatus;
 import seedu.address.model.member.CreditSortComparator;
+import seedu.address.model.member.Member;
 import seedu.address.model.member.NameContainsKeywordsPredicate;
 import seedu.address.testutil.EzFoodieBuilder;
+import seedu.address.testutil.MemberBuilder;
 
 public class ModelManagerTest {
 
@@ -90,11 +96,218 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasMember(ALICE));
     }
 
+    @Test
+    public void getMember_memberInEzFoodie_returnsMember() {
+        modelManager.addMember(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.getMember(ALICE.getId()));
+        assertEquals(Optional.empty(), modelManager.getMember(BENSON.getId()));
+    }
+
+    @Test
+    public void getMemberVersion_memberChanged_versionChanged() {
+        modelManager.addMember(ALICE);
+        modelManager.addMember(BENSON);
+        long aliceVersion = modelManager.getMemberVersion(ALICE.getId());
+        long bensonVersion = modelManager.getMemberVersion(BENSON.getId());
+        modelManager.setMember(ALICE, new MemberBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertFalse(aliceVersion == modelManager.getMemberVersion(ALICE.getId()));
+        assertEquals(bensonVersion, modelManager.getMemberVersion(BENSON.getId()));
+    }
+
+    @Test
+    public void getMemberVersion_ezFoodieReplaced_versionChanged() {
+        modelManager.addMember(ALICE);
+        long aliceVersion = modelManager.getMemberVersion(ALICE.getId());
+        modelManager.setEzFoodie(new EzFoodieBuilder().withMember(ALICE).build());
+        assertFalse(aliceVersion == modelManager.getMemberVersion(ALICE.getId()));
+    }
+
+    @Test
+    public void setMemberWithVersion_versionUnchanged_returnsTrue() {
+        modelManager.addMember(ALICE);
+        Member editedAlice = new MemberBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertTrue(modelManager.setMember(ALICE, editedAlice, modelManager.getMemberVersion(ALICE.getId())));
+        assertEquals(Optional.of(editedAlice), modelManager.getMember(ALICE.getId()));
+    }
+
+    @Test
+    public void setMemberWithVersion_versionChanged_returnsFalse() {
+        modelManager.addMember(ALICE);
+        long staleVersion = modelManager.getMemberVersion(ALICE.getId());
+        Member editedAlice = new MemberBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        modelManager.setMember(ALICE, editedAlice);
+        Member otherAlice = new MemberBuilder(ALICE).withName("Alice Tan").build();
+        assertFalse(modelManager.setMember(editedAlice, otherAlice, staleVersion));
+        assertEquals(Optional.of(editedAlice), modelManager.getMember(ALICE.getId()));
+    }
+
+    @Test
+    public void undoRedo_memberOperations_restoresStates() {
+        modelManager.addMember(ALICE);
+        modelManager.addMember(BENSON);
+        modelManager.commitEzFoodie();
+        Member editedAlice = new MemberBuilder(ALICE).withName("Alice Edited").build();
+        modelManager.setMember(ALICE, editedAlice);
+        modelManager.commitEzFoodie();
+        modelManager.deleteMember(BENSON);
+        modelManager.commitEzFoodie();
+        assertEquals(Arrays.asList(editedAlice), modelManager.getEzFoodie().getMemberList());
+
+        assertTrue(modelManager.undoEzFoodie());
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getEzFoodie().getMemberList());
+        assertTrue(modelManager.undoEzFoodie());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getEzFoodie().getMemberList());
+        assertTrue(modelManager.undoEzFoodie());
+        assertEquals(Arrays.asList(), modelManager.getEzFoodie().getMemberList());
+        assertFalse(modelManager.canUndoEzFoodie());
+
+        assertTrue(modelManager.redoEzFoodie());
+        assertTrue(modelManager.redoEzFoodie());
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getEzFoodie().getMemberList());
+        assertEquals(Optional.of(editedAlice), modelManager.getMember(ALICE.getId()));
+        assertTrue(modelManager.canRedoEzFoodie());
+    }
+
+    @Test
+    public void undoEzFoodie_ezFoodieReplaced_restoresMembers() {
+        modelManager.addMember(ALICE);
+        modelManager.commitEzFoodie();
+        modelManager.setEzFoodie(new EzFoodieBuilder().withMember(BENSON).build());
+        modelManager.commitEzFoodie();
+
+        assertTrue(modelManager.undoEzFoodie());
+        assertEquals(Arrays.asList(ALICE), modelManager.getEzFoodie().getMemberList());
+        assertEquals(Optional.empty(), modelManager.getMember(BENSON.getId()));
+        assertTrue(modelManager.redoEzFoodie());
+        assertEquals(Arrays.asList(BENSON), modelManager.getEzFoodie().getMemberList());
+    }
+
+    @Test
+    public void undoEzFoodie_uncommittedChanges_revertedWithLastChange() {
+        modelManager.addMember(ALICE);
+        modelManager.commitEzFoodie();
+        modelManager.addMember(BENSON);
+
+        assertTrue(modelManager.undoEzFoodie());
+        assertEquals(Arrays.asList(), modelManager.getEzFoodie().getMemberList());
+    }
+
+    @Test
+    public void commitEzFoodie_memberId_changesToOtherMembersUndoneSeparately() {
+        modelManager.addMember(ALICE);
+        modelManager.addMember(BENSON);
+        modelManager.commitEzFoodie();
+        Member editedAlice = new MemberBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Member editedBenson = new MemberBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        modelManager.setMember(ALICE, editedAlice);
+        modelManager.setMember(BENSON, editedBenson);
+        modelManager.commitEzFoodie(ALICE.getId());
+        modelManager.commitEzFoodie(BENSON.getId());
+
+        assertTrue(modelManager.undoEzFoodie());
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getEzFoodie().getMemberList());
+        assertTrue(modelManager.undoEzFoodie());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getEzFoodie().getMemberList());
+    }
+
+    @Test
+    public void undoEzFoodie_twoSessions_onlyRevertsOwnChanges() {
+        Model session = modelManager.openSession();
+        modelManager.addMember(ALICE);
+        modelManager.commitEzFoodie();
+        session.addMember(BENSON);
+        session.commitEzFoodie();
+
+        assertTrue(modelManager.undoEzFoodie());
+        assertEquals(Arrays.asList(BENSON), modelManager.getEzFoodie().getMemberList());
+        assertFalse(modelManager.canUndoEzFoodie());
+        assertTrue(session.canUndoEzFoodie());
+        assertTrue(session.undoEzFoodie());
+        assertEquals(Arrays.asList(), modelManager.getEzFoodie().getMemberList());
+    }
+
+    @Test
+    public void undoEzFoodie_memberChangedBySessionSince_changeDropped() {
+        Model session = modelManager.openSession();
+        modelManager.addMember(ALICE);
+        modelManager.commitEzFoodie();
+        Member editedAlice = new MemberBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        session.setMember(ALICE, editedAlice);
+        session.commitEzFoodie();
+
+        assertFalse(modelManager.undoEzFoodie());
+        assertEquals(Optional.of(editedAlice), modelManager.getMember(ALICE.getId()));
+        assertFalse(modelManager.canUndoEzFoodie());
+        assertFalse(modelManager.canRedoEzFoodie());
+    }
+
     @Test
     public void getUpdatedMemberList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getUpdatedMemberList().remove(0));
     }
 
+    @Test
+    public void getUpdatedMemberList_modelChanged_viewUpdated() {
+        modelManager.addMember(BENSON);
+        modelManager.addMember(ALICE);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getUpdatedMemberList());
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getUpdatedMemberListForView());
+
+        String[] keywords = ALICE.getName().fullName.split("\\s+");
+        modelManager.updateFilteredMemberList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        assertEquals(Arrays.asList(ALICE), modelManager.getUpdatedMemberList());
+
+        modelManager.deleteMember(ALICE);
+        assertEquals(Arrays.asList(), modelManager.getUpdatedMemberList());
+        assertEquals(Arrays.asList(BENSON), modelManager.getUpdatedMemberListForView());
+    }
+
+    @Test
+    public void getUpdatedMemberList_modelChangedAfterwards_snapshotUnchanged() {
+        modelManager.addMember(ALICE);
+        List<Member> members = modelManager.getUpdatedMemberList();
+        List<Member> membersForView = modelManager.getUpdatedMemberListForView();
+
+        modelManager.addMember(BENSON);
+        modelManager.deleteMember(ALICE);
+        assertEquals(Arrays.asList(ALICE), members);
+        assertEquals(Arrays.asList(ALICE), membersForView);
+        assertEquals(Arrays.asList(BENSON), modelManager.getUpdatedMemberList());
+    }
+
+    @Test
+    public void openSession_newSession_startsAsStaffWithAllMembers() {
+        modelManager.addMember(ALICE);
+        modelManager.setLoginStatus(LoginStatus.MANAGER);
+        modelManager.updateFilteredMemberList(member -> false);
+
+        Model session = modelManager.openSession();
+        assertEquals(LoginStatus.STAFF, session.getLoginStatus());
+        assertEquals(Arrays.asList(ALICE), session.getUpdatedMemberList());
+    }
+
+    @Test
+    public void openSession_changeLoginStatusAndFilter_otherSessionsUnchanged() {
+        modelManager.addMember(ALICE);
+        modelManager.addMember(BENSON);
+        Model session = modelManager.openSession();
+
+        session.setLoginStatus(LoginStatus.MANAGER);
+        session.updateFilteredMemberList(member -> member.equals(BENSON));
+        assertEquals(LoginStatus.STAFF, modelManager.getLoginStatus());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getUpdatedMemberList());
+        assertEquals(Arrays.asList(BENSON), session.getUpdatedMemberList());
+    }
+
+    @Test
+    public void openSession_addMember_seenByAllSessions() {
+        Model session = modelManager.openSession();
+        session.addMember(ALICE);
+        assertTrue(modelManager.hasMember(ALICE));
+        assertEquals(Arrays.asList(ALICE), modelManager.getUpdatedMemberList());
+        assertEquals(Arrays.asList(ALICE), modelManager.openSession().getUpdatedMemberList());
+    }
+
     @Test
     public void equals() {
         Account account = new Account();
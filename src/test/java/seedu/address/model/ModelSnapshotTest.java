@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.persistent.PersistentVector;
+
+public class ModelSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ModelSnapshot(null, new Account()));
+        assertThrows(NullPointerException.class, () -> new ModelSnapshot(PersistentVector.empty(), null));
+    }
+
+    @Test
+    public void snapshot_liveModelChanged_snapshotUnchanged() {
+        Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        ModelSnapshot snapshot = model.snapshot();
+        model.deleteMember(ALICE);
+
+        assertEquals(getTypicalEzFoodie().getMemberList(), snapshot.getMemberList());
+        assertEquals(getTypicalEzFoodie().getMemberList(), snapshot.getMembers());
+        assertEquals(model.getAccount(), snapshot.getAccount());
+        assertFalse(model.snapshot().getMember(ALICE.getId()).isPresent());
+    }
+
+    @Test
+    public void getMember() {
+        ModelSnapshot snapshot = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs()).snapshot();
+        assertEquals(BENSON, snapshot.getMember(BENSON.getId()).get());
+        assertFalse(snapshot.getMember(new seedu.address.model.member.Id("99999")).isPresent());
+    }
+
+    @Test
+    public void getReservations() {
+        Model model = new ModelManager(new Account(), getTypicalEzFoodie(), new UserPrefs());
+        ModelSnapshot snapshot = model.snapshot();
+        LocalDate date = LocalDate.of(2021, 1, 20);
+        assertEquals(model.getReservationsByDate(date), snapshot.getReservations(date));
+        assertTrue(snapshot.getReservations(LocalDate.of(2000, 1, 1)).isEmpty());
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.CARL;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.persistent.PersistentVector;
+import seedu.address.model.member.Member;
+import seedu.address.testutil.MemberBuilder;
+
+public class VersionedEzFoodieTest {
+
+    @Test
+    public void constructor_initialData_mirroredInMemberVector() {
+        VersionedEzFoodie versionedEzFoodie = new VersionedEzFoodie(getTypicalEzFoodie());
+        assertEquals(getTypicalEzFoodie(), versionedEzFoodie);
+        assertEquals(versionedEzFoodie.getMemberList(), versionedEzFoodie.getMemberVector());
+    }
+
+    @Test
+    public void memberOperations_memberVectorFollowsAndEarlierVectorsUnchanged() {
+        VersionedEzFoodie versionedEzFoodie = new VersionedEzFoodie();
+        versionedEzFoodie.addMember(ALICE);
+        versionedEzFoodie.addMember(BENSON);
+        PersistentVector<Member> members = versionedEzFoodie.getMemberVector();
+
+        Member editedAlice = new MemberBuilder(ALICE).withName("Alice Edited").build();
+        versionedEzFoodie.setMember(ALICE, editedAlice);
+        versionedEzFoodie.removeMember(BENSON);
+        versionedEzFoodie.addMember(0, CARL);
+        assertEquals(Arrays.asList(CARL, editedAlice), versionedEzFoodie.getMemberList());
+        assertEquals(versionedEzFoodie.getMemberList(), versionedEzFoodie.getMemberVector());
+        assertEquals(Arrays.asList(ALICE, BENSON), members);
+    }
+
+    @Test
+    public void resetData_snapshotOfCurrentMembers_memberVectorKept() {
+        VersionedEzFoodie versionedEzFoodie = new VersionedEzFoodie(getTypicalEzFoodie());
+        PersistentVector<Member> members = versionedEzFoodie.getMemberVector();
+        versionedEzFoodie.resetData(new ModelSnapshot(members, new Account()));
+        assertSame(members, versionedEzFoodie.getMemberVector());
+    }
+
+    @Test
+    public void getRevisionSince_loggedChanges_returnsChangesInOrder() {
+        VersionedEzFoodie versionedEzFoodie = new VersionedEzFoodie();
+        long version = versionedEzFoodie.getRevisionSince(0).version;
+        versionedEzFoodie.addMember(ALICE);
+        Member editedAlice = new MemberBuilder(ALICE).withName("Alice Edited").build();
+        versionedEzFoodie.setMember(ALICE, editedAlice);
+
+        VersionedEzFoodie.Revision revision = versionedEzFoodie.getRevisionSince(version);
+        List<VersionedEzFoodie.MemberChange> changes = revision.changes;
+        assertEquals(2, changes.size());
+        assertNull(changes.get(0).removed);
+        assertSame(ALICE, changes.get(0).added);
+        assertSame(ALICE, changes.get(1).removed);
+        assertSame(editedAlice, changes.get(1).added);
+    }
+
+    @Test
+    public void getRevisionSince_memberInsertedBeforeEnd_changesLeftOut() {
+        VersionedEzFoodie versionedEzFoodie = new VersionedEzFoodie();
+        versionedEzFoodie.addMember(ALICE);
+        long version = versionedEzFoodie.getRevisionSince(0).version;
+        versionedEzFoodie.addMember(0, BENSON);
+        assertNull(versionedEzFoodie.getRevisionSince(version).changes);
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+public class IdAllocatorTest {
+
+    @Test
+    public void constructor_invalidMax_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IdAllocator(0, IdReusePolicy.MONOTONIC));
+    }
+
+    @Test
+    public void take_outOfRange_throwsIllegalArgumentException() {
+        IdAllocator allocator = new IdAllocator(10, IdReusePolicy.MONOTONIC);
+        assertThrows(IllegalArgumentException.class, () -> allocator.take(-1));
+        assertThrows(IllegalArgumentException.class, () -> allocator.take(11));
+    }
+
+    @Test
+    public void take_idZero_notCountedAndNeverHandedOut() {
+        IdAllocator allocator = new IdAllocator(10, IdReusePolicy.REUSE_AFTER_DELETE);
+        allocator.take(0);
+        assertEquals(0, allocator.size());
+        assertEquals(OptionalLong.of(1), allocator.peekNext());
+    }
+
+    @Test
+    public void peekNext_sparseHighIds_keptOutsideBitset() {
+        IdAllocator allocator = new IdAllocator(Long.MAX_VALUE, IdReusePolicy.MONOTONIC);
+        allocator.take(Long.MAX_VALUE - 1);
+        assertEquals(OptionalLong.of(Long.MAX_VALUE), allocator.peekNext());
+        allocator.take(Long.MAX_VALUE);
+        assertEquals(OptionalLong.of(1), allocator.peekNext());
+        assertTrue(allocator.isTaken(Long.MAX_VALUE));
+        allocator.release(Long.MAX_VALUE);
+        assertEquals(1, allocator.size());
+    }
+
+    @Test
+    public void peekNext_empty_returnsOne() {
+        assertEquals(OptionalLong.of(1), new IdAllocator(10, IdReusePolicy.MONOTONIC).peekNext());
+        assertEquals(OptionalLong.of(1), new IdAllocator(10, IdReusePolicy.REUSE_AFTER_DELETE).peekNext());
+    }
+
+    @Test
+    public void peekNext_monotonic_skipsReleasedIds() {
+        IdAllocator allocator = new IdAllocator(100, IdReusePolicy.MONOTONIC);
+        allocator.take(1);
+        allocator.take(2);
+        allocator.take(3);
+        allocator.release(3);
+        allocator.release(1);
+        assertEquals(OptionalLong.of(4), allocator.peekNext());
+        assertFalse(allocator.isTaken(1));
+        assertTrue(allocator.isTaken(2));
+        assertEquals(1, allocator.size());
+    }
+
+    @Test
+    public void peekNext_reuseAfterDelete_returnsLowestFreeId() {
+        IdAllocator allocator = new IdAllocator(1000, IdReusePolicy.REUSE_AFTER_DELETE);
+        for (long id = 1; id <= 700; id++) {
+            allocator.take(id);
+        }
+        assertEquals(OptionalLong.of(701), allocator.peekNext());
+        allocator.release(130);
+        allocator.release(600);
+        assertEquals(OptionalLong.of(130), allocator.peekNext());
+        allocator.take(130);
+        assertEquals(OptionalLong.of(600), allocator.peekNext());
+    }
+
+    @Test
+    public void peekNext_monotonicExhausted_wrapsToLowestFreeId() {
+        IdAllocator allocator = new IdAllocator(5, IdReusePolicy.MONOTONIC);
+        for (long id = 1; id <= 5; id++) {
+            allocator.take(id);
+        }
+        assertEquals(OptionalLong.empty(), allocator.peekNext());
+        allocator.release(2);
+        assertEquals(OptionalLong.of(2), allocator.peekNext());
+    }
+
+    @Test
+    public void peekNext_largeSparseIds_findsGapAcrossWords() {
+        IdAllocator allocator = new IdAllocator(999999, IdReusePolicy.REUSE_AFTER_DELETE);
+        for (long id = 1; id <= 10000; id++) {
+            allocator.take(id);
+        }
+        allocator.take(999999);
+        assertEquals(OptionalLong.of(10001), allocator.peekNext());
+        allocator.release(4096);
+        assertEquals(OptionalLong.of(4096), allocator.peekNext());
+    }
+
+    @Test
+    public void clear_forgetsTakenIds() {
+        IdAllocator allocator = new IdAllocator(10, IdReusePolicy.MONOTONIC);
+        allocator.take(7);
+        allocator.clear();
+        assertEquals(0, allocator.size());
+        assertEquals(OptionalLong.of(1), allocator.peekNext());
+    }
+}
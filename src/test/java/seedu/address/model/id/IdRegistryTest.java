@@ -0,0 +1,60 @@
+package seedu.address.model.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.member.Id;
+import seedu.address.model.member.Member;
+import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.ReservationBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+public class IdRegistryTest {
+
+    private final Member amy = new MemberBuilder().withId("00001")
+            .withTransactions(new TransactionBuilder().withId("000001").build(),
+                    new TransactionBuilder().withId("000002").build())
+            .withReservations(new ReservationBuilder().withId("000001").build()).build();
+    private final Member bob = new MemberBuilder().withId("00003").withPhone("99999999")
+            .withEmail("bob@example.com").build();
+
+    @Test
+    public void setMembers_monotonic_handsOutIdAfterHighest() {
+        IdRegistry registry = new IdRegistry(IdReusePolicy.MONOTONIC);
+        registry.setMembers(List.of(amy, bob));
+        assertEquals(new Id("00004"), registry.nextMemberId().get());
+        assertEquals(new seedu.address.model.transaction.Id("000003"),
+                registry.nextTransactionId(amy.getId()).get());
+        assertEquals(new seedu.address.model.reservation.Id("000002"),
+                registry.nextReservationId(amy.getId()).get());
+        assertEquals(new seedu.address.model.transaction.Id("000001"),
+                registry.nextTransactionId(bob.getId()).get());
+    }
+
+    @Test
+    public void setMember_deletedTransaction_reusedOnlyAfterDeletePolicy() {
+        IdRegistry registry = new IdRegistry(IdReusePolicy.MONOTONIC);
+        registry.setMembers(List.of(amy));
+        Member editedAmy = new MemberBuilder(amy)
+                .withTransactions(new TransactionBuilder().withId("000001").build()).build();
+        registry.setMember(amy, editedAmy);
+        assertEquals(new seedu.address.model.transaction.Id("000003"),
+                registry.nextTransactionId(amy.getId()).get());
+
+        registry.setPolicy(IdReusePolicy.REUSE_AFTER_DELETE);
+        assertEquals(new seedu.address.model.transaction.Id("000002"),
+                registry.nextTransactionId(amy.getId()).get());
+    }
+
+    @Test
+    public void removeMember_reuseAfterDelete_reusesMemberId() {
+        IdRegistry registry = new IdRegistry(IdReusePolicy.REUSE_AFTER_DELETE);
+        registry.setMembers(List.of(amy, bob));
+        assertEquals(new Id("00002"), registry.nextMemberId().get());
+        registry.removeMember(amy);
+        assertEquals(new Id("00001"), registry.nextMemberId().get());
+    }
+}
@@ -7,11 +7,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
 import static seedu.address.testutil.TypicalMembers.BOB;
+import static seedu.address.testutil.TypicalMembers.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +130,36 @@ public class UniqueMemberListTest {
         assertEquals(expectedUniqueMemberList, uniqueMemberList);
     }
 
+    @Test
+    public void remove_existingMember_laterMembersStillFound() {
+        uniqueMemberList.setMembers(Arrays.asList(ALICE, BENSON, CARL));
+        uniqueMemberList.remove(ALICE);
+        assertEquals(0, uniqueMemberList.indexOf(BENSON));
+        assertEquals(1, uniqueMemberList.indexOf(CARL));
+        assertEquals(Optional.of(CARL), uniqueMemberList.get(CARL.getId()));
+    }
+
+    @Test
+    public void get_memberNotInList_returnsEmpty() {
+        uniqueMemberList.add(ALICE);
+        assertEquals(Optional.empty(), uniqueMemberList.get(BENSON.getId()));
+    }
+
+    @Test
+    public void get_editedMember_returnsEditedMember() {
+        uniqueMemberList.add(ALICE);
+        Member editedAlice = new MemberBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueMemberList.setMember(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniqueMemberList.get(ALICE.getId()));
+    }
+
+    @Test
+    public void indexOf_sameIdDifferentFields_returnsMinusOne() {
+        uniqueMemberList.add(ALICE);
+        Member editedAlice = new MemberBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniqueMemberList.indexOf(editedAlice));
+    }
+
     @Test
     public void setMembers_nullUniqueMemberList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueMemberList.setMembers((UniqueMemberList) null));
@@ -163,8 +196,8 @@ public class UniqueMemberListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueMemberList.asUnmodifiableObservableList().remove(0));
+            -> uniqueMemberList.asUnmodifiableList().remove(0));
     }
 }
@@ -0,0 +1,76 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class IntervalTreeTest {
+
+    private final IntervalTree<String> intervalTree = new IntervalTree<>();
+
+    @Test
+    public void insert_invalidInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> intervalTree.insert(10, 10, "a"));
+    }
+
+    @Test
+    public void findOverlapping_halfOpenIntervals_excludesTouchingIntervals() {
+        intervalTree.insert(0, 10, "a");
+        intervalTree.insert(10, 20, "b");
+        intervalTree.insert(5, 15, "c");
+
+        assertEquals(List.of("a", "c"), values(intervalTree.findOverlapping(0, 10)));
+        assertEquals(List.of("c", "b"), values(intervalTree.findOverlapping(10, 11)));
+        assertTrue(intervalTree.findOverlapping(20, 30).isEmpty());
+    }
+
+    @Test
+    public void remove_existingAndMissingIntervals() {
+        intervalTree.insert(0, 10, "a");
+        intervalTree.insert(0, 10, "b");
+
+        assertFalse(intervalTree.remove(0, 10, "c"));
+        assertFalse(intervalTree.remove(0, 11, "a"));
+        assertTrue(intervalTree.remove(0, 10, "a"));
+        assertEquals(List.of("b"), values(intervalTree.findOverlapping(0, 10)));
+        assertEquals(1, intervalTree.size());
+    }
+
+    @Test
+    public void findOverlapping_randomIntervals_matchesLinearScan() {
+        Random random = new Random(42);
+        long[][] intervals = new long[2000][];
+        for (int i = 0; i < intervals.length; i++) {
+            long start = random.nextInt(10000);
+            intervals[i] = new long[] {start, start + 1 + random.nextInt(200)};
+            intervalTree.insert(intervals[i][0], intervals[i][1], String.valueOf(i));
+        }
+        // remove every third interval to exercise rebalancing on deletion
+        for (int i = 0; i < intervals.length; i += 3) {
+            assertTrue(intervalTree.remove(intervals[i][0], intervals[i][1], String.valueOf(i)));
+        }
+
+        for (int query = 0; query < 200; query++) {
+            long start = random.nextInt(10000);
+            long end = start + 1 + random.nextInt(300);
+            long expected = 0;
+            for (int i = 0; i < intervals.length; i++) {
+                if (i % 3 != 0 && intervals[i][0] < end && intervals[i][1] > start) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, intervalTree.findOverlapping(start, end).size());
+        }
+    }
+
+    private static List<String> values(List<IntervalTree.Interval<String>> intervals) {
+        return intervals.stream().map(IntervalTree.Interval::getValue).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.CARL;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.member.Member;
+import seedu.address.testutil.MemberBuilder;
+
+public class ReservationCalendarTest {
+
+    private static final LocalDate DATE_WITH_RESERVATIONS = LocalDate.of(2021, 1, 20);
+    private static final LocalDate DATE_WITHOUT_RESERVATIONS = LocalDate.of(2021, 1, 22);
+
+    private final ReservationCalendar reservationCalendar = new ReservationCalendar();
+
+    @Test
+    public void addMember_nullMember_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> reservationCalendar.addMember(null));
+    }
+
+    @Test
+    public void getReservations_noReservation_returnsEmptyList() {
+        reservationCalendar.addMember(ALICE);
+        assertTrue(reservationCalendar.getReservations(DATE_WITHOUT_RESERVATIONS).isEmpty());
+    }
+
+    @Test
+    public void getReservations_membersAddedOutOfOrder_returnsSortedByDateTime() {
+        reservationCalendar.addMember(CARL);
+        reservationCalendar.addMember(ALICE);
+        reservationCalendar.addMember(BENSON);
+
+        List<ReservationEntry> reservations = reservationCalendar.getReservations(DATE_WITH_RESERVATIONS);
+        assertEquals(Arrays.asList(
+                new ReservationEntry(ALICE, ALICE.getReservations().get(0)),
+                new ReservationEntry(BENSON, BENSON.getReservations().get(0)),
+                new ReservationEntry(CARL, CARL.getReservations().get(0))), reservations);
+        assertEquals(4, reservationCalendar.size());
+    }
+
+    @Test
+    public void getReservations_modifyList_throwsUnsupportedOperationException() {
+        reservationCalendar.addMember(ALICE);
+        assertThrows(UnsupportedOperationException.class, ()
+                -> reservationCalendar.getReservations(DATE_WITH_RESERVATIONS).remove(0));
+    }
+
+    @Test
+    public void removeMember_memberInCalendar_removesAllReservations() {
+        reservationCalendar.setMembers(Arrays.asList(ALICE, BENSON));
+        reservationCalendar.removeMember(ALICE);
+
+        assertEquals(1, reservationCalendar.size());
+        assertFalse(reservationCalendar.getReservation(DATE_WITH_RESERVATIONS, ALICE.getId()).isPresent());
+        assertTrue(reservationCalendar.getReservation(DATE_WITH_RESERVATIONS, BENSON.getId()).isPresent());
+    }
+
+    @Test
+    public void setMember_editedReservations_replacesReservations() {
+        reservationCalendar.addMember(ALICE);
+        Reservation movedReservation = new Reservation(new Id("000001"), new DateTime("2021-01-22 18:00"),
+                new Remark("3 people"));
+        Member editedAlice = new MemberBuilder(ALICE).withReservations(movedReservation).build();
+        reservationCalendar.setMember(ALICE, editedAlice);
+
+        assertTrue(reservationCalendar.getReservations(DATE_WITH_RESERVATIONS).isEmpty());
+        assertEquals(new ReservationEntry(editedAlice, movedReservation),
+                reservationCalendar.getReservation(DATE_WITHOUT_RESERVATIONS, ALICE.getId()).get());
+        assertEquals(1, reservationCalendar.size());
+    }
+}
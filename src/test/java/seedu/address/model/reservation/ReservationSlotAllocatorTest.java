@@ -0,0 +1,77 @@
+package seedu.address.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.member.Member;
+import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.ReservationBuilder;
+
+public class ReservationSlotAllocatorTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2099, 12, 31, 12, 0);
+
+    private final ReservationSlotAllocator allocator = new ReservationSlotAllocator(new CapacitySettings(2, 120, 30));
+
+    private final Reservation noonReservation = new ReservationBuilder().withDateTime("2099-12-31 12:00").build();
+    private final Member amy = new MemberBuilder().withId("00001").withReservations(noonReservation).build();
+    private final Member bob = new MemberBuilder().withId("00002").withPhone("99999999")
+            .withEmail("bob@example.com")
+            .withReservations(new ReservationBuilder().withDateTime("2099-12-31 13:00").build()).build();
+
+    @Test
+    public void isAvailable_belowCapacity_returnsTrue() {
+        allocator.addMember(amy);
+        assertTrue(allocator.isAvailable(NOON.plusMinutes(30)));
+    }
+
+    @Test
+    public void isAvailable_atCapacity_returnsFalse() {
+        allocator.setMembers(List.of(amy, bob));
+        assertFalse(allocator.isAvailable(NOON.plusMinutes(90)));
+        // both tables are only taken together from 13:00 to 14:00
+        assertTrue(allocator.isAvailable(NOON.minusMinutes(60)));
+        assertTrue(allocator.isAvailable(NOON.plusHours(2)));
+    }
+
+    @Test
+    public void isAvailable_replacedReservation_notCounted() {
+        allocator.setMembers(List.of(amy, bob));
+        assertTrue(allocator.isAvailable(NOON.plusMinutes(90), new ReservationEntry(amy, noonReservation)));
+    }
+
+    @Test
+    public void removeMember_releasesTables() {
+        allocator.setMembers(List.of(amy, bob));
+        allocator.removeMember(amy);
+        assertTrue(allocator.isAvailable(NOON.plusMinutes(90)));
+    }
+
+    @Test
+    public void suggestSlots_atCapacity_returnsNearestFreeSlots() {
+        allocator.setMembers(List.of(amy, bob));
+        assertEquals(List.of(NOON.minusMinutes(60), NOON.plusHours(2), NOON.minusMinutes(90)),
+                allocator.suggestSlots(NOON.plusMinutes(30)));
+    }
+
+    @Test
+    public void isAvailable_idsJoiningToSameDigits_otherReservationCounted() {
+        // 10000 and 1000123, and 100001 and 000123, both read 100001000123 when joined
+        Member first = new MemberBuilder().withId("10000")
+                .withReservations(new ReservationBuilder().withId("1000123").withDateTime("2099-12-31 12:00").build())
+                .build();
+        Member second = new MemberBuilder().withId("100001").withPhone("99999999").withEmail("bob@example.com")
+                .withReservations(new ReservationBuilder().withId("000123").withDateTime("2099-12-31 12:00").build())
+                .build();
+        allocator.setMembers(List.of(first, second, bob));
+
+        assertFalse(allocator.isAvailable(NOON.plusMinutes(60),
+                new ReservationEntry(first, first.getReservations().get(0))));
+    }
+}
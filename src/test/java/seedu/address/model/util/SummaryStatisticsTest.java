@@ -0,0 +1,107 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.member.Member;
+import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+public class SummaryStatisticsTest {
+
+    private static final double DELTA = 1e-6;
+
+    @Test
+    public void update_members_sameAsSummaryUtil() {
+        List<Member> members = new ArrayList<>(new SyntheticDataGenerator(3, 200).generate().getMemberList());
+        SummaryStatistics statistics = new SummaryStatistics();
+        statistics.update(members);
+        assertSameAsSummaryUtil(members, statistics);
+
+        members.remove(10);
+        members.set(20, ALICE);
+        members.add(BENSON);
+        statistics.update(members);
+        assertSameAsSummaryUtil(members, statistics);
+
+        statistics.update(List.of());
+        assertSameAsSummaryUtil(List.of(), statistics);
+    }
+
+    @Test
+    public void update_monthChanged_transactionsLeavePastMonths() {
+        ZonedDateTime now = ZonedDateTime.of(2021, 11, 15, 12, 0, 0, 0, ZoneOffset.UTC);
+        Member member = new MemberBuilder().withTransactions(new TransactionBuilder().withId("000001")
+                .withTimestamp(String.valueOf(now.toInstant().toEpochMilli())).withBilling("10.50").build()).build();
+
+        MonthClock clock = new MonthClock(now.toInstant());
+        SummaryStatistics statistics = new SummaryStatistics(clock);
+        statistics.update(List.of(member));
+        assertEquals(1, statistics.getTransactionCountInPastMonths(1));
+        assertEquals(10.50, statistics.getBillingInPastMonths(1), DELTA);
+
+        clock.instant = now.plusMonths(2).toInstant();
+        statistics.update(List.of(member));
+        assertEquals(0, statistics.getTransactionCountInPastMonths(1));
+        assertEquals(0, statistics.getBillingInPastMonths(1), DELTA);
+        assertEquals(1, statistics.getTransactionCountInPastMonths(3));
+        assertEquals(1, statistics.getTransactionCount());
+    }
+
+    @Test
+    public void getTransactionCountInPastMonths_untrackedMonths_throwsIllegalArgumentException() {
+        SummaryStatistics statistics = new SummaryStatistics();
+        assertThrows(IllegalArgumentException.class, SummaryStatistics.MESSAGE_UNTRACKED_PAST_MONTHS, () ->
+                statistics.getTransactionCountInPastMonths(2));
+    }
+
+    private static void assertSameAsSummaryUtil(List<Member> members, SummaryStatistics statistics) {
+        assertEquals(members.size(), statistics.getMemberCount());
+        assertEquals(SummaryUtil.countTransactions(members), statistics.getTransactionCount());
+        assertEquals(SummaryUtil.sumBillings(members), statistics.getBilling(), DELTA * members.size() + DELTA);
+        for (int numOfPastMonths : SummaryStatistics.PAST_MONTHS) {
+            assertEquals(SummaryUtil.countTransactionsInPastMonths(members, numOfPastMonths),
+                    statistics.getTransactionCountInPastMonths(numOfPastMonths));
+            assertEquals(SummaryUtil.sumBillingsInPastMonths(members, numOfPastMonths),
+                    statistics.getBillingInPastMonths(numOfPastMonths), DELTA * members.size() + DELTA);
+        }
+    }
+
+    /**
+     * A UTC clock whose instant is set by the test.
+     */
+    private static class MonthClock extends Clock {
+        private Instant instant;
+
+        MonthClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalMembers.ALICE;
+import static seedu.address.testutil.TypicalMembers.BENSON;
+import static seedu.address.testutil.TypicalMembers.DANIEL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.member.Member;
+import seedu.address.testutil.MemberBuilder;
+import seedu.address.testutil.TransactionBuilder;
+
+public class SummaryUtilTest {
+
+    private static final double DELTA = 1e-6;
+
+    @Test
+    public void countTransactions_noMembers_returnsZero() {
+        assertEquals(0, SummaryUtil.countTransactions(List.of()));
+        assertEquals(0, SummaryUtil.sumBillings(List.of()), DELTA);
+    }
+
+    @Test
+    public void countTransactions_typicalMembers_sumsAllTransactions() {
+        List<Member> members = List.of(ALICE, BENSON, DANIEL);
+        assertEquals(3, SummaryUtil.countTransactions(members));
+        assertEquals(567.54 + 43.34 + 645.39, SummaryUtil.sumBillings(members), DELTA);
+    }
+
+    @Test
+    public void countTransactionsInPastMonths_recentAndOldTransactions_countsRecentOnly() {
+        Member member = new MemberBuilder().withTransactions(
+                new TransactionBuilder().withId("000001").withTimestamp(String.valueOf(System.currentTimeMillis()))
+                        .withBilling("10.50").build(),
+                new TransactionBuilder().withId("000002").withTimestamp("1611136800000")
+                        .withBilling("20.00").build()).build();
+
+        assertEquals(1, SummaryUtil.countTransactionsInPastMonths(List.of(member), 1));
+        assertEquals(10.50, SummaryUtil.sumBillingsInPastMonths(List.of(member), 1), DELTA);
+        assertEquals(2, SummaryUtil.countTransactions(List.of(member)));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.EzFoodie;
+import seedu.address.model.ReadOnlyEzFoodie;
+import seedu.address.model.member.Member;
+import seedu.address.model.member.Tier;
+import seedu.address.storage.JsonEzFoodieStorage;
+
+public class SyntheticDataGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidMemberCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_INVALID_MEMBER_COUNT, () ->
+                new SyntheticDataGenerator(1, -1));
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_INVALID_MEMBER_COUNT, () ->
+                new SyntheticDataGenerator(1, SyntheticDataGenerator.MAX_MEMBER_COUNT + 1));
+    }
+
+    @Test
+    public void withTierWeights_invalidWeights_throwsIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1, 10);
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_INVALID_TIER_WEIGHTS, () ->
+                generator.withTierWeights(1, 1));
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_INVALID_TIER_WEIGHTS, () ->
+                generator.withTierWeights(0, 0, 0, 0));
+    }
+
+    @Test
+    public void generate_sameSeed_sameMembers() {
+        List<Member> members = new SyntheticDataGenerator(42, 50).generate().getMemberList();
+        List<Member> sameMembers = new SyntheticDataGenerator(42, 50).generate().getMemberList();
+        List<Member> otherMembers = new SyntheticDataGenerator(43, 50).generate().getMemberList();
+
+        assertEquals(50, members.size());
+        assertEquals(members, sameMembers);
+        assertNotEquals(members, otherMembers);
+    }
+
+    @Test
+    public void generate_manyMembers_noDuplicateMembers() {
+        EzFoodie ezFoodie = new EzFoodie();
+        ezFoodie.setMembers(new SyntheticDataGenerator(7, 5000).generate().getMemberList());
+        assertEquals(5000, ezFoodie.getMemberList().size());
+    }
+
+    @Test
+    public void generate_settings_followed() {
+        LocalDate firstDate = LocalDate.of(2020, 1, 1);
+        long firstTime = firstDate.atStartOfDay().toEpochSecond(ZoneOffset.UTC) * 1000;
+        long endTime = firstDate.plusYears(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC) * 1000;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3, 200)
+                .withVisits(1, 1.0)
+                .withYears(firstDate, 1)
+                .withReservationRate(1)
+                .withTierWeights(0, 0, 1, 0);
+
+        for (Member member : generator.generate().getMemberList()) {
+            assertEquals(1, member.getTransactions().size());
+            assertEquals(1, member.getReservations().size());
+            long transactionTime = member.getTransactions().get(0).getTimestamp().getLongValue();
+            assertTrue(transactionTime >= firstTime && transactionTime < endTime);
+            assertTrue(member.getTimestamp().getLongValue() <= transactionTime);
+            assertEquals(Tier.GOLD.getKey(), Tier.getTierByCredit(member.getCredit().getLongValue()));
+        }
+    }
+
+    @Test
+    public void getMeanVisits_zipfDistribution_matchesGeneratedVisits() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(11, 20000).withVisits(50, 1.0);
+        double meanVisits = generator.generate().getMemberList().stream()
+                .mapToInt(member -> member.getTransactions().size()).average().orElse(0);
+        assertEquals(generator.getMeanVisits(), meanVisits, generator.getMeanVisits() * 0.05);
+    }
+
+    @Test
+    public void generate_savedWithJsonStorage_readBack() throws Exception {
+        Path filePath = testFolder.resolve("generated.json");
+        ReadOnlyEzFoodie generated = new SyntheticDataGenerator(5, 300).generate();
+        JsonEzFoodieStorage storage = new JsonEzFoodieStorage(filePath);
+
+        storage.saveEzFoodie(generated);
+
+        assertEquals(generated.getMemberList(), storage.readEzFoodie().get().getMemberList());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileFingerprintTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of_sameContents_sameFingerprint() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Files.writeString(filePath, "{ \"members\": [] }");
+        DataFileFingerprint fingerprint = DataFileFingerprint.of(filePath);
+
+        assertEquals(Files.size(filePath), fingerprint.getSize());
+        assertEquals(fingerprint, DataFileFingerprint.of(filePath));
+        assertEquals(fingerprint.hashCode(), DataFileFingerprint.of(filePath).hashCode());
+        assertTrue(fingerprint.hasSameAttributes(filePath));
+    }
+
+    @Test
+    public void of_changedContents_differentFingerprint() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Files.writeString(filePath, "{ \"members\": [] }");
+        DataFileFingerprint fingerprint = DataFileFingerprint.of(filePath);
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+
+        // same size and last modified time, but other contents
+        Files.writeString(filePath, "{ \"members\": {} }");
+        Files.setLastModifiedTime(filePath, lastModifiedTime);
+        assertTrue(fingerprint.hasSameAttributes(filePath));
+        assertNotEquals(fingerprint, DataFileFingerprint.of(filePath));
+
+        Files.writeString(filePath, "{ \"members\": [ ] }");
+        assertFalse(fingerprint.hasSameAttributes(filePath));
+
+        Files.delete(filePath);
+        assertFalse(fingerprint.hasSameAttributes(filePath));
+    }
+
+    @Test
+    public void equals() {
+        DataFileFingerprint fingerprint = new DataFileFingerprint(1, 2, 3);
+
+        assertTrue(fingerprint.equals(fingerprint));
+        assertTrue(fingerprint.equals(new DataFileFingerprint(1, 2, 3)));
+        assertFalse(fingerprint.equals(null));
+        assertFalse(fingerprint.equals(1));
+        assertFalse(fingerprint.equals(new DataFileFingerprint(0, 2, 3)));
+        assertFalse(fingerprint.equals(new DataFileFingerprint(1, 0, 3)));
+        assertFalse(fingerprint.equals(new DataFileFingerprint(1, 2, 0)));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.EzFoodie;
+import seedu.address.model.ReadOnlyEzFoodie;
+
+public class EzFoodieImageCacheTest {
+
+    private static final DataFileFingerprint FINGERPRINT = new DataFileFingerprint(1234, 5678, 0xCAFE);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new EzFoodieImageCache(null));
+    }
+
+    @Test
+    public void getImageFilePath_dataFilePath_siblingWithExtension() {
+        assertEquals(Paths.get("data", "ezfoodie.json.image"),
+                EzFoodieImageCache.getImageFilePath(Paths.get("data", "ezfoodie.json")));
+    }
+
+    @Test
+    public void read_missingImage_emptyResult() {
+        assertFalse(new EzFoodieImageCache(testFolder.resolve("missing.image")).read(FINGERPRINT).isPresent());
+    }
+
+    @Test
+    public void readWrite_sameFingerprint_success() throws Exception {
+        EzFoodieImageCache cache = new EzFoodieImageCache(testFolder.resolve("sub").resolve("ef.image"));
+        EzFoodie original = getTypicalEzFoodie();
+        cache.write(original, FINGERPRINT);
+
+        Optional<ReadOnlyEzFoodie> read = cache.read(FINGERPRINT);
+        assertTrue(read.isPresent());
+        assertEquals(original, new EzFoodie(read.get()));
+
+        // overwrites the previous image
+        cache.write(new EzFoodie(), FINGERPRINT);
+        assertEquals(new EzFoodie(), new EzFoodie(cache.read(FINGERPRINT).get()));
+    }
+
+    @Test
+    public void read_otherFingerprint_emptyResult() throws Exception {
+        EzFoodieImageCache cache = new EzFoodieImageCache(testFolder.resolve("ef.image"));
+        cache.write(getTypicalEzFoodie(), FINGERPRINT);
+
+        assertFalse(cache.read(new DataFileFingerprint(1234, 5678, 0xBEEF)).isPresent());
+        assertFalse(cache.read(new DataFileFingerprint(1234, 5679, 0xCAFE)).isPresent());
+        assertFalse(cache.read(new DataFileFingerprint(1235, 5678, 0xCAFE)).isPresent());
+    }
+
+    @Test
+    public void read_damagedImage_emptyResult() throws Exception {
+        Path imageFilePath = testFolder.resolve("ef.image");
+        EzFoodieImageCache cache = new EzFoodieImageCache(imageFilePath);
+        cache.write(getTypicalEzFoodie(), FINGERPRINT);
+        byte[] bytes = Files.readAllBytes(imageFilePath);
+
+        // a flipped byte in a member
+        byte[] flipped = bytes.clone();
+        flipped[flipped.length - 20] ^= 1;
+        Files.write(imageFilePath, flipped);
+        assertFalse(cache.read(FINGERPRINT).isPresent());
+
+        // a cut-off image
+        Files.write(imageFilePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertFalse(cache.read(FINGERPRINT).isPresent());
+
+        // another format
+        Files.write(imageFilePath, "{ \"members\": [] }".getBytes());
+        assertFalse(cache.read(FINGERPRINT).isPresent());
+    }
+
+    @Test
+    public void delete_existingImage_imageDeleted() throws Exception {
+        Path imageFilePath = testFolder.resolve("ef.image");
+        EzFoodieImageCache cache = new EzFoodieImageCache(imageFilePath);
+        cache.write(getTypicalEzFoodie(), FINGERPRINT);
+        cache.delete();
+        assertFalse(Files.exists(imageFilePath));
+        cache.delete();
+    }
+}
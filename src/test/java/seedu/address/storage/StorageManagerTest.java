@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalAccount.getTypicalAccount;
 import static seedu.address.testutil.TypicalMembers.getTypicalEzFoodie;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -64,6 +66,29 @@ public class StorageManagerTest {
         assertEquals(original, new EzFoodie(retrieved));
     }
 
+    @Test
+    public void ezFoodieReadSave_withImage() throws Exception {
+        EzFoodieImageCache imageCache = new EzFoodieImageCache(getTempFilePath("ef.image"));
+        StorageManager imagedStorageManager = new StorageManager(new JsonAccountStorage(getTempFilePath("a")),
+                new JsonEzFoodieStorage(getTempFilePath("ef")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                imageCache);
+        EzFoodie original = getTypicalEzFoodie();
+        imagedStorageManager.saveEzFoodie(original);
+        assertFalse(Files.exists(imageCache.getImageFilePath()));
+
+        // the image is saved on request, and read instead of the data file
+        imagedStorageManager.saveEzFoodieImage();
+        DataFileFingerprint fingerprint = DataFileFingerprint.of(getTempFilePath("ef"));
+        assertEquals(original, new EzFoodie(imageCache.read(fingerprint).get()));
+        assertEquals(original, new EzFoodie(imagedStorageManager.readEzFoodie().get()));
+
+        // a changed data file is read instead of the image, which is then saved again
+        EzFoodie changed = new EzFoodie();
+        storageManager.saveEzFoodie(changed);
+        assertEquals(changed, new EzFoodie(imagedStorageManager.readEzFoodie().get()));
+        assertEquals(changed, new EzFoodie(imageCache.read(DataFileFingerprint.of(getTempFilePath("ef"))).get()));
+    }
+
     @Test
     public void getEzFoodieFilePath() {
         assertNotNull(storageManager.getEzFoodieFilePath());